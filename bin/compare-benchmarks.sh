@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+#
+# Copyright (c) 2023-2025 "Neo4j,"
+# Neo4j Sweden AB [https://neo4j.com]
+#
+# This file is part of Neo4j.
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#     https://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+
+
+# Compares two JMH result files in CSV format, as written by the benchmarks with
+# `-rf csv`, and lists every benchmark that got worse by more than the given threshold
+# in percent (defaults to 10). A higher score is worse for benchmarks measuring the
+# average time per operation, a lower one for benchmarks measuring throughput. A
+# benchmark only counts as regressed when the confidence intervals reported by JMH
+# (score +/- score error) don't overlap, so noise of short or single fork runs is not
+# reported as a regression. Benchmarks with too few samples for a meaningful interval
+# are listed separately. Exits with 1 on regressions.
+
+set -euo pipefail
+
+if [[ $# -lt 2 ]]; then
+  echo "Usage: $0 <baseline.csv> <current.csv> [threshold in percent]" >&2
+  exit 2
+fi
+
+awk -v threshold="${3:-10}" -v min_samples=10 '
+  # The first seven columns never contain commas, everything after them are the
+  # parameters
+  function parse(line, fields,    params, i) {
+    split(line, fields, ",")
+    params = line
+    for (i = 0; i < 7; i++) {
+      params = substr(params, index(params, ",") + 1)
+    }
+    return fields[1] " " params
+  }
+  # JMH writes NaN as error when there are not enough samples to compute one
+  function error_of(value) {
+    return (value ~ /^[0-9.eE+-]+$/) ? value + 0 : 0
+  }
+  FNR == 1 { next }
+  NR == FNR {
+    key = parse($0, fields)
+    baseline[key] = fields[5]
+    baseline_error[key] = error_of(fields[6])
+    baseline_samples[key] = fields[4]
+    next
+  }
+  {
+    key = parse($0, fields)
+    if (!(key in baseline) || baseline[key] == 0) {
+      next
+    }
+    if (baseline_samples[key] < min_samples || fields[4] < min_samples) {
+      few_samples++
+    }
+    current_lower = fields[5] - error_of(fields[6])
+    current_upper = fields[5] + error_of(fields[6])
+    baseline_lower = baseline[key] - baseline_error[key]
+    baseline_upper = baseline[key] + baseline_error[key]
+    if (fields[2] == "\"thrpt\"") {
+      change = (fields[5] == 0) ? 100 : (baseline[key] / fields[5] - 1) * 100
+      worse = current_upper < baseline_lower
+    }
+    else {
+      change = (fields[5] / baseline[key] - 1) * 100
+      worse = current_lower > baseline_upper
+    }
+    if (change > threshold && worse) {
+      regressions++
+      printf "%+7.1f%% %s (%.3f +/- %.3f, was %.3f +/- %.3f)\n", change, key, fields[5], error_of(fields[6]), baseline[key], baseline_error[key]
+    }
+  }
+  END {
+    if (few_samples > 0) {
+      printf "%d benchmark(s) have less than %d samples, their confidence intervals are not reliable\n", few_samples, min_samples
+    }
+    if (regressions > 0) {
+      printf "%d benchmark(s) regressed by more than %s%%\n", regressions, threshold
+      exit 1
+    }
+    print "No regressions"
+  }
+' "$1" "$2"
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing of JDBC URLs and properties into the driver configuration, which
+ * happens on every call to {@link Neo4jDriver#connect(String, Properties)}.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DriverConfigBenchmarks {
+
+	@Param({ "jdbc:neo4j://localhost", "jdbc:neo4j+s://db.example.com:7687/movies?enableSQLTranslation=true"
+			+ "&cacheSQLTranslations=true&rewriteBatchedStatements=true&timeout=2000&pool.maxSize=16" })
+	String url;
+
+	private final Properties properties = new Properties();
+
+	@Setup
+	public void prepareProperties() {
+		this.properties.setProperty("user", "neo4j");
+		this.properties.setProperty("password", "verysecret");
+	}
+
+	@Benchmark
+	public Neo4jDriver.DriverConfig parse() throws SQLException {
+		return Neo4jDriver.DriverConfig.of(this.url, this.properties);
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the mapping between driver values and Jackson trees in both directions.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JSONMapperBenchmarks {
+
+	private final JacksonJSONMapperImpl mapper = new JacksonJSONMapperImpl();
+
+	private Value value;
+
+	private JsonNode json;
+
+	@Setup
+	public void prepareDocument() {
+		var movies = IntStream.range(0, 50)
+			.mapToObj(i -> Map.of("title", "Movie " + i, "released", 1990 + i, "rating", i / 10.0, "genres",
+					List.of("Drama", "Thriller")))
+			.toList();
+		this.value = Values.value(Map.of("name", "Keanu Reeves", "born", 1964, "movies", movies));
+		this.json = this.mapper.toJson(this.value);
+	}
+
+	@Benchmark
+	public JsonNode toJson() {
+		return this.mapper.toJson(this.value);
+	}
+
+	@Benchmark
+	public Value fromJson() {
+		return this.mapper.fromJson(this.json);
+	}
+
+}
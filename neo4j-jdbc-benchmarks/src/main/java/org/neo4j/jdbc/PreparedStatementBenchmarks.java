@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the client side processing of prepared statements: rewriting of JDBC
+ * placeholders and rewriting of batches into a single {@code UNWIND} statement. The
+ * statements are executed against a synthetic transaction.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreparedStatementBenchmarks {
+
+	@Param({ "4", "32" })
+	int placeholders;
+
+	private String statementWithPlaceholders;
+
+	private String cypher;
+
+	@Setup
+	public void prepareStatements() {
+		this.statementWithPlaceholders = IntStream.range(0, this.placeholders)
+			.mapToObj(i -> "n.p" + i + " = ?")
+			.collect(Collectors.joining(", ", "MATCH (n:Node) WHERE n.id = 'a?b' SET ", " RETURN n"));
+		this.cypher = IntStream.range(0, this.placeholders)
+			.mapToObj(i -> "p" + i + ": $" + (i + 1))
+			.collect(Collectors.joining(", ", "CREATE (n:Node {", "})"));
+	}
+
+	@Benchmark
+	public String rewritePlaceholders() {
+		return PreparedStatementImpl.rewritePlaceholders(this.statementWithPlaceholders);
+	}
+
+	@Benchmark
+	public int[] executeRewrittenBatch(Batch batch) throws SQLException {
+		try (var statement = new PreparedStatementImpl(Synthetics.connection(), Synthetics.transactionSupplier(),
+				UnaryOperator.identity(), null, null, false, true, Statement.NO_GENERATED_KEYS, this.cypher)) {
+			for (int row = 0; row < batch.size; ++row) {
+				for (int parameter = 1; parameter <= this.placeholders; ++parameter) {
+					statement.setInt(parameter, row);
+				}
+				statement.addBatch();
+			}
+			return statement.executeBatch();
+		}
+	}
+
+	/**
+	 * The batch size is a separate state, so that it doesn't multiply the runs of the
+	 * other benchmarks.
+	 */
+	@State(Scope.Benchmark)
+	public static class Batch {
+
+		@Param({ "100", "1000" })
+		int size;
+
+	}
+
+}
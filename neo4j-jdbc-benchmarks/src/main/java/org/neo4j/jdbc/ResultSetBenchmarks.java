@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.neo4j.bolt.connection.values.Value;
+import org.neo4j.jdbc.internal.bolt.BoltAdapters;
+import org.neo4j.jdbc.values.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the getters of {@link ResultSetImpl} over synthetic records, created the same
+ * way as records received from the server.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultSetBenchmarks {
+
+	private static final int ROWS = 1_000;
+
+	@Param({ "4", "32" })
+	int columns;
+
+	private List<String> keys;
+
+	private List<List<Value>> rows;
+
+	private final StatementImpl statement = new LocalStatementImpl(null, null, null);
+
+	@Setup
+	public void prepareRows() {
+		var valueFactory = BoltAdapters.getValueFactory();
+		this.keys = IntStream.range(0, this.columns).mapToObj(i -> "c" + i).toList();
+		this.rows = new ArrayList<>(ROWS);
+		for (int row = 0; row < ROWS; ++row) {
+			var values = new ArrayList<Value>(this.columns);
+			for (int column = 0; column < this.columns; ++column) {
+				values.add((column % 2 == 0) ? valueFactory.value((long) row * column)
+						: valueFactory.value("value " + row + "/" + column));
+			}
+			this.rows.add(values);
+		}
+	}
+
+	private ResultSetImpl newResultSet() {
+		var records = new ArrayList<Record>(ROWS);
+		for (var row : this.rows) {
+			records.add(DefaultTransactionImpl.asRecord(this.keys, row));
+		}
+		return new ResultSetImpl(this.statement, 0, records);
+	}
+
+	@Benchmark
+	public long getLongByIndex() throws SQLException {
+		long sum = 0;
+		try (var resultSet = newResultSet()) {
+			while (resultSet.next()) {
+				for (int column = 1; column <= this.columns; column += 2) {
+					sum += resultSet.getLong(column);
+				}
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long getLongByLabel() throws SQLException {
+		long sum = 0;
+		try (var resultSet = newResultSet()) {
+			while (resultSet.next()) {
+				for (int column = 0; column < this.columns; column += 2) {
+					sum += resultSet.getLong(this.keys.get(column));
+				}
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public void getStringByIndex(Blackhole blackhole) throws SQLException {
+		try (var resultSet = newResultSet()) {
+			while (resultSet.next()) {
+				for (int column = 2; column <= this.columns; column += 2) {
+					blackhole.consume(resultSet.getString(column));
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void getObjectByIndex(Blackhole blackhole) throws SQLException {
+		try (var resultSet = newResultSet()) {
+			while (resultSet.next()) {
+				for (int column = 1; column <= this.columns; ++column) {
+					blackhole.consume(resultSet.getObject(column));
+				}
+			}
+		}
+	}
+
+}
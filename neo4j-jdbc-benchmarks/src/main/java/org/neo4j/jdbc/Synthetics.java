@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.bolt.connection.AuthInfo;
+import org.neo4j.bolt.connection.AuthTokens;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.bolt.connection.BoltConnectionState;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.message.CommitMessage;
+import org.neo4j.bolt.connection.message.DiscardMessage;
+import org.neo4j.bolt.connection.message.Message;
+import org.neo4j.bolt.connection.message.PullMessage;
+import org.neo4j.bolt.connection.message.ResetMessage;
+import org.neo4j.bolt.connection.message.RollbackMessage;
+import org.neo4j.bolt.connection.message.RunMessage;
+import org.neo4j.bolt.connection.summary.CommitSummary;
+import org.neo4j.bolt.connection.summary.DiscardSummary;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.ResetSummary;
+import org.neo4j.bolt.connection.summary.RollbackSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
+import org.neo4j.jdbc.DefaultTransactionImpl.DiscardResponseImpl;
+import org.neo4j.jdbc.internal.bolt.BoltAdapters;
+
+/**
+ * Provides connections and transactions that don't talk to a server, so that the client
+ * side of the driver can be measured in isolation.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class Synthetics {
+
+	private Synthetics() {
+	}
+
+	/**
+	 * {@return a connection on which every method returns a default value}
+	 */
+	static Connection connection() {
+		return (Connection) Proxy.newProxyInstance(Synthetics.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, (proxy, method, args) -> defaultValue(method.getReturnType()));
+	}
+
+	/**
+	 * Creates an auto-commit transaction that acknowledges all updates without any update
+	 * counts.
+	 * @return a synthetic transaction
+	 */
+	static Neo4jTransaction transaction() {
+		return (Neo4jTransaction) Proxy.newProxyInstance(Synthetics.class.getClassLoader(),
+				new Class<?>[] { Neo4jTransaction.class }, (proxy, method, args) -> switch (method.getName()) {
+					case "runAndDiscard" -> new DiscardResponseImpl(null);
+					case "runAndDiscardAll" ->
+						Collections.nCopies(((List<?>) args[1]).size(), new DiscardResponseImpl(null));
+					case "isAutoCommit", "isRunnable", "isOpen" -> true;
+					case "getState" -> Neo4jTransaction.State.READY;
+					default -> defaultValue(method.getReturnType());
+				});
+	}
+
+	/**
+	 * {@return a transaction supplier always returning the same synthetic transaction}
+	 */
+	static Neo4jTransactionSupplier transactionSupplier() {
+		var transaction = transaction();
+		return (Map<String, Object> additionalMetadata) -> transaction;
+	}
+
+	/**
+	 * Creates a Bolt connection that acts like a server answering every request right
+	 * away: Each query returns a single record with a single column, and each commit
+	 * returns a new bookmark.
+	 * @return a synthetic Bolt connection
+	 */
+	static BoltConnection boltConnection() {
+		var authInfo = proxy(AuthInfo.class, Map.of("authToken", AuthTokens.none(BoltAdapters.getValueFactory())));
+		var runSummary = proxy(RunSummary.class, Map.of("queryId", -1L, "keys", List.of("n")));
+		var record = List.of(BoltAdapters.getValueFactory().value(1L));
+		var pullSummary = proxy(PullSummary.class, Map.of());
+		var discardSummary = proxy(DiscardSummary.class, Map.of());
+		var rollbackSummary = proxy(RollbackSummary.class, Map.of());
+		var resetSummary = proxy(ResetSummary.class, Map.of());
+		var bookmarks = new AtomicLong();
+		return (BoltConnection) Proxy.newProxyInstance(Synthetics.class.getClassLoader(),
+				new Class<?>[] { BoltConnection.class }, (proxy, method, args) -> switch (method.getName()) {
+					case "authInfo" -> CompletableFuture.completedFuture(authInfo);
+					case "state" -> BoltConnectionState.OPEN;
+					case "write", "close", "forceClose", "setReadTimeout" -> CompletableFuture.completedFuture(null);
+					case "writeAndFlush" -> {
+						var handler = (ResponseHandler) args[0];
+						var messages = (args[1] instanceof Message message) ? List.of(message) : (List<?>) args[1];
+						for (var message : messages) {
+							if (message instanceof RunMessage) {
+								handler.onRunSummary(runSummary);
+							}
+							else if (message instanceof PullMessage) {
+								handler.onRecord(record);
+								handler.onPullSummary(pullSummary);
+							}
+							else if (message instanceof DiscardMessage) {
+								handler.onDiscardSummary(discardSummary);
+							}
+							else if (message instanceof CommitMessage) {
+								var bookmark = "bm:" + bookmarks.incrementAndGet();
+								handler.onCommitSummary(
+										proxy(CommitSummary.class, Map.of("bookmark", Optional.of(bookmark))));
+							}
+							else if (message instanceof RollbackMessage) {
+								handler.onRollbackSummary(rollbackSummary);
+							}
+							else if (message instanceof ResetMessage) {
+								handler.onResetSummary(resetSummary);
+							}
+						}
+						handler.onComplete();
+						yield CompletableFuture.completedFuture(null);
+					}
+					default -> defaultValue(method.getReturnType());
+				});
+	}
+
+	private static <T> T proxy(Class<T> type, Map<String, Object> answers) {
+		return type.cast(Proxy.newProxyInstance(Synthetics.class.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> answers.getOrDefault(method.getName(), defaultValue(method.getReturnType()))));
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		if (type == boolean.class) {
+			return false;
+		}
+		if (type == int.class) {
+			return 0;
+		}
+		if (type == long.class) {
+			return 0L;
+		}
+		if (type == Optional.class) {
+			return Optional.empty();
+		}
+		if (type == Map.class) {
+			return Map.of();
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.net.URI;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.jdbc.authn.spi.Authentication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many statements per second a single connection can run in auto-commit mode
+ * and in explicit transactions, against a synthetic Bolt connection that answers right
+ * away. Each statement begins a transaction, runs a query returning a single record and
+ * commits, so that this is dominated by the client side cost of beginning and finishing
+ * transactions.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionBenchmarks {
+
+	@Param({ "false", "true" })
+	boolean bookmarks;
+
+	private ConnectionImpl connection;
+
+	@Setup(Level.Trial)
+	public void openConnection() {
+		var boltConnection = Synthetics.boltConnection();
+		BookmarkManager bookmarkManager = this.bookmarks ? new DefaultBookmarkManagerImpl()
+				: new NoopBookmarkManagerImpl();
+		this.connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
+				auth -> boltConnection, null, List::of, false, null, false, false, bookmarkManager,
+				Map.of("source", "benchmark"), 0, null, 0, false, 0, null, null, "neo4j", null, List.of());
+	}
+
+	@TearDown(Level.Trial)
+	public void closeConnection() throws SQLException {
+		this.connection.close();
+	}
+
+	@Benchmark
+	public long autoCommit() throws SQLException {
+		this.connection.setAutoCommit(true);
+		return runStatement();
+	}
+
+	@Benchmark
+	public long explicitTransaction() throws SQLException {
+		this.connection.setAutoCommit(false);
+		var result = runStatement();
+		this.connection.commit();
+		return result;
+	}
+
+	private long runStatement() throws SQLException {
+		try (var statement = this.connection.createStatement(); var resultSet = statement.executeQuery("RETURN 1")) {
+			return resultSet.next() ? resultSet.getLong(1) : -1;
+		}
+	}
+
+}
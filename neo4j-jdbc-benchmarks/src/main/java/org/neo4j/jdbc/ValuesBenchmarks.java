@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of Java objects into driver values via
+ * {@link Values#value(Object)}.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValuesBenchmarks {
+
+	private final Object aLong = 4711L;
+
+	private final Object aString = "Hello, Neo4j";
+
+	private final Object aDateTime = LocalDateTime.of(2025, 10, 18, 21, 42);
+
+	private final Object aList = IntStream.range(0, 32).boxed().toList();
+
+	private final Object aMap = Map.of("name", "Neo4j", "born", 2007, "tags", List.of("graph", "database"));
+
+	private final Object aByteArray = new byte[256];
+
+	@Benchmark
+	public Value longValue() {
+		return Values.value(this.aLong);
+	}
+
+	@Benchmark
+	public Value stringValue() {
+		return Values.value(this.aString);
+	}
+
+	@Benchmark
+	public Value dateTimeValue() {
+		return Values.value(this.aDateTime);
+	}
+
+	@Benchmark
+	public Value listValue() {
+		return Values.value(this.aList);
+	}
+
+	@Benchmark
+	public Value mapValue() {
+		return Values.value(this.aMap);
+	}
+
+	@Benchmark
+	public Value bytesValue() {
+		return Values.value(this.aByteArray);
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.translator.impl;
+
+import java.lang.reflect.Proxy;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.neo4j.jdbc.translator.spi.Translator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SqlToCypher#translate(String, DatabaseMetaData)} without cache, with a
+ * warm cache and with database metadata that has to be consulted for the translation.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlToCypherBenchmarks {
+
+	@Param({ "SELECT title, released FROM Movie WHERE released > 2000 ORDER BY title LIMIT 10",
+			"SELECT p.name, m.title FROM Person p JOIN Movie m ON (m.id = p.ACTED_IN) WHERE p.born < 1970",
+			"INSERT INTO Movie(title, released) VALUES (?, ?)",
+			"UPDATE Person SET born = 1964 WHERE name = 'Keanu Reeves'" })
+	String sql;
+
+	private Translator uncachedTranslator;
+
+	private Translator cachedTranslator;
+
+	private DatabaseMetaData databaseMetaData;
+
+	@Setup
+	public void prepareTranslators() {
+		this.uncachedTranslator = SqlToCypher.with(SqlToCypherConfig.builder().withCacheEnabled(false).build());
+		this.cachedTranslator = SqlToCypher.with(SqlToCypherConfig.builder().withCacheEnabled(true).build());
+		this.cachedTranslator.translate(this.sql);
+		this.databaseMetaData = databaseMetaData(Map.of("Person", List.of("name", "born"), "Movie",
+				List.of("title", "released", "tagline"), "Person_ACTED_IN_Movie", List.of("roles")));
+	}
+
+	@Benchmark
+	public String cold() {
+		return this.uncachedTranslator.translate(this.sql);
+	}
+
+	@Benchmark
+	public String cached() {
+		return this.cachedTranslator.translate(this.sql);
+	}
+
+	@Benchmark
+	public String withMetadata() {
+		return this.uncachedTranslator.translate(this.sql, this.databaseMetaData);
+	}
+
+	/**
+	 * Creates metadata that answers {@code getTables} and {@code getColumns} from the
+	 * given labels and properties, which are the only calls the translator makes.
+	 * @param tables a map of labels to their properties
+	 * @return synthetic metadata
+	 */
+	static DatabaseMetaData databaseMetaData(Map<String, List<String>> tables) {
+		return (DatabaseMetaData) Proxy.newProxyInstance(SqlToCypherBenchmarks.class.getClassLoader(),
+				new Class<?>[] { DatabaseMetaData.class }, (proxy, method, args) -> switch (method.getName()) {
+					case "getTables" -> resultSet(tables.keySet()
+						.stream()
+						.filter(table -> args[2] == null || table.equals(args[2]))
+						.map(table -> Map.of("TABLE_NAME", table, "TABLE_TYPE", "TABLE", "REMARKS", ""))
+						.toList());
+					case "getColumns" -> resultSet(tables.getOrDefault((String) args[2], List.of())
+						.stream()
+						.map(column -> Map.of("TABLE_NAME", (String) args[2], "COLUMN_NAME", column,
+								"IS_GENERATEDCOLUMN", "NO", "SCOPE_TABLE", ""))
+						.toList());
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+	private static ResultSet resultSet(List<Map<String, String>> rows) {
+		var iterator = rows.iterator();
+		var currentRow = new AtomicReference<Map<String, String>>();
+		return (ResultSet) Proxy.newProxyInstance(SqlToCypherBenchmarks.class.getClassLoader(),
+				new Class<?>[] { ResultSet.class }, (proxy, method, args) -> switch (method.getName()) {
+					case "next" -> {
+						currentRow.set(iterator.hasNext() ? iterator.next() : null);
+						yield currentRow.get() != null;
+					}
+					case "getString" -> currentRow.get().get((String) args[0]);
+					case "close" -> null;
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.translator.impl;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.neo4j.jdbc.translator.spi.Cache;
+
+/**
+ * A bounded catalog of the columns of labels and relationship types, shared by all
+ * translations of one translator, so that the metadata of a label is retrieved only once
+ * and not once per statement. The driver shares translators, and therefore their
+ * catalogs, between all connections with the same configuration. The catalog is bound to
+ * the {@link DatabaseMetaData#getURL() URL} of the database it has been filled from, not
+ * to a single {@link DatabaseMetaData} instance, and starts over when it is asked for
+ * columns of another database. Metadata without a URL is treated as a database of its
+ * own. Columns are loaded without holding any lock, so concurrent translations may load
+ * the same label twice, but don't block each other.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class ColumnCatalog {
+
+	private final Cache<String, Set<SqlToCypher.CachedColumn>> columns;
+
+	private final Lock lock = new ReentrantLock();
+
+	private Object source;
+
+	/**
+	 * Creates a new catalog.
+	 * @param capacity the maximum number of labels and types kept in the catalog
+	 */
+	ColumnCatalog(int capacity) {
+		this.columns = Cache.getInstance(capacity);
+	}
+
+	/**
+	 * Returns the columns of the given label or type, retrieving them from
+	 * {@code databaseMetaData} if necessary.
+	 * @param databaseMetaData the metadata to retrieve missing columns from, might be
+	 * {@literal null}
+	 * @param label the label or type
+	 * @return the columns of the label or type, empty if there's no metadata
+	 */
+	Set<SqlToCypher.CachedColumn> getColumnsOf(DatabaseMetaData databaseMetaData, String label) {
+		if (databaseMetaData == null) {
+			return Set.of();
+		}
+		var newSource = sourceOf(databaseMetaData);
+		this.lock.lock();
+		try {
+			if (!newSource.equals(this.source)) {
+				this.columns.flush();
+				this.source = newSource;
+			}
+			var value = this.columns.get(label);
+			if (value != null) {
+				return value;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		var value = new LinkedHashSet<SqlToCypher.CachedColumn>();
+		try (var rs = databaseMetaData.getColumns(null, null, label, null)) {
+			while (rs.next()) {
+				value.add(new SqlToCypher.CachedColumn(rs.getString("COLUMN_NAME"),
+						"YES".equalsIgnoreCase(rs.getString("IS_GENERATEDCOLUMN")), rs.getString("SCOPE_TABLE")));
+			}
+		}
+		catch (SQLException ex) {
+			throw new RuntimeException(ex);
+		}
+
+		var result = Collections.unmodifiableSet(value);
+		this.lock.lock();
+		try {
+			if (newSource.equals(this.source)) {
+				this.columns.put(label, result);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		return result;
+	}
+
+	/**
+	 * Removes all columns from this catalog, so that they are retrieved again.
+	 */
+	void flush() {
+		this.lock.lock();
+		try {
+			this.columns.flush();
+			this.source = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the URL of the database described by the given metadata or the metadata
+	 * itself, if it doesn't know its URL.
+	 * @param databaseMetaData the metadata of a connection
+	 * @return the source of the columns
+	 */
+	private static Object sourceOf(DatabaseMetaData databaseMetaData) {
+		try {
+			return Objects.requireNonNullElse(databaseMetaData.getURL(), databaseMetaData);
+		}
+		catch (SQLException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+}
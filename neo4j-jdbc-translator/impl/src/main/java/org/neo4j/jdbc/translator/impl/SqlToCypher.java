@@ -27,16 +27,17 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -113,6 +114,7 @@ import org.neo4j.cypherdsl.core.renderer.Dialect;
 import org.neo4j.cypherdsl.core.renderer.GeneralizedRenderer;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.jdbc.translator.spi.Cache;
+import org.neo4j.jdbc.translator.spi.CacheStatistics;
 import org.neo4j.jdbc.translator.spi.Translator;
 import org.neo4j.jdbc.translator.spi.View;
 
@@ -152,6 +154,13 @@ final class SqlToCypher implements Translator {
 
 	private static final int STATEMENT_CACHE_SIZE = 64;
 
+	private static final int COLUMN_CATALOG_SIZE = 512;
+
+	/**
+	 * Statistics about the statement cache are logged after this number of lookups.
+	 */
+	private static final int CACHE_STATISTICS_INTERVAL = 1024;
+
 	static Translator defaultTranslator() {
 		return new SqlToCypher(SqlToCypherConfig.defaultConfig());
 	}
@@ -166,6 +175,27 @@ final class SqlToCypher implements Translator {
 
 	private final Cache<Query, String> cache = Cache.getInstance(STATEMENT_CACHE_SIZE);
 
+	/**
+	 * Caches translations by their raw SQL text, so that hits don't need to be parsed
+	 * again. Guarded by {@code this}, just as the cache of parsed queries.
+	 */
+	private final Cache<String, String> sqlCache = Cache.getInstance(STATEMENT_CACHE_SIZE);
+
+	/**
+	 * Columns of labels and types, shared by all translations if caching is enabled.
+	 */
+	private final ColumnCatalog columnCatalog = new ColumnCatalog(COLUMN_CATALOG_SIZE);
+
+	/**
+	 * Guards the statement caches. Translations may query the database metadata, so they
+	 * happen outside this lock.
+	 */
+	private final Lock cacheLock = new ReentrantLock();
+
+	private final AtomicLong cacheHits = new AtomicLong();
+
+	private final AtomicLong cacheMisses = new AtomicLong();
+
 	private final Map<String, View> views;
 
 	private volatile DSLContext dslContext;
@@ -212,7 +242,16 @@ final class SqlToCypher implements Translator {
 
 	@Override
 	public void flushCache() {
-		this.cache.flush();
+		this.cacheLock.lock();
+		try {
+			this.sqlCache.flush();
+			this.cache.flush();
+		}
+		finally {
+			this.cacheLock.unlock();
+		}
+		this.columnCatalog.flush();
+		logCacheStatistics();
 	}
 
 	@Override
@@ -229,6 +268,22 @@ final class SqlToCypher implements Translator {
 	@Override
 	public String translate(String sql, DatabaseMetaData optionalDatabaseMetaData) {
 
+		var useCache = this.config.isCacheEnabled() && sql != null;
+		if (useCache) {
+			String translation;
+			this.cacheLock.lock();
+			try {
+				translation = this.sqlCache.get(sql);
+			}
+			finally {
+				this.cacheLock.unlock();
+			}
+			recordCacheLookup(translation != null);
+			if (translation != null) {
+				return translation;
+			}
+		}
+
 		Query query;
 		try {
 			DSLContext dsl = getDSLContext();
@@ -242,18 +297,61 @@ final class SqlToCypher implements Translator {
 			throw new IllegalArgumentException(pe);
 		}
 
-		if (this.config.isCacheEnabled()) {
-			synchronized (this) {
-				return this.cache.computeIfAbsent(query, key -> translate0(query, optionalDatabaseMetaData));
+		if (useCache) {
+			String translation;
+			this.cacheLock.lock();
+			try {
+				translation = this.cache.get(query);
+			}
+			finally {
+				this.cacheLock.unlock();
 			}
+			if (translation == null) {
+				translation = translate0(query, optionalDatabaseMetaData);
+			}
+			this.cacheLock.lock();
+			try {
+				this.cache.put(query, translation);
+				this.sqlCache.put(sql, translation);
+			}
+			finally {
+				this.cacheLock.unlock();
+			}
+			return translation;
 		}
 		return translate0(query, optionalDatabaseMetaData);
 	}
 
+	private void recordCacheLookup(boolean hit) {
+		var counter = hit ? this.cacheHits : this.cacheMisses;
+		counter.incrementAndGet();
+		if ((this.cacheHits.get() + this.cacheMisses.get()) % CACHE_STATISTICS_INTERVAL == 0) {
+			logCacheStatistics();
+		}
+	}
+
+	private void logCacheStatistics() {
+		LOGGER.log(Level.FINE, () -> {
+			var statistics = new CacheStatistics(this.cacheHits.get(), this.cacheMisses.get());
+			return "Statement cache: %d hits, %d misses, hit rate %.2f".formatted(statistics.hits(),
+					statistics.misses(), statistics.hitRate());
+		});
+	}
+
+	@Override
+	public Optional<CacheStatistics> getCacheStatistics() {
+		if (!this.config.isCacheEnabled()) {
+			return Optional.empty();
+		}
+		return Optional.of(new CacheStatistics(this.cacheHits.get(), this.cacheMisses.get()));
+	}
+
 	private String translate0(Query query, DatabaseMetaData databaseMetaData) {
 
-		return render(ContextAwareStatementBuilder.build(this.config, this.getDSLContext(), databaseMetaData, query,
-				this.views));
+		var effectiveColumnCatalog = this.config.isCacheEnabled() ? this.columnCatalog
+				: new ColumnCatalog(COLUMN_CATALOG_SIZE);
+		return render(ContextAwareStatementBuilder.build(this.config, this.getDSLContext(), databaseMetaData,
+				effectiveColumnCatalog, query, this.views));
 	}
 
 	@SuppressWarnings("ResultOfMethodCallIgnored")
@@ -312,6 +410,12 @@ final class SqlToCypher implements Translator {
 		 */
 		private final Map<Name, Expression> columnsAndValues = new LinkedHashMap<>();
 
+		/**
+		 * Guards temporary column assignments, resolving expressions might query the
+		 * database metadata.
+		 */
+		private final Lock columnsAndValuesLock = new ReentrantLock();
+
 		/**
 		 * Key is the column name, value is the number of times a column with the name has
 		 * been returned. Used for generating unique names.
@@ -324,7 +428,7 @@ final class SqlToCypher implements Translator {
 
 		private final DatabaseMetaData databaseMetaData;
 
-		private final Map<String, Set<CachedColumn>> columnsCache = new ConcurrentHashMap<>();
+		private final ColumnCatalog columnCatalog;
 
 		private final ParameterNameGenerator parameterNameGenerator = new ParameterNameGenerator();
 
@@ -343,8 +447,8 @@ final class SqlToCypher implements Translator {
 		private final Pattern relationshipPattern;
 
 		static Statement build(SqlToCypherConfig config, DSLContext dslContext, DatabaseMetaData databaseMetaData,
-				Query query, Map<String, View> views) {
-			var builder = new ContextAwareStatementBuilder(config, dslContext, databaseMetaData, views);
+				ColumnCatalog columnCatalog, Query query, Map<String, View> views) {
+			var builder = new ContextAwareStatementBuilder(config, dslContext, databaseMetaData, columnCatalog, views);
 			if (query instanceof Select<?> s) {
 				return builder.statement(s);
 			}
@@ -369,11 +473,12 @@ final class SqlToCypher implements Translator {
 		}
 
 		ContextAwareStatementBuilder(SqlToCypherConfig config, DSLContext dslContext, DatabaseMetaData databaseMetaData,
-				Map<String, View> views) {
+				ColumnCatalog columnCatalog, Map<String, View> views) {
 			this.config = config;
 			this.dslContext = dslContext;
 			this.relationshipPattern = this.config.getRelationshipPattern();
 			this.databaseMetaData = databaseMetaData;
+			this.columnCatalog = columnCatalog;
 			this.views = views;
 		}
 
@@ -674,15 +779,14 @@ final class SqlToCypher implements Translator {
 				if (!insert.$updateSet().isEmpty()) {
 					var updates = new ArrayList<Expression>();
 					insert.$updateSet().forEach((c, v) -> {
-						synchronized (this) {
-							try {
-								this.columnsAndValues.putAll(nodeProperties);
-								updates
-									.add(Cypher.set(node.property(((Field<?>) c).getName()), expression((Field<?>) v)));
-							}
-							finally {
-								nodeProperties.keySet().forEach(this.columnsAndValues::remove);
-							}
+						this.columnsAndValuesLock.lock();
+						try {
+							this.columnsAndValues.putAll(nodeProperties);
+							updates.add(Cypher.set(node.property(((Field<?>) c).getName()), expression((Field<?>) v)));
+						}
+						finally {
+							nodeProperties.keySet().forEach(this.columnsAndValues::remove);
+							this.columnsAndValuesLock.unlock();
 						}
 					});
 					merge = ((StatementBuilder.ExposesMergeAction) merge).onMatch().set(updates);
@@ -825,22 +929,7 @@ final class SqlToCypher implements Translator {
 		}
 
 		private Set<CachedColumn> getColumnsOf(String targetLabel) {
-			return this.columnsCache.computeIfAbsent(targetLabel, key -> {
-				var value = new LinkedHashSet<CachedColumn>();
-				if (this.databaseMetaData != null) {
-					try (var rs = this.databaseMetaData.getColumns(null, null, targetLabel, null)) {
-						while (rs.next()) {
-							value.add(new CachedColumn(rs.getString("COLUMN_NAME"),
-									"YES".equalsIgnoreCase(rs.getString("IS_GENERATEDCOLUMN")),
-									rs.getString("SCOPE_TABLE")));
-						}
-					}
-					catch (SQLException ex) {
-						throw new RuntimeException(ex);
-					}
-				}
-				return value;
-			});
+			return this.columnCatalog.getColumnsOf(this.databaseMetaData, targetLabel);
 		}
 
 		private Statement buildUnwindCreateStatement(QOM.Insert<?> insert,
@@ -876,17 +965,17 @@ final class SqlToCypher implements Translator {
 						.add(Cypher.set(node.property(c.getName()), Cypher.property(symName, c.getName()))));
 
 				var updates = new ArrayList<Expression>();
-				synchronized (this) {
-					try {
-						columns.forEach(c -> this.columnsAndValues.put(c.$name(),
-								Cypher.property(symName, Cypher.literalOf(c.getName()))));
-						insert.$updateSet()
-							.forEach((c, v) -> updates
-								.add(Cypher.set(node.property(((Field<?>) c).getName()), expression((Field<?>) v))));
-					}
-					finally {
-						columns.forEach(c -> this.columnsAndValues.remove(c.$name()));
-					}
+				this.columnsAndValuesLock.lock();
+				try {
+					columns.forEach(c -> this.columnsAndValues.put(c.$name(),
+							Cypher.property(symName, Cypher.literalOf(c.getName()))));
+					insert.$updateSet()
+						.forEach((c, v) -> updates
+							.add(Cypher.set(node.property(((Field<?>) c).getName()), expression((Field<?>) v))));
+				}
+				finally {
+					columns.forEach(c -> this.columnsAndValues.remove(c.$name()));
+					this.columnsAndValuesLock.unlock();
 				}
 
 				return addOptionalReturnAndBuild(Cypher.unwind(props)
@@ -1405,18 +1494,12 @@ final class SqlToCypher implements Translator {
 						return makeId(pc, fieldName);
 					}
 
-					try (var columns = this.databaseMetaData.getColumns(null, null, tableName, null)) {
-						while (columns.next()) {
-							var columnName = columns.getString("COLUMN_NAME");
-							if (columnName.equals(fieldName)) {
-								var pc = (PropertyContainer) resolveTableOrJoin(table).get(0);
-								col = pc.property(fieldName);
-							}
+					for (var column : getColumnsOf(tableName)) {
+						if (column.name().equals(fieldName)) {
+							var pc = (PropertyContainer) resolveTableOrJoin(table).get(0);
+							col = pc.property(fieldName);
 						}
 					}
-					catch (SQLException ex) {
-						throw new RuntimeException(ex);
-					}
 				}
 			}
 
@@ -55,6 +55,7 @@ import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Dialect;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.cypherdsl.parser.CypherParser;
+import org.neo4j.jdbc.translator.spi.CacheStatistics;
 import org.neo4j.jdbc.translator.spi.Translator;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -65,6 +66,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -127,6 +130,70 @@ class SqlToCypherTests {
 		assertThat(NON_PRETTY_PRINTING_TRANSLATOR.translate("SELECT 1")).isEqualTo("RETURN 1");
 	}
 
+	@Test
+	void cachedStatementsShouldNotBeParsedAgain() {
+		var translator = SqlToCypher
+			.with(SqlToCypherConfig.builder().withPrettyPrint(false).withCacheEnabled(true).build());
+
+		assertThat(translator.translate("SELECT 1")).isEqualTo("RETURN 1");
+		assertThat(translator.translate("SELECT 1")).isEqualTo("RETURN 1");
+		assertThat(translator.translate("SELECT  1")).isEqualTo("RETURN 1");
+		assertThat(translator.getCacheStatistics()).hasValue(new CacheStatistics(1, 2))
+			.hasValueSatisfying(statistics -> assertThat(statistics.hitRate()).isEqualTo(1.0 / 3));
+
+		translator.flushCache();
+		assertThat(translator.translate("SELECT 1")).isEqualTo("RETURN 1");
+		assertThat(translator.getCacheStatistics()).map(CacheStatistics::misses).hasValue(3L);
+	}
+
+	@Test
+	void cacheStatisticsShouldNotBeRecordedWithoutCache() {
+		var translator = SqlToCypher.with(SqlToCypherConfig.builder().withPrettyPrint(false).build());
+
+		translator.translate("SELECT 1");
+		translator.translate("SELECT 1");
+		assertThat(translator.getCacheStatistics()).isEmpty();
+	}
+
+	@Test
+	void columnsShouldBeSharedBetweenTranslations() throws SQLException {
+		var translator = SqlToCypher
+			.with(SqlToCypherConfig.builder().withPrettyPrint(false).withCacheEnabled(true).build());
+
+		var databaseMetaData = mockDatabaseMetaData("jdbc:neo4j://host/db", "name", "born");
+
+		assertThat(translator.translate("SELECT * FROM Person", databaseMetaData)).isEqualTo(
+				"MATCH (person:Person) RETURN elementId(person) AS `v$id`, person.name AS name, person.born AS born");
+		assertThat(translator.translate("SELECT name FROM Person WHERE born > 1970", databaseMetaData))
+			.isEqualTo("MATCH (person:Person) WHERE person.born > 1970 RETURN person.name AS name");
+		verify(databaseMetaData, times(1)).getColumns(null, null, "Person", null);
+
+		translator.flushCache();
+		translator.translate("SELECT * FROM Person", databaseMetaData);
+		verify(databaseMetaData, times(2)).getColumns(null, null, "Person", null);
+
+		// Metadata of another connection to the same database
+		var metaDataOfOtherConnection = mockDatabaseMetaData("jdbc:neo4j://host/db", "name", "born");
+		assertThat(translator.translate("SELECT * FROM Person p", metaDataOfOtherConnection))
+			.isEqualTo("MATCH (p:Person) RETURN elementId(p) AS `v$id`, p.name AS name, p.born AS born");
+		verify(metaDataOfOtherConnection, never()).getColumns(any(), any(), any(), any());
+
+		// Metadata of another database
+		var metaDataOfOtherDatabase = mockDatabaseMetaData("jdbc:neo4j://host/otherDb", "id");
+		assertThat(translator.translate("SELECT * FROM Person o", metaDataOfOtherDatabase))
+			.isEqualTo("MATCH (o:Person) RETURN elementId(o) AS `v$id`, o.id AS id");
+	}
+
+	private static DatabaseMetaData mockDatabaseMetaData(String url, String firstColumn, String... columns)
+			throws SQLException {
+		var databaseMetaData = mock(DatabaseMetaData.class);
+		given(databaseMetaData.getURL()).willReturn(url);
+		given(databaseMetaData.getTables(any(), any(), any(), any())).willReturn(mock(ResultSet.class));
+		given(databaseMetaData.getColumns(null, null, "Person", null))
+			.willAnswer(invocation -> makeColumns(firstColumn, columns));
+		return databaseMetaData;
+	}
+
 	@Test
 	void parsingExceptionMustBeWrapped() {
 		assertThatIllegalArgumentException().isThrownBy(() -> NON_PRETTY_PRINTING_TRANSLATOR.translate("whatever"))
@@ -431,6 +498,7 @@ class SqlToCypherTests {
 						new String[] { "TABLE", "RELATIONSHIP" });
 			}
 			verify(databaseMetadata, times(3)).getColumns(any(), any(), anyString(), any());
+			verify(databaseMetadata, atLeastOnce()).getURL();
 			verifyNoMoreInteractions(databaseMetadata);
 		}
 	}
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.translator.sparkcleaner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Translates the column lists and the predicates Spark's JDBC data source puts around a
+ * subquery into Cypher. This covers the partition predicates Spark derives from
+ * {@code partitionColumn}, {@code lowerBound} and {@code upperBound}, such as
+ * {@code "id" >= 10 AND "id" < 20}, the filters it pushes down and simple predicates
+ * given explicitly via the {@code predicates} option, such as {@code id % 4 = 0}. It is
+ * not a SQL parser: anything beyond comparisons, arithmetic, boolean operators,
+ * {@code IS [NOT] NULL} and {@code IN} lists is rejected, so that the statement can be
+ * handled by the next translator.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class SparkPredicates {
+
+	private static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?");
+
+	private static final Map<String, String> COMPARISON_OPERATORS = Map.of("=", "=", "<>", "<>", "!=", "<>", "<", "<",
+			"<=", "<=", ">", ">", ">=", ">=");
+
+	private static final Set<String> KEYWORDS = Set.of("AND", "OR", "NOT", "IS", "NULL", "TRUE", "FALSE", "IN");
+
+	private static final Set<String> UNSUPPORTED_KEYWORDS = Set.of("LIKE", "ILIKE", "BETWEEN", "ESCAPE", "CASE", "WHEN",
+			"THEN", "ELSE", "END", "CAST", "EXISTS", "SELECT", "FROM", "WHERE", "ORDER", "GROUP", "BY", "LIMIT",
+			"OFFSET", "MATCH", "OPTIONAL", "CREATE", "MERGE", "DELETE", "DETACH", "SET", "REMOVE", "CALL", "YIELD",
+			"RETURN", "WITH", "UNWIND", "FOREACH", "LOAD", "USE", "UNION", "ALL", "DISTINCT", "AS", "ON", "SKIP", "XOR",
+			"STARTS", "ENDS", "CONTAINS", "FINISH", "INSERT", "UPDATE", "DROP", "ALTER", "SHOW", "TERMINATE");
+
+	private SparkPredicates() {
+	}
+
+	/**
+	 * Translates the list of columns of a Spark generated {@code SELECT} into the
+	 * projection of a Cypher {@code RETURN} clause.
+	 * @param columns the list of columns
+	 * @return the Cypher projection or an empty optional if the list contains anything
+	 * else than {@code *}, identifiers or number literals
+	 */
+	static Optional<String> columnsToCypher(String columns) {
+		if ("*".equals(columns.trim())) {
+			return Optional.of("*");
+		}
+		return tokenize(columns).filter(tokens -> {
+			var expectColumn = true;
+			for (var token : tokens) {
+				var isSeparator = ",".equals(token.value());
+				if (isSeparator == expectColumn || !isSeparator
+						&& !(token.type() == TokenType.IDENTIFIER || token.type() == TokenType.NUMBER)) {
+					return false;
+				}
+				expectColumn = isSeparator;
+			}
+			return !expectColumn;
+		}).map(SparkPredicates::render);
+	}
+
+	/**
+	 * Translates a Spark generated or user supplied predicate into a Cypher expression.
+	 * @param predicate the predicate to translate
+	 * @return the Cypher expression or an empty optional if the predicate contains
+	 * unsupported constructs
+	 */
+	static Optional<String> toCypher(String predicate) {
+		return tokenize(predicate).filter(SparkPredicates::isExpression)
+			.flatMap(SparkPredicates::translateLists)
+			.map(SparkPredicates::render);
+	}
+
+	/**
+	 * Checks whether the tokens form exactly one expression, so that operands and
+	 * operators alternate and nothing follows the expression, which would otherwise be
+	 * rendered verbatim into the Cypher statement.
+	 * @param tokens the tokens of a predicate
+	 * @return {@literal true} if the tokens form exactly one expression
+	 */
+	private static boolean isExpression(List<Token> tokens) {
+		var parser = new ExpressionParser(tokens);
+		return parser.orExpression() && parser.isExhausted();
+	}
+
+	/**
+	 * Turns the parenthesized value lists of {@code IN} into Cypher lists and checks
+	 * whether all parentheses are balanced.
+	 * @param tokens the tokens of a predicate
+	 * @return the translated tokens
+	 */
+	private static Optional<List<Token>> translateLists(List<Token> tokens) {
+		var result = new ArrayList<Token>(tokens.size());
+		var closers = new ArrayDeque<String>();
+		Token previous = null;
+		for (var token : tokens) {
+			if ("(".equals(token.value())) {
+				if (previous != null && previous.type() == TokenType.IDENTIFIER) {
+					// A function call, and the functions of SQL and Cypher are different
+					return Optional.empty();
+				}
+				var isList = previous != null && "IN".equals(previous.value());
+				closers.push(isList ? "]" : ")");
+				token = isList ? new Token(TokenType.PUNCTUATION, "[") : token;
+			}
+			else if (")".equals(token.value())) {
+				if (closers.isEmpty()) {
+					return Optional.empty();
+				}
+				token = new Token(TokenType.PUNCTUATION, closers.pop());
+			}
+			else if (",".equals(token.value()) && !"]".equals(closers.peek())) {
+				return Optional.empty();
+			}
+			result.add(token);
+			previous = token;
+		}
+		return closers.isEmpty() ? Optional.of(result) : Optional.empty();
+	}
+
+	private static Optional<List<Token>> tokenize(String value) {
+		var tokens = new ArrayList<Token>();
+		var length = value.length();
+		var i = 0;
+		while (i < length) {
+			var c = value.charAt(i);
+			if (Character.isWhitespace(c)) {
+				++i;
+				continue;
+			}
+			int end;
+			if (c == '"' || c == '\'') {
+				var content = new StringBuilder();
+				end = readQuoted(value, i, content);
+				if (end < 0) {
+					return Optional.empty();
+				}
+				tokens.add((c == '"') ? new Token(TokenType.IDENTIFIER, quoteIdentifier(content.toString()))
+						: new Token(TokenType.STRING, quoteString(content.toString())));
+			}
+			else if (Character.isDigit(c) || c == '-' && isUnaryMinus(tokens, value, i)) {
+				var matcher = NUMBER.matcher(value).region(i, length);
+				if (!matcher.lookingAt()) {
+					return Optional.empty();
+				}
+				end = matcher.end();
+				tokens.add(new Token(TokenType.NUMBER, matcher.group()));
+			}
+			else if (c == '<' || c == '>' || c == '=' || c == '!') {
+				end = i;
+				while (end < length && "<>=!".indexOf(value.charAt(end)) >= 0) {
+					++end;
+				}
+				var operator = COMPARISON_OPERATORS.get(value.substring(i, end));
+				if (operator == null) {
+					return Optional.empty();
+				}
+				tokens.add(new Token(TokenType.OPERATOR, operator));
+			}
+			else if ("+-*/%".indexOf(c) >= 0) {
+				end = i + 1;
+				tokens.add(new Token(TokenType.OPERATOR, String.valueOf(c)));
+			}
+			else if (c == '(' || c == ')' || c == ',') {
+				end = i + 1;
+				tokens.add(new Token(TokenType.PUNCTUATION, String.valueOf(c)));
+			}
+			else if (Character.isLetter(c) || c == '_') {
+				end = i;
+				while (end < length && (Character.isLetterOrDigit(value.charAt(end)) || value.charAt(end) == '_')) {
+					++end;
+				}
+				var word = value.substring(i, end);
+				var upperCaseWord = word.toUpperCase(Locale.ROOT);
+				if (UNSUPPORTED_KEYWORDS.contains(upperCaseWord)) {
+					return Optional.empty();
+				}
+				tokens.add(KEYWORDS.contains(upperCaseWord) ? new Token(TokenType.KEYWORD, upperCaseWord)
+						: new Token(TokenType.IDENTIFIER, word));
+			}
+			else {
+				return Optional.empty();
+			}
+			i = end;
+		}
+		return tokens.isEmpty() ? Optional.empty() : Optional.of(tokens);
+	}
+
+	/**
+	 * Reads a quoted value in which the quote is escaped by doubling it.
+	 * @param value the value to read from
+	 * @param start the index of the opening quote
+	 * @param content receives the unescaped content
+	 * @return the index after the closing quote or {@literal -1} if there is none
+	 */
+	private static int readQuoted(String value, int start, StringBuilder content) {
+		var quote = value.charAt(start);
+		var i = start + 1;
+		while (i < value.length()) {
+			var c = value.charAt(i++);
+			if (c != quote) {
+				content.append(c);
+			}
+			else if (i < value.length() && value.charAt(i) == quote) {
+				content.append(c);
+				++i;
+			}
+			else {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isUnaryMinus(List<Token> tokens, String value, int index) {
+		if (index + 1 >= value.length() || !Character.isDigit(value.charAt(index + 1))) {
+			return false;
+		}
+		if (tokens.isEmpty()) {
+			return true;
+		}
+		var previous = tokens.get(tokens.size() - 1);
+		return previous.type() == TokenType.OPERATOR || previous.type() == TokenType.KEYWORD
+				|| "(".equals(previous.value()) || ",".equals(previous.value());
+	}
+
+	private static String quoteIdentifier(String identifier) {
+		return "`" + identifier.replace("`", "``") + "`";
+	}
+
+	private static String quoteString(String value) {
+		return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
+	}
+
+	private static String render(List<Token> tokens) {
+		var result = new StringBuilder();
+		String previous = null;
+		for (var token : tokens) {
+			var value = token.value();
+			var noSpace = previous == null || "(".equals(previous) || "[".equals(previous) || ")".equals(value)
+					|| "]".equals(value) || ",".equals(value);
+			if (!noSpace) {
+				result.append(' ');
+			}
+			result.append(value);
+			previous = value;
+		}
+		return result.toString();
+	}
+
+	/**
+	 * A recursive descent parser for the supported expressions, following the precedence
+	 * rules shared by SQL and Cypher:
+	 *
+	 * <pre>
+	 * orExpression   := andExpression ( OR andExpression )*
+	 * andExpression  := notExpression ( AND notExpression )*
+	 * notExpression  := NOT notExpression | comparison
+	 * comparison     := additive ( comparisonOperator additive | IS [ NOT ] NULL | IN list )?
+	 * additive       := multiplicative ( ( + | - ) multiplicative )*
+	 * multiplicative := primary ( ( * | / | % ) primary )*
+	 * primary        := identifier | string | number | TRUE | FALSE | NULL | ( orExpression )
+	 * list           := ( additive ( , additive )* )
+	 * </pre>
+	 */
+	private static final class ExpressionParser {
+
+		private final List<Token> tokens;
+
+		private int position;
+
+		ExpressionParser(List<Token> tokens) {
+			this.tokens = tokens;
+		}
+
+		boolean isExhausted() {
+			return this.position == this.tokens.size();
+		}
+
+		boolean orExpression() {
+			if (!andExpression()) {
+				return false;
+			}
+			while (accept("OR")) {
+				if (!andExpression()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean andExpression() {
+			if (!notExpression()) {
+				return false;
+			}
+			while (accept("AND")) {
+				if (!notExpression()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean notExpression() {
+			return accept("NOT") ? notExpression() : comparison();
+		}
+
+		private boolean comparison() {
+			if (!additive()) {
+				return false;
+			}
+			var next = peek();
+			if (next != null && next.type() == TokenType.OPERATOR && COMPARISON_OPERATORS.containsValue(next.value())) {
+				++this.position;
+				return additive();
+			}
+			if (accept("IS")) {
+				accept("NOT");
+				return accept("NULL");
+			}
+			if (accept("IN")) {
+				return list();
+			}
+			return true;
+		}
+
+		private boolean additive() {
+			if (!multiplicative()) {
+				return false;
+			}
+			while (accept("+") || accept("-")) {
+				if (!multiplicative()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean multiplicative() {
+			if (!primary()) {
+				return false;
+			}
+			while (accept("*") || accept("/") || accept("%")) {
+				if (!primary()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean primary() {
+			var next = peek();
+			if (next == null) {
+				return false;
+			}
+			if (next.type() == TokenType.IDENTIFIER || next.type() == TokenType.STRING
+					|| next.type() == TokenType.NUMBER) {
+				++this.position;
+				return true;
+			}
+			if (accept("TRUE") || accept("FALSE") || accept("NULL")) {
+				return true;
+			}
+			return accept("(") && orExpression() && accept(")");
+		}
+
+		private boolean list() {
+			if (!accept("(")) {
+				return false;
+			}
+			do {
+				if (!additive()) {
+					return false;
+				}
+			}
+			while (accept(","));
+			return accept(")");
+		}
+
+		private Token peek() {
+			return isExhausted() ? null : this.tokens.get(this.position);
+		}
+
+		/**
+		 * Consumes the next token if it is a keyword, an operator or a punctuation with
+		 * the given value.
+		 * @param value the expected value
+		 * @return {@literal true} if the next token has been consumed
+		 */
+		private boolean accept(String value) {
+			var next = peek();
+			if (next == null || next.type() == TokenType.IDENTIFIER || next.type() == TokenType.STRING
+					|| next.type() == TokenType.NUMBER || !next.value().equals(value)) {
+				return false;
+			}
+			++this.position;
+			return true;
+		}
+
+	}
+
+	private enum TokenType {
+
+		IDENTIFIER, STRING, NUMBER, OPERATOR, KEYWORD, PUNCTUATION
+
+	}
+
+	private record Token(TokenType type, String value) {
+	}
+
+}
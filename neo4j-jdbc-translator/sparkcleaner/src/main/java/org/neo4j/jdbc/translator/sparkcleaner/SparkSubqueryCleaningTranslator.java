@@ -37,14 +37,25 @@ import org.neo4j.jdbc.translator.spi.Translator;
  * before passing it on towards to the next translator. If such a literal is found, a
  * check if it might be a spark subquery containing cypher instead of SQL is performed.
  * The check is performed by parsing it with jOOQ as well.
+ * <p>
+ * Spark's schema probe ({@code SELECT * FROM (…) SPARK_GEN_SUBQ_0 WHERE 1=0}) is
+ * rewritten into a query returning at most one row. Actual reads are rewritten into
+ * {@code CALL {…} WITH * WHERE … RETURN …}, with Spark's partition predicates and pushed
+ * down filters translated into the {@code WHERE} clause and pushed down {@code LIMIT} and
+ * {@code OFFSET} clauses into {@code SKIP} and {@code LIMIT}. This allows Spark executors
+ * to read disjoint slices of a Cypher query in parallel, either partitioned by a numeric
+ * column of the query via {@code partitionColumn}, {@code lowerBound}, {@code upperBound}
+ * and {@code numPartitions}, or by explicit {@code predicates}.
  *
  * @author Michael J. Simons
  * @since 6.1.2
  */
 final class SparkSubqueryCleaningTranslator implements Translator {
 
-	private static final Pattern SUBQUERY_PATTERN = Pattern
-		.compile("(?ims)SELECT\\s+\\*\\s+FROM\\s+\\((.*?)\\)\\s+SPARK_GEN_SUBQ_0.*");
+	private static final Pattern SPARK_QUERY_PATTERN = Pattern.compile(
+			"(?is)SELECT\\s+(?<columns>.+?)\\s+FROM\\s+\\((?<subquery>.*)\\)\\s+SPARK_GEN_SUBQ_\\d+(?:\\s+WHERE\\s+(?<predicate>.+?))?(?:\\s+LIMIT\\s+(?<limit>\\d+))?(?:\\s+OFFSET\\s+(?<offset>\\d+))?\\s*");
+
+	private static final Pattern SCHEMA_PROBE_PATTERN = Pattern.compile("1\\s*=\\s*0");
 
 	private final int precedence;
 
@@ -63,11 +74,9 @@ final class SparkSubqueryCleaningTranslator implements Translator {
 			return null;
 		}
 
-		var extractedSubquery = extractSubquery(statement);
-		return extractedSubquery.filter(this::canParseAsCypher).map(v -> """
-				/*+ NEO4J FORCE_CYPHER */
-				CALL {%s} RETURN * LIMIT 1
-				""".formatted(v).strip()).orElse(null);
+		return parse(statement).filter(query -> canParseAsCypher(query.subquery()))
+			.flatMap(SparkQuery::toCypher)
+			.orElse(null);
 	}
 
 	static boolean mightBeASparkQuery(String statement) {
@@ -75,11 +84,16 @@ final class SparkSubqueryCleaningTranslator implements Translator {
 	}
 
 	static Optional<String> extractSubquery(String statement) {
-		var matcher = SUBQUERY_PATTERN.matcher(statement);
+		return parse(statement).map(SparkQuery::subquery);
+	}
+
+	static Optional<SparkQuery> parse(String statement) {
+		var matcher = SPARK_QUERY_PATTERN.matcher(statement);
 		if (!matcher.matches()) {
 			return Optional.empty();
 		}
-		return Optional.of(matcher.group(1).trim());
+		return Optional.of(new SparkQuery(matcher.group("columns").trim(), matcher.group("subquery").trim(),
+				matcher.group("predicate"), matcher.group("limit"), matcher.group("offset")));
 	}
 
 	boolean canParseAsCypher(String statement) {
@@ -108,4 +122,52 @@ final class SparkSubqueryCleaningTranslator implements Translator {
 		return true;
 	}
 
+	/**
+	 * A query generated by Spark's JDBC data source around a subquery.
+	 *
+	 * @param columns the selected columns
+	 * @param subquery the subquery
+	 * @param predicate the optional predicate, may be {@literal null}
+	 * @param limit the optional limit, may be {@literal null}
+	 * @param offset the optional offset, may be {@literal null}
+	 */
+	record SparkQuery(String columns, String subquery, String predicate, String limit, String offset) {
+
+		boolean isSchemaProbe() {
+			return this.predicate != null && SCHEMA_PROBE_PATTERN.matcher(this.predicate.trim()).matches();
+		}
+
+		Optional<String> toCypher() {
+			if (isSchemaProbe()) {
+				return Optional.of("""
+						/*+ NEO4J FORCE_CYPHER */
+						CALL {%s} RETURN * LIMIT 1
+						""".formatted(this.subquery).strip());
+			}
+
+			var projection = SparkPredicates.columnsToCypher(this.columns);
+			if (projection.isEmpty()) {
+				return Optional.empty();
+			}
+
+			var cypher = new StringBuilder("/*+ NEO4J FORCE_CYPHER */\nCALL {").append(this.subquery).append("}");
+			if (this.predicate != null) {
+				var condition = SparkPredicates.toCypher(this.predicate);
+				if (condition.isEmpty()) {
+					return Optional.empty();
+				}
+				cypher.append(" WITH * WHERE ").append(condition.get());
+			}
+			cypher.append(" RETURN ").append(projection.get());
+			if (this.offset != null) {
+				cypher.append(" SKIP ").append(this.offset);
+			}
+			if (this.limit != null) {
+				cypher.append(" LIMIT ").append(this.limit);
+			}
+			return Optional.of(cypher.toString());
+		}
+
+	}
+
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.translator.sparkcleaner;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SparkPredicatesTests {
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', quoteCharacter = '~', textBlock = """
+			"a" = 1|`a` = 1
+			"a" != -1.5|`a` <> -1.5
+			"a" - 1 <= 2e3|`a` - 1 <= 2e3
+			"we""ird`" > 0|`we"ird``` > 0
+			NOT ("a" = 'it''s \\ here')|NOT (`a` = 'it\\'s \\\\ here')
+			"a" in (1, -2) and "b" is not null|`a` IN [1, -2] AND `b` IS NOT NULL
+			"a" <=> 1|n/a
+			"a" BETWEEN 1 AND 2|n/a
+			abs("a") > 1|n/a
+			("a" = 1|n/a
+			"a" = 1, "b" = 2|n/a
+			"a" = 'open|n/a
+			"a" = ?|n/a
+			id % 4 = 0 AND ("a" = 1 OR NOT "b" IS NULL)|id % 4 = 0 AND (`a` = 1 OR NOT `b` IS NULL)
+			""", nullValues = "n/a")
+	void shouldTranslatePredicates(String predicate, String expected) {
+		var cypher = SparkPredicates.toCypher(predicate);
+		if (expected == null) {
+			assertThat(cypher).isEmpty();
+		}
+		else {
+			assertThat(cypher).hasValue(expected);
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "x = 1 DETACH DELETE n", "x = 1 n", "\"a\" \"b\"", "\"a\" 1", "\"a\" = = 1",
+			"\"a\" = 1 = 2", "\"a\" = 1 OR", "AND \"a\" = 1", "\"a\" = 1 AND AND \"b\" = 2", "\"a\" = 1 RETURN n",
+			"x = delete", "\"a\" IS 1", "\"a\" IN 1", "\"a\" NOT IN (1)", "\"a\" IN ()", "()", "\"a\" = 1 ()",
+			"\"a\" +", "\"a\" = 1 WITH n MATCH (m) RETURN m" })
+	void shouldRejectInvalidPredicates(String predicate) {
+		assertThat(SparkPredicates.toCypher(predicate)).isEmpty();
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', quoteCharacter = '~', textBlock = """
+			*|*
+			"a"|`a`
+			"a","b"|`a`, `b`
+			1|1
+			"a",|n/a
+			"a" "b"|n/a
+			count(*)|n/a
+			""", nullValues = "n/a")
+	void shouldTranslateColumns(String columns, String expected) {
+		var cypher = SparkPredicates.columnsToCypher(columns);
+		if (expected == null) {
+			assertThat(cypher).isEmpty();
+		}
+		else {
+			assertThat(cypher).hasValue(expected);
+		}
+	}
+
+}
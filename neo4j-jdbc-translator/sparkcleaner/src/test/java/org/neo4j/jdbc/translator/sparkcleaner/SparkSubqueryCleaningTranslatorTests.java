@@ -126,4 +126,28 @@ class SparkSubqueryCleaningTranslatorTests {
 				""".strip());
 	}
 
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', quoteCharacter = '~',
+			textBlock = """
+					SELECT "title","actors" FROM (MATCH (m:Movie) RETURN m.title AS title, m.actors AS actors) SPARK_GEN_SUBQ_7|CALL {MATCH (m:Movie) RETURN m.title AS title, m.actors AS actors} RETURN `title`, `actors`
+					SELECT "id","name" FROM (MATCH (n:Person) RETURN id(n) AS id, n.name AS name) SPARK_GEN_SUBQ_0 WHERE "id" < 10 or "id" is null|CALL {MATCH (n:Person) RETURN id(n) AS id, n.name AS name} WITH * WHERE `id` < 10 OR `id` IS NULL RETURN `id`, `name`
+					SELECT "id","name" FROM (MATCH (n:Person) RETURN id(n) AS id, n.name AS name) SPARK_GEN_SUBQ_0 WHERE "id" >= 10 AND "id" < 20|CALL {MATCH (n:Person) RETURN id(n) AS id, n.name AS name} WITH * WHERE `id` >= 10 AND `id` < 20 RETURN `id`, `name`
+					SELECT "id" FROM (MATCH (n:Person) RETURN id(n) AS id) SPARK_GEN_SUBQ_0 WHERE ("id" IS NOT NULL) AND ("id" >= 20)|CALL {MATCH (n:Person) RETURN id(n) AS id} WITH * WHERE (`id` IS NOT NULL) AND (`id` >= 20) RETURN `id`
+					SELECT "id" FROM (MATCH (n:Person) RETURN id(n) AS id) SPARK_GEN_SUBQ_0 WHERE id % 4 = 1|CALL {MATCH (n:Person) RETURN id(n) AS id} WITH * WHERE id % 4 = 1 RETURN `id`
+					SELECT "id" FROM (MATCH (n:Person) RETURN id(n) AS id ORDER BY id) SPARK_GEN_SUBQ_0 LIMIT 100 OFFSET 200|CALL {MATCH (n:Person) RETURN id(n) AS id ORDER BY id} RETURN `id` SKIP 200 LIMIT 100
+					SELECT 1 FROM (MATCH (n:Person) RETURN n.name AS name) SPARK_GEN_SUBQ_0 WHERE "name" IN ('Tom', 'Meg')|CALL {MATCH (n:Person) RETURN n.name AS name} WITH * WHERE `name` IN ['Tom', 'Meg'] RETURN 1
+					SELECT "name" FROM (MATCH (n:Person) RETURN n.name AS name) SPARK_GEN_SUBQ_0 WHERE "name" LIKE 'T%'|n/a
+					SELECT "name" FROM (SELECT name FROM Person) SPARK_GEN_SUBQ_0|n/a
+					""",
+			nullValues = "n/a")
+	void shouldRewriteReads(String query, String expected) {
+		var translator = new SparkSubqueryCleaningTranslator(RANDOM_PRECEDENCE);
+		if (expected == null) {
+			assertThat(translator.translate(query)).isNull();
+		}
+		else {
+			assertThat(translator.translate(query)).isEqualTo("/*+ NEO4J FORCE_CYPHER */\n" + expected);
+		}
+	}
+
 }
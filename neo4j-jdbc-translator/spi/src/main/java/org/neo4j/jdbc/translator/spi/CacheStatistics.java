@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.translator.spi;
+
+/**
+ * Statistics about the lookups in the cache of a {@link Translator}, see
+ * {@link Translator#getCacheStatistics()}.
+ *
+ * @param hits the number of statements served from the cache
+ * @param misses the number of statements that had to be translated
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+public record CacheStatistics(long hits, long misses) {
+
+	/**
+	 * {@return the ratio of hits to all lookups, {@literal 0} if there haven't been any
+	 * lookups}
+	 */
+	public double hitRate() {
+		var lookups = this.hits + this.misses;
+		return (lookups != 0) ? (double) this.hits / lookups : 0.0;
+	}
+
+}
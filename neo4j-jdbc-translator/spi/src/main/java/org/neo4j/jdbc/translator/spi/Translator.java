@@ -19,6 +19,7 @@
 package org.neo4j.jdbc.translator.spi;
 
 import java.sql.DatabaseMetaData;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -79,6 +80,17 @@ public interface Translator {
 	default void flushCache() {
 	}
 
+	/**
+	 * This method can be overwritten if the translator supports caching, so that the
+	 * cache can be sized according to its hit rate.
+	 * @return statistics about the lookups in the cache of this translator, empty if it
+	 * doesn't cache translations
+	 * @since 6.11.0
+	 */
+	default Optional<CacheStatistics> getCacheStatistics() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Translate the given statement into a Neo4j native query or an intermediate format
 	 * that needs further processing by other translators.
@@ -54,7 +54,7 @@ import static org.neo4j.jdbc.Neo4jException.withReason;
  */
 class ArrayImpl implements Array {
 
-	private static final List<String> RESULT_SET_COLUMNS = List.of("index", "value");
+	private static final List<String> RESULT_SET_COLUMNS = ColumnNames.of(List.of("index", "value"));
 
 	private final AtomicBoolean freed = new AtomicBoolean(false);
 
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+
+import org.neo4j.jdbc.Neo4jException.GQLError;
+
+import static org.neo4j.jdbc.Neo4jException.withReason;
+
+/**
+ * A read-only {@link Blob} that is a view on the bytes of a value that has already been
+ * received from the server. Neither the view itself nor the streams created from it copy
+ * the underlying bytes, only {@link #getBytes(long, int)} returns a copy of the requested
+ * slice. A {@link java.sql.Statement#setMaxFieldSize(int) maximum field size} limits the
+ * view, not the data.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class BlobImpl implements Blob {
+
+	private volatile byte[] bytes;
+
+	private volatile int length;
+
+	/**
+	 * Creates a new view on the given bytes.
+	 * @param bytes the bytes to view, won't be copied
+	 * @param maxFieldSize the maximum number of bytes visible, {@literal 0} for all bytes
+	 */
+	BlobImpl(byte[] bytes, int maxFieldSize) {
+		this.bytes = bytes;
+		this.length = (maxFieldSize > 0) ? Math.min(bytes.length, maxFieldSize) : bytes.length;
+	}
+
+	@Override
+	public long length() throws SQLException {
+		assertNotFreed();
+		return this.length;
+	}
+
+	@Override
+	public byte[] getBytes(long pos, int length) throws SQLException {
+		var theBytes = assertNotFreed();
+		var currentLength = this.length;
+		if (pos < 1 || pos > currentLength + 1L || length < 0) {
+			throw invalidArgument("getBytes(%d, %d)".formatted(pos, length), currentLength);
+		}
+		var from = (int) pos - 1;
+		return Arrays.copyOfRange(theBytes, from, from + Math.min(length, currentLength - from));
+	}
+
+	@Override
+	public InputStream getBinaryStream() throws SQLException {
+		var theBytes = assertNotFreed();
+		return new ByteArrayInputStream(theBytes, 0, this.length);
+	}
+
+	@Override
+	public InputStream getBinaryStream(long pos, long length) throws SQLException {
+		var theBytes = assertNotFreed();
+		var currentLength = this.length;
+		if (pos < 1 || length < 0 || pos - 1 + length > currentLength) {
+			throw invalidArgument("getBinaryStream(%d, %d)".formatted(pos, length), currentLength);
+		}
+		return new ByteArrayInputStream(theBytes, (int) pos - 1, (int) length);
+	}
+
+	@Override
+	public long position(byte[] pattern, long start) throws SQLException {
+		var theBytes = assertNotFreed();
+		var currentLength = this.length;
+		if (start < 1 || pattern == null) {
+			throw invalidArgument("position(pattern, %d)".formatted(start), currentLength);
+		}
+		var last = currentLength - pattern.length;
+		outer: for (var i = (int) Math.min(start - 1, Integer.MAX_VALUE); i <= last; ++i) {
+			for (var j = 0; j < pattern.length; ++j) {
+				if (theBytes[i + j] != pattern[j]) {
+					continue outer;
+				}
+			}
+			return i + 1L;
+		}
+		return -1;
+	}
+
+	@Override
+	public long position(Blob pattern, long start) throws SQLException {
+		if (pattern == null) {
+			throw invalidArgument("position(pattern, %d)".formatted(start), this.length);
+		}
+		return position(pattern.getBytes(1, PreparedStatementImpl.getLengthAsInt(pattern.length())), start);
+	}
+
+	@Override
+	public int setBytes(long pos, byte[] bytes) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public int setBytes(long pos, byte[] bytes, int offset, int len) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public OutputStream setBinaryStream(long pos) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void truncate(long len) throws SQLException {
+		assertNotFreed();
+		var currentLength = this.length;
+		if (len < 0 || len > currentLength) {
+			throw invalidArgument("truncate(%d)".formatted(len), currentLength);
+		}
+		this.length = (int) len;
+	}
+
+	@Override
+	public void free() {
+		this.bytes = null;
+	}
+
+	private byte[] assertNotFreed() throws SQLException {
+		var theBytes = this.bytes;
+		if (theBytes == null) {
+			throw new Neo4jException(withReason("Blob has been already freed"));
+		}
+		return theBytes;
+	}
+
+	private static SQLException invalidArgument(String call, int length) {
+		return new Neo4jException(
+				GQLError.$22N11.withTemplatedMessage("%s for blob with length %d".formatted(call, length)));
+	}
+
+}
@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.bolt.connection.AuthInfo;
+import org.neo4j.bolt.connection.BasicResponseHandler;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.bolt.connection.BoltConnectionState;
+import org.neo4j.bolt.connection.BoltProtocolVersion;
+import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.message.Message;
+import org.neo4j.bolt.connection.message.Messages;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
+import org.neo4j.jdbc.BoltConnectionObservations.NoopObservation;
+import org.neo4j.jdbc.Neo4jException.GQLError;
+import org.neo4j.jdbc.events.DriverListener;
+import org.neo4j.jdbc.events.DriverListener.ConnectionAcquiredEvent;
+import org.neo4j.jdbc.events.DriverListener.ConnectionPoolChangedEvent;
+
+import static org.neo4j.jdbc.Neo4jException.withInternal;
+
+/**
+ * A bounded pool of {@link BoltConnection Bolt connections} towards a single target and a
+ * single authentication. Connections handed out by the pool are leases: closing them
+ * returns the underlying connection to the pool instead of closing the socket. Idle
+ * connections are validated with a {@literal RESET} before they are handed out again,
+ * connections that have been idle for too long or that exceeded their maximum lifetime
+ * are evicted whenever the pool is used. A pool that has not been used at all for longer
+ * than the idle timeout can be {@link #closeIfUnused() closed} by its owner.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class BoltConnectionPool implements AutoCloseable {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.pool");
+
+	/**
+	 * Set while acquisitions on the current thread must not wait for a connection.
+	 */
+	private static final ThreadLocal<Boolean> FAIL_FAST = ThreadLocal.withInitial(() -> false);
+
+	private final URI uri;
+
+	private final Supplier<BoltConnection> connectionFactory;
+
+	private final Config config;
+
+	private final Collection<? extends DriverListener> listeners;
+
+	private final Clock clock;
+
+	private final Semaphore permits;
+
+	private final Deque<Entry> idleConnections = new ConcurrentLinkedDeque<>();
+
+	private final AtomicInteger activeConnections = new AtomicInteger();
+
+	private final AtomicInteger pendingAcquisitions = new AtomicInteger();
+
+	private volatile Instant lastUsedAt;
+
+	private volatile boolean closed;
+
+	BoltConnectionPool(URI uri, Supplier<BoltConnection> connectionFactory, Config config,
+			Collection<? extends DriverListener> listeners) {
+		this(uri, connectionFactory, config, listeners, Clock.systemUTC());
+	}
+
+	BoltConnectionPool(URI uri, Supplier<BoltConnection> connectionFactory, Config config,
+			Collection<? extends DriverListener> listeners, Clock clock) {
+		this.uri = uri;
+		this.connectionFactory = connectionFactory;
+		this.config = config;
+		this.listeners = listeners;
+		this.clock = clock;
+		this.permits = new Semaphore(config.maxSize(), true);
+		this.lastUsedAt = now();
+	}
+
+	/**
+	 * Acquires a connection from the pool, waiting at most for the configured acquisition
+	 * timeout for a connection to become available, unless called
+	 * {@link #failFast(Supplier) without waiting}. Idle connections are reused, a new
+	 * connection is only opened when there is no valid idle connection left.
+	 * @return a leased connection, that must be closed to be returned to the pool
+	 * @throws Neo4jException when no connection could be acquired in time or the pool has
+	 * been closed
+	 */
+	BoltConnection acquire() throws Neo4jException {
+		if (this.closed) {
+			throw new Neo4jException(GQLError.$08000.withMessage("The connection pool has been closed"));
+		}
+
+		var start = System.nanoTime();
+		var failFast = FAIL_FAST.get();
+		boolean permitted;
+		this.pendingAcquisitions.incrementAndGet();
+		notifyPoolChanged();
+		try {
+			permitted = failFast ? this.permits.tryAcquire()
+					: this.permits.tryAcquire(this.config.acquisitionTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new Neo4jException(withInternal(ex, "The thread has been interrupted."));
+		}
+		finally {
+			this.pendingAcquisitions.decrementAndGet();
+		}
+
+		if (!permitted && failFast) {
+			notifyPoolChanged();
+			throw new Neo4jException(GQLError.$08000.withMessage("All %d connections of the pool for %s are in use"
+				.formatted(this.config.maxSize(), Events.cleanURL(this.uri))));
+		}
+		else if (!permitted) {
+			notifyPoolChanged();
+			throw new Neo4jException(GQLError.$08000
+				.withMessage("Could not acquire a connection to %s from the pool within %d milliseconds"
+					.formatted(Events.cleanURL(this.uri), this.config.acquisitionTimeout().toMillis())));
+		}
+
+		Entry entry;
+		try {
+			entry = pollValidIdleConnection().orElseGet(() -> new Entry(this.connectionFactory.get(), now()));
+		}
+		catch (RuntimeException ex) {
+			this.permits.release();
+			notifyPoolChanged();
+			throw ex;
+		}
+
+		this.activeConnections.incrementAndGet();
+		this.lastUsedAt = now();
+		var elapsedTime = Duration.ofNanos(System.nanoTime() - start);
+		Events.notify(this.listeners,
+				listener -> listener.onConnectionAcquired(new ConnectionAcquiredEvent(this.uri, elapsedTime)));
+		notifyPoolChanged();
+		return new Lease(entry);
+	}
+
+	/**
+	 * Runs the given acquisition so that all pools fail right away instead of waiting for
+	 * a connection when they are exhausted. This is used by callers that already hold
+	 * connections of a pool and would otherwise wait for themselves.
+	 * @param acquisition the acquisition to run
+	 * @param <T> the type of the acquired connection
+	 * @return the acquired connection
+	 */
+	static <T> T failFast(Supplier<T> acquisition) {
+		var previous = FAIL_FAST.get();
+		FAIL_FAST.set(true);
+		try {
+			return acquisition.get();
+		}
+		finally {
+			FAIL_FAST.set(previous);
+		}
+	}
+
+	/**
+	 * Returns whether the given connection has been leased from a pool, either directly
+	 * or through a router, so that closing it returns it to its pool.
+	 * @param connection the connection to check
+	 * @return {@literal true} if the connection is a lease on a pooled connection
+	 */
+	static boolean isPooled(BoltConnection connection) {
+		return BoltConnectionRouter.unwrap(connection) instanceof Lease;
+	}
+
+	int getActiveConnections() {
+		return this.activeConnections.get();
+	}
+
+	int getIdleConnections() {
+		return this.idleConnections.size();
+	}
+
+	int getPendingAcquisitions() {
+		return this.pendingAcquisitions.get();
+	}
+
+	boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Closes this pool if none of its connections is in use, nobody waits for one and no
+	 * connection has been acquired or returned for longer than the idle timeout, so that
+	 * pools that aren't needed anymore don't keep their connections around forever.
+	 * @return {@literal true} if the pool has been closed
+	 */
+	boolean closeIfUnused() {
+		if (this.activeConnections.get() > 0 || this.pendingAcquisitions.get() > 0
+				|| !this.lastUsedAt.plus(this.config.idleTimeout()).isBefore(now())) {
+			return false;
+		}
+		close();
+		return true;
+	}
+
+	@Override
+	public void close() {
+		this.closed = true;
+		Entry entry;
+		while ((entry = this.idleConnections.pollFirst()) != null) {
+			discard(entry);
+		}
+		notifyPoolChanged();
+	}
+
+	private Optional<Entry> pollValidIdleConnection() {
+		Entry candidate;
+		while ((candidate = this.idleConnections.pollFirst()) != null) {
+			if (isExpired(candidate, now()) || !isValid(candidate.connection)) {
+				discard(candidate);
+				continue;
+			}
+			return Optional.of(candidate);
+		}
+		return Optional.empty();
+	}
+
+	private boolean isValid(BoltConnection connection) {
+		if (connection.state() != BoltConnectionState.OPEN) {
+			return false;
+		}
+		try {
+			var handler = new BasicResponseHandler();
+			connection.writeAndFlush(handler, Messages.reset(), NoopObservation.INSTANCE)
+				.thenCompose(ignored -> handler.summaries())
+				.toCompletableFuture()
+				.get(this.config.acquisitionTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			return true;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		catch (ExecutionException | TimeoutException ex) {
+			LOGGER.log(Level.FINE, ex, () -> "Discarding idle connection that failed validation");
+			return false;
+		}
+	}
+
+	private boolean isExpired(Entry entry, Instant now) {
+		return entry.createdAt.plus(this.config.maxLifetime()).isBefore(now)
+				|| entry.lastUsedAt.plus(this.config.idleTimeout()).isBefore(now);
+	}
+
+	private void release(Entry entry, boolean reusable) {
+		this.activeConnections.decrementAndGet();
+		var now = now();
+		this.lastUsedAt = now;
+		if (reusable && !this.closed && entry.connection.state() == BoltConnectionState.OPEN
+				&& !isExpired(entry, now)) {
+			entry.lastUsedAt = now;
+			this.idleConnections.offerFirst(entry);
+		}
+		else {
+			discard(entry);
+		}
+		this.permits.release();
+		evictIdleConnections(now);
+		notifyPoolChanged();
+	}
+
+	private void evictIdleConnections(Instant now) {
+		this.idleConnections.removeIf(entry -> {
+			if (isExpired(entry, now)) {
+				discard(entry);
+				return true;
+			}
+			return false;
+		});
+	}
+
+	private static void discard(Entry entry) {
+		entry.connection.close().whenComplete((ignored, ex) -> {
+			if (ex != null) {
+				LOGGER.log(Level.FINE, ex, () -> "Could not close discarded connection");
+			}
+		});
+	}
+
+	private Instant now() {
+		return this.clock.instant();
+	}
+
+	private void notifyPoolChanged() {
+		var event = new ConnectionPoolChangedEvent(this.uri, this.activeConnections.get(), this.idleConnections.size(),
+				this.pendingAcquisitions.get());
+		Events.notify(this.listeners, listener -> listener.onConnectionPoolChanged(event));
+	}
+
+	/**
+	 * Configuration of a pool.
+	 *
+	 * @param maxSize the maximum number of connections, both idle and in use
+	 * @param acquisitionTimeout the maximum time to wait for a connection to become
+	 * available
+	 * @param idleTimeout the time after which an idle connection is evicted
+	 * @param maxLifetime the time after which a connection is not reused anymore
+	 */
+	record Config(int maxSize, Duration acquisitionTimeout, Duration idleTimeout, Duration maxLifetime) {
+	}
+
+	/**
+	 * A pooled connection, shared by all the leases created for it.
+	 */
+	private static final class Entry {
+
+		private final BoltConnection connection;
+
+		private final Instant createdAt;
+
+		private volatile Instant lastUsedAt;
+
+		Entry(BoltConnection connection, Instant createdAt) {
+			this.connection = connection;
+			this.createdAt = createdAt;
+			this.lastUsedAt = createdAt;
+		}
+
+	}
+
+	/**
+	 * A single use lease on a pooled connection. Once closed, the lease must not be used
+	 * anymore, it will report its state as {@link BoltConnectionState#CLOSED}.
+	 */
+	private final class Lease implements BoltConnection {
+
+		private final Entry entry;
+
+		private final AtomicBoolean returned = new AtomicBoolean(false);
+
+		private volatile boolean readTimeoutChanged;
+
+		Lease(Entry entry) {
+			this.entry = entry;
+		}
+
+		private BoltConnection delegate() {
+			if (this.returned.get()) {
+				throw new IllegalStateException("The connection has already been returned to the pool");
+			}
+			return this.entry.connection;
+		}
+
+		@Override
+		public CompletionStage<Void> writeAndFlush(ResponseHandler handler, List<Message> messages,
+				ImmutableObservation parentObservation) {
+			return delegate().writeAndFlush(handler, messages, parentObservation);
+		}
+
+		@Override
+		public CompletionStage<Void> write(List<Message> messages) {
+			return delegate().write(messages);
+		}
+
+		@Override
+		public CompletionStage<Void> forceClose(String reason) {
+			if (!this.returned.compareAndSet(false, true)) {
+				return CompletableFuture.completedFuture(null);
+			}
+			return this.entry.connection.forceClose(reason).whenComplete((ignored, ex) -> release(this.entry, false));
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			if (!this.returned.compareAndSet(false, true)) {
+				return CompletableFuture.completedFuture(null);
+			}
+			CompletionStage<Void> cleanup = this.readTimeoutChanged ? this.entry.connection.setReadTimeout(null)
+					: CompletableFuture.completedFuture(null);
+			return cleanup.handle((ignored, ex) -> {
+				release(this.entry, ex == null);
+				return null;
+			});
+		}
+
+		@Override
+		public CompletionStage<Void> setReadTimeout(Duration duration) {
+			this.readTimeoutChanged = true;
+			return delegate().setReadTimeout(duration);
+		}
+
+		@Override
+		public BoltConnectionState state() {
+			return this.returned.get() ? BoltConnectionState.CLOSED : this.entry.connection.state();
+		}
+
+		@Override
+		public CompletionStage<AuthInfo> authInfo() {
+			return delegate().authInfo();
+		}
+
+		@Override
+		public String serverAgent() {
+			return this.entry.connection.serverAgent();
+		}
+
+		@Override
+		public BoltServerAddress serverAddress() {
+			return this.entry.connection.serverAddress();
+		}
+
+		@Override
+		public BoltProtocolVersion protocolVersion() {
+			return this.entry.connection.protocolVersion();
+		}
+
+		@Override
+		public boolean telemetrySupported() {
+			return this.entry.connection.telemetrySupported();
+		}
+
+		@Override
+		public boolean serverSideRoutingEnabled() {
+			return this.entry.connection.serverSideRoutingEnabled();
+		}
+
+		@Override
+		public Optional<Duration> defaultReadTimeout() {
+			return this.entry.connection.defaultReadTimeout();
+		}
+
+	}
+
+}
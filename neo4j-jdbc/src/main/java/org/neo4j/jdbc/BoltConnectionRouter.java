@@ -0,0 +1,572 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.bolt.connection.AccessMode;
+import org.neo4j.bolt.connection.AuthInfo;
+import org.neo4j.bolt.connection.BasicResponseHandler;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.bolt.connection.BoltConnectionState;
+import org.neo4j.bolt.connection.BoltProtocolVersion;
+import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ClusterComposition;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.exception.BoltFailureException;
+import org.neo4j.bolt.connection.exception.BoltServiceUnavailableException;
+import org.neo4j.bolt.connection.message.Message;
+import org.neo4j.bolt.connection.message.Messages;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
+import org.neo4j.bolt.connection.summary.BeginSummary;
+import org.neo4j.bolt.connection.summary.CommitSummary;
+import org.neo4j.bolt.connection.summary.DiscardSummary;
+import org.neo4j.bolt.connection.summary.LogoffSummary;
+import org.neo4j.bolt.connection.summary.LogonSummary;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.ResetSummary;
+import org.neo4j.bolt.connection.summary.RollbackSummary;
+import org.neo4j.bolt.connection.summary.RouteSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
+import org.neo4j.bolt.connection.summary.TelemetrySummary;
+import org.neo4j.bolt.connection.values.Value;
+import org.neo4j.jdbc.BoltConnectionObservations.NoopObservation;
+import org.neo4j.jdbc.Neo4jException.GQLError;
+
+import static org.neo4j.jdbc.Neo4jException.withInternal;
+
+/**
+ * Client side routing towards a Neo4j cluster. The router fetches the routing table of a
+ * database with a {@literal ROUTE} message and caches it until the time to live reported
+ * by the server has passed. Connections for write access are opened to the leader of the
+ * database, connections for read access to the reader that has the fewest connections
+ * opened through this router. Closing a routed connection closes the underlying
+ * connection and releases it from the bookkeeping. When a member turns out not to be the
+ * leader anymore or becomes unavailable, the routing table is expired, so that it is
+ * fetched again before the next connection is opened, and the connection is
+ * {@link #isStale(BoltConnection) marked stale}, so that its owner can replace it.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class BoltConnectionRouter {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.routing");
+
+	/**
+	 * Failures indicating that a member doesn't accept writes anymore.
+	 */
+	private static final Set<String> WRITE_FAILURES = Set.of("Neo.ClientError.Cluster.NotALeader",
+			"Neo.ClientError.General.ForbiddenOnReadOnlyDatabase");
+
+	private final BoltServerAddress seedRouter;
+
+	private final Function<BoltServerAddress, BoltConnection> connectionFactory;
+
+	private final Clock clock;
+
+	private final Map<String, ClusterComposition> routingTables = new ConcurrentHashMap<>();
+
+	private final Lock routingTableLock = new ReentrantLock();
+
+	private final Map<BoltServerAddress, AtomicInteger> connectionsInUse = new ConcurrentHashMap<>();
+
+	private final Set<RoutedConnection> openConnections = ConcurrentHashMap.newKeySet();
+
+	BoltConnectionRouter(BoltServerAddress seedRouter, Function<BoltServerAddress, BoltConnection> connectionFactory) {
+		this(seedRouter, connectionFactory, Clock.systemUTC());
+	}
+
+	BoltConnectionRouter(BoltServerAddress seedRouter, Function<BoltServerAddress, BoltConnection> connectionFactory,
+			Clock clock) {
+		this.seedRouter = Objects.requireNonNull(seedRouter);
+		this.connectionFactory = Objects.requireNonNull(connectionFactory);
+		this.clock = Objects.requireNonNull(clock);
+	}
+
+	/**
+	 * Opens a connection to a cluster member that serves the given database with the
+	 * given access mode. The routing table is refreshed beforehand if it has expired.
+	 * @param databaseName the database to route to, might be {@literal null} for the
+	 * default database
+	 * @param accessMode the required access mode
+	 * @return a connection to the leader for {@link AccessMode#WRITE} or to the least
+	 * used reader for {@link AccessMode#READ}
+	 * @throws Neo4jException if no routing table could be fetched or if there is no
+	 * member available for the requested access mode
+	 */
+	BoltConnection acquire(String databaseName, AccessMode accessMode) throws Neo4jException {
+		var routingTable = getRoutingTable(databaseName);
+		var candidates = (accessMode == AccessMode.READ) ? routingTable.readers() : routingTable.writers();
+		var address = candidates.stream()
+			.min(Comparator.comparingInt(this::getConnectionsInUse))
+			.orElseThrow(() -> new Neo4jException(
+					GQLError.$08000.withMessage("No %s server available for database %s in routing table %s"
+						.formatted((accessMode == AccessMode.READ) ? "read" : "write", databaseName, routingTable))));
+
+		var inUse = this.connectionsInUse.computeIfAbsent(address, k -> new AtomicInteger());
+		inUse.incrementAndGet();
+		try {
+			var connection = new RoutedConnection(this.connectionFactory.apply(address), databaseName, routingTable,
+					address, inUse);
+			this.openConnections.add(connection);
+			return connection;
+		}
+		catch (RuntimeException ex) {
+			inUse.decrementAndGet();
+			// The member might not be part of the cluster anymore, don't use the table
+			// again
+			this.routingTables.remove(key(databaseName), routingTable);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Returns the cached routing table of the given database or fetches a new one from
+	 * the known routers if there is none or if it has expired.
+	 * @param databaseName the database for which the routing table is required
+	 * @return a valid routing table
+	 * @throws Neo4jException if no router was able to provide a routing table
+	 */
+	ClusterComposition getRoutingTable(String databaseName) throws Neo4jException {
+		var key = key(databaseName);
+		var routingTable = this.routingTables.get(key);
+		if (isFresh(routingTable)) {
+			return routingTable;
+		}
+		this.routingTableLock.lock();
+		try {
+			routingTable = this.routingTables.get(key);
+			if (isFresh(routingTable)) {
+				return routingTable;
+			}
+			routingTable = fetchRoutingTable(databaseName, routingTable);
+			this.routingTables.put(key, routingTable);
+			return routingTable;
+		}
+		finally {
+			this.routingTableLock.unlock();
+		}
+	}
+
+	int getConnectionsInUse(BoltServerAddress address) {
+		var inUse = this.connectionsInUse.get(address);
+		return (inUse != null) ? inUse.get() : 0;
+	}
+
+	/**
+	 * Returns whether this router can be discarded, which is the case when none of its
+	 * connections is in use and none of its routing tables is still valid.
+	 * @return {@literal true} if this router is not used anymore
+	 */
+	boolean isUnused() {
+		return this.connectionsInUse.values().stream().allMatch(inUse -> inUse.get() == 0)
+				&& this.routingTables.values().stream().noneMatch(this::isFresh);
+	}
+
+	/**
+	 * Forgets all routing tables and marks all connections that are still open as stale,
+	 * so that they are replaced before their next transaction and closed by their owners.
+	 */
+	void close() {
+		this.routingTables.clear();
+		this.openConnections.forEach(connection -> connection.stale = true);
+	}
+
+	/**
+	 * Returns whether the given connection has been opened by a router and must not be
+	 * used for new transactions anymore, as its member turned out not to be the leader
+	 * anymore or became unavailable.
+	 * @param connection the connection to check
+	 * @return {@literal true} if the connection should be replaced
+	 */
+	static boolean isStale(BoltConnection connection) {
+		return connection instanceof RoutedConnection routedConnection && routedConnection.stale;
+	}
+
+	/**
+	 * Returns whether the given connection has been opened by a router and should be
+	 * replaced before it is picked for another transaction, either because it is stale or
+	 * because the routing table it has been chosen from has expired or has been replaced.
+	 * @param connection the connection to check
+	 * @return {@literal true} if the router should pick a member again
+	 */
+	static boolean isOutdated(BoltConnection connection) {
+		return connection instanceof RoutedConnection routedConnection
+				&& (routedConnection.stale || routedConnection.isRoutingTableOutdated());
+	}
+
+	/**
+	 * Returns the connection a router has opened to a member for the given connection.
+	 * @param connection the connection to unwrap
+	 * @return the connection to the member or the given connection if it has not been
+	 * opened by a router
+	 */
+	static BoltConnection unwrap(BoltConnection connection) {
+		return (connection instanceof RoutedConnection routedConnection) ? routedConnection.delegate : connection;
+	}
+
+	private boolean isFresh(ClusterComposition routingTable) {
+		return routingTable != null && routingTable.expirationTimestamp() > this.clock.millis();
+	}
+
+	private ClusterComposition fetchRoutingTable(String databaseName, ClusterComposition previousRoutingTable)
+			throws Neo4jException {
+		var routers = new LinkedHashSet<BoltServerAddress>();
+		if (previousRoutingTable != null) {
+			routers.addAll(previousRoutingTable.routers());
+		}
+		routers.add(this.seedRouter);
+
+		Exception lastException = null;
+		for (var router : routers) {
+			try {
+				var routingTable = fetchRoutingTable(router, databaseName);
+				if (routingTable.hasRoutersAndReaders()) {
+					LOGGER.log(Level.FINE, () -> "Fetched routing table %s from %s".formatted(routingTable, router));
+					return routingTable;
+				}
+				LOGGER.log(Level.FINE,
+						() -> "Ignoring incomplete routing table %s from %s".formatted(routingTable, router));
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new Neo4jException(withInternal(ex, "The thread has been interrupted."));
+			}
+			catch (ExecutionException | RuntimeException ex) {
+				LOGGER.log(Level.FINE, ex, () -> "Could not fetch routing table from %s".formatted(router));
+				lastException = ex;
+			}
+		}
+		throw new Neo4jException(GQLError.$08000.causedBy(lastException)
+			.withMessage(
+					"Could not fetch a routing table for database %s from any of %s".formatted(databaseName, routers)));
+	}
+
+	private ClusterComposition fetchRoutingTable(BoltServerAddress router, String databaseName)
+			throws InterruptedException, ExecutionException {
+		var connection = this.connectionFactory.apply(router);
+		try {
+			var handler = new BasicResponseHandler();
+			return connection
+				.writeAndFlush(handler, Messages.route(databaseName, null, Set.of()), NoopObservation.INSTANCE)
+				.thenCompose(ignored -> handler.summaries())
+				.toCompletableFuture()
+				.get()
+				.routeSummary()
+				.clusterComposition();
+		}
+		finally {
+			connection.close();
+		}
+	}
+
+	/**
+	 * Expires the routing tables affected by the failure of a request on the given
+	 * member. Members that are unavailable are removed from all routing tables, members
+	 * that refuse writes only cause the routing table of the database to be fetched
+	 * again.
+	 * @param databaseName the database the request has been sent to
+	 * @param address the member that failed the request
+	 * @param failure the failure
+	 * @return {@literal true} if the failure affected routing
+	 */
+	private boolean onFailure(String databaseName, BoltServerAddress address, Throwable failure) {
+		var cause = failure;
+		while (cause instanceof CompletionException && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		if (cause instanceof BoltFailureException boltFailure && WRITE_FAILURES.contains(boltFailure.code())) {
+			LOGGER.log(Level.FINE,
+					() -> "%s does not accept writes for database %s anymore".formatted(address, databaseName));
+			this.routingTables.computeIfPresent(key(databaseName), (k, routingTable) -> expire(routingTable, null));
+			return true;
+		}
+		if (cause instanceof BoltServiceUnavailableException) {
+			LOGGER.log(Level.FINE, cause, () -> "%s is not available anymore".formatted(address));
+			this.routingTables.replaceAll((k, routingTable) -> expire(routingTable, address));
+			return true;
+		}
+		return false;
+	}
+
+	private static ClusterComposition expire(ClusterComposition routingTable, BoltServerAddress unavailableMember) {
+		if (unavailableMember == null) {
+			return new ClusterComposition(0, routingTable.readers(), routingTable.writers(), routingTable.routers(),
+					routingTable.databaseName());
+		}
+		if (!(routingTable.readers().contains(unavailableMember) || routingTable.writers().contains(unavailableMember)
+				|| routingTable.routers().contains(unavailableMember))) {
+			return routingTable;
+		}
+		return new ClusterComposition(0, without(routingTable.readers(), unavailableMember),
+				without(routingTable.writers(), unavailableMember), without(routingTable.routers(), unavailableMember),
+				routingTable.databaseName());
+	}
+
+	private static Set<BoltServerAddress> without(Set<BoltServerAddress> members, BoltServerAddress member) {
+		var result = new LinkedHashSet<>(members);
+		result.remove(member);
+		return result;
+	}
+
+	private static String key(String databaseName) {
+		return Objects.requireNonNullElse(databaseName, "");
+	}
+
+	/**
+	 * A connection opened by the router. Its usage is counted until it is closed.
+	 */
+	private final class RoutedConnection implements BoltConnection {
+
+		private final BoltConnection delegate;
+
+		private final String databaseName;
+
+		private final ClusterComposition routingTable;
+
+		private final BoltServerAddress address;
+
+		private final AtomicInteger inUse;
+
+		private final AtomicBoolean released = new AtomicBoolean(false);
+
+		private volatile boolean stale;
+
+		RoutedConnection(BoltConnection delegate, String databaseName, ClusterComposition routingTable,
+				BoltServerAddress address, AtomicInteger inUse) {
+			this.delegate = delegate;
+			this.databaseName = databaseName;
+			this.routingTable = routingTable;
+			this.address = address;
+			this.inUse = inUse;
+		}
+
+		private void release() {
+			if (this.released.compareAndSet(false, true)) {
+				this.inUse.decrementAndGet();
+				BoltConnectionRouter.this.openConnections.remove(this);
+			}
+		}
+
+		private boolean isRoutingTableOutdated() {
+			return BoltConnectionRouter.this.routingTables.get(key(this.databaseName)) != this.routingTable
+					|| !isFresh(this.routingTable);
+		}
+
+		private void onFailure(Throwable failure) {
+			if (BoltConnectionRouter.this.onFailure(this.databaseName, this.address, failure)) {
+				this.stale = true;
+			}
+		}
+
+		@Override
+		public CompletionStage<Void> writeAndFlush(ResponseHandler handler, List<Message> messages,
+				ImmutableObservation parentObservation) {
+			return this.delegate
+				.writeAndFlush(new FailureTrackingHandler(handler, this::onFailure), messages, parentObservation)
+				.whenComplete((ignored, ex) -> {
+					if (ex != null) {
+						onFailure(ex);
+					}
+				});
+		}
+
+		@Override
+		public CompletionStage<Void> write(List<Message> messages) {
+			return this.delegate.write(messages);
+		}
+
+		@Override
+		public CompletionStage<Void> forceClose(String reason) {
+			release();
+			return this.delegate.forceClose(reason);
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			if (this.released.get()) {
+				return CompletableFuture.completedFuture(null);
+			}
+			release();
+			return this.delegate.close();
+		}
+
+		@Override
+		public CompletionStage<Void> setReadTimeout(Duration duration) {
+			return this.delegate.setReadTimeout(duration);
+		}
+
+		@Override
+		public BoltConnectionState state() {
+			return this.delegate.state();
+		}
+
+		@Override
+		public CompletionStage<AuthInfo> authInfo() {
+			return this.delegate.authInfo();
+		}
+
+		@Override
+		public String serverAgent() {
+			return this.delegate.serverAgent();
+		}
+
+		@Override
+		public BoltServerAddress serverAddress() {
+			return this.delegate.serverAddress();
+		}
+
+		@Override
+		public BoltProtocolVersion protocolVersion() {
+			return this.delegate.protocolVersion();
+		}
+
+		@Override
+		public boolean telemetrySupported() {
+			return this.delegate.telemetrySupported();
+		}
+
+		@Override
+		public boolean serverSideRoutingEnabled() {
+			return this.delegate.serverSideRoutingEnabled();
+		}
+
+		@Override
+		public Optional<Duration> defaultReadTimeout() {
+			return this.delegate.defaultReadTimeout();
+		}
+
+	}
+
+	/**
+	 * Passes all responses on to the actual handler and reports failures to the routed
+	 * connection first.
+	 */
+	private static final class FailureTrackingHandler implements ResponseHandler {
+
+		private final ResponseHandler delegate;
+
+		private final Consumer<Throwable> onFailure;
+
+		FailureTrackingHandler(ResponseHandler delegate, Consumer<Throwable> onFailure) {
+			this.delegate = delegate;
+			this.onFailure = onFailure;
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.onFailure.accept(throwable);
+			this.delegate.onError(throwable);
+		}
+
+		@Override
+		public void onBeginSummary(BeginSummary summary) {
+			this.delegate.onBeginSummary(summary);
+		}
+
+		@Override
+		public void onRunSummary(RunSummary summary) {
+			this.delegate.onRunSummary(summary);
+		}
+
+		@Override
+		public void onRecord(List<Value> fields) {
+			this.delegate.onRecord(fields);
+		}
+
+		@Override
+		public void onPullSummary(PullSummary summary) {
+			this.delegate.onPullSummary(summary);
+		}
+
+		@Override
+		public void onDiscardSummary(DiscardSummary summary) {
+			this.delegate.onDiscardSummary(summary);
+		}
+
+		@Override
+		public void onCommitSummary(CommitSummary summary) {
+			this.delegate.onCommitSummary(summary);
+		}
+
+		@Override
+		public void onRollbackSummary(RollbackSummary summary) {
+			this.delegate.onRollbackSummary(summary);
+		}
+
+		@Override
+		public void onResetSummary(ResetSummary summary) {
+			this.delegate.onResetSummary(summary);
+		}
+
+		@Override
+		public void onRouteSummary(RouteSummary summary) {
+			this.delegate.onRouteSummary(summary);
+		}
+
+		@Override
+		public void onLogoffSummary(LogoffSummary summary) {
+			this.delegate.onLogoffSummary(summary);
+		}
+
+		@Override
+		public void onLogonSummary(LogonSummary summary) {
+			this.delegate.onLogonSummary(summary);
+		}
+
+		@Override
+		public void onTelemetrySummary(TelemetrySummary summary) {
+			this.delegate.onTelemetrySummary(summary);
+		}
+
+		@Override
+		public void onIgnored() {
+			this.delegate.onIgnored();
+		}
+
+		@Override
+		public void onComplete() {
+			this.delegate.onComplete();
+		}
+
+	}
+
+}
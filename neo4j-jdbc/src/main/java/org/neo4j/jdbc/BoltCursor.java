@@ -19,8 +19,12 @@
 package org.neo4j.jdbc;
 
 import java.sql.SQLException;
-import java.util.Iterator;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.neo4j.jdbc.Cursor.ReadAhead;
 import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
 import org.neo4j.jdbc.Neo4jTransaction.RunResponse;
 import org.neo4j.jdbc.values.Record;
@@ -39,21 +43,32 @@ final class BoltCursor extends AbstractCursor {
 
 	private final Runnable onNextBatch;
 
+	private final ReadAhead readAhead;
+
+	private final Object owner;
+
+	private final Deque<PendingBatch> pendingBatches = new ArrayDeque<>();
+
 	private int fetchSize;
 
 	private int remainingRowAllowance;
 
-	private Iterator<Record> currentBatch;
+	private List<Record> currentBatch;
+
+	private int currentBatchPosition;
 
 	private PullResponse currentBatchResponse;
 
 	BoltCursor(Record sampleRecord, Neo4jTransaction transaction, RunResponse runResponse, int remainingRowAllowance,
-			int fetchSize, PullResponse currentBatchResponse, Iterator<Record> currentBatch, Runnable onNextBatch) {
+			int fetchSize, PullResponse currentBatchResponse, List<Record> currentBatch, Runnable onNextBatch,
+			ReadAhead readAhead, Object owner) {
 		super(sampleRecord);
 
 		this.transaction = transaction;
 		this.runResponse = runResponse;
 		this.onNextBatch = onNextBatch;
+		this.readAhead = readAhead;
+		this.owner = owner;
 		this.fetchSize = fetchSize;
 
 		this.remainingRowAllowance = remainingRowAllowance;
@@ -66,12 +81,20 @@ final class BoltCursor extends AbstractCursor {
 		if (this.remainingRowAllowance == 0) {
 			return false;
 		}
-		if (this.currentBatch.hasNext()) {
+		if (hasNextInCurrentBatch()) {
 			return pullNext();
 		}
 		if (this.currentBatchResponse.hasMore()) {
-			this.currentBatchResponse = this.transaction.pull(this.runResponse, calculateFetchSize());
-			this.currentBatch = this.currentBatchResponse.records().iterator();
+			var pendingBatch = this.pendingBatches.poll();
+			if (pendingBatch != null) {
+				this.currentBatchResponse = this.transaction.awaitPull(this.runResponse, pendingBatch.response());
+			}
+			else {
+				assignRequestOwner();
+				this.currentBatchResponse = this.transaction.pull(this.runResponse, calculateFetchSize());
+			}
+			this.currentBatch = this.currentBatchResponse.records();
+			this.currentBatchPosition = 0;
 			this.onNextBatch.run();
 			return pullNext();
 		}
@@ -81,7 +104,7 @@ final class BoltCursor extends AbstractCursor {
 
 	@Override
 	public boolean isLast() {
-		return this.currentBatch.hasNext() || this.currentBatchResponse.hasMore();
+		return hasNextInCurrentBatch() || this.currentBatchResponse.hasMore();
 	}
 
 	@Override
@@ -99,18 +122,82 @@ final class BoltCursor extends AbstractCursor {
 
 	@Override
 	public void close() throws SQLException {
+		// Pending batches must be drained, so that the transaction knows which results
+		// are still open
+		PendingBatch pendingBatch;
+		while ((pendingBatch = this.pendingBatches.poll()) != null) {
+			this.transaction.awaitPull(this.runResponse, pendingBatch.response());
+		}
 		if (this.transaction.isAutoCommit() && this.transaction.isRunnable()) {
 			this.transaction.commit();
 		}
 	}
 
-	private boolean pullNext() {
-		this.currentRecord = this.currentBatch.next();
+	private boolean hasNextInCurrentBatch() {
+		return this.currentBatchPosition < this.currentBatch.size();
+	}
+
+	private boolean pullNext() throws SQLException {
+		this.currentRecord = hasNextInCurrentBatch() ? this.currentBatch.get(this.currentBatchPosition++) : null;
 		++this.currentRowNum;
 		decrementRemainingRowAllowance();
+		if (this.readAhead.enabled()) {
+			readAhead();
+		}
 		return this.currentRecord != null;
 	}
 
+	/**
+	 * Requests further batches in the background once the unconsumed part of the current
+	 * batch has drained to the watermark. A new batch is only requested when the last
+	 * known response indicates more records and when it would not exceed the remaining
+	 * row allowance.
+	 * @throws SQLException if the transaction does not allow pulling
+	 */
+	private void readAhead() throws SQLException {
+		if (this.remainingRowAllowance == 0) {
+			return;
+		}
+		var unconsumed = this.currentBatch.size() - this.currentBatchPosition;
+		if (unconsumed > this.readAhead.watermark(this.fetchSize)) {
+			return;
+		}
+
+		while (this.pendingBatches.size() < this.readAhead.maxBatchesInFlight()) {
+			var lastPendingBatch = this.pendingBatches.peekLast();
+			PullResponse lastKnownResponse;
+			if (lastPendingBatch == null) {
+				lastKnownResponse = this.currentBatchResponse;
+			}
+			else if (lastPendingBatch.response().isDone() && !lastPendingBatch.response().isCompletedExceptionally()) {
+				lastKnownResponse = lastPendingBatch.response().join();
+			}
+			else {
+				return;
+			}
+			if (!lastKnownResponse.hasMore()) {
+				return;
+			}
+
+			var request = this.fetchSize;
+			if (this.remainingRowAllowance > 0) {
+				var requested = unconsumed + this.pendingBatches.stream().mapToLong(PendingBatch::request).sum();
+				request = (int) Math.min(this.fetchSize, this.remainingRowAllowance - requested);
+				if (request <= 0) {
+					return;
+				}
+			}
+			assignRequestOwner();
+			this.pendingBatches.add(new PendingBatch(request, this.transaction.pullAsync(this.runResponse, request)));
+		}
+	}
+
+	private void assignRequestOwner() {
+		if (this.owner != null) {
+			this.transaction.setRequestOwner(this.owner);
+		}
+	}
+
 	private int calculateFetchSize() {
 		return (this.remainingRowAllowance > 0) ? Math.min(this.remainingRowAllowance, this.fetchSize) : this.fetchSize;
 	}
@@ -121,4 +208,7 @@ final class BoltCursor extends AbstractCursor {
 		}
 	}
 
+	private record PendingBatch(long request, CompletableFuture<PullResponse> response) {
+	}
+
 }
@@ -690,22 +690,22 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 
 	@Override
 	public void setNClob(String parameterName, NClob value) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setClob(parameterName, value);
 	}
 
 	@Override
 	public void setClob(String parameterName, Reader reader, long length) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setCharacterStream(parameterName, reader, length);
 	}
 
 	@Override
 	public void setBlob(String parameterName, InputStream inputStream, long length) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setBinaryStream(parameterName, inputStream, length);
 	}
 
 	@Override
 	public void setNClob(String parameterName, Reader reader, long length) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setCharacterStream(parameterName, reader, length);
 	}
 
 	@SuppressWarnings("resource")
@@ -775,12 +775,14 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 
 	@Override
 	public void setBlob(String parameterName, Blob x) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		assertParameterType(ParameterType.NAMED);
+		super.setBlob0(parameterName, x);
 	}
 
 	@Override
 	public void setClob(String parameterName, Clob x) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		assertParameterType(ParameterType.NAMED);
+		super.setClob0(parameterName, x);
 	}
 
 	@Override
@@ -841,17 +843,17 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 
 	@Override
 	public void setClob(String parameterName, Reader reader) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setCharacterStream(parameterName, reader);
 	}
 
 	@Override
 	public void setBlob(String parameterName, InputStream inputStream) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setBinaryStream(parameterName, inputStream);
 	}
 
 	@Override
 	public void setNClob(String parameterName, Reader reader) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setCharacterStream(parameterName, reader);
 	}
 
 	@SuppressWarnings("resource")
@@ -1010,6 +1012,18 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 		super.setCharacterStream(parameterIndex, reader, length);
 	}
 
+	@Override
+	public void setBlob(int parameterIndex, Blob x) throws SQLException {
+		assertParameterType(ParameterType.ORDINAL);
+		super.setBlob(parameterIndex, x);
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Clob x) throws SQLException {
+		assertParameterType(ParameterType.ORDINAL);
+		super.setClob(parameterIndex, x);
+	}
+
 	private void assertParameterType(ParameterType parameterType) throws SQLException {
 		if (this.parameterType == null) {
 			this.parameterType = parameterType;
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.sql.Clob;
+import java.sql.NClob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Objects;
+
+import org.neo4j.jdbc.Neo4jException.GQLError;
+
+import static org.neo4j.jdbc.Neo4jException.withReason;
+
+/**
+ * A read-only {@link Clob} that is a view on a string value that has already been
+ * received from the server. Readers and ASCII streams created from it read the characters
+ * directly from the string, only {@link #getSubString(long, int)} returns a copy of the
+ * requested part. A {@link java.sql.Statement#setMaxFieldSize(int) maximum field size}
+ * limits the view to the characters whose UTF-8 representation fits into the given number
+ * of bytes, which are the same characters {@link java.sql.ResultSet#getString(int)}
+ * returns. There is no special treatment for national character sets, so this class is a
+ * {@link NClob}, too.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class ClobImpl implements NClob {
+
+	private volatile String string;
+
+	private volatile int length;
+
+	/**
+	 * Creates a new view on the given string.
+	 * @param string the string to view
+	 * @param maxFieldSize the maximum number of UTF-8 bytes visible, {@literal 0} for the
+	 * whole string
+	 */
+	ClobImpl(String string, int maxFieldSize) {
+		this.string = string;
+		this.length = (maxFieldSize > 0) ? lengthWithinUtf8Bytes(string, maxFieldSize) : string.length();
+	}
+
+	/**
+	 * Computes the number of characters of the given string whose UTF-8 representation
+	 * fits into {@code maxBytes}, without encoding the string. Surrogate pairs are never
+	 * split.
+	 * @param string the string to check
+	 * @param maxBytes the maximum number of bytes
+	 * @return the number of characters fitting into the given number of bytes
+	 */
+	static int lengthWithinUtf8Bytes(String string, int maxBytes) {
+		var bytes = 0L;
+		var i = 0;
+		while (i < string.length()) {
+			var c = string.charAt(i);
+			int numChars = 1;
+			int numBytes;
+			if (c < 0x80) {
+				numBytes = 1;
+			}
+			else if (c < 0x800) {
+				numBytes = 2;
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < string.length()
+					&& Character.isLowSurrogate(string.charAt(i + 1))) {
+				numChars = 2;
+				numBytes = 4;
+			}
+			else {
+				numBytes = 3;
+			}
+			if (bytes + numBytes > maxBytes) {
+				break;
+			}
+			bytes += numBytes;
+			i += numChars;
+		}
+		return i;
+	}
+
+	@Override
+	public long length() throws SQLException {
+		assertNotFreed();
+		return this.length;
+	}
+
+	@Override
+	public String getSubString(long pos, int length) throws SQLException {
+		var theString = assertNotFreed();
+		var currentLength = this.length;
+		if (pos < 1 || pos > currentLength + 1L || length < 0) {
+			throw invalidArgument("getSubString(%d, %d)".formatted(pos, length), currentLength);
+		}
+		var from = (int) pos - 1;
+		return theString.substring(from, from + Math.min(length, currentLength - from));
+	}
+
+	@Override
+	public Reader getCharacterStream() throws SQLException {
+		var theString = assertNotFreed();
+		return new StringViewReader(theString, 0, this.length);
+	}
+
+	@Override
+	public Reader getCharacterStream(long pos, long length) throws SQLException {
+		var theString = assertNotFreed();
+		var currentLength = this.length;
+		if (pos < 1 || length < 0 || pos - 1 + length > currentLength) {
+			throw invalidArgument("getCharacterStream(%d, %d)".formatted(pos, length), currentLength);
+		}
+		return new StringViewReader(theString, (int) pos - 1, (int) (pos - 1 + length));
+	}
+
+	@Override
+	public InputStream getAsciiStream() throws SQLException {
+		var theString = assertNotFreed();
+		return new AsciiInputStream(theString, this.length);
+	}
+
+	@Override
+	public long position(String searchstr, long start) throws SQLException {
+		var theString = assertNotFreed();
+		var currentLength = this.length;
+		if (start < 1 || searchstr == null) {
+			throw invalidArgument("position(searchstr, %d)".formatted(start), currentLength);
+		}
+		var idx = theString.indexOf(searchstr, (int) Math.min(start - 1, Integer.MAX_VALUE));
+		return (idx >= 0 && idx + searchstr.length() <= currentLength) ? idx + 1L : -1;
+	}
+
+	@Override
+	public long position(Clob searchstr, long start) throws SQLException {
+		if (searchstr == null) {
+			throw invalidArgument("position(searchstr, %d)".formatted(start), this.length);
+		}
+		return position(searchstr.getSubString(1, PreparedStatementImpl.getLengthAsInt(searchstr.length())), start);
+	}
+
+	@Override
+	public int setString(long pos, String str) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public int setString(long pos, String str, int offset, int len) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public OutputStream setAsciiStream(long pos) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public Writer setCharacterStream(long pos) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void truncate(long len) throws SQLException {
+		assertNotFreed();
+		var currentLength = this.length;
+		if (len < 0 || len > currentLength) {
+			throw invalidArgument("truncate(%d)".formatted(len), currentLength);
+		}
+		this.length = (int) len;
+	}
+
+	@Override
+	public void free() {
+		this.string = null;
+	}
+
+	private String assertNotFreed() throws SQLException {
+		var theString = this.string;
+		if (theString == null) {
+			throw new Neo4jException(withReason("Clob has been already freed"));
+		}
+		return theString;
+	}
+
+	private static SQLException invalidArgument(String call, int length) {
+		return new Neo4jException(
+				GQLError.$22N11.withTemplatedMessage("%s for clob with length %d".formatted(call, length)));
+	}
+
+	/**
+	 * A reader on a range of a string, without copying the string.
+	 */
+	private static final class StringViewReader extends Reader {
+
+		private final String string;
+
+		private final int end;
+
+		private int next;
+
+		private int mark;
+
+		StringViewReader(String string, int start, int end) {
+			this.string = string;
+			this.next = start;
+			this.mark = start;
+			this.end = end;
+		}
+
+		@Override
+		public int read() {
+			return (this.next < this.end) ? this.string.charAt(this.next++) : -1;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) {
+			Objects.checkFromIndexSize(off, len, cbuf.length);
+			if (len == 0) {
+				return 0;
+			}
+			if (this.next >= this.end) {
+				return -1;
+			}
+			var n = Math.min(len, this.end - this.next);
+			this.string.getChars(this.next, this.next + n, cbuf, off);
+			this.next += n;
+			return n;
+		}
+
+		@Override
+		public long skip(long n) {
+			var skipped = (int) Math.max(Math.min(n, this.end - this.next), 0);
+			this.next += skipped;
+			return skipped;
+		}
+
+		@Override
+		public boolean ready() {
+			return true;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return true;
+		}
+
+		@Override
+		public void mark(int readAheadLimit) {
+			this.mark = this.next;
+		}
+
+		@Override
+		public void reset() {
+			this.next = this.mark;
+		}
+
+		@Override
+		public void close() {
+			// Nothing to close
+		}
+
+	}
+
+	/**
+	 * Encodes the characters of a string as ASCII while reading them, without encoding
+	 * the whole string upfront. Characters outside the ASCII range are replaced with
+	 * {@literal ?}, like {@link String#getBytes(java.nio.charset.Charset)} does.
+	 */
+	private static final class AsciiInputStream extends InputStream {
+
+		private final String string;
+
+		private final int end;
+
+		private int next;
+
+		AsciiInputStream(String string, int end) {
+			this.string = string;
+			this.end = end;
+		}
+
+		@Override
+		public int read() {
+			if (this.next >= this.end) {
+				return -1;
+			}
+			var c = this.string.charAt(this.next++);
+			if (Character.isHighSurrogate(c) && this.next < this.end
+					&& Character.isLowSurrogate(this.string.charAt(this.next))) {
+				++this.next;
+			}
+			return (c < 0x80) ? c : '?';
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			Objects.checkFromIndexSize(off, len, b.length);
+			if (len == 0) {
+				return 0;
+			}
+			var n = 0;
+			int c;
+			while (n < len && (c = read()) != -1) {
+				b[off + n++] = (byte) c;
+			}
+			return (n == 0) ? -1 : n;
+		}
+
+	}
+
+}
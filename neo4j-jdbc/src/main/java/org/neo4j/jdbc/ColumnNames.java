@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The immutable list of the column names of a result, created once per result and shared
+ * by all of its records. Looking up the position of a column by its name takes constant
+ * time, which makes accessing values by name as cheap as accessing them by index, also
+ * for the records themselves, as they look up names via {@link #indexOf(Object)}. If a
+ * name appears more than once, the first position is used, as required by JDBC.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class ColumnNames extends AbstractList<String> implements RandomAccess {
+
+	private final String[] names;
+
+	private final Map<String, Integer> positions;
+
+	private final Map<String, Integer> positionsIgnoringCase;
+
+	/**
+	 * Returns the column names for the given list of names, which is the list itself if
+	 * it is already an instance of this class.
+	 * @param names the names of the columns
+	 * @return the column names
+	 */
+	static ColumnNames of(List<String> names) {
+		return (names instanceof ColumnNames columnNames) ? columnNames : new ColumnNames(names);
+	}
+
+	private ColumnNames(List<String> names) {
+		this.names = names.toArray(String[]::new);
+		var capacity = (int) (this.names.length / 0.75f) + 1;
+		this.positions = new HashMap<>(capacity);
+		this.positionsIgnoringCase = new HashMap<>(capacity);
+		for (var i = 0; i < this.names.length; ++i) {
+			this.positions.putIfAbsent(this.names[i], i);
+			this.positionsIgnoringCase.putIfAbsent(this.names[i].toLowerCase(Locale.ROOT), i);
+		}
+	}
+
+	@Override
+	public String get(int index) {
+		return this.names[index];
+	}
+
+	@Override
+	public int size() {
+		return this.names.length;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		return this.positions.getOrDefault(o, -1);
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return this.positions.containsKey(o);
+	}
+
+	/**
+	 * Returns the position of the given name, preferring an exact match over a match that
+	 * ignores case.
+	 * @param name the name of a column
+	 * @return the position of the column or {@literal -1} if there is no such column
+	 */
+	int indexOfIgnoreCase(String name) {
+		var result = indexOf(name);
+		if (result == -1 && name != null) {
+			result = this.positionsIgnoringCase.getOrDefault(name.toLowerCase(Locale.ROOT), -1);
+		}
+		return result;
+	}
+
+}
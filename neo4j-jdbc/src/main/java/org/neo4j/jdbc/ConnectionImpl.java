@@ -52,11 +52,15 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -79,10 +83,8 @@ import org.neo4j.jdbc.authn.spi.Authentication;
 import org.neo4j.jdbc.events.ConnectionListener;
 import org.neo4j.jdbc.events.ConnectionListener.StatementClosedEvent;
 import org.neo4j.jdbc.events.ConnectionListener.StatementCreatedEvent;
-import org.neo4j.jdbc.events.ConnectionListener.TranslationCachedEvent;
 import org.neo4j.jdbc.events.StatementListener;
 import org.neo4j.jdbc.tracing.Neo4jTracer;
-import org.neo4j.jdbc.translator.spi.Cache;
 import org.neo4j.jdbc.translator.spi.Translator;
 import org.neo4j.jdbc.values.Type;
 
@@ -108,11 +110,48 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.connection");
 
-	private static final int TRANSLATION_CACHE_SIZE = 128;
-
 	private final URI databaseUrl;
 
-	private final BoltConnection boltConnection;
+	/**
+	 * The connection used for all transactions that are not routed to a reader. A routed
+	 * connection is replaced once it turned out not to reach the leader anymore.
+	 */
+	private volatile BoltConnection boltConnection;
+
+	/**
+	 * Supplies connections for read-only transactions when transactions are routed by
+	 * their access mode, will be {@literal null} if all transactions use the same
+	 * connection.
+	 */
+	private final Function<Authentication, BoltConnection> readerConnectionSupplier;
+
+	/**
+	 * The connection used for read-only transactions, replaced with a new one when the
+	 * routing table it has been chosen from changes.
+	 */
+	private BoltConnection readerConnection;
+
+	/**
+	 * Supplies additional connections for auto-commit transactions that are started while
+	 * the result of another one is still being consumed.
+	 */
+	private final Function<Authentication, BoltConnection> boltConnectionSupplier;
+
+	/**
+	 * Connections borrowed for interleaved auto-commit transactions, including the idle
+	 * one. A connection can only have one open auto-commit transaction, so pooled ones
+	 * are released as soon as their transaction has been finished. The list is modified
+	 * when transactions finish and might be iterated by {@link #abort(Executor)} from
+	 * another thread.
+	 */
+	private final List<BorrowedConnection> borrowedConnections = new CopyOnWriteArrayList<>();
+
+	/**
+	 * A borrowed connection whose transaction has been finished. Without a pool, opening a
+	 * connection for each interleaved statement would require a new handshake every time,
+	 * so one of them is kept until this connection is closed.
+	 */
+	private final AtomicReference<BorrowedConnection> idleBorrowedConnection = new AtomicReference<>();
 
 	private final Lazy<BoltConnection> boltConnectionForMetaData;
 
@@ -126,7 +165,16 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private final boolean enableSqlTranslation;
 
-	private final boolean enableTranslationCaching;
+	/**
+	 * The translation cache shared with all connections of the same configuration, will
+	 * be {@literal null} if caching is disabled.
+	 */
+	private final TranslationCache translationCache;
+
+	/**
+	 * Guards operations that must be atomic on this connection.
+	 */
+	private final Lock lock = new ReentrantLock();
 
 	/**
 	 * A flag if the {@link Neo4jPreparedStatement prepared statement} should rewrite
@@ -150,8 +198,6 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private boolean closed;
 
-	private final Cache<String, String> l2cache = Cache.getInstance(TRANSLATION_CACHE_SIZE);
-
 	private final BookmarkManager bookmarkManager;
 
 	private final AuthenticationManager authenticationManager;
@@ -160,10 +206,54 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private final int relationshipSampleSize;
 
+	private final Cursor.ReadAhead readAhead;
+
+	/**
+	 * The number of parameter sets executed together from a batch, {@literal 0} if the
+	 * batch should not be split.
+	 */
+	private final int batchChunkSize;
+
+	/**
+	 * Whether updates in explicit transactions are deferred until a result is needed.
+	 */
+	private final boolean deferUpdates;
+
+	/**
+	 * The number of rows scrollable result sets keep on the heap before spilling to disk.
+	 */
+	private final int scrollableRowsOnHeap;
+
+	/**
+	 * Reads stream parameters within the configured limits.
+	 */
+	private final ParameterStreams parameterStreams;
+
+	/**
+	 * The schema catalog shared with other connections, {@literal null} if the metadata
+	 * of this connection uses a local one.
+	 */
+	private final SchemaCatalog schemaCatalog;
+
 	private final String databaseName;
 
 	private final AtomicBoolean resetNeeded = new AtomicBoolean(false);
 
+	private final AtomicBoolean readerResetNeeded = new AtomicBoolean(false);
+
+	/**
+	 * The authentication last sent with a transaction on a Bolt connection. As long as it
+	 * doesn't change, it doesn't need to be compared with the one the connection is
+	 * logged on with again.
+	 */
+	private final Map<BoltConnection, Authentication> verifiedAuthentications = new ConcurrentHashMap<>();
+
+	/**
+	 * The combined transaction metadata of the last transaction, reused as long as the
+	 * metadata and the application name don't change.
+	 */
+	private TransactionTemplate transactionTemplate;
+
 	/**
 	 * Neo4j as of now has no session / server state to hold those, but we keep it around
 	 * for future use.
@@ -178,11 +268,13 @@ final class ConnectionImpl implements Neo4jConnection {
 	private final Set<ConnectionListener> listeners = new HashSet<>();
 
 	ConnectionImpl(URI databaseUrl, Supplier<Authentication> authenticationSupplier,
-			Function<Authentication, BoltConnection> boltConnectionSupplier, Supplier<List<Translator>> translators,
-			boolean enableSQLTranslation, boolean enableTranslationCaching, boolean rewriteBatchedStatements,
+			Function<Authentication, BoltConnection> boltConnectionSupplier,
+			Function<Authentication, BoltConnection> readerConnectionSupplier, Supplier<List<Translator>> translators,
+			boolean enableSQLTranslation, TranslationCache translationCache, boolean rewriteBatchedStatements,
 			boolean rewritePlaceholders, BookmarkManager bookmarkManager, Map<String, Object> transactionMetadata,
-			int relationshipSampleSize, String databaseName, Consumer<Boolean> onClose,
-			List<ConnectionListener> initalListeners) {
+			int relationshipSampleSize, Cursor.ReadAhead readAhead, int batchChunkSize, boolean deferUpdates,
+			int scrollableRowsOnHeap, ParameterStreams parameterStreams, SchemaCatalog schemaCatalog,
+			String databaseName, Consumer<Boolean> onClose, List<ConnectionListener> initalListeners) {
 		Objects.requireNonNull(boltConnectionSupplier);
 
 		this.databaseUrl = Objects.requireNonNull(databaseUrl);
@@ -192,20 +284,29 @@ final class ConnectionImpl implements Neo4jConnection {
 		initalListeners.forEach(this::addListener);
 
 		this.boltConnection = boltConnectionSupplier.apply(this.authenticationManager.getOrRefresh());
+		this.readerConnectionSupplier = readerConnectionSupplier;
+		this.boltConnectionSupplier = boltConnectionSupplier;
 		this.boltConnectionForMetaData = Lazy
 			.of(() -> boltConnectionSupplier.apply(this.authenticationManager.getOrRefresh()));
 		this.translators = Lazy.of(translators::get);
 		this.enableSqlTranslation = enableSQLTranslation;
-		this.enableTranslationCaching = enableTranslationCaching;
+		this.translationCache = translationCache;
 		this.rewriteBatchedStatements = rewriteBatchedStatements;
 		this.rewritePlaceholders = rewritePlaceholders;
 		this.bookmarkManager = Objects.requireNonNull(bookmarkManager);
 		this.transactionMetadata.putAll(Objects.requireNonNullElseGet(transactionMetadata, Map::of));
 		this.relationshipSampleSize = relationshipSampleSize;
+		this.readAhead = Objects.requireNonNullElse(readAhead, Cursor.ReadAhead.DISABLED);
+		this.batchChunkSize = batchChunkSize;
+		this.deferUpdates = deferUpdates;
+		this.scrollableRowsOnHeap = scrollableRowsOnHeap;
+		this.parameterStreams = Objects.requireNonNullElse(parameterStreams, ParameterStreams.UNLIMITED);
+		this.schemaCatalog = schemaCatalog;
 		this.databaseName = Objects.requireNonNull(databaseName);
 		this.databaseMetadData = Lazy.of(() -> {
 			var views = this.translators.resolve().stream().flatMap(t -> t.getViews().stream()).toList();
-			return new DatabaseMetadataImpl(this, this.enableSqlTranslation, this.relationshipSampleSize, views);
+			return new DatabaseMetadataImpl(this, this.enableSqlTranslation, this.relationshipSampleSize, views,
+					this.schemaCatalog);
 		});
 		this.onClose = Objects.requireNonNullElse(onClose, aborted -> {
 		});
@@ -237,21 +338,9 @@ final class ConnectionImpl implements Neo4jConnection {
 		var metaData = this.getMetaData();
 		var sqlTranslator = new TranslatorChain(resolvedTranslators, metaData, warningConsumer);
 
-		if (this.enableTranslationCaching) {
-			return sql -> {
-				synchronized (ConnectionImpl.this) {
-					if (this.l2cache.containsKey(sql)) {
-						return this.l2cache.get(sql);
-					}
-					else {
-						var translation = sqlTranslator.apply(sql);
-						this.l2cache.put(sql, translation);
-						var event = new TranslationCachedEvent(this.l2cache.size());
-						Events.notify(this.listeners, listener -> listener.onTranslationCached(event));
-						return translation;
-					}
-				}
-			};
+		// There's no point in caching the identity
+		if (this.translationCache != null && (this.enableSqlTranslation || force)) {
+			return sql -> this.translationCache.computeIfAbsent(sql, sqlTranslator, this.listeners);
 		}
 		return sqlTranslator;
 	}
@@ -259,7 +348,7 @@ final class ConnectionImpl implements Neo4jConnection {
 	@SuppressWarnings("MagicConstant") // On purpose
 	@Override
 	public Statement createStatement() throws SQLException {
-		return this.createStatement(ResultSetImpl.SUPPORTED_TYPE, ResultSetImpl.SUPPORTED_CONCURRENCY,
+		return this.createStatement(ResultSetImpl.DEFAULT_TYPE, ResultSetImpl.SUPPORTED_CONCURRENCY,
 				ResultSetImpl.SUPPORTED_HOLDABILITY);
 	}
 
@@ -272,7 +361,7 @@ final class ConnectionImpl implements Neo4jConnection {
 	@SuppressWarnings("SqlSourceToSinkFlow") // O'Really?
 	@Override
 	public CallableStatement prepareCall(String sql) throws SQLException {
-		return prepareCall(sql, ResultSetImpl.SUPPORTED_TYPE, ResultSetImpl.SUPPORTED_CONCURRENCY,
+		return prepareCall(sql, ResultSetImpl.DEFAULT_TYPE, ResultSetImpl.SUPPORTED_CONCURRENCY,
 				ResultSetImpl.SUPPORTED_HOLDABILITY);
 	}
 
@@ -381,10 +470,18 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private void closeBoltConnections() throws InterruptedException, ExecutionException {
 		this.boltConnection.close().toCompletableFuture().get();
-		synchronized (this.boltConnectionForMetaData) {
-			if (this.boltConnectionForMetaData.isResolved()) {
-				this.boltConnectionForMetaData.resolve().close();
-			}
+		if (this.readerConnection != null) {
+			this.readerConnection.close().toCompletableFuture().get();
+		}
+		for (var borrowedConnection : this.borrowedConnections) {
+			borrowedConnection.boltConnection.close().toCompletableFuture().get();
+		}
+		this.borrowedConnections.clear();
+		this.idleBorrowedConnection.set(null);
+		this.verifiedAuthentications.clear();
+		var connectionForMetaData = this.boltConnectionForMetaData.forget();
+		if (connectionForMetaData != null) {
+			connectionForMetaData.close();
 		}
 	}
 
@@ -476,7 +573,7 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private static void assertValidResultSetTypeAndConcurrency(int resultSetType, int resultSetConcurrency)
 			throws SQLException {
-		if (resultSetType != ResultSetImpl.SUPPORTED_TYPE) {
+		if (!ResultSetImpl.isSupportedType(resultSetType)) {
 			throw new SQLFeatureNotSupportedException("Unsupported result set type: " + resultSetType);
 		}
 		if (resultSetConcurrency != ResultSetImpl.SUPPORTED_CONCURRENCY) {
@@ -547,7 +644,7 @@ final class ConnectionImpl implements Neo4jConnection {
 		assertValidResultSetHoldability(resultSetHoldability);
 		var localWarnings = new Warnings();
 		return trackStatement(new StatementImpl(this, this::getTransaction, getTranslator(localWarnings), localWarnings,
-				this::notifyStatementListeners));
+				this::notifyStatementListeners), resultSetType);
 	}
 
 	@Override
@@ -568,7 +665,7 @@ final class ConnectionImpl implements Neo4jConnection {
 		var localWarnings = new Warnings();
 		return trackStatement(new PreparedStatementImpl(this, this::getTransaction, getTranslator(localWarnings),
 				localWarnings, this::notifyStatementListeners, this.rewritePlaceholders, this.rewriteBatchedStatements,
-				autoGeneratedKeys, sql));
+				autoGeneratedKeys, sql), resultSetType);
 	}
 
 	@Override
@@ -580,7 +677,7 @@ final class ConnectionImpl implements Neo4jConnection {
 		assertValidResultSetTypeAndConcurrency(resultSetType, resultSetConcurrency);
 		assertValidResultSetHoldability(resultSetHoldability);
 		return trackStatement(CallableStatementImpl.prepareCall(this, this::getTransaction,
-				this::notifyStatementListeners, this.rewriteBatchedStatements, sql));
+				this::notifyStatementListeners, this.rewriteBatchedStatements, sql), resultSetType);
 	}
 
 	private static void assertValidResultSetHoldability(int resultSetHoldability) throws SQLException {
@@ -595,7 +692,7 @@ final class ConnectionImpl implements Neo4jConnection {
 	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
 		LOGGER.log(Level.FINER,
 				() -> "Trying to prepare statement with auto generated keys set to %d".formatted(autoGeneratedKeys));
-		return prepareStatement(sql, ResultSetImpl.SUPPORTED_TYPE, ResultSetImpl.SUPPORTED_CONCURRENCY,
+		return prepareStatement(sql, ResultSetImpl.DEFAULT_TYPE, ResultSetImpl.SUPPORTED_CONCURRENCY,
 				ResultSetImpl.SUPPORTED_HOLDABILITY, autoGeneratedKeys);
 	}
 
@@ -640,7 +737,7 @@ final class ConnectionImpl implements Neo4jConnection {
 		}
 		if (this.transaction != null && this.transaction.isRunnable()) {
 			try {
-				this.transaction.runAndDiscard("RETURN 1", Collections.emptyMap(), timeout, false);
+				this.transaction.probe(timeout);
 				return true;
 			}
 			catch (SQLException ignored) {
@@ -720,7 +817,8 @@ final class ConnectionImpl implements Neo4jConnection {
 		Objects.requireNonNull(properties);
 		var failedProperties = new HashMap<String, ClientInfoStatus>();
 		// It is supposed to be an atomic operation
-		synchronized (this) {
+		this.lock.lock();
+		try {
 			for (String key : properties.stringPropertyNames()) {
 				try {
 					setClientInfo0(key, properties.getProperty(key));
@@ -730,6 +828,9 @@ final class ConnectionImpl implements Neo4jConnection {
 				}
 			}
 		}
+		finally {
+			this.lock.unlock();
+		}
 		if (!failedProperties.isEmpty()) {
 			var throwable = new SQLClientInfoException(Collections.unmodifiableMap(failedProperties));
 			this.warnings.accept(new SQLWarning("There have been issues setting some properties", throwable));
@@ -800,6 +901,11 @@ final class ConnectionImpl implements Neo4jConnection {
 		if (this.transaction != null && this.transaction.isRunnable()) {
 			this.transaction.fail(this.fatalException);
 		}
+		for (var borrowedConnection : this.borrowedConnections) {
+			if (borrowedConnection.transaction != null && borrowedConnection.transaction.isRunnable()) {
+				borrowedConnection.transaction.fail(this.fatalException);
+			}
+		}
 		try {
 			closeBoltConnections();
 		}
@@ -839,6 +945,12 @@ final class ConnectionImpl implements Neo4jConnection {
 		var failureMessage = "Failed to set read timeout";
 		try {
 			this.boltConnection.setReadTimeout(duration).toCompletableFuture().get();
+			if (this.readerConnection != null) {
+				this.readerConnection.setReadTimeout(duration).toCompletableFuture().get();
+			}
+			for (var borrowedConnection : this.borrowedConnections) {
+				borrowedConnection.boltConnection.setReadTimeout(duration).toCompletableFuture().get();
+			}
 		}
 		catch (ExecutionException ex) {
 			throw new Neo4jException(withInternal(ex, failureMessage));
@@ -879,12 +991,14 @@ final class ConnectionImpl implements Neo4jConnection {
 	}
 
 	/**
-	 * Gets the current transactions or creates a new one.
+	 * Gets the current transactions or creates a new one. If the current transaction is
+	 * an auto-commit transaction that is still open, i.e. the result of a statement has
+	 * not been fully consumed yet, the new auto-commit transaction is started on a
+	 * borrowed connection, so that several results can be consumed interleaved.
 	 * @param additionalTransactionMetadata any additional metadata that should be
 	 * attached to the transaction
 	 * @return a transaction
-	 * @throws SQLException if there's already an open transaction and the connection is
-	 * using auto commit mode
+	 * @throws SQLException if the connection is closed or no connection could be borrowed
 	 */
 	Neo4jTransaction getTransaction(Map<String, Object> additionalTransactionMetadata) throws SQLException {
 		assertIsOpen();
@@ -893,21 +1007,188 @@ final class ConnectionImpl implements Neo4jConnection {
 		}
 		if (this.transaction != null && this.transaction.isOpen()) {
 			if (this.transaction.isAutoCommit()) {
-				throw new SQLFeatureNotSupportedException("Only a single autocommit transaction is supported");
+				return newTransactionOnBorrowedConnection(additionalTransactionMetadata);
 			}
 			return this.transaction;
 		}
 
-		var combinedTransactionMetadata = getCombinedTransactionMetadata(additionalTransactionMetadata);
-		this.transaction = new DefaultTransactionImpl(this.boltConnection, this.bookmarkManager,
-				combinedTransactionMetadata, this::handleFatalException, this.resetNeeded.getAndSet(false),
-				this.autoCommit, getAccessMode(), null, this.databaseName,
-				state -> this.resetNeeded.compareAndSet(false,
-						EnumSet.of(State.FAILED, State.OPEN_FAILED).contains(state)),
-				this.authenticationManager.getOrRefresh());
+		var routeToReader = this.readOnly && this.readerConnectionSupplier != null;
+		var connection = routeToReader ? acquireReaderConnection() : getWriterConnection();
+		var connectionResetNeeded = routeToReader ? this.readerResetNeeded : this.resetNeeded;
+		this.transaction = newTransaction(connection, connectionResetNeeded, additionalTransactionMetadata, null);
 		return this.transaction;
 	}
 
+	private Neo4jTransaction newTransaction(BoltConnection connection, AtomicBoolean connectionResetNeeded,
+			Map<String, Object> additionalTransactionMetadata, Runnable onFinished) throws SQLException {
+		var combinedTransactionMetadata = getCombinedTransactionMetadata(additionalTransactionMetadata);
+		var authentication = this.authenticationManager.getOrRefresh();
+		var verifiedAuthentication = this.verifiedAuthentications.put(connection, authentication);
+		return new DefaultTransactionImpl(connection, this.bookmarkManager, combinedTransactionMetadata,
+				(fatalSqlException, sqlException) -> {
+					// Routed connections that failed are replaced before the next
+					// transaction, they don't invalidate this connection
+					if (!BoltConnectionRouter.isStale(connection)) {
+						handleFatalException(fatalSqlException, sqlException);
+					}
+				}, connectionResetNeeded.getAndSet(false), this.autoCommit, getAccessMode(), null, this.databaseName,
+				state -> {
+					if (EnumSet.of(State.FAILED, State.OPEN_FAILED).contains(state)) {
+						connectionResetNeeded.compareAndSet(false, true);
+						this.verifiedAuthentications.remove(connection);
+					}
+					if (onFinished != null && state != State.OPEN_FAILED) {
+						onFinished.run();
+					}
+				}, (verifiedAuthentication != authentication) ? authentication : null, this.deferUpdates);
+	}
+
+	/**
+	 * Starts a new auto-commit transaction on a borrowed connection. A pooled connection
+	 * is released as soon as the transaction has been finished, so that it is returned to
+	 * the pool right away, otherwise the connection is kept idle for the next interleaved
+	 * transaction. As this connection already holds a connection itself, it does not wait
+	 * for an exhausted pool: all connections of the pool might be held by connections
+	 * waiting for each other.
+	 * @param additionalTransactionMetadata any additional metadata that should be
+	 * attached to the transaction
+	 * @return a transaction
+	 * @throws SQLException if no connection could be acquired
+	 */
+	private Neo4jTransaction newTransactionOnBorrowedConnection(Map<String, Object> additionalTransactionMetadata)
+			throws SQLException {
+		var routeToReader = this.readOnly && this.readerConnectionSupplier != null;
+		var borrowedConnection = takeIdleBorrowedConnection(routeToReader);
+		if (borrowedConnection == null) {
+			var connectionSupplier = routeToReader ? this.readerConnectionSupplier : this.boltConnectionSupplier;
+			borrowedConnection = new BorrowedConnection(acquireConnection(
+					authentication -> BoltConnectionPool.failFast(() -> connectionSupplier.apply(authentication))),
+					routeToReader);
+			LOGGER.log(Level.FINE, "Borrowed an additional connection for an interleaved auto-commit transaction");
+			this.borrowedConnections.add(borrowedConnection);
+		}
+		var finishedBorrowedConnection = borrowedConnection;
+		var finished = new AtomicBoolean(false);
+		try {
+			borrowedConnection.transaction = newTransaction(borrowedConnection.boltConnection,
+					borrowedConnection.resetNeeded, additionalTransactionMetadata, () -> {
+						if (finished.compareAndSet(false, true)) {
+							onTransactionFinished(finishedBorrowedConnection);
+						}
+					});
+		}
+		catch (SQLException | RuntimeException ex) {
+			release(borrowedConnection);
+			throw ex;
+		}
+		return borrowedConnection.transaction;
+	}
+
+	/**
+	 * Takes the idle borrowed connection if it can be used for the next transaction. An
+	 * idle connection to the wrong kind of member or chosen from an outdated routing
+	 * table is released.
+	 * @param routeToReader whether the next transaction is routed to a reader
+	 * @return the idle borrowed connection or {@literal null} if there is none that fits
+	 */
+	private BorrowedConnection takeIdleBorrowedConnection(boolean routeToReader) {
+		var idleConnection = this.idleBorrowedConnection.getAndSet(null);
+		if (idleConnection == null) {
+			return null;
+		}
+		if (idleConnection.reader != routeToReader || BoltConnectionRouter.isOutdated(idleConnection.boltConnection)) {
+			release(idleConnection);
+			return null;
+		}
+		return idleConnection;
+	}
+
+	private void onTransactionFinished(BorrowedConnection borrowedConnection) {
+		if (!this.closed && !BoltConnectionPool.isPooled(borrowedConnection.boltConnection)
+				&& this.idleBorrowedConnection.compareAndSet(null, borrowedConnection)) {
+			LOGGER.log(Level.FINE, "Keeping the borrowed connection for the next interleaved auto-commit transaction");
+			return;
+		}
+		release(borrowedConnection);
+	}
+
+	private void release(BorrowedConnection borrowedConnection) {
+		if (this.borrowedConnections.remove(borrowedConnection)) {
+			this.verifiedAuthentications.remove(borrowedConnection.boltConnection);
+			borrowedConnection.boltConnection.close();
+		}
+	}
+
+	/**
+	 * Returns the connection used for transactions that are not routed to a reader. A
+	 * routed connection that turned out not to reach the leader anymore is replaced with
+	 * a new one to the current leader.
+	 * @return the connection for transactions that are not read-only
+	 * @throws SQLException if no new connection could be acquired
+	 */
+	private BoltConnection getWriterConnection() throws SQLException {
+		var staleConnection = this.boltConnection;
+		if (!BoltConnectionRouter.isStale(staleConnection)) {
+			return staleConnection;
+		}
+		LOGGER.log(Level.FINE, "Replacing the connection to a former leader");
+		this.boltConnection = acquireConnection(this.boltConnectionSupplier);
+		this.resetNeeded.set(false);
+		this.verifiedAuthentications.remove(staleConnection);
+		staleConnection.close();
+		return this.boltConnection;
+	}
+
+	/**
+	 * Returns the connection for read-only transactions. A connection is kept for as long
+	 * as it is not stale and the routing table it has been chosen from is still current,
+	 * otherwise it is replaced, so that the router picks the least used reader from an
+	 * up-to-date routing table.
+	 * @return the connection for the next read-only transaction
+	 * @throws SQLException if no connection could be acquired
+	 */
+	private BoltConnection acquireReaderConnection() throws SQLException {
+		var previousConnection = this.readerConnection;
+		if (previousConnection != null && !BoltConnectionRouter.isOutdated(previousConnection)) {
+			return previousConnection;
+		}
+		this.readerConnection = null;
+		if (previousConnection != null) {
+			LOGGER.log(Level.FINE, "Replacing the connection to a reader chosen from an outdated routing table");
+			this.verifiedAuthentications.remove(previousConnection);
+			previousConnection.close();
+		}
+		this.readerConnection = acquireConnection(this.readerConnectionSupplier);
+		this.readerResetNeeded.set(false);
+		return this.readerConnection;
+	}
+
+	private BoltConnection acquireConnection(Function<Authentication, BoltConnection> connectionSupplier)
+			throws SQLException {
+		BoltConnection connection;
+		try {
+			connection = connectionSupplier.apply(this.authenticationManager.getOrRefresh());
+		}
+		catch (UncheckedSQLException ex) {
+			throw ex.getCause();
+		}
+		if (this.networkTimeout > 0) {
+			try {
+				connection.setReadTimeout(Duration.ofMillis(this.networkTimeout)).toCompletableFuture().get();
+			}
+			catch (ExecutionException ex) {
+				connection.close();
+				throw new Neo4jException(withInternal(ex, "Failed to set read timeout"));
+			}
+			catch (InterruptedException ex) {
+				connection.close();
+				Thread.currentThread().interrupt();
+				throw new Neo4jException(withInternal(ex, "Failed to set read timeout"));
+			}
+		}
+		return connection;
+	}
+
 	/**
 	 * Creates a new transaction that is not yet attached to this connection and might
 	 * never will.
@@ -924,8 +1205,23 @@ final class ConnectionImpl implements Neo4jConnection {
 				}, this.authenticationManager.getOrRefresh());
 	}
 
+	/**
+	 * Combines the metadata of this connection with the given metadata and the
+	 * application name. The result is reused as long as neither of them change.
+	 * @param additionalTransactionMetadata any additional metadata that should be
+	 * attached to the transaction
+	 * @return the combined metadata, not to be modified
+	 * @throws SQLException if {@link #getApp()} fails to retrieve client info
+	 */
 	private Map<String, Object> getCombinedTransactionMetadata(Map<String, Object> additionalTransactionMetadata)
 			throws SQLException {
+		var applicationName = getClientInfo("ApplicationName");
+		var template = this.transactionTemplate;
+		if (template != null && Objects.equals(template.applicationName(), applicationName)
+				&& template.additionalTransactionMetadata().equals(additionalTransactionMetadata)) {
+			return template.combinedTransactionMetadata();
+		}
+
 		Map<String, Object> combinedTransactionMetadata = new HashMap<>(
 				this.transactionMetadata.size() + additionalTransactionMetadata.size() + 1);
 		combinedTransactionMetadata.putAll(this.transactionMetadata);
@@ -933,6 +1229,9 @@ final class ConnectionImpl implements Neo4jConnection {
 		if (!combinedTransactionMetadata.containsKey("app")) {
 			combinedTransactionMetadata.put("app", this.getApp());
 		}
+		combinedTransactionMetadata = Collections.unmodifiableMap(combinedTransactionMetadata);
+		this.transactionTemplate = new TransactionTemplate(new HashMap<>(additionalTransactionMetadata),
+				applicationName, combinedTransactionMetadata);
 		return combinedTransactionMetadata;
 	}
 
@@ -943,10 +1242,16 @@ final class ConnectionImpl implements Neo4jConnection {
 	@Override
 	public void flushTranslationCache() {
 		LOGGER.log(Level.FINER, () -> "Flushing translation cache");
-		synchronized (this) {
-			this.l2cache.flush();
+		if (this.translationCache != null) {
+			this.translationCache.flush();
+		}
+		this.lock.lock();
+		try {
 			this.translators.resolve().forEach(Translator::flushCache);
 		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 	@Override
@@ -961,9 +1266,11 @@ final class ConnectionImpl implements Neo4jConnection {
 		this.authenticationManager.addListener(connectionListener);
 	}
 
-	private <T extends StatementImpl> T trackStatement(T statement) {
+	private <T extends StatementImpl> T trackStatement(T statement, int resultSetType) {
 		purgeClearedStatementReferences();
 
+		statement.setResultSetType(resultSetType);
+
 		this.trackedStatementReferences.add(new WeakReference<>(statement, this.trackedStatementReferenceQueue));
 
 		if (!this.listeners.isEmpty()) {
@@ -1020,6 +1327,7 @@ final class ConnectionImpl implements Neo4jConnection {
 		LOGGER.log(Level.FINER, () -> "Adding new transaction metadata");
 		if (metadata != null) {
 			this.transactionMetadata.putAll(metadata);
+			this.transactionTemplate = null;
 		}
 		return this;
 	}
@@ -1056,6 +1364,26 @@ final class ConnectionImpl implements Neo4jConnection {
 		return this.databaseUrl;
 	}
 
+	Cursor.ReadAhead getReadAhead() {
+		return this.readAhead;
+	}
+
+	int getBatchChunkSize() {
+		return this.batchChunkSize;
+	}
+
+	int getScrollableRowsOnHeap() {
+		return this.scrollableRowsOnHeap;
+	}
+
+	ParameterStreams getParameterStreams() {
+		return this.parameterStreams;
+	}
+
+	SchemaCatalog getSchemaCatalog() {
+		return this.schemaCatalog;
+	}
+
 	@SuppressWarnings("removal")
 	@Override
 	public Neo4jConnection withTracer(Neo4jTracer tracer) {
@@ -1082,6 +1410,31 @@ final class ConnectionImpl implements Neo4jConnection {
 		return false;
 	}
 
+	private record TransactionTemplate(Map<String, Object> additionalTransactionMetadata, String applicationName,
+			Map<String, Object> combinedTransactionMetadata) {
+	}
+
+	/**
+	 * A connection borrowed for auto-commit transactions together with its current
+	 * transaction.
+	 */
+	private static final class BorrowedConnection {
+
+		private final BoltConnection boltConnection;
+
+		private final boolean reader;
+
+		private final AtomicBoolean resetNeeded = new AtomicBoolean(false);
+
+		private volatile Neo4jTransaction transaction;
+
+		BorrowedConnection(BoltConnection boltConnection, boolean reader) {
+			this.boltConnection = boltConnection;
+			this.reader = reader;
+		}
+
+	}
+
 	static class TranslatorChain implements UnaryOperator<String> {
 
 		private final List<Translator> translators;
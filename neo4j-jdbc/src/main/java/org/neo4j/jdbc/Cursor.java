@@ -44,10 +44,48 @@ interface Cursor {
 	 */
 	static Cursor of(Neo4jTransaction transaction, Neo4jTransaction.RunResponse runResponse, int remainingRowAllowance,
 			int fetchSize, Neo4jTransaction.PullResponse currentBatchResponse, Runnable onNextBatch) {
+		return of(transaction, runResponse, remainingRowAllowance, fetchSize, currentBatchResponse, onNextBatch,
+				ReadAhead.DISABLED);
+	}
+
+	/**
+	 * Creates a cursor based on a Bolt connection, optionally reading ahead.
+	 * @param transaction current transaction
+	 * @param runResponse the initial response
+	 * @param remainingRowAllowance maximum number of rows toe be retrieved
+	 * @param fetchSize the fetch size to be used
+	 * @param currentBatchResponse the initial response
+	 * @param onNextBatch a callback that should be invoked when another batch is pulled
+	 * @param readAhead the read-ahead configuration
+	 * @return a new cursor
+	 */
+	static Cursor of(Neo4jTransaction transaction, Neo4jTransaction.RunResponse runResponse, int remainingRowAllowance,
+			int fetchSize, Neo4jTransaction.PullResponse currentBatchResponse, Runnable onNextBatch,
+			ReadAhead readAhead) {
+		return of(transaction, runResponse, remainingRowAllowance, fetchSize, currentBatchResponse, onNextBatch,
+				readAhead, null);
+	}
+
+	/**
+	 * Creates a cursor based on a Bolt connection, optionally reading ahead, whose pulls
+	 * are owned by the given owner.
+	 * @param transaction current transaction
+	 * @param runResponse the initial response
+	 * @param remainingRowAllowance maximum number of rows toe be retrieved
+	 * @param fetchSize the fetch size to be used
+	 * @param currentBatchResponse the initial response
+	 * @param onNextBatch a callback that should be invoked when another batch is pulled
+	 * @param readAhead the read-ahead configuration
+	 * @param owner the owner of the pulls, can be {@literal null}
+	 * @return a new cursor
+	 * @see Neo4jTransaction#setRequestOwner(Object)
+	 */
+	static Cursor of(Neo4jTransaction transaction, Neo4jTransaction.RunResponse runResponse, int remainingRowAllowance,
+			int fetchSize, Neo4jTransaction.PullResponse currentBatchResponse, Runnable onNextBatch,
+			ReadAhead readAhead, Object owner) {
 		var records = currentBatchResponse.records();
-		var currentBatch = records.iterator();
 		return new BoltCursor(records.isEmpty() ? null : records.get(0), transaction, runResponse,
-				remainingRowAllowance, fetchSize, currentBatchResponse, currentBatch, onNextBatch);
+				remainingRowAllowance, fetchSize, currentBatchResponse, records, onNextBatch, readAhead, owner);
 	}
 
 	/**
@@ -104,4 +142,31 @@ interface Cursor {
 	default void close() throws SQLException {
 	}
 
+	/**
+	 * Configures whether and how far a cursor reads ahead of its consumer. When enabled,
+	 * the next batch is requested in the background as soon as the number of unconsumed
+	 * records in the current batch drops to the watermark.
+	 *
+	 * @param maxBatchesInFlight the maximum number of batches requested ahead of the
+	 * consumer, {@literal 0} disables read-ahead
+	 * @param watermark the number of unconsumed records in the current batch at which the
+	 * next batch is requested, a negative value means half of the fetch size
+	 */
+	record ReadAhead(int maxBatchesInFlight, int watermark) {
+
+		/**
+		 * No read-ahead, batches are pulled synchronously when the current batch is
+		 * exhausted.
+		 */
+		static final ReadAhead DISABLED = new ReadAhead(0, -1);
+
+		boolean enabled() {
+			return this.maxBatchesInFlight > 0;
+		}
+
+		int watermark(int fetchSize) {
+			return (this.watermark < 0) ? fetchSize / 2 : this.watermark;
+		}
+	}
+
 }
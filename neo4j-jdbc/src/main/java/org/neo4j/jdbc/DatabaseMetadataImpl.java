@@ -27,7 +27,6 @@ import java.sql.RowIdLifetime;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,7 +41,6 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.logging.Level;
@@ -259,15 +257,21 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 
 	private final Lazy<Boolean> readOnly;
 
-	private final Map<GetTablesCacheKey, GetTablesCacheValue> tablesCache = new ConcurrentHashMap<>();
+	private final SchemaCatalog schemaCatalog;
 
 	private final Map<String, View> views;
 
 	DatabaseMetadataImpl(Connection connection, boolean automaticSqlTranslation, int relationshipSampleSize,
 			Collection<View> views) {
+		this(connection, automaticSqlTranslation, relationshipSampleSize, views, null);
+	}
+
+	DatabaseMetadataImpl(Connection connection, boolean automaticSqlTranslation, int relationshipSampleSize,
+			Collection<View> views, SchemaCatalog schemaCatalog) {
 		this.connection = connection;
 		this.automaticSqlTranslation = automaticSqlTranslation;
 		this.relationshipSampleSize = relationshipSampleSize;
+		this.schemaCatalog = Objects.requireNonNullElseGet(schemaCatalog, SchemaCatalog::local);
 
 		this.apocAvailable = Lazy.of(this::isApocAvailable0);
 		// Those queries use administrative commands that do not compose with normal
@@ -1013,34 +1017,55 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 		assertSchemaIsPublicOrNull(schemaPattern);
 		assertCatalogIsNullOrEmpty(catalog);
 
-		try {
-			var key = new GetTablesCacheKey(catalog, schemaPattern, tableNamePattern, types);
-			var result = this.tablesCache.computeIfAbsent(key, this::getTables0);
-			// We cannot cache the result set, as any proper usage would close it for
-			// good, and it's much harder to dig down into the implementation and prevent
-			// closing it on a case base case basis than just recreating it
-			return new LocalStatementImpl(this.connection, result.runResponse, result.pullResponse).getResultSet();
-		}
-		catch (UncheckedSQLException ex) {
-			throw ex.getCause();
+		var key = SchemaCatalog.Key.of("getTables", catalog, schemaPattern, tableNamePattern,
+				(types != null) ? String.join(",", types) : null);
+		this.schemaCatalog.verify(this::getSchemaTokens);
+		var entry = this.schemaCatalog.get(key);
+		if (entry == null) {
+			// Not using any atomic compute method here, as getColumns calls back into
+			// this method
+			var request = getRequest(isApocAvailable() ? "getTablesApoc" : "getTablesFallback", "name",
+					(tableNamePattern != null) ? tableNamePattern.replace("%", ".*") : null, "sampleSize",
+					this.relationshipSampleSize, "types", types, "views", this.views.keySet());
+			try (var resultSet = doQueryForResultSet(request)) {
+				entry = putIntoSchemaCatalog(key, resultSet);
+			}
 		}
+		return newResultSet(entry.keys(), entry.rows());
 	}
 
-	private GetTablesCacheValue getTables0(GetTablesCacheKey key) {
-
-		var tableNamePattern = key.tableNamePattern();
-		var types = key.types();
-
-		var request = getRequest(isApocAvailable() ? "getTablesApoc" : "getTablesFallback", "name",
-				(tableNamePattern != null) ? tableNamePattern.replace("%", ".*") : null, "sampleSize",
-				this.relationshipSampleSize, "types", types, "views", this.views.keySet());
+	private SchemaCatalog.Tokens getSchemaTokens() throws SQLException {
+		var tokens = doQueryForPullResponse(getRequest("getSchemaTokens")).records().get(0);
+		return new SchemaCatalog.Tokens(Set.copyOf(tokens.get("labels").asList(Value::asString)),
+				Set.copyOf(tokens.get("relationshipTypes").asList(Value::asString)),
+				Set.copyOf(tokens.get("propertyKeys").asList(Value::asString)));
+	}
 
-		try (var resultSet = doQueryForResultSet(request)) {
-			return GetTablesCacheValue.of(resultSet);
+	private SchemaCatalog.Entry putIntoSchemaCatalog(SchemaCatalog.Key key, ResultSet resultSet) throws SQLException {
+		var keys = new ArrayList<String>();
+		var metaData = resultSet.getMetaData();
+		var columnCount = metaData.getColumnCount();
+		for (int i = 1; i <= columnCount; ++i) {
+			keys.add(metaData.getColumnName(i));
 		}
-		catch (SQLException ex) {
-			throw new UncheckedSQLException(ex);
+		var values = new ArrayList<Value[]>();
+		while (resultSet.next()) {
+			var row = new Value[columnCount];
+			for (int i = 1; i <= columnCount; ++i) {
+				row[i - 1] = resultSet.getObject(i, Value.class);
+			}
+			values.add(row);
 		}
+		return this.schemaCatalog.put(key, keys, values);
+	}
+
+	private ResultSet newResultSet(List<String> keys, List<Value[]> rows) throws SQLException {
+		// We cannot cache the result set, as any proper usage would close it for
+		// good, and it's much harder to dig down into the implementation and prevent
+		// closing it on a case base case basis than just recreating it
+		var runResponse = createRunResponseForStaticKeys(keys);
+		var pullResponse = staticPullResponseFor(keys, rows);
+		return new LocalStatementImpl(this.connection, runResponse, pullResponse).getResultSet();
 	}
 
 	@Override
@@ -1086,9 +1111,6 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 						column.type())));
 	}
 
-	// Yep, this is complex; S3047 is about looping the records twice
-	// which is needed however.
-	@SuppressWarnings({ "squid:S3776", "squid:S3047" })
 	@Override
 	public ResultSet getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern)
 			throws SQLException {
@@ -1096,6 +1118,29 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 		assertCatalogIsNullOrEmpty(catalog);
 		assertSchemaIsPublicOrNull(schemaPattern);
 
+		// Sampling the columns is expensive, but caching them in a catalog that is local
+		// to this instance would not gain much, so they are only cached in a shared one
+		if (!this.schemaCatalog.isShared()) {
+			return newResultSet(getKeysForGetColumns(),
+					getColumns0(catalog, schemaPattern, tableNamePattern, columnNamePattern));
+		}
+
+		var key = SchemaCatalog.Key.of("getColumns", catalog, schemaPattern, tableNamePattern, columnNamePattern);
+		this.schemaCatalog.verify(this::getSchemaTokens);
+		var entry = this.schemaCatalog.get(key);
+		if (entry == null) {
+			entry = this.schemaCatalog.put(key, getKeysForGetColumns(),
+					getColumns0(catalog, schemaPattern, tableNamePattern, columnNamePattern));
+		}
+		return newResultSet(entry.keys(), entry.rows());
+	}
+
+	// Yep, this is complex; S3047 is about looping the records twice
+	// which is needed however.
+	@SuppressWarnings({ "squid:S3776", "squid:S3047" })
+	private List<Value[]> getColumns0(String catalog, String schemaPattern, String tableNamePattern,
+			String columnNamePattern) throws SQLException {
+
 		columnNamePattern = (columnNamePattern != null) ? columnNamePattern.replace("%", ".*") : columnNamePattern;
 		var request = getRequest("getColumns", "name",
 				(tableNamePattern != null) ? tableNamePattern.replace("%", ".*") : tableNamePattern, "column_name",
@@ -1203,11 +1248,7 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 			}
 		}
 
-		var keys = getKeysForGetColumns();
-		var runResponse = createRunResponseForStaticKeys(keys);
-		var pullResponse = staticPullResponseFor(keys, rows);
-
-		return new LocalStatementImpl(this.connection, runResponse, pullResponse).getResultSet();
+		return rows;
 	}
 
 	private ArrayList<Value> addColumn(Value nodeLabel, Value propertyName, Value propertyType, int NULLABLE,
@@ -1242,13 +1283,14 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 	}
 
 	static PullResponse staticPullResponseFor(List<String> keys, List<Value[]> rows) {
+		var columnNames = ColumnNames.of(keys);
 		return new PullResponse() {
 			@Override
 			public List<Record> records() {
 				var records = new ArrayList<Record>(rows.size());
 
 				for (Value[] values : rows) {
-					records.add(Record.of(keys, values));
+					records.add(Record.of(columnNames, values));
 				}
 
 				return records;
@@ -1569,12 +1611,12 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 
 	@Override
 	public boolean supportsResultSetType(int type) {
-		return type == ResultSet.TYPE_FORWARD_ONLY;
+		return ResultSetImpl.isSupportedType(type);
 	}
 
 	@Override
 	public boolean supportsResultSetConcurrency(int type, int concurrency) {
-		return type == ResultSet.TYPE_FORWARD_ONLY && concurrency == ResultSet.CONCUR_READ_ONLY;
+		return ResultSetImpl.isSupportedType(type) && concurrency == ResultSet.CONCUR_READ_ONLY;
 	}
 
 	@Override
@@ -1594,17 +1636,18 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 
 	@Override
 	public boolean othersUpdatesAreVisible(int type) {
-		return true;
+		// Scroll-insensitive result sets work on a copy of the rows
+		return type != ResultSet.TYPE_SCROLL_INSENSITIVE;
 	}
 
 	@Override
 	public boolean othersDeletesAreVisible(int type) {
-		return true;
+		return type != ResultSet.TYPE_SCROLL_INSENSITIVE;
 	}
 
 	@Override
 	public boolean othersInsertsAreVisible(int type) {
-		return true;
+		return type != ResultSet.TYPE_SCROLL_INSENSITIVE;
 	}
 
 	@Override
@@ -1982,7 +2025,7 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 
 	@Override
 	public DatabaseMetaData flush() {
-		this.tablesCache.clear();
+		this.schemaCatalog.invalidate();
 		return this;
 	}
 
@@ -1999,44 +2042,4 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 	private record ClientInfoProperty(String name, String description) {
 	}
 
-	private record GetTablesCacheKey(String catalog, String schemaPattern, String tableNamePattern, String[] types) {
-		@Override
-		public boolean equals(Object o) {
-			if (!(o instanceof GetTablesCacheKey that)) {
-				return false;
-			}
-			return Objects.equals(this.catalog, that.catalog) && Objects.deepEquals(this.types, that.types)
-					&& Objects.equals(this.schemaPattern, that.schemaPattern)
-					&& Objects.equals(this.tableNamePattern, that.tableNamePattern);
-		}
-
-		@Override
-		public int hashCode() {
-			return Objects.hash(this.catalog, this.schemaPattern, this.tableNamePattern, Arrays.hashCode(this.types));
-		}
-	}
-
-	private record GetTablesCacheValue(RunResponse runResponse, PullResponse pullResponse) {
-
-		static GetTablesCacheValue of(ResultSet resultSet) throws SQLException {
-			var keys = new ArrayList<String>();
-			var metaData = resultSet.getMetaData();
-			var columnCount = metaData.getColumnCount();
-			for (int i = 1; i <= columnCount; ++i) {
-				keys.add(metaData.getColumnName(i));
-			}
-			var values = new ArrayList<Value[]>();
-			while (resultSet.next()) {
-				var row = new Value[columnCount];
-				for (int i = 1; i <= columnCount; ++i) {
-					row[i - 1] = resultSet.getObject(i, Value.class);
-				}
-				values.add(row);
-			}
-			var response = createRunResponseForStaticKeys(keys);
-			var pull = staticPullResponseFor(keys, values);
-			return new GetTablesCacheValue(response, pull);
-		}
-	}
-
 }
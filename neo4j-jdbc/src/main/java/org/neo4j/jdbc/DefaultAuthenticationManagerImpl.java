@@ -76,18 +76,25 @@ final class DefaultAuthenticationManagerImpl implements AuthenticationManager {
 	@Override
 	public Authentication getOrRefresh() {
 
-		var hlp = this.currentAuthentication.updateAndGet(previous -> {
-			if (previous != null && this.isValid(previous.authentication)) {
-				return new AuthenticationAndState(previous.authentication, State.REUSED);
+		while (true) {
+			var previous = this.currentAuthentication.get();
+			var valid = previous != null && this.isValid(previous.authentication);
+			// Nothing to update and nothing to notify in the common case
+			if (valid && previous.state == State.REUSED) {
+				return previous.authentication;
 			}
-			var authentication = this.authenticationSupplier.get();
-			return new AuthenticationAndState(authentication, (previous != null) ? State.REFRESHED : State.NEW);
-		});
-		var eventState = hlp.state.toEventState();
-		if (eventState != null) {
-			this.notifyListeners(new NewAuthenticationEvent(this.targetUrl, eventState));
+			var next = valid ? new AuthenticationAndState(previous.authentication, State.REUSED)
+					: new AuthenticationAndState(this.authenticationSupplier.get(),
+							(previous != null) ? State.REFRESHED : State.NEW);
+			if (!this.currentAuthentication.compareAndSet(previous, next)) {
+				continue;
+			}
+			var eventState = next.state.toEventState();
+			if (eventState != null) {
+				this.notifyListeners(new NewAuthenticationEvent(this.targetUrl, eventState));
+			}
+			return next.authentication;
 		}
-		return hlp.authentication();
 	}
 
 	void notifyListeners(NewAuthenticationEvent event) {
@@ -23,7 +23,7 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -39,22 +39,33 @@ final class DefaultBookmarkManagerImpl implements BookmarkManager {
 
 	private final Set<String> bookmarks = new HashSet<>();
 
-	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Lock lock = new ReentrantLock();
 
-	private final Lock read = this.lock.readLock();
+	/**
+	 * An immutable copy of the current bookmarks, replaced on every update, so that
+	 * reading them doesn't need a lock.
+	 */
+	private volatile Set<String> snapshot = Set.of();
 
-	private final Lock write = this.lock.writeLock();
+	/**
+	 * The last transformed snapshot, returned again as long as neither the bookmarks nor
+	 * the transformer change.
+	 */
+	private volatile Transformation lastTransformation;
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T> Set<T> getBookmarks(Function<String, T> transformer) {
 
-		try {
-			this.read.lock();
-			return this.bookmarks.stream().map(transformer).collect(Collectors.toUnmodifiableSet());
-		}
-		finally {
-			this.read.unlock();
+		var source = this.snapshot;
+		var transformation = this.lastTransformation;
+		if (transformation != null && transformation.source() == source
+				&& transformation.transformer() == transformer) {
+			return (Set<T>) transformation.bookmarks();
 		}
+		var result = source.stream().map(transformer).collect(Collectors.toUnmodifiableSet());
+		this.lastTransformation = new Transformation(source, transformer, result);
+		return result;
 	}
 
 	@Override
@@ -65,15 +76,19 @@ final class DefaultBookmarkManagerImpl implements BookmarkManager {
 		Objects.requireNonNull(newBookmarks, "New bookmarks might not be null");
 
 		try {
-			this.write.lock();
+			this.lock.lock();
 			if (usedBookmarks != null) {
 				usedBookmarks.forEach(b -> this.bookmarks.remove(transformer.apply(b)));
 			}
 			newBookmarks.forEach(b -> this.bookmarks.add(transformer.apply(b)));
+			this.snapshot = Set.copyOf(this.bookmarks);
 		}
 		finally {
-			this.write.unlock();
+			this.lock.unlock();
 		}
 	}
 
+	private record Transformation(Set<String> source, Function<String, ?> transformer, Set<?> bookmarks) {
+	}
+
 }
@@ -18,6 +18,8 @@
  */
 package org.neo4j.jdbc;
 
+import java.io.Serial;
+import java.sql.BatchUpdateException;
 import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
@@ -26,7 +28,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -37,14 +41,24 @@ import java.util.logging.Level;
 
 import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.AuthInfo;
+import org.neo4j.bolt.connection.AuthToken;
 import org.neo4j.bolt.connection.BasicResponseHandler;
 import org.neo4j.bolt.connection.BoltConnection;
 import org.neo4j.bolt.connection.NotificationConfig;
+import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.TransactionType;
 import org.neo4j.bolt.connection.exception.BoltFailureException;
 import org.neo4j.bolt.connection.message.Message;
 import org.neo4j.bolt.connection.message.Messages;
+import org.neo4j.bolt.connection.summary.BeginSummary;
+import org.neo4j.bolt.connection.summary.CommitSummary;
+import org.neo4j.bolt.connection.summary.DiscardSummary;
+import org.neo4j.bolt.connection.summary.LogoffSummary;
+import org.neo4j.bolt.connection.summary.LogonSummary;
 import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.ResetSummary;
+import org.neo4j.bolt.connection.summary.RollbackSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
 import org.neo4j.bolt.connection.values.Value;
 import org.neo4j.jdbc.BoltConnectionObservations.NoopObservation;
 import org.neo4j.jdbc.Neo4jException.GQLError;
@@ -65,50 +79,77 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 
 	private final BookmarkManager bookmarkManager;
 
-	private final Consumer<State> onFailedCallback;
+	private final Consumer<State> onFinishedCallback;
 
 	private final Set<String> usedBookmarks;
 
 	private final List<RunResponse> openResults = new ArrayList<>();
 
-	private State state;
+	private final boolean deferUpdates;
+
+	private final List<DeferredRun> deferredRuns = new ArrayList<>();
+
+	private boolean flushed;
+
+	private volatile boolean requestPending;
+
+	private volatile CompletableFuture<?> inFlight;
+
+	private volatile boolean cancelled;
+
+	private volatile Object nextRequestOwner;
+
+	private volatile Object requestOwner;
+
+	private volatile State state;
 
 	private SQLException exception;
 
 	DefaultTransactionImpl(BoltConnection boltConnection, BookmarkManager bookmarkManager,
 			Map<String, Object> transactionMetadata, FatalExceptionHandler fatalExceptionHandler, boolean resetNeeded,
 			boolean autoCommit, AccessMode accessMode, State state, String databaseName,
-			Consumer<State> onFailedCallback, Authentication currentAuthentication) {
+			Consumer<State> onFinishedCallback, Authentication currentAuthentication) {
+		this(boltConnection, bookmarkManager, transactionMetadata, fatalExceptionHandler, resetNeeded, autoCommit,
+				accessMode, state, databaseName, onFinishedCallback, currentAuthentication, false);
+	}
+
+	DefaultTransactionImpl(BoltConnection boltConnection, BookmarkManager bookmarkManager,
+			Map<String, Object> transactionMetadata, FatalExceptionHandler fatalExceptionHandler, boolean resetNeeded,
+			boolean autoCommit, AccessMode accessMode, State state, String databaseName,
+			Consumer<State> onFinishedCallback, Authentication currentAuthentication, boolean deferUpdates) {
 
 		this.boltConnection = Objects.requireNonNull(boltConnection);
 		this.fatalExceptionHandler = Objects.requireNonNull(fatalExceptionHandler);
 
 		this.bookmarkManager = Objects.requireNonNullElseGet(bookmarkManager, NoopBookmarkManagerImpl::new);
-		this.onFailedCallback = onFailedCallback;
+		this.onFinishedCallback = onFinishedCallback;
 		this.usedBookmarks = this.bookmarkManager.getBookmarks(Function.identity());
 
 		this.autoCommit = autoCommit;
+		this.deferUpdates = deferUpdates && !autoCommit;
 		this.state = Objects.requireNonNullElse(state, State.NEW);
 
-		this.beginPipelinedStage = this.boltConnection.authInfo()
-			.thenApply(AuthInfo::authToken)
-			.thenCompose(previousAuthToken -> {
-				var txType = this.autoCommit ? TransactionType.UNCONSTRAINED : TransactionType.DEFAULT;
-				var messages = new ArrayList<Message>(4);
-				if (resetNeeded) {
-					messages.add(Messages.reset());
-				}
-				var currentAuthToken = Neo4jDriver.toAuthToken(currentAuthentication);
-				if (!previousAuthToken.asMap().equals(currentAuthToken.asMap())) {
-					ConnectionImpl.LOGGER.log(Level.FINE,
-							() -> "Authentication has changed, pipelining logoff and logon messages");
-					messages.add(Messages.logoff());
-					messages.add(Messages.logon(Neo4jDriver.toAuthToken(currentAuthentication)));
-				}
-				messages.add(Messages.beginTransaction(databaseName, accessMode, null, this.usedBookmarks, txType, null,
-						BoltAdapters.adaptMap(transactionMetadata), NotificationConfig.defaultConfig()));
-				return this.boltConnection.write(messages);
-			});
+		// Without an authentication, the one of the connection is known to be current
+		var previousAuthTokenStage = (currentAuthentication != null)
+				? this.boltConnection.authInfo().thenApply(AuthInfo::authToken)
+				: CompletableFuture.<AuthToken>completedStage(null);
+		this.beginPipelinedStage = previousAuthTokenStage.thenCompose(previousAuthToken -> {
+			var txType = this.autoCommit ? TransactionType.UNCONSTRAINED : TransactionType.DEFAULT;
+			var messages = new ArrayList<Message>(4);
+			if (resetNeeded) {
+				messages.add(Messages.reset());
+			}
+			if (previousAuthToken != null
+					&& !previousAuthToken.asMap().equals(Neo4jDriver.toAuthToken(currentAuthentication).asMap())) {
+				ConnectionImpl.LOGGER.log(Level.FINE,
+						() -> "Authentication has changed, pipelining logoff and logon messages");
+				messages.add(Messages.logoff());
+				messages.add(Messages.logon(Neo4jDriver.toAuthToken(currentAuthentication)));
+			}
+			messages.add(Messages.beginTransaction(databaseName, accessMode, null, this.usedBookmarks, txType, null,
+					BoltAdapters.adaptMap(transactionMetadata), NotificationConfig.defaultConfig()));
+			return this.boltConnection.write(messages);
+		});
 
 	}
 
@@ -119,12 +160,8 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		assertRunnableState();
 
 		var handler = new BasicResponseHandler();
-		var responsesFuture = this.beginPipelinedStage.thenCompose(ignored -> {
-			var messages = List.of(Messages.run(query, BoltAdapters.adaptMap(parameters)),
-					Messages.pull(-1, fetchSize));
-			return this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE);
-		})
-			.thenCompose(ignored -> handler.summaries())
+		var messages = List.of(Messages.run(query, BoltAdapters.adaptMap(parameters)), Messages.pull(-1, fetchSize));
+		var responsesFuture = writeAndFlush(handler, messages).thenCompose(ignored -> handler.summaries())
 			.thenApply(DefaultTransactionImpl::asRunAndPullResponses)
 			.toCompletableFuture();
 		var responses = execute(responsesFuture, timeout);
@@ -135,54 +172,156 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		return responses;
 	}
 
+	@Override
+	public CompletableFuture<RunAndPullResponses> runAndPullAsync(String query, Map<String, Object> parameters,
+			long request) throws SQLException {
+		assertNoException();
+		assertRunnableState();
+
+		var handler = new BasicResponseHandler();
+		var messages = List.of(Messages.run(query, BoltAdapters.adaptMap(parameters)), Messages.pull(-1, request));
+		var responsesFuture = writeAndFlush(handler, messages).thenCompose(ignored -> handler.summaries())
+			.thenApply(DefaultTransactionImpl::asRunAndPullResponses);
+		return executeAsync(responsesFuture).thenApply(responses -> {
+			if (responses.pullResponse().hasMore()) {
+				this.openResults.add(responses.runResponse());
+			}
+			this.state = State.READY;
+			return responses;
+		});
+	}
+
 	@Override
 	public DiscardResponse runAndDiscard(String query, Map<String, Object> parameters, int timeout, boolean commit)
 			throws SQLException {
 		assertNoException();
 		assertRunnableState();
 
+		if (this.deferUpdates && !commit) {
+			this.deferredRuns.add(new DeferredRun(query, Messages.run(query, BoltAdapters.adaptMap(parameters))));
+			this.state = State.READY;
+			return new DiscardResponseImpl(null);
+		}
+
 		var handler = new BasicResponseHandler();
-		var responsesFuture = this.beginPipelinedStage.thenCompose(ignored -> {
-			var messages = new ArrayList<Message>(3);
-			messages.add(Messages.run(query, BoltAdapters.adaptMap(parameters)));
-			messages.add(Messages.discard(-1, -1));
-			if (commit) {
-				messages.add(Messages.commit());
-			}
-			return this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE);
-		})
-			.thenCompose(ignored -> handler.summaries())
+		var messages = new ArrayList<Message>(3);
+		messages.add(Messages.run(query, BoltAdapters.adaptMap(parameters)));
+		messages.add(Messages.discard(-1, -1));
+		if (commit) {
+			messages.add(Messages.commit());
+		}
+		var responsesFuture = writeAndFlush(handler, messages).thenCompose(ignored -> handler.summaries())
 			.thenApply(DefaultTransactionImpl::asDiscardResponse)
 			.toCompletableFuture();
 		var response = execute(responsesFuture, timeout);
-		if (!State.COMMITTED.equals(this.state)) {
-			this.state = commit ? State.COMMITTED : State.READY;
-		}
+		finishOrReady(commit);
 		return response;
 	}
 
+	@Override
+	public void probe(int timeout) throws SQLException {
+		assertNoException();
+		assertRunnableState();
+
+		var handler = new BasicResponseHandler();
+		var messages = List.of(Messages.run("RETURN 1", BoltAdapters.adaptMap(Map.of())), Messages.discard(-1, -1));
+		var responsesFuture = writeAndFlush(handler, messages, false).thenCompose(ignored -> handler.summaries())
+			.toCompletableFuture();
+		execute(responsesFuture, timeout);
+		this.state = State.READY;
+	}
+
+	@Override
+	public List<DiscardResponse> runAndDiscardAll(String query, List<Map<String, Object>> parameters, int timeout,
+			boolean commit) throws SQLException {
+		assertNoException();
+		assertRunnableState();
+
+		var handler = new DiscardSummariesHandler();
+		var messages = new ArrayList<Message>(parameters.size() * 2 + 1);
+		for (var parameter : parameters) {
+			messages.add(Messages.run(query, BoltAdapters.adaptMap(parameter)));
+			messages.add(Messages.discard(-1, -1));
+		}
+		if (commit) {
+			messages.add(Messages.commit());
+		}
+		var responsesFuture = writeAndFlush(handler, messages).thenCompose(ignored -> handler.summaries())
+			.thenApply(summaries -> summaries.stream()
+				.map(summary -> (DiscardResponse) new DiscardResponseImpl(asResultSummary(summary.metadata())))
+				.toList())
+			.toCompletableFuture();
+		var responses = execute(responsesFuture, timeout);
+		finishOrReady(commit);
+		return responses;
+	}
+
 	@Override
 	public PullResponse pull(RunResponse runResponse, long request) throws SQLException {
+		return awaitPull(runResponse, pullAsync(runResponse, request));
+	}
+
+	@Override
+	public CompletableFuture<PullResponse> pullAsync(RunResponse runResponse, long request) throws SQLException {
 		assertNoException();
 		if (!State.READY.equals(this.state)) {
 			throw new Neo4jException(Neo4jException.withReason(
 					String.format("The requested action is not supported in %s transaction state", this.state)));
 		}
 		var handler = new BasicResponseHandler();
-		var responseFuture = this.boltConnection
-			.writeAndFlush(handler, Messages.pull(runResponse.queryId(), request), NoopObservation.INSTANCE)
-			.thenCompose(ignored -> handler.summaries())
+		var pull = Messages.pull(runResponse.queryId(), request);
+		CompletionStage<Void> written;
+		if (this.deferredRuns.isEmpty()) {
+			markRequestPending();
+			written = this.boltConnection.writeAndFlush(handler, pull, NoopObservation.INSTANCE);
+		}
+		else {
+			written = writeAndFlush(handler, List.of(pull));
+		}
+		return written.thenCompose(ignored -> handler.summaries())
 			.thenApply(summaries -> asPullResponse(runResponse.keys(), summaries.valuesList(), summaries.pullSummary()))
 			.toCompletableFuture();
-		var pullResponse = execute(responseFuture, 0);
+	}
+
+	@Override
+	public PullResponse awaitPull(RunResponse runResponse, CompletableFuture<PullResponse> pendingResponse)
+			throws SQLException {
+		var pullResponse = execute(pendingResponse, 0);
 		if (!pullResponse.hasMore()) {
 			this.openResults.remove(runResponse);
 		}
 		return pullResponse;
 	}
 
+	@Override
+	public CompletableFuture<DiscardResponse> discardAsync(RunResponse runResponse) throws SQLException {
+		assertNoException();
+		if (!State.READY.equals(this.state)) {
+			throw new Neo4jException(Neo4jException.withReason(
+					String.format("The requested action is not supported in %s transaction state", this.state)));
+		}
+		var handler = new BasicResponseHandler();
+		var discardFuture = writeAndFlush(handler, List.of(Messages.discard(runResponse.queryId(), -1)))
+			.thenCompose(ignored -> handler.summaries())
+			.thenApply(DefaultTransactionImpl::asDiscardResponse);
+		return executeAsync(discardFuture).thenApply(response -> {
+			this.openResults.remove(runResponse);
+			return response;
+		});
+	}
+
 	@Override
 	public void commit() throws SQLException {
+		execute(commit0(), 0);
+		this.openResults.clear();
+	}
+
+	@Override
+	public CompletableFuture<Void> commitAsync() throws SQLException {
+		return executeAsync(commit0()).thenRun(this.openResults::clear);
+	}
+
+	private CompletableFuture<CommitSummary> commit0() throws SQLException {
 		assertNoException();
 		assertRunnableState();
 
@@ -190,9 +329,7 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		var messages = new ArrayList<Message>(this.openResults.size() + 1);
 		appendDiscards(messages);
 		messages.add(Messages.commit());
-		var responsesFuture = this.beginPipelinedStage
-			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
-			.thenCompose(ignored -> handler.summaries())
+		return writeAndFlush(handler, messages).thenCompose(ignored -> handler.summaries())
 			.thenApply(BasicResponseHandler.Summaries::commitSummary)
 			.whenComplete((response, error) -> {
 				if (!(response == null || response.bookmark().orElse("").isBlank())) {
@@ -200,34 +337,32 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 							List.of(response.bookmark().orElse("")));
 				}
 				if (error == null) {
-					this.state = State.COMMITTED;
+					finish(State.COMMITTED);
 				}
 			})
 			.toCompletableFuture();
-		execute(responsesFuture, 0);
-		this.openResults.clear();
 	}
 
 	@Override
 	public void rollback() throws SQLException {
 		if (State.OPEN_FAILED.equals(this.state)) {
-			this.state = State.FAILED;
+			finish(State.FAILED);
 			return;
 		}
 		assertNoException();
 		assertRunnableState();
 
+		// Nothing has been sent for deferred statements, so there's nothing to undo
+		this.deferredRuns.clear();
 		var handler = new BasicResponseHandler();
 		var messages = new ArrayList<Message>(this.openResults.size() + 1);
 		appendDiscards(messages);
 		messages.add(Messages.rollback());
-		var responsesFuture = this.beginPipelinedStage
-			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
-			.thenCompose(ignored -> handler.summaries())
+		var responsesFuture = writeAndFlush(handler, messages).thenCompose(ignored -> handler.summaries())
 			.toCompletableFuture();
 
 		execute(responsesFuture, 0);
-		this.state = State.ROLLEDBACK;
+		finish(State.ROLLEDBACK);
 		this.openResults.clear();
 	}
 
@@ -245,15 +380,118 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 	public void fail(SQLException exception) throws SQLException {
 		assertRunnableState();
 		this.exception = exception;
-		this.state = this.autoCommit ? State.FAILED : State.OPEN_FAILED;
-		this.onFailedCallback.accept(this.state);
+		finish(this.autoCommit ? State.FAILED : State.OPEN_FAILED);
+	}
+
+	private void finishOrReady(boolean commit) {
+		if (State.COMMITTED.equals(this.state)) {
+			return;
+		}
+		if (commit) {
+			finish(State.COMMITTED);
+		}
+		else {
+			this.state = State.READY;
+		}
+	}
+
+	/**
+	 * Changes the state of this transaction when it has been finished or failed and
+	 * notifies the owner of this transaction.
+	 * @param newState the new state
+	 */
+	private void finish(State newState) {
+		this.state = newState;
+		this.onFinishedCallback.accept(newState);
+	}
+
+	@Override
+	public void setRequestOwner(Object owner) {
+		this.nextRequestOwner = owner;
+	}
+
+	@Override
+	public void cancel(Object owner) throws SQLException {
+		if (!this.requestPending || this.requestOwner != owner) {
+			return;
+		}
+		this.cancelled = true;
+		interrupt();
+	}
+
+	/**
+	 * Sends a RESET on the connection. The server handles it out of band: it terminates
+	 * the running query and all queued requests are answered with IGNORED, which releases
+	 * any thread waiting for them and frees the connection. Only the request that is in
+	 * flight when the RESET is sent is cancelled once it has been answered.
+	 */
+	private void interrupt() {
+		var request = this.inFlight;
+		var handler = new BasicResponseHandler();
+		this.boltConnection.writeAndFlush(handler, Messages.reset(), NoopObservation.INSTANCE)
+			.thenCompose(ignored -> handler.summaries())
+			.whenComplete((summaries, error) -> {
+				if (error != null) {
+					ConnectionImpl.LOGGER.log(Level.FINE, "Could not send reset to interrupt the current request",
+							error);
+				}
+				if (request != null) {
+					request.cancel(false);
+				}
+			});
+	}
+
+	/**
+	 * Writes and flushes the given messages after the pipelined begin stage. Any deferred
+	 * statements are sent upfront in the same flush, their responses are consumed by a
+	 * {@link DeferredRunsHandler} before being passed on to {@code handler}.
+	 * @param handler the handler for the responses to {@code messages}
+	 * @param messages the messages to send
+	 * @return a stage that completes when all messages have been written
+	 */
+	private CompletionStage<Void> writeAndFlush(ResponseHandler handler, List<Message> messages) {
+		return writeAndFlush(handler, messages, true);
+	}
+
+	private CompletionStage<Void> writeAndFlush(ResponseHandler handler, List<Message> messages,
+			boolean withDeferredRuns) {
+		ResponseHandler effectiveHandler = handler;
+		List<Message> effectiveMessages = messages;
+		if (withDeferredRuns && !this.deferredRuns.isEmpty()) {
+			effectiveMessages = new ArrayList<>(this.deferredRuns.size() * 2 + messages.size());
+			for (var deferredRun : this.deferredRuns) {
+				effectiveMessages.add(deferredRun.run());
+				effectiveMessages.add(Messages.discard(-1, -1));
+			}
+			effectiveMessages.addAll(messages);
+			effectiveHandler = new DeferredRunsHandler(handler,
+					this.deferredRuns.stream().map(DeferredRun::query).toList(), !this.flushed);
+			this.deferredRuns.clear();
+		}
+		this.flushed = true;
+		markRequestPending();
+
+		var finalHandler = effectiveHandler;
+		var finalMessages = effectiveMessages;
+		return this.beginPipelinedStage.thenCompose(
+				ignored -> this.boltConnection.writeAndFlush(finalHandler, finalMessages, NoopObservation.INSTANCE));
 	}
 
 	private <T> T execute(CompletableFuture<T> future, int timeout) throws SQLException {
+		this.inFlight = future;
 		try {
-			return (timeout > 0) ? future.get(timeout, TimeUnit.SECONDS) : future.get();
+			var result = (timeout > 0) ? future.get(timeout, TimeUnit.SECONDS) : future.get();
+			if (this.cancelled) {
+				throw cancelled();
+			}
+			return result;
+		}
+		catch (CancellationException ignored) {
+			throw cancelled();
 		}
 		catch (TimeoutException ignored) {
+			// Don't leave the query running on the server after giving up on it
+			interrupt();
 			fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
 			throw new SQLTimeoutException("The query timeout has been exceeded");
 		}
@@ -263,23 +501,94 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 			throw new Neo4jException(Neo4jException.withInternal(ex, "The thread has been interrupted."));
 		}
 		catch (ExecutionException ex) {
-			var cause = ex.getCause();
-			if (cause == null) {
-				cause = ex;
-			}
-
-			var sqlException = new Neo4jException(
-					Neo4jException.withMessageAndCause("An error occurred while handling request", cause));
+			throw asSQLException(ex);
+		}
+		finally {
+			this.inFlight = null;
+			this.requestOwner = null;
+			this.requestPending = false;
+		}
+	}
 
-			if (cause instanceof BoltFailureException) {
-				fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
+	/**
+	 * Non-blocking variant of {@link #execute(CompletableFuture, int)}: Failures are
+	 * handled the same way, but without waiting for the given stage.
+	 * @param stage the stage to execute
+	 * @param <T> the type of the result
+	 * @return a future that completes with the result of the stage or exceptionally with
+	 * a {@link SQLException}
+	 */
+	private <T> CompletableFuture<T> executeAsync(CompletionStage<T> stage) {
+		var result = new CompletableFuture<T>();
+		this.inFlight = result;
+		stage.whenComplete((value, error) -> {
+			this.inFlight = null;
+			this.requestOwner = null;
+			this.requestPending = false;
+			if (error == null && !this.cancelled) {
+				result.complete(value);
+				return;
 			}
-			else {
-				fail(new Neo4jException(GQLError.$08000.withMessage("The connection is no longer valid")));
-				this.fatalExceptionHandler.handle(this.exception, sqlException);
+			try {
+				result.completeExceptionally((error != null) ? asSQLException(error) : cancelled());
 			}
-			throw sqlException;
+			catch (SQLException ex) {
+				result.completeExceptionally(ex);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Turns the failure of a request into a {@link SQLException} and fails this
+	 * transaction. Failures that are not reported by the server invalidate the
+	 * connection, too.
+	 * @param failure the failure of a request
+	 * @return the exception to throw
+	 * @throws SQLException if this transaction cannot be failed
+	 */
+	private SQLException asSQLException(Throwable failure) throws SQLException {
+		if (this.cancelled || failure instanceof CancellationException) {
+			return cancelled();
+		}
+		var cause = failure;
+		while ((cause instanceof ExecutionException || cause instanceof CompletionException)
+				&& cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		DeferredRunException deferredRunException = null;
+		if (cause instanceof DeferredRunException deferredRunFailure) {
+			deferredRunException = deferredRunFailure;
+			cause = deferredRunFailure.getCause();
+		}
+
+		var sqlException = new Neo4jException(
+				Neo4jException.withMessageAndCause("An error occurred while handling request", cause));
+
+		if (cause instanceof BoltFailureException) {
+			fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
 		}
+		else {
+			fail(new Neo4jException(GQLError.$08000.withMessage("The connection is no longer valid")));
+			this.fatalExceptionHandler.handle(this.exception, sqlException);
+		}
+		if (deferredRunException != null) {
+			return deferredRunException.toBatchUpdateException(sqlException);
+		}
+		return sqlException;
+	}
+
+	private void markRequestPending() {
+		this.cancelled = false;
+		this.requestOwner = this.nextRequestOwner;
+		this.nextRequestOwner = null;
+		this.requestPending = true;
+	}
+
+	private SQLException cancelled() throws SQLException {
+		this.cancelled = false;
+		fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
+		return new Neo4jException(GQLError.$25N02.withMessage("The statement has been cancelled"));
 	}
 
 	private void appendDiscards(List<Message> messages) {
@@ -302,12 +611,14 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 	}
 
 	private static RunAndPullResponses asRunAndPullResponses(BasicResponseHandler.Summaries summaries) {
-		return new RunAndPullResponses(asRunResponse(summaries),
-				asPullResponse(summaries.runSummary().keys(), summaries.valuesList(), summaries.pullSummary()));
+		var runResponse = asRunResponse(summaries);
+		return new RunAndPullResponses(runResponse,
+				asPullResponse(runResponse.keys(), summaries.valuesList(), summaries.pullSummary()));
 	}
 
 	private static RunResponse asRunResponse(BasicResponseHandler.Summaries summaries) {
-		return new RunResponseImpl(summaries.runSummary().queryId(), summaries.runSummary().keys());
+		// The column names are shared by all records of the result
+		return new RunResponseImpl(summaries.runSummary().queryId(), ColumnNames.of(summaries.runSummary().keys()));
 	}
 
 	private static PullResponse asPullResponse(List<String> keys, List<List<Value>> valuesList,
@@ -316,8 +627,13 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 				asResultSummary(pullSummary.metadata()));
 	}
 
-	private static Record asRecord(List<String> keys, List<Value> values) {
-		return Record.of(keys, values.stream().map(Values::value).toArray(org.neo4j.jdbc.values.Value[]::new));
+	static Record asRecord(List<String> keys, List<Value> values) {
+		// Bolt values are thin wrappers around our own values, unwrapping them is cheap
+		var recordValues = new org.neo4j.jdbc.values.Value[values.size()];
+		for (var i = 0; i < recordValues.length; ++i) {
+			recordValues[i] = Values.value(values.get(i));
+		}
+		return Record.of(keys, recordValues);
 	}
 
 	private static ResultSummary asResultSummary(Map<String, Value> metadata) {
@@ -351,6 +667,196 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		}
 	}
 
+	/**
+	 * Collects the summaries of all discard messages of a pipeline, which the
+	 * {@link BasicResponseHandler} can't do, as it only keeps the last one.
+	 */
+	private static final class DiscardSummariesHandler implements ResponseHandler {
+
+		private final CompletableFuture<List<DiscardSummary>> summaries = new CompletableFuture<>();
+
+		private final List<DiscardSummary> discardSummaries = new ArrayList<>();
+
+		private Throwable error;
+
+		CompletionStage<List<DiscardSummary>> summaries() {
+			return this.summaries;
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			if (this.error == null) {
+				this.error = throwable;
+			}
+		}
+
+		@Override
+		public void onDiscardSummary(DiscardSummary summary) {
+			this.discardSummaries.add(summary);
+		}
+
+		@Override
+		public void onComplete() {
+			if (this.error != null) {
+				this.summaries.completeExceptionally(this.error);
+			}
+			else {
+				this.summaries.complete(List.copyOf(this.discardSummaries));
+			}
+		}
+
+	}
+
+	private record DeferredRun(String query, Message run) {
+	}
+
+	/**
+	 * Consumes the responses to deferred run and discard messages that are sent upfront
+	 * in a pipeline, passing all other responses on to the delegate. A failure of a
+	 * deferred statement is wrapped into a {@link DeferredRunException} so that it can be
+	 * attributed to the statement that caused it.
+	 */
+	private static final class DeferredRunsHandler implements ResponseHandler {
+
+		private final ResponseHandler delegate;
+
+		private final List<String> queries;
+
+		private final List<Integer> updateCounts;
+
+		private boolean awaitingBegin;
+
+		private int runs;
+
+		private boolean failed;
+
+		DeferredRunsHandler(ResponseHandler delegate, List<String> queries, boolean awaitingBegin) {
+			this.delegate = delegate;
+			this.queries = queries;
+			this.updateCounts = new ArrayList<>(queries.size());
+			this.awaitingBegin = awaitingBegin;
+		}
+
+		private boolean isDeferredResponse() {
+			return !(this.awaitingBegin || this.failed || this.updateCounts.size() == this.queries.size());
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			if (isDeferredResponse()) {
+				this.failed = true;
+				var index = this.updateCounts.size();
+				this.delegate.onError(new DeferredRunException(index, this.queries.get(index),
+						this.updateCounts.stream().mapToInt(Integer::intValue).toArray(), throwable));
+			}
+			else {
+				this.delegate.onError(throwable);
+			}
+		}
+
+		@Override
+		public void onBeginSummary(BeginSummary summary) {
+			this.awaitingBegin = false;
+			this.delegate.onBeginSummary(summary);
+		}
+
+		@Override
+		public void onRunSummary(RunSummary summary) {
+			if (isDeferredResponse() && this.runs == this.updateCounts.size()) {
+				++this.runs;
+			}
+			else {
+				this.delegate.onRunSummary(summary);
+			}
+		}
+
+		@Override
+		public void onRecord(List<Value> fields) {
+			this.delegate.onRecord(fields);
+		}
+
+		@Override
+		public void onPullSummary(PullSummary summary) {
+			this.delegate.onPullSummary(summary);
+		}
+
+		@Override
+		public void onDiscardSummary(DiscardSummary summary) {
+			if (isDeferredResponse()) {
+				this.updateCounts.add(StatementImpl.countUpdates(asResultSummary(summary.metadata()).counters()));
+			}
+			else {
+				this.delegate.onDiscardSummary(summary);
+			}
+		}
+
+		@Override
+		public void onCommitSummary(CommitSummary summary) {
+			this.delegate.onCommitSummary(summary);
+		}
+
+		@Override
+		public void onRollbackSummary(RollbackSummary summary) {
+			this.delegate.onRollbackSummary(summary);
+		}
+
+		@Override
+		public void onResetSummary(ResetSummary summary) {
+			this.delegate.onResetSummary(summary);
+		}
+
+		@Override
+		public void onLogoffSummary(LogoffSummary summary) {
+			this.delegate.onLogoffSummary(summary);
+		}
+
+		@Override
+		public void onLogonSummary(LogonSummary summary) {
+			this.delegate.onLogonSummary(summary);
+		}
+
+		@Override
+		public void onIgnored() {
+			this.delegate.onIgnored();
+		}
+
+		@Override
+		public void onComplete() {
+			this.delegate.onComplete();
+		}
+
+	}
+
+	/**
+	 * Carries the failure of a deferred statement through the response futures.
+	 */
+	private static final class DeferredRunException extends RuntimeException {
+
+		@Serial
+		private static final long serialVersionUID = -2190564468795318417L;
+
+		private final int index;
+
+		private final String query;
+
+		private final int[] updateCounts;
+
+		DeferredRunException(int index, String query, int[] updateCounts, Throwable cause) {
+			super(cause);
+			this.index = index;
+			this.query = query;
+			this.updateCounts = updateCounts;
+		}
+
+		BatchUpdateException toBatchUpdateException(SQLException sqlException) {
+			var cause = Objects.requireNonNullElse(sqlException.getCause(), sqlException);
+			return new BatchUpdateException(
+					"Deferred statement %d (`%s`) failed: %s".formatted(this.index, this.query, cause.getMessage()),
+					sqlException.getSQLState(), sqlException.getErrorCode(), this.updateCounts, sqlException);
+		}
+
+	}
+
 	record DiscardResponseImpl(ResultSummary summary) implements DiscardResponse {
 		@Override
 		public Optional<ResultSummary> resultSummary() {
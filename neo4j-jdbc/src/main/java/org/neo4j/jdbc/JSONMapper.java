@@ -18,6 +18,10 @@
  */
 package org.neo4j.jdbc;
 
+import java.io.OutputStream;
+import java.util.List;
+
+import org.neo4j.jdbc.values.Record;
 import org.neo4j.jdbc.values.Value;
 
 /**
@@ -45,6 +49,22 @@ interface JSONMapper<T> {
 	 */
 	T toJson(Value value);
 
+	/**
+	 * Writes the records supplied by {@code records} to {@code out} as a document aligned
+	 * with the results of the Query API, {@code {"data":{"fields":[…],"values":[[…]]}}},
+	 * using the same formats as {@link #toJson(Value)}. Records are written as they are
+	 * supplied, without creating any intermediate JSON objects. The stream will not be
+	 * closed.
+	 * @param fields the names of the fields of all records
+	 * @param records supplies the records to write, {@literal null} when there are no
+	 * more records
+	 * @param out the stream to write to
+	 * @return the number of records written
+	 * @throws Exception if retrieving records or writing them fails
+	 * @since 6.11.0
+	 */
+	long writeJson(List<String> fields, ThrowingSupplier<Record> records, OutputStream out) throws Exception;
+
 	/**
 	 * Converts a JSON object supported by this mapper to a Neo4j {@link Value}. A
 	 * {@literal null} JSON object or a null representation must be converted to
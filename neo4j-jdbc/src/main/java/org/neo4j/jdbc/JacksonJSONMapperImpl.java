@@ -18,12 +18,16 @@
  */
 package org.neo4j.jdbc;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.LinkedHashMap;
+import java.util.List;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -54,6 +58,7 @@ import org.neo4j.jdbc.values.NullValue;
 import org.neo4j.jdbc.values.Path;
 import org.neo4j.jdbc.values.PathValue;
 import org.neo4j.jdbc.values.PointValue;
+import org.neo4j.jdbc.values.Record;
 import org.neo4j.jdbc.values.Relationship;
 import org.neo4j.jdbc.values.RelationshipValue;
 import org.neo4j.jdbc.values.StringValue;
@@ -72,7 +77,6 @@ final class JacksonJSONMapperImpl implements JSONMapper<JsonNode> {
 
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
-	@SuppressWarnings("squid:S3776") // Has a lot of ifs, but isn't really complex
 	@Override
 	public JsonNode toJson(Value value) {
 
@@ -80,25 +84,6 @@ final class JacksonJSONMapperImpl implements JSONMapper<JsonNode> {
 		if (value instanceof BooleanValue booleanValue) {
 			return BooleanNode.valueOf(booleanValue.asBoolean());
 		}
-		else if (value instanceof BytesValue bytesValue) {
-			return TextNode.valueOf(Base64.getEncoder().encodeToString(bytesValue.asByteArray()));
-		}
-		else if (value instanceof DateTimeValue dateTimeValue) {
-			String textValue;
-			if (dateTimeValue.asZonedDateTime().getZone().normalized() instanceof ZoneOffset) {
-				textValue = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTimeValue.asOffsetDateTime());
-			}
-			else {
-				textValue = DateTimeFormatter.ISO_ZONED_DATE_TIME.format(dateTimeValue.asZonedDateTime());
-			}
-			return TextNode.valueOf(textValue);
-		}
-		else if (value instanceof DateValue dateValue) {
-			return TextNode.valueOf(DateTimeFormatter.ISO_LOCAL_DATE.format(dateValue.asObject()));
-		}
-		else if (value instanceof DurationValue durationValue) {
-			return TextNode.valueOf(durationValue.toString().replace("DURATION '", "").replace("'", ""));
-		}
 		else if (value instanceof FloatValue floatValue) {
 			return DoubleNode.valueOf(floatValue.asDouble());
 		}
@@ -108,12 +93,6 @@ final class JacksonJSONMapperImpl implements JSONMapper<JsonNode> {
 		else if (value instanceof ListValue listValue) {
 			return mapList(listValue);
 		}
-		else if (value instanceof LocalDateTimeValue localDateTimeValue) {
-			return TextNode.valueOf(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(localDateTimeValue.asObject()));
-		}
-		else if (value instanceof LocalTimeValue localTimeValue) {
-			return TextNode.valueOf(DateTimeFormatter.ISO_LOCAL_TIME.format(localTimeValue.asObject()));
-		}
 		else if (value instanceof MapValue mapValue) {
 			return mapMap(mapValue);
 		}
@@ -126,20 +105,172 @@ final class JacksonJSONMapperImpl implements JSONMapper<JsonNode> {
 		else if (value instanceof PathValue pathValue) {
 			return mapPath(pathValue.asPath());
 		}
+		else if (value instanceof RelationshipValue relationshipValue) {
+			return mapRelationship(relationshipValue.asRelationship());
+		}
+
+		return TextNode.valueOf(asText(value));
+	}
+
+	@Override
+	public long writeJson(List<String> fields, ThrowingSupplier<Record> records, OutputStream out) throws Exception {
+		long cnt = 0;
+		try (var generator = this.objectMapper.getFactory().createGenerator(out)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.writeStartObject();
+			generator.writeObjectFieldStart("data");
+			generator.writeArrayFieldStart("fields");
+			for (var field : fields) {
+				generator.writeString(field);
+			}
+			generator.writeEndArray();
+			generator.writeArrayFieldStart("values");
+			Record record;
+			while ((record = records.get()) != null) {
+				generator.writeStartArray();
+				for (var value : record.values()) {
+					write(generator, value);
+				}
+				generator.writeEndArray();
+				++cnt;
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+			generator.writeEndObject();
+		}
+		return cnt;
+	}
+
+	/**
+	 * Writes a value in the same format as {@link #toJson(Value)} without creating any
+	 * intermediate nodes.
+	 * @param generator the generator to write to
+	 * @param value the value to write
+	 * @throws IOException if writing fails
+	 */
+	@SuppressWarnings("squid:S3776") // Same as above
+	private void write(JsonGenerator generator, Value value) throws IOException {
+
+		if (value instanceof BooleanValue booleanValue) {
+			generator.writeBoolean(booleanValue.asBoolean());
+		}
+		else if (value instanceof FloatValue floatValue) {
+			generator.writeNumber(floatValue.asDouble());
+		}
+		else if (value instanceof IntegerValue integerValue) {
+			generator.writeNumber(integerValue.asLong());
+		}
+		else if (value instanceof ListValue listValue) {
+			generator.writeStartArray();
+			for (var element : listValue.values()) {
+				write(generator, element);
+			}
+			generator.writeEndArray();
+		}
+		else if (value instanceof MapValue mapValue) {
+			generator.writeStartObject();
+			for (var key : mapValue.keys()) {
+				generator.writeFieldName(key);
+				write(generator, mapValue.get(key));
+			}
+			generator.writeEndObject();
+		}
+		else if (value instanceof NodeValue nodeValue) {
+			writeNode(generator, nodeValue.asNode());
+		}
+		else if (value == null || value instanceof NullValue) {
+			generator.writeNull();
+		}
+		else if (value instanceof PathValue pathValue) {
+			var path = pathValue.asPath();
+			generator.writeStartArray();
+			writeNode(generator, path.start());
+			for (var relationship : path.relationships()) {
+				writeRelationship(generator, relationship);
+			}
+			writeNode(generator, path.end());
+			generator.writeEndArray();
+		}
+		else if (value instanceof RelationshipValue relationshipValue) {
+			writeRelationship(generator, relationshipValue.asRelationship());
+		}
+		else {
+			generator.writeString(asText(value));
+		}
+	}
+
+	private void writeNode(JsonGenerator generator, Node node) throws IOException {
+		generator.writeStartObject();
+		generator.writeStringField("elementId", node.elementId());
+		generator.writeArrayFieldStart("labels");
+		for (var label : node.labels()) {
+			generator.writeString(label);
+		}
+		generator.writeEndArray();
+		generator.writeObjectFieldStart("properties");
+		for (var key : node.keys()) {
+			generator.writeFieldName(key);
+			write(generator, node.get(key));
+		}
+		generator.writeEndObject();
+		generator.writeEndObject();
+	}
+
+	private void writeRelationship(JsonGenerator generator, Relationship relationship) throws IOException {
+		generator.writeStartObject();
+		generator.writeStringField("elementId", relationship.elementId());
+		generator.writeStringField("startNodeElementId", relationship.startNodeElementId());
+		generator.writeStringField("endNodeElementId", relationship.endNodeElementId());
+		generator.writeStringField("type", relationship.type());
+		generator.writeObjectFieldStart("properties");
+		for (var key : relationship.keys()) {
+			generator.writeFieldName(key);
+			write(generator, relationship.get(key));
+		}
+		generator.writeEndObject();
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Formats all values that are represented as JSON strings.
+	 * @param value the value to format
+	 * @return the textual representation of the value
+	 */
+	@SuppressWarnings("squid:S3776") // Has a lot of ifs, but isn't really complex
+	private String asText(Value value) {
+
+		if (value instanceof BytesValue bytesValue) {
+			return Base64.getEncoder().encodeToString(bytesValue.asByteArray());
+		}
+		else if (value instanceof DateTimeValue dateTimeValue) {
+			if (dateTimeValue.asZonedDateTime().getZone().normalized() instanceof ZoneOffset) {
+				return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTimeValue.asOffsetDateTime());
+			}
+			return DateTimeFormatter.ISO_ZONED_DATE_TIME.format(dateTimeValue.asZonedDateTime());
+		}
+		else if (value instanceof DateValue dateValue) {
+			return DateTimeFormatter.ISO_LOCAL_DATE.format(dateValue.asObject());
+		}
+		else if (value instanceof DurationValue durationValue) {
+			return durationValue.toString().replace("DURATION '", "").replace("'", "");
+		}
+		else if (value instanceof LocalDateTimeValue localDateTimeValue) {
+			return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(localDateTimeValue.asObject());
+		}
+		else if (value instanceof LocalTimeValue localTimeValue) {
+			return DateTimeFormatter.ISO_LOCAL_TIME.format(localTimeValue.asObject());
+		}
 		else if (value instanceof PointValue pointValue) {
 			var point = pointValue.asPoint();
 			var is3d = !Double.isNaN(point.z());
-			return TextNode.valueOf("SRID=" + point.srid() + ";POINT" + (is3d ? " Z " : " ") + "(" + point.x() + " "
-					+ point.y() + (is3d ? " " + point.z() + ")" : ")"));
-		}
-		else if (value instanceof RelationshipValue relationshipValue) {
-			return mapRelationship(relationshipValue.asRelationship());
+			return "SRID=" + point.srid() + ";POINT" + (is3d ? " Z " : " ") + "(" + point.x() + " " + point.y()
+					+ (is3d ? " " + point.z() + ")" : ")");
 		}
 		else if (value instanceof StringValue stringValue) {
-			return TextNode.valueOf(stringValue.asString());
+			return stringValue.asString();
 		}
 		else if (value instanceof TimeValue timeValue) {
-			return TextNode.valueOf(DateTimeFormatter.ISO_OFFSET_TIME.format(timeValue.asObject()));
+			return DateTimeFormatter.ISO_OFFSET_TIME.format(timeValue.asObject());
 		}
 
 		throw new UnsupportedOperationException(
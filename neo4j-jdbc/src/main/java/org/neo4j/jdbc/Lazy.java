@@ -18,6 +18,8 @@
  */
 package org.neo4j.jdbc;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
@@ -31,6 +33,8 @@ final class Lazy<T> {
 
 	private final ThrowingSupplier<T> supplier;
 
+	private final Lock lock = new ReentrantLock();
+
 	private volatile T resolved;
 
 	static <T> Lazy<T> of(ThrowingSupplier<T> supplier) {
@@ -49,21 +53,23 @@ final class Lazy<T> {
 
 		T result = this.resolved;
 		if (result == null) {
-			synchronized (this) {
+			this.lock.lock();
+			try {
 				result = this.resolved;
 				if (result == null) {
-					try {
-						this.resolved = this.supplier.get();
-					}
-					catch (Exception ex) {
-						if (ex instanceof RuntimeException rt) {
-							throw rt;
-						}
-						throw new RuntimeException(ex);
-					}
+					this.resolved = this.supplier.get();
 					result = this.resolved;
 				}
 			}
+			catch (Exception ex) {
+				if (ex instanceof RuntimeException rt) {
+					throw rt;
+				}
+				throw new RuntimeException(ex);
+			}
+			finally {
+				this.lock.unlock();
+			}
 		}
 		return result;
 	}
@@ -81,20 +87,27 @@ final class Lazy<T> {
 	}
 
 	/**
-	 * This method is not synchronized and must be used in a {@code synchronized} block on
-	 * this {@link Lazy}.
-	 * @return true if this instance has been resolved
+	 * {@return true if this instance has been resolved}
 	 */
 	boolean isResolved() {
 		return this.resolved != null;
 	}
 
 	/**
-	 * Forgets the resolved value. This method is not synchronized and must be used in a
-	 * {@code synchronized} block on this {@link Lazy}.
+	 * Forgets the resolved value. A resolution in progress is awaited, so that its value
+	 * is returned and forgotten, too.
+	 * @return the value that has been forgotten, {@literal null} if there wasn't any
 	 */
-	void forget() {
-		this.resolved = null;
+	T forget() {
+		this.lock.lock();
+		try {
+			var result = this.resolved;
+			this.resolved = null;
+			return result;
+		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 }
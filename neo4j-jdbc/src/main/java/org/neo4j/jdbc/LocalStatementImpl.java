@@ -22,10 +22,12 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
 import org.neo4j.jdbc.Neo4jTransaction.RunResponse;
+import org.neo4j.jdbc.values.Record;
 
 import static org.neo4j.jdbc.Neo4jException.withReason;
 
@@ -60,6 +62,11 @@ final class LocalStatementImpl extends StatementImpl {
 		throw new SQLFeatureNotSupportedException();
 	}
 
+	@Override
+	public Flow.Publisher<Record> executeQueryAsPublisher(String sql) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
 	@Override
 	public int executeUpdate(String sql) throws SQLException {
 		throw new SQLFeatureNotSupportedException();
@@ -56,6 +56,8 @@ final class MetricsCollectorImpl implements MetricsCollector {
 
 	private final Map<StatementKey, GaugeBackend> openStatements = new ConcurrentHashMap<>();
 
+	private final Map<PoolKey, GaugeBackend> connectionPools = new ConcurrentHashMap<>();
+
 	private final GaugeBackend cachedTranslations = new GaugeBackend("org.neo4j.jdbc.cached-translations",
 			"The number of cached statement translations");
 
@@ -96,6 +98,32 @@ final class MetricsCollectorImpl implements MetricsCollector {
 		}
 	}
 
+	@Override
+	public void onConnectionAcquired(ConnectionAcquiredEvent event) {
+		var uri = Events.cleanURL(event.uri()).toString();
+
+		getOrCreateTimer("org.neo4j.jdbc.pool.acquisitions", List.of(Tag.of("uri", uri)),
+				"Duration of connection acquisitions from the pool")
+			.record(event.elapsedTime());
+	}
+
+	@Override
+	public void onConnectionPoolChanged(ConnectionPoolChangedEvent event) {
+		var uri = Events.cleanURL(event.uri());
+		getOrCreatePoolGauge(uri, "active").set(event.active());
+		getOrCreatePoolGauge(uri, "idle").set(event.idle());
+		getOrCreatePoolGauge(uri, "pending").set(event.pending());
+	}
+
+	private GaugeBackend getOrCreatePoolGauge(URI uri, String state) {
+		var gauge = this.connectionPools.computeIfAbsent(new PoolKey(uri, state),
+				key -> new GaugeBackend("org.neo4j.jdbc.pool.connections",
+						"The number of pooled connections in the given state", Tag.of("uri", key.uri().toString()),
+						Tag.of("state", key.state())));
+		gauge.registerGauge(this.meterRegistry);
+		return gauge;
+	}
+
 	@Override
 	public void onStatementCreated(StatementCreatedEvent event) {
 		var gauge = this.openStatements.computeIfAbsent(
@@ -121,6 +149,29 @@ final class MetricsCollectorImpl implements MetricsCollector {
 		this.cachedTranslations.set(event.cacheSize());
 	}
 
+	@Override
+	public void onTranslationCacheLookup(TranslationCacheLookupEvent event) {
+		this.cachedTranslations.registerGauge(this.meterRegistry);
+		this.cachedTranslations.set(event.cacheSize());
+
+		var lookups = "org.neo4j.jdbc.cached-translations.lookups";
+		if (event.hit()) {
+			getOrCreateCounter(lookups, List.of(Tag.of("result", "hit")),
+					"The total number of translations served from the cache")
+				.increment();
+		}
+		else {
+			getOrCreateCounter(lookups, List.of(Tag.of("result", "miss")),
+					"The total number of translations not found in the cache")
+				.increment();
+		}
+		if (event.evictions() > 0) {
+			getOrCreateCounter("org.neo4j.jdbc.cached-translations.evictions", List.of(),
+					"The total number of translations evicted from the cache")
+				.increment(event.evictions());
+		}
+	}
+
 	@Override
 	public void onExecutionEnded(ExecutionEndedEvent event) {
 		var uri = Events.cleanURL(event.uri()).toString();
@@ -140,8 +191,7 @@ final class MetricsCollectorImpl implements MetricsCollector {
 		return counter;
 	}
 
-	private Timer getOrCreateTimer(String name, List<Tag> tags,
-			@SuppressWarnings("SameParameterValue") String description) {
+	private Timer getOrCreateTimer(String name, List<Tag> tags, String description) {
 		var timer = this.meterRegistry.find(name).tags(tags).timer();
 		if (timer == null) {
 			timer = Timer.builder(name).description(description).tags(tags).register(this.meterRegistry);
@@ -152,6 +202,9 @@ final class MetricsCollectorImpl implements MetricsCollector {
 	public record StatementKey(URI uri, Class<? extends Statement> type) {
 	}
 
+	public record PoolKey(URI uri, String state) {
+	}
+
 	public record GaugeBackend(String name, String description, AtomicInteger counter, List<Tag> tags) {
 
 		GaugeBackend(String name, String description, Tag... tags) {
@@ -81,7 +81,10 @@ public sealed interface Neo4jConnection extends Connection, Neo4jMetadataWriter
 	int getNetworkTimeout() throws SQLException;
 
 	/**
-	 * Flushes the SQL to Cypher translation cache.
+	 * Flushes the SQL to Cypher translation cache. The cache and the translators are shared
+	 * by all connections that have been opened by the same driver instance with the same
+	 * configuration, so flushing them on one connection flushes them for all of these
+	 * connections.
 	 */
 	void flushTranslationCache();
 
@@ -275,4 +275,21 @@ public final class Neo4jDataSource implements Neo4jDataSourceExtensions {
 		this.connectionProperties.setProperty(name, value);
 	}
 
+	@Override
+	public boolean isPooled() {
+		return Boolean.parseBoolean(this.connectionProperties.getProperty(Neo4jDriver.PROPERTY_POOL_ENABLED));
+	}
+
+	@Override
+	public void setPooled(boolean pooled) {
+		this.connectionProperties.setProperty(Neo4jDriver.PROPERTY_POOL_ENABLED, Boolean.toString(pooled));
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if (DriverManager.getDriver(getUrl()) instanceof Neo4jDriver driver) {
+			driver.close();
+		}
+	}
+
 }
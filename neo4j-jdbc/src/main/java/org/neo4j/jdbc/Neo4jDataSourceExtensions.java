@@ -18,6 +18,8 @@
  */
 package org.neo4j.jdbc;
 
+import java.sql.SQLException;
+
 import javax.sql.DataSource;
 
 import org.neo4j.jdbc.tracing.Neo4jTracer;
@@ -27,7 +29,7 @@ import org.neo4j.jdbc.tracing.Neo4jTracer;
  *
  * @author Michael J. Simons
  */
-public sealed interface Neo4jDataSourceExtensions extends DataSource permits Neo4jDataSource {
+public sealed interface Neo4jDataSourceExtensions extends DataSource, AutoCloseable permits Neo4jDataSource {
 
 	/**
 	 * Returns the name of the database to use.
@@ -117,6 +119,34 @@ public sealed interface Neo4jDataSourceExtensions extends DataSource permits Neo
 	 */
 	void setConnectionProperty(String name, String value);
 
+	/**
+	 * Returns whether Bolt connections are pooled.
+	 * @return {@literal true} if Bolt connections are pooled
+	 * @since 6.11.0
+	 */
+	boolean isPooled();
+
+	/**
+	 * Enables or disables pooling of Bolt connections. When enabled, closing a connection
+	 * retrieved from this data source returns the underlying network connection into a
+	 * pool, from which subsequent calls to {@link #getConnection()} will be served. The
+	 * pool can be further configured with the {@literal pool.*} connection properties,
+	 * see {@link Neo4jDriver#PROPERTY_POOL_MAX_SIZE} and related properties.
+	 * @param pooled {@literal true} to enable pooling of Bolt connections
+	 * @since 6.11.0
+	 */
+	void setPooled(boolean pooled);
+
+	/**
+	 * Closes the connection pools of the driver this data source retrieves its
+	 * connections from, see {@link Neo4jDriverExtensions#close()}. The data source can
+	 * still be used afterwards.
+	 * @throws SQLException if the driver cannot be determined
+	 * @since 6.11.0
+	 */
+	@Override
+	void close() throws SQLException;
+
 	/**
 	 * Configures a {@link Neo4jTracer tracer} to be used with this datasource. When using
 	 * a non-null value both the execution of queries and the iteration of result-sets
@@ -33,6 +33,8 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -48,8 +50,17 @@ import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -59,15 +70,18 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import io.github.cdimascio.dotenv.Dotenv;
+import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.AuthToken;
 import org.neo4j.bolt.connection.AuthTokens;
 import org.neo4j.bolt.connection.BoltConnection;
 import org.neo4j.bolt.connection.BoltConnectionProvider;
 import org.neo4j.bolt.connection.BoltConnectionProviderFactory;
 import org.neo4j.bolt.connection.BoltProtocolVersion;
+import org.neo4j.bolt.connection.BoltServerAddress;
 import org.neo4j.bolt.connection.NotificationConfig;
 import org.neo4j.bolt.connection.SecurityPlan;
 import org.neo4j.bolt.connection.SecurityPlans;
+import org.neo4j.bolt.connection.values.Value;
 import org.neo4j.jdbc.BoltConnectionObservations.NoopObservation;
 import org.neo4j.jdbc.Neo4jException.GQLError;
 import org.neo4j.jdbc.authn.spi.Authentication;
@@ -204,6 +218,14 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	 */
 	public static final String PROPERTY_SQL_TRANSLATION_CACHING_ENABLED = "cacheSQLTranslations";
 
+	/**
+	 * The maximum number of translations cached when translation caching is
+	 * {@link #PROPERTY_SQL_TRANSLATION_CACHING_ENABLED enabled}. The cache is shared
+	 * between all connections with the same configuration. Defaults to 1024.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_SQL_TRANSLATION_CACHE_SIZE = "cacheSQLTranslations.size";
+
 	/**
 	 * This is an alternative to the automatic configuration of translator factories and
 	 * can be applied to load a single translator. This is helpful in scenarios in which
@@ -218,6 +240,96 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	 */
 	public static final String PROPERTY_REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
 
+	/**
+	 * The number of parameter sets of a batch that are executed together. When batched
+	 * statements are {@link #PROPERTY_REWRITE_BATCHED_STATEMENTS rewritten}, this is the
+	 * number of rows per {@code UNWIND}; otherwise, it is the number of statements
+	 * pipelined into one transaction. Defaults to {@literal 0}, which executes rewritten
+	 * batches as a single statement and all other batches one statement at a time.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_BATCH_CHUNK_SIZE = "batch.chunkSize";
+
+	/**
+	 * Set this to {@literal true} to defer updates executed in explicit transactions
+	 * until their transaction is committed or a result is needed from the server, so that
+	 * they are sent together instead of one round trip per statement. The update counts
+	 * of deferred statements are not known and therefore reported as {@literal 0};
+	 * failures are reported as {@link java.sql.BatchUpdateException} on the statement
+	 * that triggered the flush. Defaults to {@literal false}.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_DEFER_UPDATES = "deferUpdates";
+
+	/**
+	 * Set this to {@literal true} to enable client side routing towards a Neo4j cluster.
+	 * The host in the URL is then only used to fetch the routing table of the database,
+	 * which is cached for the time to live reported by the cluster. Write transactions go
+	 * to the leader, read-only transactions (see
+	 * {@link java.sql.Connection#setReadOnly(boolean)}) go to the reader with the fewest
+	 * connections opened by this driver. Only supported for Bolt. Defaults to
+	 * {@literal false}, which sends all transactions to the host in the URL and leaves
+	 * routing to the server.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_ROUTING = "routing";
+
+	/**
+	 * The number of rows a {@link java.sql.ResultSet#TYPE_SCROLL_INSENSITIVE scrollable}
+	 * result set keeps on the heap. All further rows are stored in a compact binary
+	 * format in a temporary file, which is deleted when the result set is closed.
+	 * Defaults to {@literal 1000}.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_SCROLLABLE_RESULT_SET_ROWS_ON_HEAP = "scrollableResultSet.rowsOnHeap";
+
+	/**
+	 * The maximum number of bytes a binary stream or a {@link java.sql.Blob} parameter
+	 * may contain. Streams with a known length are rejected before they are read, all
+	 * others as soon as they exceed the limit. Defaults to {@literal 0}, which means no
+	 * limit.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_MAX_BINARY_PARAMETER_SIZE = "maxBinaryParameterSize";
+
+	/**
+	 * The maximum number of characters a character stream or a {@link java.sql.Clob}
+	 * parameter may contain. Streams with a known length are rejected before they are
+	 * read, all others as soon as they exceed the limit. Defaults to {@literal 0}, which
+	 * means no limit.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_MAX_CHARACTER_PARAMETER_SIZE = "maxCharacterParameterSize";
+
+	/**
+	 * The time to live in milliseconds of entries in the schema catalog, that is, the
+	 * results of
+	 * {@link java.sql.DatabaseMetaData#getTables(String, String, String, String[])} and
+	 * {@link java.sql.DatabaseMetaData#getColumns(String, String, String, String)}. A
+	 * positive value shares the catalog between all connections to the same database with
+	 * the same configuration. Defaults to {@literal 0}, which means that each metadata
+	 * instance caches tables on its own, without expiring them.
+	 * {@link Neo4jDatabaseMetaData#flush()} invalidates the catalog in any case.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_SCHEMA_CATALOG_TTL = "schemaCatalog.ttl";
+
+	/**
+	 * An optional file the shared schema catalog is persisted to, so that it survives
+	 * restarts of the application. Only used together with
+	 * {@link #PROPERTY_SCHEMA_CATALOG_TTL}.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_SCHEMA_CATALOG_FILE = "schemaCatalog.file";
+
+	/**
+	 * Whether the shared schema catalog is invalidated after a transaction has been
+	 * committed that changed indexes or constraints, or that added or removed labels,
+	 * relationship types or property keys. Defaults to {@literal true}.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_SCHEMA_CATALOG_INVALIDATE_ON_SCHEMA_CHANGES = "schemaCatalog.invalidateOnSchemaChanges";
+
 	/**
 	 * An optional property that is an alternative to {@literal "neo4j+s"}. It can be used
 	 * for example to programmatically enable the full SSL chain. Possible values are
@@ -255,6 +367,60 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	 */
 	public static final String PROPERTY_TRY_TCP_FAST_OPEN = "tryTcpFastOpen";
 
+	/**
+	 * The name of the {@link #getPropertyInfo(String, Properties) property} used to
+	 * enable pooling of Bolt connections. When enabled, the driver keeps idle connections
+	 * per target and authentication and hands them out to new JDBC connections instead of
+	 * going through a full handshake each time. Defaults to {@literal false}.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_POOL_ENABLED = "pool.enabled";
+
+	/**
+	 * The maximum number of Bolt connections, idle and in use, that a pool keeps per
+	 * target and authentication. Defaults to {@literal 16}.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_POOL_MAX_SIZE = "pool.maxSize";
+
+	/**
+	 * The maximum time in milliseconds to wait for a pooled connection to become
+	 * available. Defaults to {@literal 60000}.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_POOL_ACQUISITION_TIMEOUT = "pool.acquisitionTimeout";
+
+	/**
+	 * The time in milliseconds after which idle pooled connections are evicted. Defaults
+	 * to {@literal 600000}.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_POOL_IDLE_TIMEOUT = "pool.idleTimeout";
+
+	/**
+	 * The maximum lifetime in milliseconds of a pooled connection, after which it won't
+	 * be reused. Defaults to {@literal 3600000}.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_POOL_MAX_LIFETIME = "pool.maxLifetime";
+
+	/**
+	 * The maximum number of batches a result set requests ahead of its consumer. When
+	 * greater than {@literal 0}, the next batch of records is pulled in the background
+	 * while the current batch is still being processed. Defaults to {@literal 0}, which
+	 * disables read-ahead.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_PREFETCH_BATCHES = "prefetch.batches";
+
+	/**
+	 * The number of unconsumed records in the current batch at which the next batch is
+	 * requested when read-ahead is enabled via {@link #PROPERTY_PREFETCH_BATCHES}.
+	 * Defaults to half of the fetch size.
+	 * @since 6.11.0
+	 */
+	public static final String PROPERTY_PREFETCH_WATERMARK = "prefetch.watermark";
+
 	private static final String URL_REGEX = "^jdbc:neo4j(?:\\+(?<transport>s(?:sc)?)?)?(?::(?<protocol>https?))?://(?<host>[^:/?]+):?(?<port>\\d+)?/?(?<database>[^?]+)?\\??(?<urlParams>\\S+)?$";
 
 	/**
@@ -429,6 +595,39 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 
 	private final Map<DriverConfig, BookmarkManager> bookmarkManagers = new ConcurrentHashMap<>();
 
+	private final Map<PoolKey, BoltConnectionPool> connectionPools = new ConcurrentHashMap<>();
+
+	private final Map<PoolKey, BoltConnectionRouter> routers = new ConcurrentHashMap<>();
+
+	private final Map<DriverConfig, TranslationCache> translationCaches = new ConcurrentHashMap<>();
+
+	/**
+	 * Translators shared by all connections with the same configuration if caching of
+	 * translations is enabled, so that the state they cache, such as the columns of
+	 * labels, is shared, too.
+	 */
+	private final Map<DriverConfig, Lazy<List<Translator>>> sharedTranslators = new ConcurrentHashMap<>();
+
+	private final Map<DriverConfig, SchemaCatalog> schemaCatalogs = new ConcurrentHashMap<>();
+
+	/**
+	 * Runs the parts of {@link #connectAsync(String, Properties)} that might block. The
+	 * number of threads is bounded, further connects are queued until a thread is free,
+	 * idle threads are stopped after a while.
+	 */
+	private final Lazy<ExecutorService> connectExecutor = Lazy.of(() -> {
+		var threadNumber = new AtomicInteger();
+		var maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		var executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					var thread = new Thread(runnable, "neo4j-jdbc-connect-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	});
+
 	private final Map<String, Object> transactionMetadata = new ConcurrentHashMap<>();
 
 	private final Set<DriverListener> listeners = new HashSet<>();
@@ -463,15 +662,156 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 			throws SQLException {
 
 		var driverConfig = DriverConfig.of(url, info);
-
 		var securityPlan = parseSSLParams(driverConfig.sslProperties);
+		return connect0(driverConfig, securityPlan,
+				determineAuthenticationSupplier(authenticationSupplier, driverConfig), null);
+	}
+
+	@Override
+	public CompletionStage<Neo4jConnection> connectAsync(String url, Properties info) {
+
+		try {
+			var driverConfig = DriverConfig.of(url, info);
+			var securityPlan = parseSSLParams(driverConfig.sslProperties);
+			var authenticationSupplier = determineAuthenticationSupplier(null, driverConfig);
+			var executor = this.connectExecutor.resolve();
+
+			var routing = Boolean.parseBoolean(driverConfig.rawConfig().getOrDefault(PROPERTY_ROUTING, "false"));
+			if (routing || driverConfig.pool() != null) {
+				// Both the pool and the router might need to wait for other connections
+				return CompletableFuture.supplyAsync(() -> {
+					try {
+						return connect0(driverConfig, securityPlan, authenticationSupplier, null);
+					}
+					catch (SQLException | RuntimeException ex) {
+						throw asConnectionFailure(ex);
+					}
+				}, executor);
+			}
+
+			// The connection of the new JDBC connection is established with the first
+			// authentication, which must not be retrieved again
+			var initialAuthentication = new AtomicReference<Authentication>();
+			Supplier<Authentication> finalAuthenticationSupplier = () -> Objects
+				.requireNonNullElseGet(initialAuthentication.getAndSet(null), authenticationSupplier);
+
+			// Retrieving the authentication might block, too. Continuing on our own
+			// executor afterwards so that neither the rest of the setup nor any dependent
+			// stage runs on an I/O thread
+			return CompletableFuture.supplyAsync(authenticationSupplier, executor).thenCompose(authentication -> {
+				initialAuthentication.set(authentication);
+				return establishBoltConnectionAsync(driverConfig, driverConfig.host(), driverConfig.port(),
+						driverConfig.agent(), driverConfig.timeout(), securityPlan, toAuthToken(authentication));
+			}).handleAsync((boltConnection, failure) -> {
+				if (failure != null) {
+					throw asConnectionFailure(failure);
+				}
+				try {
+					return connect0(driverConfig, securityPlan, finalAuthenticationSupplier, boltConnection);
+				}
+				catch (SQLException | RuntimeException ex) {
+					boltConnection.close();
+					throw asConnectionFailure(ex);
+				}
+			}, executor);
+		}
+		catch (SQLException | RuntimeException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+	}
+
+	/**
+	 * Turns any failure while connecting asynchronously into an {@link SQLException} as
+	 * the synchronous API would throw.
+	 * @param failure the failure that occurred while connecting
+	 * @return an exception to complete the stage with
+	 */
+	private static CompletionException asConnectionFailure(Throwable failure) {
+		var cause = failure;
+		while ((cause instanceof CompletionException || cause instanceof UncheckedSQLException)
+				&& cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		if (cause instanceof SQLException) {
+			return new CompletionException(cause);
+		}
+		return new CompletionException(new Neo4jException(
+				GQLError.$08000.causedBy(cause).withMessage("Could not establish a connection to the database")));
+	}
+
+	@Override
+	public void close() {
+		this.connectionPools.values().removeIf(pool -> {
+			pool.close();
+			return true;
+		});
+		this.routers.values().removeIf(router -> {
+			router.close();
+			return true;
+		});
+		this.translationCaches.values().removeIf(cache -> {
+			cache.flush();
+			return true;
+		});
+		this.sharedTranslators.values().removeIf(translators -> {
+			if (translators.isResolved()) {
+				translators.resolve().forEach(Translator::flushCache);
+			}
+			return true;
+		});
+		this.schemaCatalogs.values().forEach(SchemaCatalog::persist);
+	}
+
+	/**
+	 * Creates a new connection.
+	 * @param driverConfig the configuration of the connection
+	 * @param securityPlan the security plan derived from the configuration
+	 * @param finalAuthenticationSupplier the supplier of the authentication to use
+	 * @param establishedConnection an optional Bolt connection that has already been
+	 * established, only used when neither pooling nor routing is enabled
+	 * @return a new connection
+	 * @throws SQLException if the connection cannot be created
+	 */
+	private ConnectionImpl connect0(DriverConfig driverConfig, SecurityPlan securityPlan,
+			Supplier<Authentication> finalAuthenticationSupplier, BoltConnection establishedConnection)
+			throws SQLException {
 
 		var databaseName = driverConfig.database;
 		var userAgent = driverConfig.agent;
 		var connectTimeoutMillis = driverConfig.timeout;
 
 		var enableSqlTranslation = driverConfig.enableSQLTranslation;
-		var enableTranslationCaching = driverConfig.enableTranslationCaching;
+		var translationCache = driverConfig.enableTranslationCaching ? getOrCreateTranslationCache(driverConfig) : null;
+		var batchChunkSize = Integer.parseInt(driverConfig.rawConfig().getOrDefault(PROPERTY_BATCH_CHUNK_SIZE, "0"));
+		if (batchChunkSize < 0) {
+			throw new Neo4jException(GQLError.$22N02.withTemplatedMessage(PROPERTY_BATCH_CHUNK_SIZE, batchChunkSize));
+		}
+		var deferUpdates = Boolean.parseBoolean(driverConfig.rawConfig().getOrDefault(PROPERTY_DEFER_UPDATES, "false"));
+		var routing = Boolean.parseBoolean(driverConfig.rawConfig().getOrDefault(PROPERTY_ROUTING, "false"));
+		var scrollableRowsOnHeap = Integer.parseInt(driverConfig.rawConfig()
+			.getOrDefault(PROPERTY_SCROLLABLE_RESULT_SET_ROWS_ON_HEAP,
+					String.valueOf(ResultSetImpl.DEFAULT_SCROLLABLE_ROWS_ON_HEAP)));
+		if (scrollableRowsOnHeap < 0) {
+			throw new Neo4jException(GQLError.$22N02.withTemplatedMessage(PROPERTY_SCROLLABLE_RESULT_SET_ROWS_ON_HEAP,
+					scrollableRowsOnHeap));
+		}
+		var maxBinaryParameterSize = Integer
+			.parseInt(driverConfig.rawConfig().getOrDefault(PROPERTY_MAX_BINARY_PARAMETER_SIZE, "0"));
+		if (maxBinaryParameterSize < 0) {
+			throw new Neo4jException(
+					GQLError.$22N02.withTemplatedMessage(PROPERTY_MAX_BINARY_PARAMETER_SIZE, maxBinaryParameterSize));
+		}
+		var maxCharacterParameterSize = Integer
+			.parseInt(driverConfig.rawConfig().getOrDefault(PROPERTY_MAX_CHARACTER_PARAMETER_SIZE, "0"));
+		if (maxCharacterParameterSize < 0) {
+			throw new Neo4jException(GQLError.$22N02.withTemplatedMessage(PROPERTY_MAX_CHARACTER_PARAMETER_SIZE,
+					maxCharacterParameterSize));
+		}
+		var parameterStreams = new ParameterStreams(maxBinaryParameterSize, maxCharacterParameterSize);
+		var schemaCatalog = getOrCreateSchemaCatalog(driverConfig);
+		if (routing && !"neo4j".equals(driverConfig.protocol())) {
+			throw new Neo4jException(GQLError.$22N11.withMessage("Routing is only supported for Bolt connections"));
+		}
 		var rewriteBatchedStatements = driverConfig.rewriteBatchedStatements;
 		var rewritePlaceholders = driverConfig.rewritePlaceholders;
 		var translatorFactory = driverConfig.rawConfig.get(PROPERTY_TRANSLATOR_FACTORY);
@@ -483,7 +823,6 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 			translatorFactoriesSupplier = () -> getSqlTranslatorFactory(translatorFactory);
 		}
 
-		var finalAuthenticationSupplier = determineAuthenticationSupplier(authenticationSupplier, driverConfig);
 		var targetUrl = driverConfig.toUrl();
 
 		var connectionListeners = new ArrayList<ConnectionListener>();
@@ -493,16 +832,52 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 			}
 		});
 
-		var connection = new ConnectionImpl(targetUrl, finalAuthenticationSupplier,
-				authentication -> establishBoltConnection(driverConfig, userAgent, connectTimeoutMillis, securityPlan,
-						toAuthToken(authentication)),
-				getSqlTranslatorSupplier(enableSqlTranslation, driverConfig.rawConfig(), translatorFactoriesSupplier),
-				enableSqlTranslation, enableTranslationCaching, rewriteBatchedStatements, rewritePlaceholders,
-				bookmarkManager, this.transactionMetadata, driverConfig.relationshipSampleSize(), databaseName,
-				aborted -> {
-					var event = new ConnectionClosedEvent(targetUrl, aborted);
-					Events.notify(this.listeners, listener -> listener.onConnectionClosed(event));
-				}, connectionListeners);
+		Function<Authentication, BoltConnection> boltConnectionSupplier;
+		Function<Authentication, BoltConnection> readerConnectionSupplier = null;
+		if (routing) {
+			boltConnectionSupplier = authentication -> routeBoltConnection(driverConfig, AccessMode.WRITE, userAgent,
+					connectTimeoutMillis, securityPlan, toAuthToken(authentication));
+			readerConnectionSupplier = authentication -> routeBoltConnection(driverConfig, AccessMode.READ, userAgent,
+					connectTimeoutMillis, securityPlan, toAuthToken(authentication));
+		}
+		else if (driverConfig.pool() == null) {
+			var initialConnection = new AtomicReference<>(establishedConnection);
+			boltConnectionSupplier = authentication -> {
+				var boltConnection = initialConnection.getAndSet(null);
+				return (boltConnection != null) ? boltConnection
+						: establishBoltConnection(driverConfig, driverConfig.host(), driverConfig.port(), userAgent,
+								connectTimeoutMillis, securityPlan, toAuthToken(authentication));
+			};
+		}
+		else {
+			boltConnectionSupplier = authentication -> acquireBoltConnection(driverConfig, targetUrl,
+					driverConfig.host(), driverConfig.port(), userAgent, connectTimeoutMillis, securityPlan,
+					toAuthToken(authentication));
+		}
+
+		var newTranslators = getSqlTranslatorSupplier(enableSqlTranslation, driverConfig.rawConfig(),
+				translatorFactoriesSupplier);
+		Supplier<List<Translator>> translators = newTranslators;
+		if (translationCache != null) {
+			var sharedTranslatorsOfConfig = this.sharedTranslators.computeIfAbsent(driverConfig,
+					k -> Lazy.of(newTranslators::get));
+			translators = sharedTranslatorsOfConfig::resolve;
+		}
+
+		ConnectionImpl connection;
+		try {
+			connection = new ConnectionImpl(targetUrl, finalAuthenticationSupplier, boltConnectionSupplier,
+					readerConnectionSupplier, translators, enableSqlTranslation, translationCache,
+					rewriteBatchedStatements, rewritePlaceholders, bookmarkManager, this.transactionMetadata,
+					driverConfig.relationshipSampleSize(), driverConfig.readAhead(), batchChunkSize, deferUpdates,
+					scrollableRowsOnHeap, parameterStreams, schemaCatalog, databaseName, aborted -> {
+						var event = new ConnectionClosedEvent(targetUrl, aborted);
+						Events.notify(this.listeners, listener -> listener.onConnectionClosed(event));
+					}, connectionListeners);
+		}
+		catch (UncheckedSQLException ex) {
+			throw ex.getCause();
+		}
 
 		synchronized (this) {
 			if (this.tracer != null) {
@@ -514,6 +889,40 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 		return connection;
 	}
 
+	private TranslationCache getOrCreateTranslationCache(DriverConfig driverConfig) throws SQLException {
+		var cache = this.translationCaches.get(driverConfig);
+		if (cache != null) {
+			return cache;
+		}
+		var capacity = Integer
+			.parseInt(driverConfig.rawConfig().getOrDefault(PROPERTY_SQL_TRANSLATION_CACHE_SIZE, "1024"));
+		if (capacity < 1) {
+			throw new Neo4jException(
+					GQLError.$22N02.withMessage("The size of the translation cache must be at least 1"));
+		}
+		return this.translationCaches.computeIfAbsent(driverConfig, k -> new TranslationCache(capacity));
+	}
+
+	private SchemaCatalog getOrCreateSchemaCatalog(DriverConfig driverConfig) throws SQLException {
+		var catalog = this.schemaCatalogs.get(driverConfig);
+		if (catalog != null) {
+			return catalog;
+		}
+		var ttl = Long.parseLong(driverConfig.rawConfig().getOrDefault(PROPERTY_SCHEMA_CATALOG_TTL, "0"));
+		if (ttl < 0) {
+			throw new Neo4jException(GQLError.$22N02.withTemplatedMessage(PROPERTY_SCHEMA_CATALOG_TTL, ttl));
+		}
+		if (ttl == 0) {
+			return null;
+		}
+		var fileName = driverConfig.rawConfig().get(PROPERTY_SCHEMA_CATALOG_FILE);
+		var file = (fileName != null && !fileName.isBlank()) ? Path.of(fileName) : null;
+		var invalidateOnSchemaChanges = Boolean.parseBoolean(
+				driverConfig.rawConfig().getOrDefault(PROPERTY_SCHEMA_CATALOG_INVALIDATE_ON_SCHEMA_CHANGES, "true"));
+		return this.schemaCatalogs.computeIfAbsent(driverConfig,
+				k -> new SchemaCatalog(Duration.ofMillis(ttl), file, invalidateOnSchemaChanges, Clock.systemUTC()));
+	}
+
 	Supplier<Authentication> determineAuthenticationSupplier(Supplier<Authentication> authenticationSupplier,
 			DriverConfig driverConfig) {
 
@@ -578,11 +987,20 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 		throw new IllegalArgumentException("Unsupported authentication type %s".formatted(authentication));
 	}
 
-	private BoltConnection establishBoltConnection(DriverConfig driverConfig, String userAgent,
-			int connectTimeoutMillis, SecurityPlan securityPlan, AuthToken authToken) {
+	private BoltConnection establishBoltConnection(DriverConfig driverConfig, String host, Integer port,
+			String userAgent, int connectTimeoutMillis, SecurityPlan securityPlan, AuthToken authToken) {
+
+		return establishBoltConnectionAsync(driverConfig, host, port, userAgent, connectTimeoutMillis, securityPlan,
+				authToken)
+			.toCompletableFuture()
+			.join();
+	}
+
+	private CompletionStage<BoltConnection> establishBoltConnectionAsync(DriverConfig driverConfig, String host,
+			Integer port, String userAgent, int connectTimeoutMillis, SecurityPlan securityPlan, AuthToken authToken) {
 
 		var targetUri = URI
-			.create("%s://%s%s".formatted(driverConfig.protocol(), driverConfig.host(), driverConfig.formattedPort()));
+			.create("%s://%s%s".formatted(driverConfig.protocol(), host, (port != null) ? (":" + port) : ""));
 
 		Map<String, Object> additionalOptions;
 		if (!driverConfig.tryTcpFastOpen()) {
@@ -602,12 +1020,63 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 					.orElseThrow(() -> new RuntimeException(
 							"Failed to load a connection provider supporting target %s".formatted(targetUri))));
 
-		return connectionProvider
-			.connect(targetUri, null, BoltAdapters.newAgent(ProductVersion.getValue()), userAgent, connectTimeoutMillis,
-					connectTimeoutMillis, securityPlan, authToken, MIN_BOLT_VERSION, NotificationConfig.defaultConfig(),
-					NoopObservation.INSTANCE)
-			.toCompletableFuture()
-			.join();
+		return connectionProvider.connect(targetUri, null, BoltAdapters.newAgent(ProductVersion.getValue()), userAgent,
+				connectTimeoutMillis, connectTimeoutMillis, securityPlan, authToken, MIN_BOLT_VERSION,
+				NotificationConfig.defaultConfig(), NoopObservation.INSTANCE);
+	}
+
+	private BoltConnection acquireBoltConnection(DriverConfig driverConfig, URI targetUrl, String host, Integer port,
+			String userAgent, int connectTimeoutMillis, SecurityPlan securityPlan, AuthToken authToken) {
+
+		var key = new PoolKey(driverConfig.protocol(), host, port, driverConfig.sslProperties(), userAgent,
+				connectTimeoutMillis, driverConfig.tryTcpFastOpen(), driverConfig.pool(),
+				Map.copyOf(authToken.asMap()));
+		this.connectionPools.values().removeIf(BoltConnectionPool::closeIfUnused);
+		while (true) {
+			var pool = this.connectionPools.computeIfAbsent(key,
+					k -> new BoltConnectionPool(targetUrl, () -> establishBoltConnection(driverConfig, host, port,
+							userAgent, connectTimeoutMillis, securityPlan, authToken), k.config(), this.listeners));
+			try {
+				return pool.acquire();
+			}
+			catch (Neo4jException ex) {
+				// The pool has been closed after we have looked it up, retry with a new
+				// one
+				if (pool.isClosed()) {
+					this.connectionPools.remove(key, pool);
+					continue;
+				}
+				throw new UncheckedSQLException(ex);
+			}
+		}
+	}
+
+	private BoltConnection routeBoltConnection(DriverConfig driverConfig, AccessMode accessMode, String userAgent,
+			int connectTimeoutMillis, SecurityPlan securityPlan, AuthToken authToken) {
+
+		var key = new PoolKey(driverConfig.protocol(), driverConfig.host(), driverConfig.port(),
+				driverConfig.sslProperties(), userAgent, connectTimeoutMillis, driverConfig.tryTcpFastOpen(),
+				driverConfig.pool(), Map.copyOf(authToken.asMap()));
+		var seedRouter = new BoltServerAddress(driverConfig.host(),
+				Objects.requireNonNullElse(driverConfig.port(), BoltServerAddress.DEFAULT_PORT));
+		// Routers are kept per authentication, too, forget about those that are not used
+		// anymore, but keep the routing table of the one needed right now
+		this.routers.entrySet().removeIf(entry -> !entry.getKey().equals(key) && entry.getValue().isUnused());
+		var router = this.routers.computeIfAbsent(key, k -> new BoltConnectionRouter(seedRouter, address -> {
+			if (driverConfig.pool() == null) {
+				return establishBoltConnection(driverConfig, address.host(), address.port(), userAgent,
+						connectTimeoutMillis, securityPlan, authToken);
+			}
+			var memberUrl = URI.create("%s://%s:%d".formatted(driverConfig.protocol(), address.host(), address.port()));
+			return acquireBoltConnection(driverConfig, memberUrl, address.host(), address.port(), userAgent,
+					connectTimeoutMillis, securityPlan, authToken);
+		}));
+		try {
+			return router.acquire(driverConfig.database(), accessMode);
+		}
+		catch (Neo4jException ex) {
+			throw new UncheckedSQLException(ex);
+		}
 	}
 
 	static String getDefaultUserAgent() {
@@ -1146,13 +1615,16 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	 * @param tryTcpFastOpen set to true to try opening TCP connection using TCP Fast open
 	 * (requires netty-transport-native-epoll, netty-transport-native-kqueue or
 	 * netty-transport-native-io_uring (Netty 4.2+ only)) on the classpath
+	 * @param pool the configuration of the connection pool, {@literal null} if pooling is
+	 * disabled
+	 * @param readAhead the read-ahead configuration for result sets
 	 * @param rawConfig Unprocessed configuration options
 	 */
 	record DriverConfig(String host, String protocol, Integer port, String database, AuthScheme authScheme, String user,
 			String password, String authRealm, String agent, int timeout, boolean enableSQLTranslation,
 			boolean enableTranslationCaching, boolean rewriteBatchedStatements, boolean rewritePlaceholders,
 			boolean useBookmarks, int relationshipSampleSize, SSLProperties sslProperties, boolean tryTcpFastOpen,
-			Map<String, String> rawConfig) {
+			BoltConnectionPool.Config pool, Cursor.ReadAhead readAhead, Map<String, String> rawConfig) {
 
 		private static final Set<String> DRIVER_SPECIFIC_PROPERTIES = Set.of(PROPERTY_HOST, PROPERTY_PORT,
 				PROPERTY_DATABASE, PROPERTY_AUTH_SCHEME, PROPERTY_USER, PROPERTY_PASSWORD, PROPERTY_AUTH_REALM,
@@ -1260,10 +1732,44 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 				raw.put(PROPERTY_TRY_TCP_FAST_OPEN, hlp);
 			}
 
+			var pool = parsePoolConfig(config);
+			var prefetchBatches = Integer.parseInt(config.getOrDefault(PROPERTY_PREFETCH_BATCHES, "0"));
+			if (prefetchBatches < 0) {
+				throw new Neo4jException(
+						GQLError.$22N02.withTemplatedMessage(PROPERTY_PREFETCH_BATCHES, prefetchBatches));
+			}
+			var readAhead = (prefetchBatches == 0) ? Cursor.ReadAhead.DISABLED : new Cursor.ReadAhead(prefetchBatches,
+					Integer.parseInt(config.getOrDefault(PROPERTY_PREFETCH_WATERMARK, "-1")));
+
 			return new DriverConfig(host, protocol, port, databaseName, authScheme, user, password, authRealm,
 					userAgent, connectionTimeoutMillis, automaticSqlTranslation, enableTranslationCaching,
 					rewriteBatchedStatements, rewritePlaceholders, useBookmarks, relationshipSampleSize, sslProperties,
-					tryTcpFastOpen, raw);
+					tryTcpFastOpen, pool, readAhead, raw);
+		}
+
+		private static BoltConnectionPool.Config parsePoolConfig(Map<String, String> config) throws SQLException {
+			if (!Boolean.parseBoolean(config.getOrDefault(PROPERTY_POOL_ENABLED, "false"))) {
+				return null;
+			}
+
+			var maxSize = Integer.parseInt(config.getOrDefault(PROPERTY_POOL_MAX_SIZE, "16"));
+			if (maxSize < 1) {
+				throw new Neo4jException(
+						GQLError.$22N02.withMessage("The maximum size of the connection pool must be at least 1"));
+			}
+			return new BoltConnectionPool.Config(maxSize,
+					parsePositiveDuration(config, PROPERTY_POOL_ACQUISITION_TIMEOUT, "60000"),
+					parsePositiveDuration(config, PROPERTY_POOL_IDLE_TIMEOUT, "600000"),
+					parsePositiveDuration(config, PROPERTY_POOL_MAX_LIFETIME, "3600000"));
+		}
+
+		private static Duration parsePositiveDuration(Map<String, String> config, String name, String defaultValue)
+				throws SQLException {
+			var millis = Long.parseLong(config.getOrDefault(name, defaultValue));
+			if (millis < 0) {
+				throw new Neo4jException(GQLError.$22N02.withTemplatedMessage(name, millis));
+			}
+			return Duration.ofMillis(millis);
 		}
 
 		private static AuthScheme authScheme(String scheme) throws IllegalArgumentException {
@@ -1308,6 +1814,24 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 
 	}
 
+	/**
+	 * Identifies a pool of Bolt connections. All parameters that have an influence on how
+	 * the underlying connection is established must be part of the key.
+	 *
+	 * @param protocol the underlying protocol in use
+	 * @param host host name
+	 * @param port port
+	 * @param sslProperties ssl properties
+	 * @param agent the user agent
+	 * @param timeout the connect timeout
+	 * @param tryTcpFastOpen whether TCP fast open is used
+	 * @param config the configuration of the pool itself
+	 * @param authToken the authentication used on all connections in the pool
+	 */
+	private record PoolKey(String protocol, String host, Integer port, SSLProperties sslProperties, String agent,
+			int timeout, boolean tryTcpFastOpen, BoltConnectionPool.Config config, Map<String, Value> authToken) {
+	}
+
 	/**
 	 * Configuration step for creating new {@link Neo4jDriver driver instances} in a
 	 * fluent way.
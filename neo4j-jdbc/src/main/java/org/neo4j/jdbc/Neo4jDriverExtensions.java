@@ -23,6 +23,7 @@ import java.sql.Driver;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 import org.neo4j.jdbc.authn.spi.Authentication;
@@ -35,7 +36,7 @@ import org.neo4j.jdbc.tracing.Neo4jTracer;
  * @author Michael J. Simons
  * @since 6.0.0
  */
-public sealed interface Neo4jDriverExtensions extends Driver, Neo4jMetadataWriter permits Neo4jDriver {
+public sealed interface Neo4jDriverExtensions extends Driver, Neo4jMetadataWriter, AutoCloseable permits Neo4jDriver {
 
 	/**
 	 * Retrieves the bookmarks currently known to this driver.
@@ -149,4 +150,34 @@ public sealed interface Neo4jDriverExtensions extends Driver, Neo4jMetadataWrite
 	Connection connect(String url, Properties info, Supplier<Authentication> authenticationSupplier)
 			throws SQLException;
 
+	/**
+	 * Creates a connection from this driver without blocking the calling thread. The
+	 * handshake and authentication with the server happen asynchronously, so that many
+	 * connections can be opened concurrently, for example to warm up a connection pool.
+	 * Connections that are acquired from the driver's own pool or through client side
+	 * routing are created on a separate thread, as acquiring them might need to wait for
+	 * other connections. Dependent stages never run on the driver's I/O threads.
+	 * @param url the URL of the database to which to connect
+	 * @param info a list of arbitrary string tag/value pairs as connection arguments.
+	 * Normally at least a "user" and "password" property should be included.
+	 * @return a stage that completes with a new connection, or exceptionally with an
+	 * {@link SQLException} if a database access error occurs or the url is {@code null}
+	 * @since 6.11.0
+	 */
+	CompletionStage<Neo4jConnection> connectAsync(String url, Properties info);
+
+	/**
+	 * Closes all connection pools of this driver together with their idle connections and
+	 * closes all routers, so that their routing tables are forgotten. Connections that are
+	 * still in use are closed when they are returned, routed connections are replaced
+	 * before their next transaction. Shared translators and their translation caches are
+	 * released. Pending changes to schema catalogs are written right away. As
+	 * there is usually only one instance of the driver, registered with the
+	 * {@link java.sql.DriverManager}, the driver stays usable after being closed and
+	 * creates new pools as needed.
+	 * @since 6.11.0
+	 */
+	@Override
+	void close();
+
 }
@@ -27,6 +27,10 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.concurrent.Flow;
+
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Vector;
 
 /**
  * A Neo4j specific extension of a {@link PreparedStatement}. It may be referred to for
@@ -211,4 +215,41 @@ public sealed interface Neo4jPreparedStatement extends PreparedStatement permits
 	 */
 	void setArray(String parameterName, Array value) throws SQLException;
 
+	/**
+	 * Sets the designated parameter to the given {@link Vector}. The vector is passed on
+	 * to the database as is, without copying its elements. Together with
+	 * {@link #addBatch()} and {@link #executeBatch()} and the
+	 * {@code rewriteBatchedStatements} option this is the most efficient way to store
+	 * large amounts of vectors, such as embeddings, preferably created via
+	 * {@link Vector#wrap(float[])}.
+	 * @param parameterIndex the first parameter is 1, the second is 2, ...
+	 * @param vector the parameter value, {@literal null} sets the parameter to
+	 * {@literal NULL}
+	 * @throws SQLException when a connection or database error occurs
+	 * @since 6.11.0
+	 */
+	void setVector(int parameterIndex, Vector vector) throws SQLException;
+
+	/**
+	 * Named-parameter version of {@link #setVector(int, Vector)}.
+	 * @param parameterName the parameter name
+	 * @param vector the parameter value, {@literal null} sets the parameter to
+	 * {@literal NULL}
+	 * @throws SQLException when a connection or database error occurs
+	 * @since 6.11.0
+	 * @see #setVector(int, Vector)
+	 */
+	void setVector(String parameterName, Vector vector) throws SQLException;
+
+	/**
+	 * Publisher based variant of {@link #executeQuery()}, see
+	 * {@link Neo4jStatement#executeQueryAsPublisher(String)} for details. The parameters
+	 * are bound when this method is called.
+	 * @return a publisher of the records of the query
+	 * @throws SQLException if the statement is closed or the parameters could not be
+	 * processed
+	 * @since 6.11.0
+	 */
+	Flow.Publisher<Record> executeQueryAsPublisher() throws SQLException;
+
 }
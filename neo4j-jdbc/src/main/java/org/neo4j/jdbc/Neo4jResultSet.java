@@ -18,7 +18,9 @@
  */
 package org.neo4j.jdbc;
 
+import java.io.OutputStream;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 
 import org.neo4j.jdbc.events.ResultSetListener;
 import org.neo4j.jdbc.values.Record;
@@ -46,4 +48,24 @@ public sealed interface Neo4jResultSet extends ResultSet permits ResultSetImpl {
 	 */
 	Record getCurrentRecord();
 
+	/**
+	 * Writes all remaining rows of this result set to {@code out} as a JSON document
+	 * aligned with the results of the Neo4j Query API:
+	 * {@code {"data":{"fields":["a","b"],"values":[[1,"x"],[2,"y"]]}}}. Values are
+	 * formatted the same way as when retrieving them via {@link #getObject(int, Class)
+	 * getObject(i, JsonNode.class)}. Rows are written while they are pulled from the
+	 * database, batch by batch as configured by the fetch size, and no intermediate JSON
+	 * objects are created, so that the memory needed is independent of the number of
+	 * rows. The result set is positioned after the last row afterward, the stream is
+	 * flushed but not closed.
+	 * <p>
+	 * This method requires Jackson Databind on the class path.
+	 * @param out the stream to write to
+	 * @return the number of rows written
+	 * @throws SQLException if the result set is closed, Jackson Databind is not available
+	 * or retrieving or writing the rows fails
+	 * @since 6.11.0
+	 */
+	long writeJson(OutputStream out) throws SQLException;
+
 }
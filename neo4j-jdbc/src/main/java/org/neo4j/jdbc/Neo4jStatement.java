@@ -18,9 +18,12 @@
  */
 package org.neo4j.jdbc;
 
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.Flow;
 
 import org.neo4j.jdbc.events.StatementListener;
+import org.neo4j.jdbc.values.Record;
 
 /**
  * A Neo4j specific extension of a {@link java.sql.Statement}. It may be referred to for
@@ -44,4 +47,24 @@ public sealed interface Neo4jStatement extends Statement, Neo4jMetadataWriter pe
 	 */
 	void addListener(StatementListener statementListener);
 
+	/**
+	 * Prepares the given query for execution and returns a publisher of its records,
+	 * without blocking any thread while waiting for the server. The query is run when the
+	 * subscriber requests records for the first time. Each request of {@code n} records
+	 * is sent as a pull of {@code n} records to the server, so that the subscriber
+	 * controls how many records are in flight. Cancelling the subscription discards all
+	 * records that have not been pulled yet. Signals are emitted from the threads of the
+	 * underlying network connection, so subscribers must not block.
+	 * <p>
+	 * The publisher accepts only one subscriber, and the statement must not be used for
+	 * other executions until the subscription has been completed or cancelled. The
+	 * {@link #setMaxRows(int) maximum number of rows} is honoured.
+	 * @param sql the query to execute, will be translated if SQL to Cypher translation is
+	 * enabled
+	 * @return a publisher of the records of the query
+	 * @throws SQLException if the statement is closed or the query could not be processed
+	 * @since 6.11.0
+	 */
+	Flow.Publisher<Record> executeQueryAsPublisher(String sql) throws SQLException;
+
 }
@@ -22,6 +22,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.neo4j.bolt.connection.SummaryCounters;
 import org.neo4j.jdbc.values.Record;
@@ -42,14 +43,116 @@ interface Neo4jTransaction {
 	DiscardResponse runAndDiscard(String query, Map<String, Object> parameters, int timeout, boolean commit)
 			throws SQLException;
 
+	/**
+	 * Runs a trivial query to check that the server is still reachable. Other than
+	 * {@link #runAndDiscard(String, Map, int, boolean)}, the query is never deferred and
+	 * deferred statements are not sent along with it.
+	 * @param timeout the timeout in seconds
+	 * @throws SQLException if the query fails or does not complete in time
+	 * @since 6.11.0
+	 */
+	void probe(int timeout) throws SQLException;
+
+	/**
+	 * Runs the same query once for each set of parameters and discards all results. All
+	 * run and discard messages are pipelined and sent with a single flush.
+	 * @param query the query to run
+	 * @param parameters one set of parameters per run
+	 * @param timeout the timeout in seconds for all runs together
+	 * @param commit whether to commit the transaction after the last run
+	 * @return one response per set of parameters, in order
+	 * @throws SQLException if any of the runs fails
+	 * @since 6.11.0
+	 */
+	List<DiscardResponse> runAndDiscardAll(String query, List<Map<String, Object>> parameters, int timeout,
+			boolean commit) throws SQLException;
+
 	PullResponse pull(RunResponse runResponse, long request) throws SQLException;
 
+	/**
+	 * Sends a pull request without waiting for its response. The response must be
+	 * retrieved with {@link #awaitPull(RunResponse, CompletableFuture)}, so that errors
+	 * are handled the same way as for {@link #pull(RunResponse, long)}.
+	 * @param runResponse the response of the run message the records belong to
+	 * @param request the number of records to request
+	 * @return a future response
+	 * @throws SQLException if the transaction is not in a state that allows pulling
+	 * @since 6.11.0
+	 */
+	CompletableFuture<PullResponse> pullAsync(RunResponse runResponse, long request) throws SQLException;
+
+	/**
+	 * Waits for a response of a pull request sent with
+	 * {@link #pullAsync(RunResponse, long)}.
+	 * @param runResponse the response of the run message the records belong to
+	 * @param pendingResponse the future response
+	 * @return the response
+	 * @throws SQLException if pulling failed
+	 * @since 6.11.0
+	 */
+	PullResponse awaitPull(RunResponse runResponse, CompletableFuture<PullResponse> pendingResponse)
+			throws SQLException;
+
+	/**
+	 * Sends a run message together with a pull request without waiting for their
+	 * responses. Failures are handled like those of
+	 * {@link #runAndPull(String, Map, int, int)}, the returned future completes
+	 * exceptionally with the resulting {@link SQLException}.
+	 * @param query the query to run
+	 * @param parameters the parameters of the query
+	 * @param request the number of records to request, {@literal -1} for all
+	 * @return a future response
+	 * @throws SQLException if the transaction is not in a state that allows running
+	 * queries
+	 * @since 6.11.0
+	 */
+	CompletableFuture<RunAndPullResponses> runAndPullAsync(String query, Map<String, Object> parameters, long request)
+			throws SQLException;
+
+	/**
+	 * Discards the remaining records of an open result without waiting for the response.
+	 * @param runResponse the response of the run message the records belong to
+	 * @return a future response
+	 * @throws SQLException if the transaction is not in a state that allows discarding
+	 * @since 6.11.0
+	 */
+	CompletableFuture<DiscardResponse> discardAsync(RunResponse runResponse) throws SQLException;
+
 	void commit() throws SQLException;
 
+	/**
+	 * Commits this transaction without waiting for the response. Results that are still
+	 * open are discarded.
+	 * @return a future that completes when the transaction has been committed
+	 * @throws SQLException if the transaction is not in a state that allows committing
+	 * @since 6.11.0
+	 */
+	CompletableFuture<Void> commitAsync() throws SQLException;
+
 	void rollback() throws SQLException;
 
 	void fail(SQLException exception) throws SQLException;
 
+	/**
+	 * Assigns the next request sent by this transaction to the given owner. Statements
+	 * sharing an explicit transaction use this so that cancelling one of them does not
+	 * affect a request of another one.
+	 * @param owner the owner of the next request, usually a statement
+	 * @since 6.11.0
+	 */
+	void setRequestOwner(Object owner);
+
+	/**
+	 * Cancels the request that is currently in flight, if any and if it is owned by the
+	 * given owner. The thread waiting for the request will receive an exception and the
+	 * transaction will be failed afterwards.
+	 * @param owner the owner of the request to cancel
+	 * @throws SQLException if the cancellation cannot be requested
+	 * @since 6.11.0
+	 * @see #setRequestOwner(Object)
+	 */
+	void cancel(Object owner) throws SQLException;
+
 	boolean isAutoCommit();
 
 	default boolean isRunnable() {
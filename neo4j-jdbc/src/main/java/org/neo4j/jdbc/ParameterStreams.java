@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.neo4j.jdbc.Neo4jException.GQLError;
+
+/**
+ * Reads binary and character streams handed to the driver as parameters. The Bolt
+ * protocol requires the size of a value upfront, so a stream cannot be sent in pieces.
+ * This class makes sure that a stream is read exactly once into an array of the final
+ * size whenever the length is known, without any intermediate buffers, and that
+ * parameters larger than the configured maximum sizes are rejected before they are fully
+ * read.
+ *
+ * @author Michael J. Simons
+ * @param maxBinarySize the maximum number of bytes of a binary parameter, {@literal 0}
+ * for no limit
+ * @param maxCharacterSize the maximum number of characters of a character parameter,
+ * {@literal 0} for no limit
+ * @since 6.11.0
+ */
+record ParameterStreams(int maxBinarySize, int maxCharacterSize) {
+
+	/**
+	 * Parameter streams without any limit other than the maximum size of an array.
+	 */
+	static final ParameterStreams UNLIMITED = new ParameterStreams(0, 0);
+
+	/**
+	 * Some VMs reserve header words in an array, this is the same limit as used in
+	 * {@link InputStream}.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private static final int CHUNK_SIZE = 8192;
+
+	ParameterStreams {
+		if (maxBinarySize < 0) {
+			throw new IllegalArgumentException("The maximum size of binary parameters must not be negative");
+		}
+		if (maxCharacterSize < 0) {
+			throw new IllegalArgumentException("The maximum size of character parameters must not be negative");
+		}
+	}
+
+	/**
+	 * Reads a binary stream. The stream will be closed afterward.
+	 * @param parameterName the name of the parameter, used in error messages
+	 * @param inputStream the stream to read
+	 * @param length the number of bytes to read, a negative value reads the whole stream
+	 * @return the bytes read
+	 * @throws SQLException if the stream cannot be read or if it is larger than the
+	 * configured maximum size
+	 */
+	byte[] readBytes(String parameterName, InputStream inputStream, int length) throws SQLException {
+		return readBytes(parameterName, inputStream, length, effectiveLimit(this.maxBinarySize), "bytes");
+	}
+
+	/**
+	 * Reads a stream of ASCII characters. The stream will be closed afterward.
+	 * @param parameterName the name of the parameter, used in error messages
+	 * @param inputStream the stream to read
+	 * @param length the number of characters to read, a negative value reads the whole
+	 * stream
+	 * @return the characters read
+	 * @throws SQLException if the stream cannot be read or if it is larger than the
+	 * configured maximum size
+	 */
+	String readAscii(String parameterName, InputStream inputStream, int length) throws SQLException {
+		// One byte per character, so that the character limit applies to the bytes
+		var bytes = readBytes(parameterName, inputStream, length, effectiveLimit(this.maxCharacterSize), "characters");
+		return new String(bytes, StatementImpl.DEFAULT_ASCII_CHARSET_FOR_INCOMING_STREAM);
+	}
+
+	/**
+	 * Reads a character stream. The reader will be closed afterward.
+	 * @param parameterName the name of the parameter, used in error messages
+	 * @param reader the reader to read
+	 * @param length the number of characters to read, a negative value reads the whole
+	 * stream
+	 * @return the characters read
+	 * @throws SQLException if the stream cannot be read or if it is larger than the
+	 * configured maximum size
+	 */
+	String readString(String parameterName, Reader reader, int length) throws SQLException {
+		var limit = effectiveLimit(this.maxCharacterSize);
+		try (var in = Objects.requireNonNull(reader)) {
+			if (length >= 0) {
+				assertWithinLimit(parameterName, "characters", length, limit);
+				var chars = new char[length];
+				var read = 0;
+				int n;
+				while (read < length && (n = in.read(chars, read, length - read)) != -1) {
+					read += n;
+				}
+				return new String(chars, 0, read);
+			}
+			var result = new StringBuilder();
+			var chars = new char[CHUNK_SIZE];
+			int n;
+			while ((n = in.read(chars)) != -1) {
+				assertWithinLimit(parameterName, "characters", (long) result.length() + n, limit);
+				result.append(chars, 0, n);
+			}
+			return result.toString();
+		}
+		catch (IOException ex) {
+			throw new Neo4jException(Neo4jException.withInternal(ex));
+		}
+	}
+
+	private static byte[] readBytes(String parameterName, InputStream inputStream, int length, int limit, String unit)
+			throws SQLException {
+		try (var in = Objects.requireNonNull(inputStream)) {
+			if (length >= 0) {
+				assertWithinLimit(parameterName, unit, length, limit);
+				var bytes = new byte[length];
+				var read = in.readNBytes(bytes, 0, length);
+				return (read != length) ? Arrays.copyOf(bytes, read) : bytes;
+			}
+			// Reading one more byte than allowed is the cheapest way to find out whether
+			// the stream exceeds the limit
+			var bytes = in.readNBytes((limit != MAX_ARRAY_SIZE) ? limit + 1 : limit);
+			assertWithinLimit(parameterName, unit, bytes.length, limit);
+			if (bytes.length == MAX_ARRAY_SIZE && in.read() != -1) {
+				throw tooLarge(parameterName, unit, limit);
+			}
+			return bytes;
+		}
+		catch (IOException ex) {
+			throw new Neo4jException(Neo4jException.withInternal(ex));
+		}
+	}
+
+	private static int effectiveLimit(int maxSize) {
+		return (maxSize == 0) ? MAX_ARRAY_SIZE : Math.min(maxSize, MAX_ARRAY_SIZE);
+	}
+
+	private static void assertWithinLimit(String parameterName, String unit, long size, int limit) throws SQLException {
+		if (size > limit) {
+			throw tooLarge(parameterName, unit, limit);
+		}
+	}
+
+	private static SQLException tooLarge(String parameterName, String unit, int limit) {
+		return new Neo4jException(GQLError.$22000
+			.withMessage("Parameter %s exceeds the maximum size of %d %s".formatted(parameterName, limit, unit)));
+	}
+
+}
@@ -18,7 +18,6 @@
  */
 package org.neo4j.jdbc;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
@@ -61,23 +60,28 @@ import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.TimeZone;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
 import org.neo4j.jdbc.Neo4jException.GQLError;
+import org.neo4j.jdbc.values.Record;
 import org.neo4j.jdbc.values.Type;
 import org.neo4j.jdbc.values.Value;
 import org.neo4j.jdbc.values.ValueException;
 import org.neo4j.jdbc.values.Values;
+import org.neo4j.jdbc.values.Vector;
 
 import static org.neo4j.jdbc.Neo4jException.withInternal;
 import static org.neo4j.jdbc.Neo4jException.withReason;
@@ -94,6 +98,13 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	private static final Pattern SQL_PLACEHOLDER_PATTERN = Pattern
 		.compile("\\?(?=(?:[^\"']*[\"'][^\"']*[\"'])*[^\"']*$)");
 
+	/**
+	 * The maximum number of chunks of a rewritten batch that are adapted and sent with a
+	 * single flush. The next chunks are only sent once the previous ones have been
+	 * executed, so that only a bounded part of a huge batch is held as Bolt values, too.
+	 */
+	static final int MAX_PIPELINED_CHUNKS = 8;
+
 	// We did not consider using concurrent datastructures as the `PreparedStatement` is
 	// usually not treated as thread-safe
 	private final Deque<Map<String, Object>> parameters = new ArrayDeque<>();
@@ -189,6 +200,18 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 		throw newIllegalMethodInvocation();
 	}
 
+	@Override
+	public final Flow.Publisher<Record> executeQueryAsPublisher(String sql) throws SQLException {
+		throw newIllegalMethodInvocation();
+	}
+
+	@Override
+	public Flow.Publisher<Record> executeQueryAsPublisher() throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Executing query as publisher");
+		assertIsOpen();
+		return super.executeQueryAsPublisher0(this.sql, getCurrentBatch());
+	}
+
 	@Override
 	public final boolean execute(String sql) throws SQLException {
 		throw newIllegalMethodInvocation();
@@ -246,8 +269,34 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 			processedSql = "UNWIND $__parameters AS __parameter " + processedSql;
 			LOGGER.log(Level.INFO, "Rewrite batch statements is in effect, statement {0} has been rewritten into {1}",
 					new Object[] { this.sql, processedSql });
-			result = new int[] { super.executeUpdate0(processedSql, false, Map.of("__parameters", validParameters),
-					this.autoGeneratedKeys) };
+			var chunkSize = getBatchChunkSize();
+			if (chunkSize == 0 || validParameters.size() <= chunkSize
+					|| this.autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS) {
+				result = new int[] { super.executeUpdate0(processedSql, false, Map.of("__parameters", validParameters),
+						this.autoGeneratedKeys) };
+			}
+			else {
+				var updateCount = 0;
+				for (var window : chunk(chunk(validParameters, chunkSize), MAX_PIPELINED_CHUNKS)) {
+					var chunks = new ArrayList<Map<String, Object>>(window.size());
+					for (var chunk : window) {
+						chunks.add(Map.of("__parameters", chunk));
+					}
+					updateCount += Arrays.stream(super.executeUpdates0(processedSql, chunks)).sum();
+				}
+				result = new int[] { updateCount };
+			}
+		}
+		else if (getBatchChunkSize() > 0 && this.autoGeneratedKeys != Statement.RETURN_GENERATED_KEYS) {
+			result = new int[this.parameters.size()];
+			Arrays.fill(result, SUCCESS_NO_INFO);
+			var validParameters = this.parameters.stream().filter(Predicate.not(Map::isEmpty)).toList();
+			int i = 0;
+			for (var chunk : chunk(validParameters, getBatchChunkSize())) {
+				var updateCounts = super.executeUpdates0(processedSql, chunk);
+				System.arraycopy(updateCounts, 0, result, i, updateCounts.length);
+				i += updateCounts.length;
+			}
 		}
 		else {
 			result = new int[this.parameters.size()];
@@ -265,6 +314,14 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 		return result;
 	}
 
+	private static <T> List<List<T>> chunk(List<T> values, int chunkSize) {
+		var chunks = new ArrayList<List<T>>((values.size() + chunkSize - 1) / chunkSize);
+		for (int i = 0; i < values.size(); i += chunkSize) {
+			chunks.add(values.subList(i, Math.min(i + chunkSize, values.size())));
+		}
+		return chunks;
+	}
+
 	@Override
 	public void clearBatch() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Clearing batch");
@@ -487,14 +544,7 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	}
 
 	final void setAsciiStream0(String parameterName, InputStream inputStream, int length) throws SQLException {
-		byte[] bytes;
-		try (var in = Objects.requireNonNull(inputStream)) {
-			bytes = in.readNBytes(length);
-		}
-		catch (IOException ex) {
-			throw new Neo4jException(withInternal(ex));
-		}
-		setParameter(parameterName, Values.value(new String(bytes, DEFAULT_ASCII_CHARSET_FOR_INCOMING_STREAM)));
+		setParameter(parameterName, Values.value(getParameterStreams().readAscii(parameterName, inputStream, length)));
 	}
 
 	@Override
@@ -512,14 +562,7 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	}
 
 	final void setBinaryStream0(String parameterName, InputStream inputStream, int length) throws SQLException {
-		byte[] bytes;
-		try (var in = Objects.requireNonNull(inputStream)) {
-			bytes = in.readNBytes(length);
-		}
-		catch (IOException ex) {
-			throw new Neo4jException(withInternal(ex));
-		}
-		setParameter(parameterName, Values.value(bytes));
+		setParameter(parameterName, Values.value(getParameterStreams().readBytes(parameterName, inputStream, length)));
 	}
 
 	@Override
@@ -803,15 +846,7 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	}
 
 	final void setCharacterStream0(String parameterName, Reader reader, int length) throws SQLException {
-		var charBuffer = new char[length];
-		int lengthRead;
-		try (var in = Objects.requireNonNull(reader)) {
-			lengthRead = in.read(charBuffer, 0, length);
-		}
-		catch (IOException ex) {
-			throw new Neo4jException(withInternal(ex));
-		}
-		setParameter(parameterName, Values.value((lengthRead != -1) ? new String(charBuffer, 0, lengthRead) : ""));
+		setParameter(parameterName, Values.value(getParameterStreams().readString(parameterName, reader, length)));
 	}
 
 	@Override
@@ -821,12 +856,26 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 
 	@Override
 	public void setBlob(int parameterIndex, Blob x) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		assertIsOpen();
+		assertValidParameterIndex(parameterIndex);
+		setBlob0(computeParameterName(parameterIndex), x);
+	}
+
+	final void setBlob0(String parameterName, Blob blob) throws SQLException {
+		Objects.requireNonNull(blob);
+		setBinaryStream0(parameterName, blob.getBinaryStream(), getLengthAsInt(blob.length()));
 	}
 
 	@Override
 	public void setClob(int parameterIndex, Clob x) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		assertIsOpen();
+		assertValidParameterIndex(parameterIndex);
+		setClob0(computeParameterName(parameterIndex), x);
+	}
+
+	final void setClob0(String parameterName, Clob clob) throws SQLException {
+		Objects.requireNonNull(clob);
+		setCharacterStream0(parameterName, clob.getCharacterStream(), getLengthAsInt(clob.length()));
 	}
 
 	@Override
@@ -843,6 +892,20 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 		setArray0(parameterName, x);
 	}
 
+	@Override
+	public void setVector(int parameterIndex, Vector vector) throws SQLException {
+		assertIsOpen();
+		assertValidParameterIndex(parameterIndex);
+		setParameter(computeParameterName(parameterIndex), (vector != null) ? vector.asValue() : Values.NULL);
+	}
+
+	@Override
+	public void setVector(String parameterName, Vector vector) throws SQLException {
+		assertIsOpen();
+		Objects.requireNonNull(parameterName);
+		setParameter(parameterName, (vector != null) ? vector.asValue() : Values.NULL);
+	}
+
 	private void setArray0(String parameterName, Array x) throws SQLException {
 		if (x == null) {
 			setParameter(parameterName, Values.NULL);
@@ -978,22 +1041,22 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 
 	@Override
 	public void setNClob(int parameterIndex, NClob value) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setClob(parameterIndex, value);
 	}
 
 	@Override
 	public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setCharacterStream(parameterIndex, reader, length);
 	}
 
 	@Override
 	public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setBinaryStream(parameterIndex, inputStream, length);
 	}
 
 	@Override
 	public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setCharacterStream(parameterIndex, reader, length);
 	}
 
 	@Override
@@ -1055,17 +1118,17 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 
 	@Override
 	public void setClob(int parameterIndex, Reader reader) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setCharacterStream(parameterIndex, reader);
 	}
 
 	@Override
 	public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setBinaryStream(parameterIndex, inputStream);
 	}
 
 	@Override
 	public void setNClob(int parameterIndex, Reader reader) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		setCharacterStream(parameterIndex, reader);
 	}
 
 	SQLException newIllegalMethodInvocation() {
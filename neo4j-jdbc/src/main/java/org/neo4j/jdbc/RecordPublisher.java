@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.jdbc.Neo4jException.GQLError;
+import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
+import org.neo4j.jdbc.Neo4jTransaction.RunResponse;
+import org.neo4j.jdbc.values.Record;
+
+import static org.neo4j.jdbc.Neo4jException.withCause;
+
+/**
+ * A {@link Flow.Publisher} of the records of a single query. The query is run when the
+ * subscriber signals demand for the first time, and each demand of {@code n} records is
+ * sent as {@code PULL n} to the server, together with all demand signalled while the
+ * previous request was in flight. Cancelling the subscription discards the remaining
+ * records on the server. No thread waits for a response: Records are emitted from the
+ * thread that receives them, so subscribers must not block in their signal methods.
+ * <p>
+ * The publisher accepts exactly one subscriber. The transaction is acquired together with
+ * the first request, an auto-commit transaction is committed before
+ * {@link Flow.Subscriber#onComplete()} is signalled or after the subscription has been
+ * cancelled. When the query fails or the subscriber signals an invalid demand, the
+ * remaining records are discarded and the transaction is failed before
+ * {@link Flow.Subscriber#onError(Throwable)} is signalled.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class RecordPublisher implements Flow.Publisher<Record> {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.statement");
+
+	private final ThrowingSupplier<Neo4jTransaction> transactionSupplier;
+
+	private final String query;
+
+	private final Map<String, Object> parameters;
+
+	private final long maxRows;
+
+	private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+	/**
+	 * Creates a new publisher.
+	 * @param transactionSupplier the supplier of the transaction to run the query in
+	 * @param query the query to run
+	 * @param parameters the parameters of the query
+	 * @param maxRows the maximum number of records to publish, {@literal 0} for all
+	 */
+	RecordPublisher(ThrowingSupplier<Neo4jTransaction> transactionSupplier, String query,
+			Map<String, Object> parameters, long maxRows) {
+		this.transactionSupplier = Objects.requireNonNull(transactionSupplier);
+		this.query = Objects.requireNonNull(query);
+		this.parameters = Objects.requireNonNull(parameters);
+		this.maxRows = maxRows;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super Record> subscriber) {
+		Objects.requireNonNull(subscriber);
+		if (!this.subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(CancelledSubscription.INSTANCE);
+			subscriber.onError(new Neo4jException(
+					GQLError.$22N11.withTemplatedMessage("A record publisher can only be subscribed to once")));
+			return;
+		}
+		subscriber.onSubscribe(new RecordSubscription(subscriber));
+	}
+
+	/**
+	 * All interactions with the transaction are serialized: only one request is in flight
+	 * at any time, and the next one is only sent when the previous one has completed.
+	 */
+	private final class RecordSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super Record> subscriber;
+
+		private final AtomicLong demand = new AtomicLong();
+
+		/**
+		 * Set while a request is in flight or while signals are emitted.
+		 */
+		private final AtomicBoolean busy = new AtomicBoolean(false);
+
+		private volatile boolean cancelled;
+
+		private volatile boolean done;
+
+		/**
+		 * The failure to signal once the remaining records have been discarded.
+		 */
+		private volatile Throwable failure;
+
+		private Neo4jTransaction transaction;
+
+		private RunResponse runResponse;
+
+		private long remainingRows;
+
+		RecordSubscription(Flow.Subscriber<? super Record> subscriber) {
+			this.subscriber = subscriber;
+			this.remainingRows = (RecordPublisher.this.maxRows > 0) ? RecordPublisher.this.maxRows : -1;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				fail(new IllegalArgumentException("Demand must be positive, was %d".formatted(n)));
+				drain();
+				return;
+			}
+			this.demand.getAndAccumulate(n, (current, requested) -> {
+				var sum = current + requested;
+				return (sum < 0) ? Long.MAX_VALUE : sum;
+			});
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			this.cancelled = true;
+			drain();
+		}
+
+		/**
+		 * Sends the next request if there is demand or a cancellation and no other
+		 * request in flight.
+		 */
+		private void drain() {
+			while (!this.done && this.busy.compareAndSet(false, true)) {
+				CompletionStage<?> next;
+				try {
+					next = nextRequest();
+				}
+				catch (Exception ex) {
+					terminate(ex);
+					return;
+				}
+				if (next != null) {
+					next.whenComplete((ignored, error) -> {
+						if (error != null) {
+							terminate(error);
+						}
+						else {
+							this.busy.set(false);
+							drain();
+						}
+					});
+					return;
+				}
+				this.busy.set(false);
+				// Demand or a cancellation might have arrived after checking for them
+				if (!(this.cancelled || this.demand.get() > 0)) {
+					return;
+				}
+			}
+		}
+
+		/**
+		 * {@return the stage of the next request or {@literal null} if there's nothing to
+		 * do right now}
+		 * @throws Exception if the transaction cannot be acquired or doesn't accept
+		 * requests
+		 */
+		private CompletionStage<?> nextRequest() throws Exception {
+			if (this.cancelled) {
+				this.done = true;
+				var theFailure = this.failure;
+				if (theFailure != null) {
+					return discardAndFail(theFailure);
+				}
+				if (this.transaction == null) {
+					return null;
+				}
+				if (this.runResponse == null) {
+					return commitIfAutoCommit();
+				}
+				return this.transaction.discardAsync(this.runResponse).thenCompose(ignored -> commitIfAutoCommit());
+			}
+			var n = this.demand.getAndSet(0);
+			if (n == 0) {
+				return null;
+			}
+			var request = (n == Long.MAX_VALUE) ? -1 : n;
+			if (this.remainingRows > 0 && (request == -1 || request > this.remainingRows)) {
+				request = this.remainingRows;
+			}
+			if (this.transaction == null) {
+				this.transaction = RecordPublisher.this.transactionSupplier.get();
+				return this.transaction
+					.runAndPullAsync(RecordPublisher.this.query, RecordPublisher.this.parameters, request)
+					.thenCompose(responses -> {
+						this.runResponse = responses.runResponse();
+						return onNext(responses.pullResponse());
+					});
+			}
+			var runResponse = this.runResponse;
+			var pendingResponse = this.transaction.pullAsync(runResponse, request);
+			return pendingResponse.handle((ignored, error) -> {
+				try {
+					// The response is already there, this doesn't block
+					return this.transaction.awaitPull(runResponse, pendingResponse);
+				}
+				catch (SQLException ex) {
+					throw new CompletionException(ex);
+				}
+			}).thenCompose(pullResponse -> onNext(pullResponse));
+		}
+
+		/**
+		 * Emits the records of a response and completes the subscription if there are no
+		 * more records. Emitting stops as soon as the subscription has been cancelled, the
+		 * cancellation is handled by the next call to {@link #drain()}.
+		 * @param pullResponse the response to emit
+		 * @return a stage that completes when the response has been processed
+		 */
+		private CompletionStage<Void> onNext(PullResponse pullResponse) {
+			var emitted = 0;
+			for (var record : pullResponse.records()) {
+				if (this.cancelled) {
+					break;
+				}
+				this.subscriber.onNext(record);
+				++emitted;
+			}
+			if (this.cancelled) {
+				if (!pullResponse.hasMore()) {
+					// Nothing left to discard
+					this.runResponse = null;
+				}
+				return CompletableFuture.completedFuture(null);
+			}
+			if (this.remainingRows > 0) {
+				this.remainingRows -= emitted;
+			}
+			if (!pullResponse.hasMore()) {
+				return complete();
+			}
+			if (this.remainingRows == 0) {
+				try {
+					return this.transaction.discardAsync(this.runResponse).thenCompose(ignored -> complete());
+				}
+				catch (SQLException ex) {
+					return CompletableFuture.failedFuture(ex);
+				}
+			}
+			return CompletableFuture.completedFuture(null);
+		}
+
+		private CompletionStage<Void> complete() {
+			this.done = true;
+			return commitIfAutoCommit().thenRun(this.subscriber::onComplete);
+		}
+
+		private CompletionStage<Void> commitIfAutoCommit() {
+			var theTransaction = this.transaction;
+			if (theTransaction.isAutoCommit() && theTransaction.isRunnable()) {
+				try {
+					return theTransaction.commitAsync();
+				}
+				catch (SQLException ex) {
+					return CompletableFuture.failedFuture(ex);
+				}
+			}
+			return CompletableFuture.completedFuture(null);
+		}
+
+		/**
+		 * Discards the remaining records of a query that failed, fails its transaction
+		 * and signals the failure afterwards. An explicit transaction must be rolled back
+		 * by its owner, an auto-commit transaction won't be committed.
+		 * @param theFailure the failure to signal
+		 * @return a stage that completes when the failure has been signalled
+		 */
+		private CompletionStage<Void> discardAndFail(Throwable theFailure) {
+			var theTransaction = this.transaction;
+			CompletionStage<?> discarded = CompletableFuture.completedFuture(null);
+			if (theTransaction != null && this.runResponse != null && theTransaction.isRunnable()) {
+				try {
+					discarded = theTransaction.discardAsync(this.runResponse);
+				}
+				catch (SQLException ex) {
+					discarded = CompletableFuture.failedFuture(ex);
+				}
+			}
+			return discarded.handle((ignored, error) -> {
+				if (error != null) {
+					LOGGER.log(Level.FINE, error, () -> "Could not discard records after a failure");
+				}
+				if (theTransaction != null && theTransaction.isRunnable()) {
+					try {
+						theTransaction.fail((theFailure instanceof SQLException sqlException) ? sqlException
+								: new Neo4jException(withCause(theFailure)));
+					}
+					catch (SQLException ex) {
+						theFailure.addSuppressed(ex);
+					}
+				}
+				this.subscriber.onError(theFailure);
+				return null;
+			});
+		}
+
+		private void fail(Throwable error) {
+			if (this.failure == null) {
+				this.failure = error;
+			}
+			this.cancelled = true;
+		}
+
+		/**
+		 * Terminates the subscription after a failed request, discarding the remaining
+		 * records and failing the transaction before the failure is signalled.
+		 * @param error the failure of the last request
+		 */
+		private void terminate(Throwable error) {
+			var cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+			if (this.done && this.cancelled) {
+				LOGGER.log(Level.FINE, cause, () -> "Could not discard records after cancellation");
+				return;
+			}
+			if (this.done) {
+				// Committing the transaction failed, there's nothing left to discard
+				this.subscriber.onError(cause);
+				return;
+			}
+			fail(cause);
+			this.busy.set(false);
+			drain();
+		}
+
+	}
+
+	private enum CancelledSubscription implements Flow.Subscription {
+
+		INSTANCE;
+
+		@Override
+		public void request(long n) {
+			// Nothing to request
+		}
+
+		@Override
+		public void cancel() {
+			// Nothing to cancel
+		}
+
+	}
+
+}
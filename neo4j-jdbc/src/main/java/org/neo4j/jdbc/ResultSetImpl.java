@@ -18,10 +18,9 @@
  */
 package org.neo4j.jdbc;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
-import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.MalformedURLException;
@@ -72,6 +71,7 @@ import org.neo4j.jdbc.values.Type;
 import org.neo4j.jdbc.values.UncoercibleException;
 import org.neo4j.jdbc.values.Value;
 
+import static org.neo4j.jdbc.Neo4jException.withInternal;
 import static org.neo4j.jdbc.Neo4jException.withReason;
 
 final class ResultSetImpl implements Neo4jResultSet {
@@ -84,9 +84,15 @@ final class ResultSetImpl implements Neo4jResultSet {
 	static final int SUPPORTED_HOLDABILITY = ResultSet.CLOSE_CURSORS_AT_COMMIT;
 
 	/**
-	 * A constant for the only result type we support.
+	 * A constant for the default result type.
 	 */
-	static final int SUPPORTED_TYPE = ResultSet.TYPE_FORWARD_ONLY;
+	static final int DEFAULT_TYPE = ResultSet.TYPE_FORWARD_ONLY;
+
+	/**
+	 * The default number of rows a scrollable result set keeps on the heap before
+	 * spilling to disk.
+	 */
+	static final int DEFAULT_SCROLLABLE_ROWS_ON_HEAP = 1000;
 
 	/**
 	 * A constant for the only concurrency we support.
@@ -94,20 +100,27 @@ final class ResultSetImpl implements Neo4jResultSet {
 	static final int SUPPORTED_CONCURRENCY = ResultSet.CONCUR_READ_ONLY;
 
 	/**
-	 * A constant for the only fetch direction we support.
+	 * A constant for the default fetch direction, the only one supported by forward-only
+	 * result sets.
 	 */
-	static final int SUPPORTED_FETCH_DIRECTION = ResultSet.FETCH_FORWARD;
+	static final int DEFAULT_FETCH_DIRECTION = ResultSet.FETCH_FORWARD;
+
+	private static final String JSON_NODE = "com.fasterxml.jackson.databind.JsonNode";
 
 	static final EnumSet<Type> NO_TO_STRING_SUPPORT = EnumSet.of(Type.NODE, Type.RELATIONSHIP, Type.PATH);
 
 	private final StatementImpl statement;
 
-	private final List<String> keys;
+	private final ColumnNames keys;
 
 	private final int maxFieldSize;
 
 	private final Cursor cursor;
 
+	private final int type;
+
+	private int fetchDirection = DEFAULT_FETCH_DIRECTION;
+
 	private Value value;
 
 	private boolean closed;
@@ -128,25 +141,61 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	ResultSetImpl(StatementImpl statement, int maxFieldSize, Neo4jTransaction transaction, RunResponse runResponse,
 			PullResponse batchPullResponse, int fetchSize, int maxRowLimit) {
+		this(statement, maxFieldSize, transaction, runResponse, batchPullResponse, fetchSize, maxRowLimit,
+				Cursor.ReadAhead.DISABLED);
+	}
+
+	ResultSetImpl(StatementImpl statement, int maxFieldSize, Neo4jTransaction transaction, RunResponse runResponse,
+			PullResponse batchPullResponse, int fetchSize, int maxRowLimit, Cursor.ReadAhead readAhead) {
+		this(statement, maxFieldSize, transaction, runResponse, batchPullResponse, fetchSize, maxRowLimit, readAhead,
+				DEFAULT_TYPE, DEFAULT_SCROLLABLE_ROWS_ON_HEAP);
+	}
+
+	ResultSetImpl(StatementImpl statement, int maxFieldSize, Neo4jTransaction transaction, RunResponse runResponse,
+			PullResponse batchPullResponse, int fetchSize, int maxRowLimit, Cursor.ReadAhead readAhead, int type,
+			int scrollableRowsOnHeap) {
 		this.statement = Objects.requireNonNull(statement);
 		this.maxFieldSize = maxFieldSize;
 
-		this.cursor = Cursor.of(Objects.requireNonNull(transaction), Objects.requireNonNull(runResponse),
+		var boltCursor = Cursor.of(Objects.requireNonNull(transaction), Objects.requireNonNull(runResponse),
 				(maxRowLimit > 0) ? maxRowLimit : -1, fetchSize, Objects.requireNonNull(batchPullResponse),
-				this::onNextBatch);
+				this::onNextBatch, Objects.requireNonNull(readAhead), statement);
 
-		var sampleRecord = this.cursor.getSampleRecord();
-		this.keys = (sampleRecord != null) ? sampleRecord.keys() : runResponse.keys();
+		var sampleRecord = boltCursor.getSampleRecord();
+		this.keys = ColumnNames.of((sampleRecord != null) ? sampleRecord.keys() : runResponse.keys());
+		this.type = type;
+		this.cursor = isScrollable(type) ? new ScrollableCursor(boltCursor, this.keys, scrollableRowsOnHeap)
+				: boltCursor;
 	}
 
 	ResultSetImpl(StatementImpl statement, int maxFieldSize, List<Record> records) {
+		this(statement, maxFieldSize, records, DEFAULT_TYPE);
+	}
+
+	ResultSetImpl(StatementImpl statement, int maxFieldSize, List<Record> records, int type) {
 		this.statement = Objects.requireNonNull(statement);
 		this.maxFieldSize = maxFieldSize;
 
-		this.cursor = Cursor.of(records);
+		var localCursor = Cursor.of(records);
+
+		var sampleRecord = localCursor.getSampleRecord();
+		this.keys = ColumnNames.of((sampleRecord != null) ? sampleRecord.keys() : List.of());
+		this.type = type;
+		// The records are already on the heap, no need to spill them
+		this.cursor = isScrollable(type) ? new ScrollableCursor(localCursor, this.keys, Integer.MAX_VALUE)
+				: localCursor;
+	}
+
+	/**
+	 * {@return whether the given result set type is supported}
+	 * @param type the result set type to check
+	 */
+	static boolean isSupportedType(int type) {
+		return type == ResultSet.TYPE_FORWARD_ONLY || isScrollable(type);
+	}
 
-		var sampleRecord = this.cursor.getSampleRecord();
-		this.keys = (sampleRecord != null) ? sampleRecord.keys() : List.of();
+	private static boolean isScrollable(int type) {
+		return type == ResultSet.TYPE_SCROLL_INSENSITIVE;
 	}
 
 	@Override
@@ -159,12 +208,34 @@ final class ResultSetImpl implements Neo4jResultSet {
 		this.listeners.add(Objects.requireNonNull(resultSetListener));
 	}
 
+	@Override
+	public long writeJson(OutputStream out) throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Writing JSON");
+		assertIsOpen();
+		Objects.requireNonNull(out);
+		var mapper = JSONMappers.INSTANCE.getMapper(JSON_NODE)
+			.orElseThrow(() -> new SQLFeatureNotSupportedException(
+					"Writing JSON requires %s on the class path".formatted(JSON_NODE)));
+		try {
+			return mapper.writeJson(this.keys, () -> next() ? getCurrentRecord() : null, out);
+		}
+		catch (SQLException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw new Neo4jException(withInternal(ex));
+		}
+	}
+
 	@Override
 	public boolean next() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "next");
 		if (this.closed) {
 			throw new Neo4jException(withReason("This result set is closed"));
 		}
+		if (this.cursor instanceof ScrollableCursor) {
+			return scroll(ScrollableCursor::next);
+		}
 		if (this.beforeFirst.compareAndSet(true, false) && !this.openedEventFired) {
 			Events.notify(this.listeners, listener -> listener
 				.onIterationStarted(new IterationStartedEvent(Long.toString(System.identityHashCode(this)))));
@@ -190,6 +261,34 @@ final class ResultSetImpl implements Neo4jResultSet {
 		return result;
 	}
 
+	/**
+	 * Applies the given operation to the cursor of a scrollable result set and derives
+	 * the position flags from the position of the cursor afterwards.
+	 * @param operation the operation moving the cursor
+	 * @return true if the cursor is on a row afterwards
+	 * @throws SQLException on any mischief that might happen
+	 */
+	private boolean scroll(ScrollOperation operation) throws SQLException {
+		assertIsOpen();
+		if (!this.openedEventFired) {
+			Events.notify(this.listeners, listener -> listener
+				.onIterationStarted(new IterationStartedEvent(Long.toString(System.identityHashCode(this)))));
+			this.openedEventFired = true;
+		}
+		var scrollableCursor = (ScrollableCursor) this.cursor;
+		var result = operation.apply(scrollableCursor);
+		this.beforeFirst.set(scrollableCursor.isBeforeFirst());
+		this.first.set(scrollableCursor.getCurrentRowNum() == 1);
+		this.last.set(scrollableCursor.isOnLastRow());
+		this.afterLast.set(scrollableCursor.isAfterLast());
+		if (this.afterLast.get() && !this.closedEventFired) {
+			Events.notify(this.listeners, listener -> listener
+				.onIterationDone(new IterationDoneEvent(Long.toString(System.identityHashCode(this)), true)));
+			this.closedEventFired = true;
+		}
+		return result;
+	}
+
 	void onNextBatch() {
 		Events.notify(this.listeners, listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.PULLED_NEXT_BATCH,
 				Map.of("source", this.getClass(), "id", Long.toString(System.identityHashCode(this))))));
@@ -240,43 +339,43 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public boolean getBoolean(int columnIndex) throws SQLException {
 		logGet("Boolean", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToBoolean);
+		return mapToBoolean(getValue(columnIndex));
 	}
 
 	@Override
 	public byte getByte(int columnIndex) throws SQLException {
 		logGet("Byte", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToByte);
+		return mapToByte(getValue(columnIndex));
 	}
 
 	@Override
 	public short getShort(int columnIndex) throws SQLException {
 		logGet("Short", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToShort);
+		return mapToShort(getValue(columnIndex));
 	}
 
 	@Override
 	public int getInt(int columnIndex) throws SQLException {
 		logGet("Int", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToInteger);
+		return mapToInteger(getValue(columnIndex));
 	}
 
 	@Override
 	public long getLong(int columnIndex) throws SQLException {
 		logGet("Int", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToLong);
+		return mapToLong(getValue(columnIndex));
 	}
 
 	@Override
 	public float getFloat(int columnIndex) throws SQLException {
 		logGet("Int", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToFloat);
+		return mapToFloat(getValue(columnIndex));
 	}
 
 	@Override
 	public double getDouble(int columnIndex) throws SQLException {
 		logGet("Int", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToDouble);
+		return mapToDouble(getValue(columnIndex));
 	}
 
 	@Override
@@ -337,43 +436,43 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public boolean getBoolean(String columnLabel) throws SQLException {
 		logGet("Boolean", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToBoolean);
+		return mapToBoolean(getValue(columnLabel));
 	}
 
 	@Override
 	public byte getByte(String columnLabel) throws SQLException {
 		logGet("Byte", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToByte);
+		return mapToByte(getValue(columnLabel));
 	}
 
 	@Override
 	public short getShort(String columnLabel) throws SQLException {
 		logGet("Short", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToShort);
+		return mapToShort(getValue(columnLabel));
 	}
 
 	@Override
 	public int getInt(String columnLabel) throws SQLException {
 		logGet("Int", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToInteger);
+		return mapToInteger(getValue(columnLabel));
 	}
 
 	@Override
 	public long getLong(String columnLabel) throws SQLException {
 		logGet("Long", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToLong);
+		return mapToLong(getValue(columnLabel));
 	}
 
 	@Override
 	public float getFloat(String columnLabel) throws SQLException {
 		logGet("Float", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToFloat);
+		return mapToFloat(getValue(columnLabel));
 	}
 
 	@Override
 	public double getDouble(String columnLabel) throws SQLException {
 		logGet("Double", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToDouble);
+		return mapToDouble(getValue(columnLabel));
 	}
 
 	@Override
@@ -465,7 +564,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 	public int findColumn(String columnLabel) throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Finding column with label `%s`".formatted(columnLabel));
 		assertIsOpen();
-		var index = this.keys.indexOf(columnLabel);
+		var index = this.keys.indexOfIgnoreCase(columnLabel);
 		if (index == -1) {
 			throw new Neo4jException(GQLError.$22N63.withTemplatedMessage(columnLabel));
 		}
@@ -523,10 +622,14 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public void beforeFirst() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Moving before first");
+		if (this.cursor instanceof ScrollableCursor) {
+			scroll(scrollableCursor -> scrollableCursor.absolute(0));
+			return;
+		}
 		if (this.beforeFirst.compareAndSet(false, false)) {
 			throw new SQLFeatureNotSupportedException(
 					"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support beforeFirst after it has been iterated"
-						.formatted(SUPPORTED_TYPE));
+						.formatted(ResultSet.TYPE_FORWARD_ONLY));
 		}
 	}
 
@@ -534,6 +637,13 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public void afterLast() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Moving after last");
+		if (this.cursor instanceof ScrollableCursor) {
+			scroll(scrollableCursor -> {
+				scrollableCursor.afterLast();
+				return false;
+			});
+			return;
+		}
 		while (this.next()) {
 			// Discard everything
 		}
@@ -542,10 +652,13 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public boolean first() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Moving to first");
+		if (this.cursor instanceof ScrollableCursor) {
+			return scroll(scrollableCursor -> scrollableCursor.absolute(1));
+		}
 		if (this.beforeFirst.compareAndSet(false, false)) {
 			throw new SQLFeatureNotSupportedException(
 					"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support first after it has been iterated"
-						.formatted(SUPPORTED_TYPE));
+						.formatted(ResultSet.TYPE_FORWARD_ONLY));
 		}
 		return next();
 	}
@@ -553,10 +666,13 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public boolean last() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Moving to last");
+		if (this.cursor instanceof ScrollableCursor) {
+			return scroll(scrollableCursor -> scrollableCursor.absolute(-1));
+		}
 		if (this.afterLast.compareAndSet(true, true)) {
 			throw new SQLFeatureNotSupportedException(
 					"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support last after it has been fully iterated"
-						.formatted(SUPPORTED_TYPE));
+						.formatted(ResultSet.TYPE_FORWARD_ONLY));
 		}
 		while (!isLast()) {
 			this.next();
@@ -572,38 +688,57 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	@Override
 	public boolean absolute(int row) throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Moving to row %d".formatted(row));
+		if (this.cursor instanceof ScrollableCursor) {
+			return scroll(scrollableCursor -> scrollableCursor.absolute(row));
+		}
 		throw new SQLFeatureNotSupportedException(
 				"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support absolute scrolling"
-					.formatted(SUPPORTED_TYPE));
+					.formatted(ResultSet.TYPE_FORWARD_ONLY));
 	}
 
 	@Override
 	public boolean relative(int rows) throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Moving %d rows".formatted(rows));
+		if (this.cursor instanceof ScrollableCursor) {
+			return scroll(scrollableCursor -> scrollableCursor.relative(rows));
+		}
 		throw new SQLFeatureNotSupportedException(
 				"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support relative scrolling"
-					.formatted(SUPPORTED_TYPE));
+					.formatted(ResultSet.TYPE_FORWARD_ONLY));
 	}
 
 	@Override
 	public boolean previous() throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Moving to previous");
+		if (this.cursor instanceof ScrollableCursor) {
+			return scroll(ScrollableCursor::previous);
+		}
 		throw new SQLFeatureNotSupportedException(
 				"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support previous scrolling"
-					.formatted(SUPPORTED_TYPE));
+					.formatted(ResultSet.TYPE_FORWARD_ONLY));
 	}
 
 	@Override
 	public void setFetchDirection(int direction) throws SQLException {
-		LOGGER.log(Level.WARNING, () -> "Setting fetch direction to %d (ignored)".formatted(direction));
+		LOGGER.log(Level.FINER, () -> "Setting fetch direction to %d".formatted(direction));
 		assertIsOpen();
-		if (direction != SUPPORTED_FETCH_DIRECTION) {
-			throw new SQLFeatureNotSupportedException("Only forward fetching is supported");
+		if (direction != ResultSet.FETCH_FORWARD && direction != ResultSet.FETCH_REVERSE
+				&& direction != ResultSet.FETCH_UNKNOWN) {
+			throw new Neo4jException(GQLError.$22N11.withTemplatedMessage("fetch direction %d".formatted(direction)));
+		}
+		if (direction != DEFAULT_FETCH_DIRECTION && !(this.cursor instanceof ScrollableCursor)) {
+			throw new SQLFeatureNotSupportedException(
+					"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support the fetch direction %d"
+						.formatted(this.type, direction));
 		}
+		this.fetchDirection = direction;
 	}
 
 	@Override
 	public int getFetchDirection() {
 		LOGGER.log(Level.FINER, () -> "Getting fetch direction");
-		return SUPPORTED_FETCH_DIRECTION;
+		return this.fetchDirection;
 	}
 
 	@Override
@@ -621,7 +756,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public int getType() {
 		LOGGER.log(Level.FINER, () -> "Getting type");
-		return SUPPORTED_TYPE;
+		return this.type;
 	}
 
 	@Override
@@ -893,12 +1028,14 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	@Override
 	public Blob getBlob(int columnIndex) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		logGet("Blob", columnIndex);
+		return getValueByColumnIndex(columnIndex, value -> mapToBlob(value, this.maxFieldSize));
 	}
 
 	@Override
 	public Clob getClob(int columnIndex) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		logGet("Clob", columnIndex);
+		return getValueByColumnIndex(columnIndex, value -> mapToClob(value, this.maxFieldSize));
 	}
 
 	@Override
@@ -920,12 +1057,14 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	@Override
 	public Blob getBlob(String columnLabel) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		logGet("Blob", columnLabel);
+		return getValueByColumnLabel(columnLabel, value -> mapToBlob(value, this.maxFieldSize));
 	}
 
 	@Override
 	public Clob getClob(String columnLabel) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		logGet("Clob", columnLabel);
+		return getValueByColumnLabel(columnLabel, value -> mapToClob(value, this.maxFieldSize));
 	}
 
 	@Override
@@ -1076,12 +1215,14 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	@Override
 	public NClob getNClob(int columnIndex) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		logGet("NClob", columnIndex);
+		return getValueByColumnIndex(columnIndex, value -> mapToClob(value, this.maxFieldSize));
 	}
 
 	@Override
 	public NClob getNClob(String columnLabel) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		logGet("NClob", columnLabel);
+		return getValueByColumnLabel(columnLabel, value -> mapToClob(value, this.maxFieldSize));
 	}
 
 	@Override
@@ -1399,27 +1540,39 @@ final class ResultSetImpl implements Neo4jResultSet {
 		}
 	}
 
-	private void assertColumnLabelIsPresent(String columnLabel) throws SQLException {
-		if (!this.getCurrentRecord().containsKey(columnLabel)) {
-			throw new Neo4jException(withReason("Invalid column label value"));
-		}
+	private <T> T getValueByColumnIndex(int columnIndex, ValueMapper<T> valueMapper) throws SQLException {
+		return valueMapper.map(getValue(columnIndex));
 	}
 
-	private <T> T getValueByColumnIndex(int columnIndex, ValueMapper<T> valueMapper) throws SQLException {
+	private <T> T getValueByColumnLabel(String columnLabel, ValueMapper<T> valueMapper) throws SQLException {
+		return valueMapper.map(getValue(columnLabel));
+	}
+
+	/**
+	 * Retrieves the value at the given index and remembers it for {@link #wasNull()}. The
+	 * getters for primitive types use this directly together with the primitive mapping
+	 * functions, so that they don't box their results.
+	 * @param columnIndex the 1-based column index
+	 * @return the value at the given index
+	 * @throws SQLException if the result set is closed or the index is out of range
+	 */
+	private Value getValue(int columnIndex) throws SQLException {
 		assertIsOpen();
 		assertCurrentRecordIsNotNull();
 		assertColumnIndexIsPresent(columnIndex);
-		columnIndex--;
-		this.value = this.getCurrentRecord().get(columnIndex);
-		return valueMapper.map(this.value);
+		this.value = this.getCurrentRecord().get(columnIndex - 1);
+		return this.value;
 	}
 
-	private <T> T getValueByColumnLabel(String columnLabel, ValueMapper<T> valueMapper) throws SQLException {
+	private Value getValue(String columnLabel) throws SQLException {
 		assertIsOpen();
 		assertCurrentRecordIsNotNull();
-		assertColumnLabelIsPresent(columnLabel);
-		this.value = this.getCurrentRecord().get(columnLabel);
-		return valueMapper.map(this.value);
+		var index = this.keys.indexOfIgnoreCase(columnLabel);
+		if (index == -1) {
+			throw new Neo4jException(withReason("Invalid column label value"));
+		}
+		this.value = this.getCurrentRecord().get(index);
+		return this.value;
 	}
 
 	private static String mapToString(Value value, int maxFieldSize) throws SQLException {
@@ -1496,9 +1649,9 @@ final class ResultSetImpl implements Neo4jResultSet {
 		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "boolean"));
 	}
 
-	private static Byte mapToByte(Value value) throws SQLException {
+	private static byte mapToByte(Value value) throws SQLException {
 		if (Type.INTEGER.isTypeOf(value)) {
-			var longValue = value.asNumber().longValue();
+			var longValue = value.asLong();
 			if (longValue >= Byte.MIN_VALUE && longValue <= Byte.MAX_VALUE) {
 				return (byte) longValue;
 			}
@@ -1510,9 +1663,9 @@ final class ResultSetImpl implements Neo4jResultSet {
 		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "byte"));
 	}
 
-	private static Short mapToShort(Value value) throws SQLException {
+	private static short mapToShort(Value value) throws SQLException {
 		if (Type.INTEGER.isTypeOf(value)) {
-			var longValue = value.asNumber().longValue();
+			var longValue = value.asLong();
 			if (longValue >= Short.MIN_VALUE && longValue <= Short.MAX_VALUE) {
 				return (short) longValue;
 			}
@@ -1527,7 +1680,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	private static int mapToInteger(Value value) throws SQLException {
 		if (Type.INTEGER.isTypeOf(value)) {
-			var longValue = value.asNumber().longValue();
+			var longValue = value.asLong();
 			if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
 				return (int) longValue;
 			}
@@ -1550,7 +1703,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	private static long mapToLong(Value value) throws SQLException {
 		if (Type.INTEGER.isTypeOf(value)) {
-			return value.asNumber().longValue();
+			return value.asLong();
 		}
 		if (Type.NULL.isTypeOf(value)) {
 			return 0L;
@@ -1569,7 +1722,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	private static float mapToFloat(Value value) throws SQLException {
 		if (Type.FLOAT.isTypeOf(value)) {
-			var doubleValue = value.asNumber().doubleValue();
+			var doubleValue = value.asDouble();
 			var floatValue = (float) doubleValue;
 			if (Double.compare(doubleValue, floatValue) == 0) {
 				return floatValue;
@@ -1584,7 +1737,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	private static double mapToDouble(Value value) throws SQLException {
 		if (Type.FLOAT.isTypeOf(value)) {
-			return value.asNumber().doubleValue();
+			return value.asDouble();
 		}
 		if (Type.NULL.isTypeOf(value)) {
 			return 0.0;
@@ -1605,7 +1758,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	private static Reader mapToReader(Value value, int maxFieldSize) throws SQLException {
 		if (Type.STRING.isTypeOf(value)) {
-			return new StringReader(truncate(value.asString(), maxFieldSize));
+			return new ClobImpl(value.asString(), maxFieldSize).getCharacterStream();
 		}
 		if (Type.NULL.isTypeOf(value)) {
 			return null;
@@ -1639,8 +1792,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	private static InputStream mapToAsciiStream(Value value, int maxFieldSize) throws SQLException {
 		if (Type.STRING.isTypeOf(value)) {
-			return new ByteArrayInputStream(
-					truncate(value.asString(), maxFieldSize).getBytes(StandardCharsets.US_ASCII));
+			return new ClobImpl(value.asString(), maxFieldSize).getAsciiStream();
 		}
 		if (Type.NULL.isTypeOf(value)) {
 			return null;
@@ -1649,16 +1801,35 @@ final class ResultSetImpl implements Neo4jResultSet {
 	}
 
 	private static InputStream mapToBinaryStream(Value value, int maxFieldSize) throws SQLException {
+		var blob = mapToBlob(value, maxFieldSize, "java.io.InputStream");
+		return (blob != null) ? blob.getBinaryStream() : null;
+	}
+
+	private static BlobImpl mapToBlob(Value value, int maxFieldSize) throws SQLException {
+		return mapToBlob(value, maxFieldSize, "java.sql.Blob");
+	}
+
+	private static BlobImpl mapToBlob(Value value, int maxFieldSize, String targetType) throws SQLException {
 		if (Type.STRING.isTypeOf(value)) {
-			return new ByteArrayInputStream(truncate(value.asString(), maxFieldSize).getBytes(StandardCharsets.UTF_8));
+			return new BlobImpl(truncate(value.asString(), maxFieldSize).getBytes(StandardCharsets.UTF_8), 0);
 		}
 		if (Type.BYTES.isTypeOf(value)) {
-			return new ByteArrayInputStream(truncate(value.asByteArray(), maxFieldSize));
+			return new BlobImpl(value.asByteArray(), maxFieldSize);
 		}
 		if (Type.NULL.isTypeOf(value)) {
 			return null;
 		}
-		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "java.io.InputStream"));
+		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), targetType));
+	}
+
+	private static ClobImpl mapToClob(Value value, int maxFieldSize) throws SQLException {
+		if (Type.STRING.isTypeOf(value)) {
+			return new ClobImpl(value.asString(), maxFieldSize);
+		}
+		if (Type.NULL.isTypeOf(value)) {
+			return null;
+		}
+		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "java.sql.Clob"));
 	}
 
 	private static Object mapToObject(Value value, int maxFieldSize) {
@@ -1671,14 +1842,16 @@ final class ResultSetImpl implements Neo4jResultSet {
 		return value.asObject();
 	}
 
+	/**
+	 * Truncates the given string to the characters whose UTF-8 representation fits into
+	 * the given number of bytes, exactly like the view of a {@link ClobImpl} does, so that
+	 * all getters return the same characters of a string value.
+	 * @param string the string to truncate
+	 * @param limit the maximum number of UTF-8 bytes, {@literal 0} for no limit
+	 * @return the truncated string
+	 */
 	private static String truncate(String string, int limit) {
-		if (limit > 0) {
-			var bytes = string.getBytes(StandardCharsets.UTF_8);
-			if (bytes.length > limit) {
-				string = new String(truncateBytes(bytes, limit), StandardCharsets.UTF_8);
-			}
-		}
-		return string;
+		return (limit > 0) ? string.substring(0, ClobImpl.lengthWithinUtf8Bytes(string, limit)) : string;
 	}
 
 	private static byte[] truncate(byte[] bytes, int limit) {
@@ -1698,4 +1871,11 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	}
 
+	@FunctionalInterface
+	private interface ScrollOperation {
+
+		boolean apply(ScrollableCursor cursor) throws SQLException;
+
+	}
+
 }
@@ -0,0 +1,604 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.bolt.connection.values.ValueFactory;
+import org.neo4j.jdbc.internal.bolt.BoltAdapters;
+import org.neo4j.jdbc.values.Node;
+import org.neo4j.jdbc.values.Path;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Relationship;
+import org.neo4j.jdbc.values.Type;
+import org.neo4j.jdbc.values.UnsupportedDateTimeValue;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+import org.neo4j.jdbc.values.Vector;
+
+import static org.neo4j.jdbc.Neo4jException.withInternal;
+
+/**
+ * Random access storage for the rows of a scrollable result set. The first rows are kept
+ * on the heap as they are; all further rows are encoded into a compact binary format and
+ * spilled into a temporary file that is deleted when the store is closed. Only the
+ * offsets of the spilled rows are kept in memory, and they are decoded again on access.
+ * Rows containing values without a binary representation (values of unsupported types)
+ * stay on the heap regardless of their position.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class RowStore implements AutoCloseable {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.result-set");
+
+	private final List<String> keys;
+
+	private final int maxRowsOnHeap;
+
+	private final List<Record> rowsOnHeap = new ArrayList<>();
+
+	private final Map<Integer, Record> unencodableRows = new HashMap<>();
+
+	private final ByteArrayOutputStream encodedRow = new ByteArrayOutputStream();
+
+	/**
+	 * Start offsets of the spilled rows, the length of a row is the distance to the next
+	 * offset or to the end of the file for the last row.
+	 */
+	private long[] offsets = new long[64];
+
+	private int size;
+
+	private FileChannel spillFile;
+
+	private long spillFileSize;
+
+	/**
+	 * Creates a new store.
+	 * @param keys the keys shared by all rows
+	 * @param maxRowsOnHeap the number of rows kept on the heap before spilling to disk
+	 */
+	RowStore(List<String> keys, int maxRowsOnHeap) {
+		this.keys = ColumnNames.of(keys);
+		this.maxRowsOnHeap = Math.max(maxRowsOnHeap, 0);
+	}
+
+	/**
+	 * Appends a row to this store.
+	 * @param row the row to append
+	 * @throws SQLException if the row cannot be spilled to disk
+	 */
+	void add(Record row) throws SQLException {
+		Objects.requireNonNull(row);
+		if (this.size < this.maxRowsOnHeap) {
+			this.rowsOnHeap.add(row);
+			++this.size;
+			return;
+		}
+
+		var index = this.size - this.maxRowsOnHeap;
+		if (index == this.offsets.length) {
+			this.offsets = Arrays.copyOf(this.offsets, this.offsets.length * 2);
+		}
+		this.offsets[index] = this.spillFileSize;
+		if (!encode(row)) {
+			this.unencodableRows.put(this.size, row);
+			++this.size;
+			return;
+		}
+
+		try {
+			if (this.spillFile == null) {
+				var path = Files.createTempFile("neo4j-jdbc-rows-", ".bin");
+				this.spillFile = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+						StandardOpenOption.DELETE_ON_CLOSE);
+				LOGGER.log(Level.FINE, () -> "Spilling rows of a scrollable result set to %s".formatted(path));
+			}
+			var buffer = ByteBuffer.wrap(this.encodedRow.toByteArray());
+			while (buffer.hasRemaining()) {
+				this.spillFileSize += this.spillFile.write(buffer, this.spillFileSize);
+			}
+		}
+		catch (IOException ex) {
+			throw new Neo4jException(withInternal(ex, "Could not spill the rows of a scrollable result set"));
+		}
+		++this.size;
+	}
+
+	/**
+	 * Retrieves a row from this store.
+	 * @param index the zero based index of the row
+	 * @return the row at the given index
+	 * @throws SQLException if the row cannot be read back from disk
+	 */
+	Record get(int index) throws SQLException {
+		Objects.checkIndex(index, this.size);
+		if (index < this.maxRowsOnHeap) {
+			return this.rowsOnHeap.get(index);
+		}
+		var unencodableRow = this.unencodableRows.get(index);
+		if (unencodableRow != null) {
+			return unencodableRow;
+		}
+
+		var spillIndex = index - this.maxRowsOnHeap;
+		var offset = this.offsets[spillIndex];
+		var end = (index + 1 < this.size) ? this.offsets[spillIndex + 1] : this.spillFileSize;
+		var buffer = ByteBuffer.allocate(Math.toIntExact(end - offset));
+		try {
+			while (buffer.hasRemaining()) {
+				if (this.spillFile.read(buffer, offset + buffer.position()) < 0) {
+					throw new IOException("Unexpected end of file");
+				}
+			}
+			return decode(new DataInputStream(new ByteArrayInputStream(buffer.array())));
+		}
+		catch (IOException ex) {
+			throw new Neo4jException(withInternal(ex, "Could not read a spilled row of a scrollable result set"));
+		}
+	}
+
+	/**
+	 * {@return the number of rows in this store}
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * {@return the number of rows that have been spilled to disk}
+	 */
+	int spilledRows() {
+		return Math.max(this.size - this.maxRowsOnHeap - this.unencodableRows.size(), 0);
+	}
+
+	@Override
+	public void close() throws SQLException {
+		this.rowsOnHeap.clear();
+		this.unencodableRows.clear();
+		if (this.spillFile == null) {
+			return;
+		}
+		try {
+			this.spillFile.close();
+		}
+		catch (IOException ex) {
+			throw new Neo4jException(withInternal(ex, "Could not delete the spilled rows of a scrollable result set"));
+		}
+		finally {
+			this.spillFile = null;
+		}
+	}
+
+	private boolean encode(Record row) {
+		this.encodedRow.reset();
+		var out = new DataOutputStream(this.encodedRow);
+		try {
+			for (var value : row.values()) {
+				if (!write(out, value)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		catch (IOException ex) {
+			// Not thrown by a byte array output stream
+			throw new UncheckedSQLException(new Neo4jException(withInternal(ex)));
+		}
+	}
+
+	private Record decode(DataInput in) throws IOException {
+		var values = new Value[this.keys.size()];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = read(in);
+		}
+		return Record.of(this.keys, values);
+	}
+
+	/**
+	 * Writes a single value in the binary format of this store. The output may contain
+	 * partially written data if the value is not supported.
+	 * @param out the output to write to
+	 * @param value the value to write
+	 * @return {@literal false} if the value or any of its elements has no binary
+	 * representation
+	 * @throws IOException if writing fails
+	 */
+	static boolean write(DataOutput out, Value value) throws IOException {
+		var type = value.type();
+		if (type == Type.UNSUPPORTED || value instanceof UnsupportedDateTimeValue) {
+			return false;
+		}
+		out.writeByte(type.ordinal());
+		switch (type) {
+			case NULL -> {
+			}
+			case BOOLEAN -> out.writeBoolean(value.asBoolean());
+			case INTEGER -> writeVarLong(out, value.asLong());
+			case FLOAT -> out.writeDouble(value.asDouble());
+			case STRING -> writeString(out, value.asString());
+			case BYTES -> {
+				var bytes = value.asByteArray();
+				writeVarLong(out, bytes.length);
+				out.write(bytes);
+			}
+			case LIST -> {
+				writeVarLong(out, value.size());
+				for (var element : value.values()) {
+					if (!write(out, element)) {
+						return false;
+					}
+				}
+			}
+			case MAP -> {
+				return writeMap(out, value.keys(), value.size(), value::get);
+			}
+			case NODE -> {
+				return writeNode(out, value.asNode());
+			}
+			case RELATIONSHIP -> {
+				return writeRelationship(out, value.asRelationship());
+			}
+			case PATH -> {
+				var path = value.asPath();
+				var nodes = new ArrayList<Node>();
+				path.nodes().forEach(nodes::add);
+				writeVarLong(out, nodes.size());
+				for (var node : nodes) {
+					if (!writeNode(out, node)) {
+						return false;
+					}
+				}
+				for (var relationship : path.relationships()) {
+					if (!writeRelationship(out, relationship)) {
+						return false;
+					}
+				}
+			}
+			case POINT -> {
+				var point = value.asPoint();
+				writeVarLong(out, point.srid());
+				out.writeBoolean(Double.isNaN(point.z()));
+				out.writeDouble(point.x());
+				out.writeDouble(point.y());
+				if (!Double.isNaN(point.z())) {
+					out.writeDouble(point.z());
+				}
+			}
+			case DATE -> writeVarLong(out, value.asLocalDate().toEpochDay());
+			case TIME -> {
+				var time = value.asOffsetTime();
+				writeVarLong(out, time.toLocalTime().toNanoOfDay());
+				writeVarLong(out, time.getOffset().getTotalSeconds());
+			}
+			case LOCAL_TIME -> writeVarLong(out, value.asLocalTime().toNanoOfDay());
+			case LOCAL_DATE_TIME -> {
+				var localDateTime = value.asLocalDateTime();
+				writeVarLong(out, localDateTime.toEpochSecond(ZoneOffset.UTC));
+				writeVarLong(out, localDateTime.getNano());
+			}
+			case DATE_TIME -> {
+				var dateTime = value.asZonedDateTime();
+				writeVarLong(out, dateTime.toEpochSecond());
+				writeVarLong(out, dateTime.getNano());
+				writeString(out, dateTime.getZone().getId());
+			}
+			case DURATION -> {
+				var duration = value.asIsoDuration();
+				writeVarLong(out, duration.months());
+				writeVarLong(out, duration.days());
+				writeVarLong(out, duration.seconds());
+				writeVarLong(out, duration.nanoseconds());
+			}
+			case VECTOR -> {
+				var vector = value.asVector();
+				out.writeByte(vector.elementType().ordinal());
+				writeVarLong(out, vector.size());
+				var elements = vector.stream().iterator();
+				while (elements.hasNext()) {
+					var element = elements.next();
+					switch (vector.elementType()) {
+						case INTEGER8 -> out.writeByte(element.byteValue());
+						case INTEGER16 -> out.writeShort(element.shortValue());
+						case INTEGER32 -> out.writeInt(element.intValue());
+						case INTEGER -> out.writeLong(element.longValue());
+						case FLOAT32 -> out.writeFloat(element.floatValue());
+						case FLOAT -> out.writeDouble(element.doubleValue());
+					}
+				}
+			}
+			default -> {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads a single value written by {@link #write(DataOutput, Value)}.
+	 * @param in the input to read from
+	 * @return the value read
+	 * @throws IOException if reading fails
+	 */
+	static Value read(DataInput in) throws IOException {
+		var type = Type.values()[in.readUnsignedByte()];
+		return switch (type) {
+			case NULL -> Values.NULL;
+			case BOOLEAN -> Values.value(in.readBoolean());
+			case INTEGER -> Values.value(readVarLong(in));
+			case FLOAT -> Values.value(in.readDouble());
+			case STRING -> Values.value(readString(in));
+			case BYTES -> {
+				var bytes = new byte[(int) readVarLong(in)];
+				in.readFully(bytes);
+				yield Values.value(bytes);
+			}
+			case LIST -> {
+				var elements = new Value[(int) readVarLong(in)];
+				for (int i = 0; i < elements.length; ++i) {
+					elements[i] = read(in);
+				}
+				yield Values.value(elements);
+			}
+			case MAP -> Values.value(readMap(in));
+			case NODE -> ((Node) readNode(in)).asValue();
+			case RELATIONSHIP -> ((Relationship) readRelationship(in)).asValue();
+			case PATH -> {
+				var valueFactory = BoltAdapters.getValueFactory();
+				var numNodes = (int) readVarLong(in);
+				var nodes = new ArrayList<org.neo4j.bolt.connection.values.Node>(numNodes);
+				for (int i = 0; i < numNodes; ++i) {
+					nodes.add(readNode(in));
+				}
+				var relationships = new ArrayList<org.neo4j.bolt.connection.values.Relationship>();
+				var segments = new ArrayList<org.neo4j.bolt.connection.values.Segment>();
+				for (int i = 0; i < numNodes - 1; ++i) {
+					var relationship = readRelationship(in);
+					relationships.add(relationship);
+					segments.add(valueFactory.segment(nodes.get(i), relationship, nodes.get(i + 1)));
+				}
+				yield ((Path) valueFactory.path(segments, nodes, relationships)).asValue();
+			}
+			case POINT -> {
+				var srid = (int) readVarLong(in);
+				var twoDimensional = in.readBoolean();
+				var x = in.readDouble();
+				var y = in.readDouble();
+				yield twoDimensional ? Values.point(srid, x, y) : Values.point(srid, x, y, in.readDouble());
+			}
+			case DATE -> Values.value(LocalDate.ofEpochDay(readVarLong(in)));
+			case TIME -> {
+				var localTime = LocalTime.ofNanoOfDay(readVarLong(in));
+				yield Values.value(OffsetTime.of(localTime, ZoneOffset.ofTotalSeconds((int) readVarLong(in))));
+			}
+			case LOCAL_TIME -> Values.value(LocalTime.ofNanoOfDay(readVarLong(in)));
+			case LOCAL_DATE_TIME ->
+				Values.value(LocalDateTime.ofEpochSecond(readVarLong(in), (int) readVarLong(in), ZoneOffset.UTC));
+			case DATE_TIME -> {
+				var instant = Instant.ofEpochSecond(readVarLong(in), readVarLong(in));
+				yield Values.value(ZonedDateTime.ofInstant(instant, ZoneId.of(readString(in))));
+			}
+			case DURATION ->
+				Values.isoDuration(readVarLong(in), readVarLong(in), readVarLong(in), (int) readVarLong(in));
+			case VECTOR -> readVector(in).asValue();
+			default -> throw new IOException("Unexpected type %s in spilled row".formatted(type));
+		};
+	}
+
+	private static boolean writeMap(DataOutput out, Iterable<String> keys, int size, Function<String, Value> accessor)
+			throws IOException {
+		writeVarLong(out, size);
+		for (var key : keys) {
+			writeString(out, key);
+			if (!write(out, accessor.apply(key))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Map<String, Object> readMap(DataInput in) throws IOException {
+		var size = (int) readVarLong(in);
+		var result = new LinkedHashMap<String, Object>(size);
+		for (int i = 0; i < size; ++i) {
+			result.put(readString(in), read(in));
+		}
+		return result;
+	}
+
+	private static Map<String, org.neo4j.bolt.connection.values.Value> readProperties(DataInput in,
+			ValueFactory valueFactory) throws IOException {
+		var size = (int) readVarLong(in);
+		var result = new HashMap<String, org.neo4j.bolt.connection.values.Value>(size);
+		for (int i = 0; i < size; ++i) {
+			result.put(readString(in), valueFactory.value(read(in)));
+		}
+		return result;
+	}
+
+	@SuppressWarnings("deprecation")
+	private static boolean writeNode(DataOutput out, Node node) throws IOException {
+		writeVarLong(out, node.id());
+		writeString(out, node.elementId());
+		var labels = new ArrayList<String>();
+		node.labels().forEach(labels::add);
+		writeVarLong(out, labels.size());
+		for (var label : labels) {
+			writeString(out, label);
+		}
+		return writeMap(out, node.keys(), node.size(), node::get);
+	}
+
+	private static org.neo4j.bolt.connection.values.Node readNode(DataInput in) throws IOException {
+		var valueFactory = BoltAdapters.getValueFactory();
+		var id = readVarLong(in);
+		var elementId = readString(in);
+		var numLabels = (int) readVarLong(in);
+		var labels = new ArrayList<String>(numLabels);
+		for (int i = 0; i < numLabels; ++i) {
+			labels.add(readString(in));
+		}
+		return valueFactory.node(id, elementId, labels, readProperties(in, valueFactory));
+	}
+
+	@SuppressWarnings("deprecation")
+	private static boolean writeRelationship(DataOutput out, Relationship relationship) throws IOException {
+		writeVarLong(out, relationship.id());
+		writeString(out, relationship.elementId());
+		writeVarLong(out, relationship.startNodeId());
+		writeString(out, relationship.startNodeElementId());
+		writeVarLong(out, relationship.endNodeId());
+		writeString(out, relationship.endNodeElementId());
+		writeString(out, relationship.type());
+		return writeMap(out, relationship.keys(), relationship.size(), relationship::get);
+	}
+
+	private static org.neo4j.bolt.connection.values.Relationship readRelationship(DataInput in) throws IOException {
+		var valueFactory = BoltAdapters.getValueFactory();
+		var id = readVarLong(in);
+		var elementId = readString(in);
+		var start = readVarLong(in);
+		var startElementId = readString(in);
+		var end = readVarLong(in);
+		var endElementId = readString(in);
+		var type = readString(in);
+		return valueFactory.relationship(id, elementId, start, startElementId, end, endElementId, type,
+				readProperties(in, valueFactory));
+	}
+
+	private static Vector readVector(DataInput in) throws IOException {
+		var elementType = Vector.ElementType.values()[in.readUnsignedByte()];
+		var size = (int) readVarLong(in);
+		switch (elementType) {
+			case INTEGER8 -> {
+				var elements = new byte[size];
+				in.readFully(elements);
+				return Vector.wrap(elements);
+			}
+			case INTEGER16 -> {
+				var elements = new short[size];
+				for (int i = 0; i < size; ++i) {
+					elements[i] = in.readShort();
+				}
+				return Vector.wrap(elements);
+			}
+			case INTEGER32 -> {
+				var elements = new int[size];
+				for (int i = 0; i < size; ++i) {
+					elements[i] = in.readInt();
+				}
+				return Vector.wrap(elements);
+			}
+			case INTEGER -> {
+				var elements = new long[size];
+				for (int i = 0; i < size; ++i) {
+					elements[i] = in.readLong();
+				}
+				return Vector.wrap(elements);
+			}
+			case FLOAT32 -> {
+				var elements = new float[size];
+				for (int i = 0; i < size; ++i) {
+					elements[i] = in.readFloat();
+				}
+				return Vector.wrap(elements);
+			}
+			default -> {
+				var elements = new double[size];
+				for (int i = 0; i < size; ++i) {
+					elements[i] = in.readDouble();
+				}
+				return Vector.wrap(elements);
+			}
+		}
+	}
+
+	private static void writeString(DataOutput out, String value) throws IOException {
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInput in) throws IOException {
+		var bytes = new byte[(int) readVarLong(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Writes a zig-zag encoded variable length long, so that small absolute values take
+	 * up a single byte.
+	 * @param out the output to write to
+	 * @param value the value to write
+	 * @throws IOException if writing fails
+	 */
+	private static void writeVarLong(DataOutput out, long value) throws IOException {
+		var zigZag = (value << 1) ^ (value >> 63);
+		while ((zigZag & ~0x7FL) != 0) {
+			out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+			zigZag >>>= 7;
+		}
+		out.writeByte((int) zigZag);
+	}
+
+	private static long readVarLong(DataInput in) throws IOException {
+		long zigZag = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			var b = in.readUnsignedByte();
+			zigZag |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (zigZag >>> 1) ^ -(zigZag & 1);
+			}
+		}
+		throw new IOException("Malformed variable length long");
+	}
+
+}
@@ -0,0 +1,534 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.bolt.connection.SummaryCounters;
+import org.neo4j.jdbc.values.Value;
+
+/**
+ * A catalog of database metadata results, such as the tables and columns derived from the
+ * graph. A local catalog belongs to a single {@link DatabaseMetadataImpl} and never
+ * expires, which is the behaviour of the driver without further configuration. A shared
+ * catalog is created once per database and driver configuration and is used by all
+ * connections with that configuration: its entries expire after a given time to live, it
+ * can be invalidated when committed transactions change the schema, and it can be
+ * persisted to a local file so that a restarted application doesn't need to sample the
+ * graph again.
+ * <p>
+ * The catalog doesn't prevent concurrent loads of the same entry: metadata queries may
+ * call each other, and the last load wins. Changes are persisted in the background: all
+ * changes made within {@link #STORE_DELAY} are written at once, and pending changes are
+ * written by {@link #persist()}.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class SchemaCatalog {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.schema-catalog");
+
+	private static final int MAGIC = 0x4E344A53;
+
+	private static final int VERSION = 1;
+
+	static final Duration STORE_DELAY = Duration.ofSeconds(1);
+
+	private final Duration ttl;
+
+	private final Path file;
+
+	private final boolean invalidateOnSchemaChanges;
+
+	private final Clock clock;
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Lock fileLock = new ReentrantLock();
+
+	private final AtomicBoolean storePending = new AtomicBoolean();
+
+	/**
+	 * Changes reported by statements whose transactions have not yet been committed. The
+	 * transactions are weakly referenced, so that abandoned ones don't linger.
+	 */
+	private final Map<Neo4jTransaction, Change> uncommittedChanges = new WeakHashMap<>();
+
+	private final Lock changesLock = new ReentrantLock();
+
+	/**
+	 * Incremented whenever a committed transaction may have added or removed labels,
+	 * relationship types or property keys.
+	 */
+	private final AtomicLong tokenChanges = new AtomicLong();
+
+	private volatile Tokens tokens;
+
+	private volatile long verifiedTokenChanges;
+
+	/**
+	 * Creates a local catalog that is not shared between connections.
+	 * @return a new, local catalog
+	 */
+	static SchemaCatalog local() {
+		return new SchemaCatalog(null, null, false, Clock.systemUTC());
+	}
+
+	/**
+	 * Creates a new catalog. If a file is given and exists, all entries in it that are
+	 * not yet expired are loaded.
+	 * @param ttl the time to live of entries, {@literal null} for a local catalog whose
+	 * entries never expire
+	 * @param file an optional file to persist the catalog to
+	 * @param invalidateOnSchemaChanges whether to invalidate the catalog when a statement
+	 * reports changes that may affect the schema
+	 * @param clock the clock used to expire entries
+	 */
+	SchemaCatalog(Duration ttl, Path file, boolean invalidateOnSchemaChanges, Clock clock) {
+		this.ttl = ttl;
+		this.file = file;
+		this.invalidateOnSchemaChanges = invalidateOnSchemaChanges;
+		this.clock = Objects.requireNonNull(clock);
+		if (this.file != null) {
+			load();
+		}
+	}
+
+	/**
+	 * {@return true if this catalog is shared between connections}
+	 */
+	boolean isShared() {
+		return this.ttl != null;
+	}
+
+	/**
+	 * Retrieves an entry that is not yet expired.
+	 * @param key the key of the entry
+	 * @return the entry or {@literal null} if there is no valid entry
+	 */
+	Entry get(Key key) {
+		applyCommittedChanges();
+		var entry = this.entries.get(key);
+		if (entry != null && isExpired(entry)) {
+			this.entries.remove(key, entry);
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Stores the result of a metadata call.
+	 * @param key the key of the entry
+	 * @param keys the column names of the result
+	 * @param rows the rows of the result
+	 * @return the new entry
+	 */
+	Entry put(Key key, List<String> keys, List<Value[]> rows) {
+		var entry = new Entry(List.copyOf(keys), Collections.unmodifiableList(new ArrayList<>(rows)),
+				this.clock.instant());
+		this.entries.put(key, entry);
+		scheduleStore();
+		return entry;
+	}
+
+	/**
+	 * Removes all entries, including the persisted ones.
+	 */
+	void invalidate() {
+		this.entries.clear();
+		scheduleStore();
+	}
+
+	/**
+	 * Writes pending changes to the file right away, instead of waiting for the
+	 * background write, and waits for a background write that is already in progress.
+	 */
+	void persist() {
+		if (this.file == null) {
+			return;
+		}
+		if (this.storePending.compareAndSet(true, false)) {
+			store();
+		}
+		else {
+			this.fileLock.lock();
+			this.fileLock.unlock();
+		}
+	}
+
+	/**
+	 * Records the changes a statement reported within the given transaction, if
+	 * configured to do so. They are only considered once the transaction has been
+	 * committed: changes to indexes or constraints invalidate the catalog, changes to
+	 * labels, relationships or properties only do so if they added or removed any label,
+	 * relationship type or property key, which is checked by {@link #verify(TokenSource)}
+	 * before the catalog is used the next time. Data changes that don't affect those
+	 * names, such as updates to existing properties, keep the catalog.
+	 * @param transaction the transaction the statement has been executed in
+	 * @param counters the counters of a statement
+	 */
+	void onUpdates(Neo4jTransaction transaction, SummaryCounters counters) {
+		if (!this.invalidateOnSchemaChanges || transaction == null || counters == null) {
+			return;
+		}
+		var change = Change.of(counters);
+		if (change != Change.NONE) {
+			this.changesLock.lock();
+			try {
+				this.uncommittedChanges.merge(transaction, change, Change::max);
+			}
+			finally {
+				this.changesLock.unlock();
+			}
+			applyCommittedChanges();
+		}
+	}
+
+	/**
+	 * Makes sure that the labels, relationship types and property keys of the database
+	 * did not change since the catalog was filled, invalidating it otherwise. The tokens
+	 * are only retrieved the first time and after transactions have been committed that
+	 * may have changed them.
+	 * @param tokenSource used to retrieve the current tokens
+	 * @throws SQLException if the tokens cannot be retrieved
+	 */
+	void verify(TokenSource tokenSource) throws SQLException {
+		if (!this.invalidateOnSchemaChanges) {
+			return;
+		}
+		applyCommittedChanges();
+		var changes = this.tokenChanges.get();
+		var previousTokens = this.tokens;
+		if (previousTokens != null && changes == this.verifiedTokenChanges) {
+			return;
+		}
+		var currentTokens = tokenSource.fetch();
+		if (previousTokens != null && !previousTokens.equals(currentTokens)) {
+			LOGGER.log(Level.FINE, "Invalidating schema catalog after labels, types or property keys changed");
+			invalidate();
+		}
+		this.tokens = currentTokens;
+		this.verifiedTokenChanges = changes;
+	}
+
+	private void applyCommittedChanges() {
+		var committedChange = Change.NONE;
+		this.changesLock.lock();
+		try {
+			var iterator = this.uncommittedChanges.entrySet().iterator();
+			while (iterator.hasNext()) {
+				var uncommittedChange = iterator.next();
+				var state = uncommittedChange.getKey().getState();
+				if (state == Neo4jTransaction.State.COMMITTED) {
+					committedChange = committedChange.max(uncommittedChange.getValue());
+					iterator.remove();
+				}
+				else if (state == Neo4jTransaction.State.ROLLEDBACK || state == Neo4jTransaction.State.FAILED) {
+					iterator.remove();
+				}
+			}
+		}
+		finally {
+			this.changesLock.unlock();
+		}
+		if (committedChange == Change.SCHEMA) {
+			LOGGER.log(Level.FINE, "Invalidating schema catalog after changes to indexes or constraints");
+			invalidate();
+		}
+		else if (committedChange == Change.TOKENS) {
+			this.tokenChanges.incrementAndGet();
+		}
+	}
+
+	private boolean isExpired(Entry entry) {
+		return this.ttl != null && !entry.createdAt().plus(this.ttl).isAfter(this.clock.instant());
+	}
+
+	/**
+	 * Schedules writing the catalog to its file unless a write is already pending, which
+	 * will include the latest changes when it happens.
+	 */
+	private void scheduleStore() {
+		if (this.file == null || !this.storePending.compareAndSet(false, true)) {
+			return;
+		}
+		CompletableFuture.runAsync(() -> {
+			if (this.storePending.compareAndSet(true, false)) {
+				store();
+			}
+		}, CompletableFuture.delayedExecutor(STORE_DELAY.toMillis(), TimeUnit.MILLISECONDS));
+	}
+
+	private void load() {
+		this.fileLock.lock();
+		try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				LOGGER.log(Level.WARNING, "Ignoring schema catalog {0} with unknown format", this.file);
+				return;
+			}
+			var numEntries = in.readInt();
+			for (int i = 0; i < numEntries; ++i) {
+				in.readInt(); // Size of the entry, only needed for skipping
+				var key = readKey(in);
+				var entry = readEntry(in);
+				if (!isExpired(entry)) {
+					this.entries.put(key, entry);
+				}
+			}
+		}
+		catch (NoSuchFileException ex) {
+			// Nothing persisted yet
+		}
+		catch (IOException | RuntimeException ex) {
+			this.entries.clear();
+			LOGGER.log(Level.WARNING, ex, () -> "Could not load schema catalog from %s".formatted(this.file));
+		}
+		finally {
+			this.fileLock.unlock();
+		}
+	}
+
+	private void store() {
+		this.fileLock.lock();
+		try {
+			var encodedEntries = new ArrayList<byte[]>(this.entries.size());
+			for (var entry : this.entries.entrySet()) {
+				var encoded = encode(entry.getKey(), entry.getValue());
+				if (encoded != null) {
+					encodedEntries.add(encoded);
+				}
+			}
+			var parent = this.file.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			var tempFile = Files.createTempFile(parent, "neo4j-jdbc-schema-catalog-", ".tmp");
+			try {
+				try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeInt(encodedEntries.size());
+					for (var encoded : encodedEntries) {
+						out.writeInt(encoded.length);
+						out.write(encoded);
+					}
+				}
+				moveIntoPlace(tempFile);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+		catch (IOException ex) {
+			LOGGER.log(Level.WARNING, ex, () -> "Could not store schema catalog in %s".formatted(this.file));
+		}
+		finally {
+			this.fileLock.unlock();
+		}
+	}
+
+	private void moveIntoPlace(Path tempFile) throws IOException {
+		try {
+			Files.move(tempFile, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (AtomicMoveNotSupportedException ex) {
+			Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Encodes a single entry.
+	 * @param key the key of the entry
+	 * @param entry the entry
+	 * @return the encoded entry or {@literal null} if it contains values without a binary
+	 * representation
+	 * @throws IOException if encoding fails
+	 */
+	private static byte[] encode(Key key, Entry entry) throws IOException {
+		var bytes = new ByteArrayOutputStream();
+		var out = new DataOutputStream(bytes);
+		out.writeUTF(key.method());
+		out.writeInt(key.arguments().size());
+		for (var argument : key.arguments()) {
+			out.writeBoolean(argument != null);
+			if (argument != null) {
+				out.writeUTF(argument);
+			}
+		}
+		out.writeLong(entry.createdAt().toEpochMilli());
+		out.writeInt(entry.keys().size());
+		for (var columnName : entry.keys()) {
+			out.writeUTF(columnName);
+		}
+		out.writeInt(entry.rows().size());
+		for (var row : entry.rows()) {
+			for (var value : row) {
+				if (!RowStore.write(out, value)) {
+					return null;
+				}
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Key readKey(DataInputStream in) throws IOException {
+		var method = in.readUTF();
+		var arguments = new String[in.readInt()];
+		for (int i = 0; i < arguments.length; ++i) {
+			arguments[i] = in.readBoolean() ? in.readUTF() : null;
+		}
+		return new Key(method, Collections.unmodifiableList(Arrays.asList(arguments)));
+	}
+
+	private static Entry readEntry(DataInputStream in) throws IOException {
+		var createdAt = Instant.ofEpochMilli(in.readLong());
+		var keys = new String[in.readInt()];
+		for (int i = 0; i < keys.length; ++i) {
+			keys[i] = in.readUTF();
+		}
+		var numRows = in.readInt();
+		var rows = new ArrayList<Value[]>(numRows);
+		for (int i = 0; i < numRows; ++i) {
+			var row = new Value[keys.length];
+			for (int j = 0; j < row.length; ++j) {
+				row[j] = RowStore.read(in);
+			}
+			rows.add(row);
+		}
+		return new Entry(List.of(keys), Collections.unmodifiableList(rows), createdAt);
+	}
+
+	/**
+	 * Retrieves the current tokens of the database.
+	 */
+	@FunctionalInterface
+	interface TokenSource {
+
+		/**
+		 * Retrieves the current tokens of the database.
+		 * @return the current tokens
+		 * @throws SQLException if the tokens cannot be retrieved
+		 */
+		Tokens fetch() throws SQLException;
+
+	}
+
+	/**
+	 * The names from which tables and columns are derived.
+	 *
+	 * @param labels the labels in use
+	 * @param relationshipTypes the relationship types in use
+	 * @param propertyKeys all property keys
+	 */
+	record Tokens(Set<String> labels, Set<String> relationshipTypes, Set<String> propertyKeys) {
+	}
+
+	/**
+	 * How the changes of a statement may affect the catalog, ordered by severity.
+	 */
+	private enum Change {
+
+		/**
+		 * Changes to data only.
+		 */
+		NONE,
+		/**
+		 * Changes that may have added or removed labels, relationship types or property
+		 * keys.
+		 */
+		TOKENS,
+		/**
+		 * Changes to indexes or constraints.
+		 */
+		SCHEMA;
+
+		static Change of(SummaryCounters counters) {
+			if (counters.indexesAdded() + counters.indexesRemoved() + counters.constraintsAdded()
+					+ counters.constraintsRemoved() > 0) {
+				return SCHEMA;
+			}
+			if (counters.labelsAdded() + counters.labelsRemoved() + counters.relationshipsCreated()
+					+ counters.relationshipsDeleted() + counters.nodesDeleted() + counters.propertiesSet() > 0) {
+				return TOKENS;
+			}
+			return NONE;
+		}
+
+		Change max(Change other) {
+			return (compareTo(other) >= 0) ? this : other;
+		}
+
+	}
+
+	/**
+	 * Identifies the result of a metadata call.
+	 *
+	 * @param method the name of the metadata method
+	 * @param arguments the arguments of the call, may contain {@literal null} values
+	 */
+	record Key(String method, List<String> arguments) {
+
+		static Key of(String method, String... arguments) {
+			return new Key(method, Collections.unmodifiableList(Arrays.asList(arguments)));
+		}
+	}
+
+	/**
+	 * The cached result of a metadata call.
+	 *
+	 * @param keys the column names
+	 * @param rows the rows, must not be modified
+	 * @param createdAt when the result has been retrieved
+	 */
+	record Entry(List<String> keys, List<Value[]> rows, Instant createdAt) {
+	}
+
+}
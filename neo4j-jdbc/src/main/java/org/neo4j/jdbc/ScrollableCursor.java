@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * A cursor that allows random access to the records of another, forward-only cursor. The
+ * records are pulled from the delegate on demand and copied into a {@link RowStore} as
+ * they pass by, so that the result is insensitive to changes done after the records have
+ * been pulled. The cursor is positioned before the first row ({@literal 0}), on a row
+ * ({@literal 1} to the number of rows) or after the last row.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class ScrollableCursor extends AbstractCursor {
+
+	private final Cursor delegate;
+
+	private final RowStore rows;
+
+	private boolean exhausted;
+
+	private int position;
+
+	ScrollableCursor(Cursor delegate, List<String> keys, int maxRowsOnHeap) {
+		super(delegate.getSampleRecord());
+		this.delegate = delegate;
+		this.rows = new RowStore(keys, maxRowsOnHeap);
+	}
+
+	@Override
+	public boolean next() throws SQLException {
+		if (this.position > this.rows.size()) {
+			return false;
+		}
+		return moveTo(this.position + 1);
+	}
+
+	/**
+	 * Moves this cursor to the previous row.
+	 * @return true if the cursor is on a row afterwards
+	 * @throws SQLException on any mischief that might happen
+	 */
+	boolean previous() throws SQLException {
+		if (this.position == 0) {
+			return false;
+		}
+		return moveTo(this.position - 1);
+	}
+
+	/**
+	 * Moves this cursor to the given row, following the semantics of
+	 * {@link java.sql.ResultSet#absolute(int)}.
+	 * @param row the row number, negative numbers count from the end of the result
+	 * @return true if the cursor is on a row afterwards
+	 * @throws SQLException on any mischief that might happen
+	 */
+	boolean absolute(int row) throws SQLException {
+		if (row >= 0) {
+			return moveTo(row);
+		}
+		fetchAll();
+		return moveTo(Math.max(this.rows.size() + 1 + row, 0));
+	}
+
+	/**
+	 * Moves this cursor the given number of rows, following the semantics of
+	 * {@link java.sql.ResultSet#relative(int)}.
+	 * @param offset the number of rows to move, negative numbers move backwards
+	 * @return true if the cursor is on a row afterwards
+	 * @throws SQLException on any mischief that might happen
+	 */
+	boolean relative(int offset) throws SQLException {
+		return moveTo((int) Math.max(Math.min((long) this.position + offset, Integer.MAX_VALUE), 0));
+	}
+
+	/**
+	 * Moves this cursor after the last row.
+	 * @throws SQLException on any mischief that might happen
+	 */
+	void afterLast() throws SQLException {
+		fetchAll();
+		moveTo(this.rows.size() + 1);
+	}
+
+	/**
+	 * {@return true if this cursor is before the first row}
+	 */
+	boolean isBeforeFirst() {
+		return this.position == 0;
+	}
+
+	/**
+	 * {@return true if this cursor is after the last row}
+	 */
+	boolean isAfterLast() {
+		return this.exhausted && this.position > this.rows.size();
+	}
+
+	/**
+	 * {@return true if this cursor is on the last row}
+	 */
+	boolean isOnLastRow() {
+		return this.exhausted && this.position == this.rows.size() && this.position > 0;
+	}
+
+	@Override
+	public boolean isLast() {
+		// Same contract as the forward-only cursors: Whether there are more rows after
+		// the current one
+		return this.position < this.rows.size();
+	}
+
+	@Override
+	public int getCurrentRowNum() {
+		return (super.currentRecord != null) ? this.position : 0;
+	}
+
+	@Override
+	public void setFetchSize(int fetchSize) throws SQLException {
+		this.delegate.setFetchSize(fetchSize);
+	}
+
+	@Override
+	public int getFetchSize() {
+		return this.delegate.getFetchSize();
+	}
+
+	@Override
+	public void close() throws SQLException {
+		try {
+			this.delegate.close();
+		}
+		finally {
+			this.rows.close();
+		}
+	}
+
+	private boolean moveTo(int row) throws SQLException {
+		// One row ahead, so that the cursor knows whether it is on the last row
+		fetchUntil((row < Integer.MAX_VALUE) ? row + 1 : row);
+		if (row <= 0) {
+			this.position = 0;
+			super.currentRecord = null;
+			return false;
+		}
+		if (row > this.rows.size()) {
+			this.position = this.rows.size() + 1;
+			super.currentRecord = null;
+			return false;
+		}
+		this.position = row;
+		super.currentRecord = this.rows.get(row - 1);
+		return true;
+	}
+
+	private void fetchUntil(int numRows) throws SQLException {
+		while (!this.exhausted && this.rows.size() < numRows) {
+			if (this.delegate.next()) {
+				this.rows.add(this.delegate.getCurrentRecord());
+			}
+			else {
+				this.exhausted = true;
+			}
+		}
+	}
+
+	private void fetchAll() throws SQLException {
+		fetchUntil(Integer.MAX_VALUE);
+	}
+
+}
@@ -18,9 +18,6 @@
  */
 package org.neo4j.jdbc;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
@@ -44,6 +41,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -76,7 +74,6 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	private static final Map<String, AtomicLong> ID_GENERATORS = new ConcurrentHashMap<>();
 
-	static final int DEFAULT_BUFFER_SIZE_FOR_INCOMING_STREAMS = 4096;
 	static final Charset DEFAULT_ASCII_CHARSET_FOR_INCOMING_STREAM = StandardCharsets.ISO_8859_1;
 
 	private static final HexFormat HEX_FORMAT = HexFormat.of();
@@ -87,8 +84,12 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	private final Neo4jTransactionSupplier transactionSupplier;
 
+	private volatile Neo4jTransaction transaction;
+
 	private int fetchSize = DEFAULT_FETCH_SIZE;
 
+	private int resultSetType = ResultSetImpl.DEFAULT_TYPE;
+
 	private int maxRows;
 
 	private int maxFieldSize;
@@ -156,7 +157,7 @@ non-sealed class StatementImpl implements Neo4jStatement {
 			var processedSQL = applyProcessor ? processSQL(sql) : sql;
 			Events.notify(this.listeners,
 					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, context)));
-			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
+			var transaction = acquireTransaction();
 			Events.notify(this.listeners,
 					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context)));
 			var responses = runAndPull(transaction, processedSQL, parameters, context);
@@ -166,6 +167,21 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		});
 	}
 
+	@Override
+	public Flow.Publisher<Record> executeQueryAsPublisher(String sql) throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Executing `%s` as publisher".formatted(sql));
+		return executeQueryAsPublisher0(sql, Map.of());
+	}
+
+	protected final Flow.Publisher<Record> executeQueryAsPublisher0(String sql, Map<String, Object> parameters)
+			throws SQLException {
+		assertIsOpen();
+		closeResultSet();
+		this.updateCount = -1;
+		this.multipleResultsApi = false;
+		return new RecordPublisher(this::acquireTransaction, processSQL(sql), getParameters(parameters), this.maxRows);
+	}
+
 	private RunAndPullResponses runAndPull(Neo4jTransaction transaction, String processedSQL,
 			Map<String, Object> parameters, Map<String, Object> context) throws SQLException {
 		var finalFetchSize = (this.maxRows > 0) ? Math.min(this.maxRows, this.fetchSize) : this.fetchSize;
@@ -177,8 +193,16 @@ non-sealed class StatementImpl implements Neo4jStatement {
 	}
 
 	private ResultSetHolder newResultSet(Neo4jTransaction transaction, RunAndPullResponses responses, Kind kind) {
+		Cursor.ReadAhead readAhead = null;
+		var scrollableRowsOnHeap = ResultSetImpl.DEFAULT_SCROLLABLE_ROWS_ON_HEAP;
+		if (this.connection instanceof ConnectionImpl connectionImpl) {
+			readAhead = connectionImpl.getReadAhead();
+			scrollableRowsOnHeap = connectionImpl.getScrollableRowsOnHeap();
+		}
 		var newResultSet = new ResultSetImpl(this, this.maxFieldSize, transaction, responses.runResponse(),
-				responses.pullResponse(), this.fetchSize, this.maxRows);
+				responses.pullResponse(), this.fetchSize, this.maxRows,
+				Objects.requireNonNullElse(readAhead, Cursor.ReadAhead.DISABLED), this.resultSetType,
+				scrollableRowsOnHeap);
 		this.listeners.forEach(listener -> {
 			if (listener instanceof ResultSetListener resultSetListener) {
 				newResultSet.addListener(resultSetListener);
@@ -189,7 +213,7 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	private ResultSetHolder newResultSet(List<Record> records, Kind kind) {
 
-		var newResultSet = new ResultSetImpl(this, this.maxFieldSize, records);
+		var newResultSet = new ResultSetImpl(this, this.maxFieldSize, records, this.resultSetType);
 		this.listeners.forEach(listener -> {
 			if (listener instanceof ResultSetListener resultSetListener) {
 				newResultSet.addListener(resultSetListener);
@@ -227,7 +251,7 @@ non-sealed class StatementImpl implements Neo4jStatement {
 			var processedSQL = applyProcessor ? processSQL(sql) : sql;
 			Events.notify(this.listeners,
 					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, context)));
-			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
+			var transaction = acquireTransaction();
 			Events.notify(this.listeners,
 					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context)));
 			Optional<SummaryCounters> counters;
@@ -252,11 +276,63 @@ non-sealed class StatementImpl implements Neo4jStatement {
 				counters = discardResponse.resultSummary().map(ResultSummary::counters);
 			}
 
+			counters.ifPresent(summaryCounters -> onUpdates(transaction, summaryCounters));
 			return counters.map(StatementImpl::countUpdates).orElse(0);
 		});
 	}
 
-	private static Integer countUpdates(SummaryCounters c) {
+	final int getBatchChunkSize() {
+		return (this.connection instanceof ConnectionImpl connectionImpl) ? connectionImpl.getBatchChunkSize() : 0;
+	}
+
+	/**
+	 * Runs the already processed {@code sql} once per set of parameters, pipelining all
+	 * runs in one transaction.
+	 * @param sql the processed statement
+	 * @param parameters one set of parameters per run
+	 * @return one update count per set of parameters
+	 * @throws SQLException if any of the runs fails
+	 */
+	protected final int[] executeUpdates0(String sql, List<Map<String, Object>> parameters) throws SQLException {
+		assertIsOpen();
+		closeResultSet();
+		return recordEvent(sql, ExecutionMode.UPDATE, context -> {
+			this.updateCount = -1;
+			this.multipleResultsApi = false;
+			var transaction = acquireTransaction();
+			Events.notify(this.listeners,
+					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context)));
+			var resolvedParameters = new ArrayList<Map<String, Object>>(parameters.size());
+			for (var parameter : parameters) {
+				resolvedParameters.add(getParameters(parameter));
+			}
+			var discardResponses = transaction.runAndDiscardAll(sql, resolvedParameters, this.queryTimeout,
+					transaction.isAutoCommit());
+			Events.notify(this.listeners,
+					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.DISCARD_RESPONSE_ACQUIRED, context)));
+			return discardResponses.stream()
+				.mapToInt(response -> response.resultSummary().map(ResultSummary::counters).map(counters -> {
+					onUpdates(transaction, counters);
+					return countUpdates(counters);
+				}).orElse(0))
+				.toArray();
+		});
+	}
+
+	/**
+	 * Passes the counters of a statement on to the schema catalog shared by the
+	 * connection, if any, so that it can be invalidated once the transaction has been
+	 * committed.
+	 * @param transaction the transaction the statement has been executed in
+	 * @param counters the counters of a statement
+	 */
+	private void onUpdates(Neo4jTransaction transaction, SummaryCounters counters) {
+		if (this.connection instanceof ConnectionImpl connectionImpl && connectionImpl.getSchemaCatalog() != null) {
+			connectionImpl.getSchemaCatalog().onUpdates(transaction, counters);
+		}
+	}
+
+	static Integer countUpdates(SummaryCounters c) {
 		var rowCount = c.nodesCreated() + c.nodesDeleted() + c.relationshipsCreated() + c.relationshipsDeleted();
 		if (rowCount == 0 && c.containsUpdates()) {
 			var labelsAndProperties = c.labelsAdded() + c.labelsRemoved() + c.propertiesSet();
@@ -347,7 +423,19 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	@Override
 	public void cancel() throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		LOGGER.log(Level.FINER, () -> "Cancelling statement");
+		assertIsOpen();
+		var currentTransaction = this.transaction;
+		if (currentTransaction != null) {
+			currentTransaction.cancel(this);
+		}
+	}
+
+	private Neo4jTransaction acquireTransaction() throws SQLException {
+		var newTransaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
+		newTransaction.setRequestOwner(this);
+		this.transaction = newTransaction;
+		return newTransaction;
 	}
 
 	@Override
@@ -392,10 +480,14 @@ non-sealed class StatementImpl implements Neo4jStatement {
 			var processedSQL = processSQL(sql);
 			Events.notify(this.listeners,
 					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, context)));
-			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
+			var transaction = acquireTransaction();
 			Events.notify(this.listeners,
 					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context)));
 			var responses = runAndPull(transaction, processedSQL, parameters, context);
+			responses.pullResponse()
+				.resultSummary()
+				.map(ResultSummary::counters)
+				.ifPresent(counters -> onUpdates(transaction, counters));
 			this.updateCount = responses.pullResponse()
 				.resultSummary()
 				.map(summary -> summary.counters().totalCount())
@@ -453,36 +545,34 @@ non-sealed class StatementImpl implements Neo4jStatement {
 					.getBytes(StandardCharsets.UTF_8)));
 	}
 
-	private static Map<String, Object> getParameters(Map<String, Object> parameters) throws SQLException {
+	private Map<String, Object> getParameters(Map<String, Object> parameters) throws SQLException {
 		var result = Objects.requireNonNullElseGet(parameters, Map::<String, Object>of);
+		ParameterStreams parameterStreams = null;
 		for (Map.Entry<String, Object> entry : result.entrySet()) {
+			if (!(entry.getValue() instanceof Reader || entry.getValue() instanceof InputStream)) {
+				continue;
+			}
+			if (parameterStreams == null) {
+				parameterStreams = getParameterStreams();
+			}
 			if (entry.getValue() instanceof Reader reader) {
-				try (reader) {
-					StringBuilder buf = new StringBuilder();
-					char[] buffer = new char[DEFAULT_BUFFER_SIZE_FOR_INCOMING_STREAMS];
-					int len;
-					while ((len = reader.read(buffer)) != -1) {
-						buf.append(buffer, 0, len);
-					}
-					entry.setValue(Values.value(buf.toString()));
-				}
-				catch (IOException ex) {
-					throw new Neo4jException(Neo4jException.withInternal(ex));
-				}
+				entry.setValue(Values.value(parameterStreams.readString(entry.getKey(), reader, -1)));
 			}
 			else if (entry.getValue() instanceof InputStream inputStream) {
-				try (var in = new BufferedInputStream(inputStream); var out = new ByteArrayOutputStream()) {
-					in.transferTo(out);
-					entry.setValue(Values.value(out.toByteArray()));
-				}
-				catch (IOException ex) {
-					throw new Neo4jException(withCause(ex));
-				}
+				entry.setValue(Values.value(parameterStreams.readBytes(entry.getKey(), inputStream, -1)));
 			}
 		}
 		return result;
 	}
 
+	final ParameterStreams getParameterStreams() {
+		ParameterStreams parameterStreams = null;
+		if (this.connection instanceof ConnectionImpl connectionImpl) {
+			parameterStreams = connectionImpl.getParameterStreams();
+		}
+		return Objects.requireNonNullElse(parameterStreams, ParameterStreams.UNLIMITED);
+	}
+
 	@Override
 	public ResultSet getResultSet() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Getting result set");
@@ -558,7 +648,11 @@ non-sealed class StatementImpl implements Neo4jStatement {
 	public int getResultSetType() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Getting result set type");
 		assertIsOpen();
-		return ResultSet.TYPE_FORWARD_ONLY;
+		return this.resultSetType;
+	}
+
+	void setResultSetType(int resultSetType) {
+		this.resultSetType = resultSetType;
 	}
 
 	@Override
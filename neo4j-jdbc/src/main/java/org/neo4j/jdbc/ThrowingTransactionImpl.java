@@ -20,7 +20,9 @@ package org.neo4j.jdbc;
 
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.neo4j.jdbc.Neo4jException.GQLError;
 
@@ -46,11 +48,50 @@ final class ThrowingTransactionImpl implements Neo4jTransaction {
 		throw new SQLFeatureNotSupportedException();
 	}
 
+	@Override
+	public void probe(int timeout) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public List<DiscardResponse> runAndDiscardAll(String query, List<Map<String, Object>> parameters, int timeout,
+			boolean commit) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
 	@Override
 	public PullResponse pull(RunResponse runResponse, long request) throws SQLException {
 		throw new SQLFeatureNotSupportedException();
 	}
 
+	@Override
+	public CompletableFuture<PullResponse> pullAsync(RunResponse runResponse, long request) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public PullResponse awaitPull(RunResponse runResponse, CompletableFuture<PullResponse> pendingResponse)
+			throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public CompletableFuture<RunAndPullResponses> runAndPullAsync(String query, Map<String, Object> parameters,
+			long request) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public CompletableFuture<DiscardResponse> discardAsync(RunResponse runResponse) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public CompletableFuture<Void> commitAsync() throws SQLException {
+		commit();
+		return CompletableFuture.completedFuture(null);
+	}
+
 	@Override
 	public void commit() throws SQLException {
 		if (this.state != State.READY) {
@@ -78,6 +119,16 @@ final class ThrowingTransactionImpl implements Neo4jTransaction {
 		this.state = State.FAILED;
 	}
 
+	@Override
+	public void setRequestOwner(Object owner) {
+		// Nothing is ever sent
+	}
+
+	@Override
+	public void cancel(Object owner) {
+		// Nothing is ever in flight
+	}
+
 	@Override
 	public boolean isAutoCommit() {
 		return false;
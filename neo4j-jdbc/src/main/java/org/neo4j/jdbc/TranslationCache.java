@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import org.neo4j.jdbc.events.ConnectionListener;
+import org.neo4j.jdbc.events.ConnectionListener.TranslationCacheLookupEvent;
+import org.neo4j.jdbc.events.ConnectionListener.TranslationCachedEvent;
+import org.neo4j.jdbc.translator.spi.Cache;
+
+/**
+ * A bounded cache of SQL to Cypher translations that is shared between all connections of
+ * a driver with the same configuration. The cache is split into segments, each of them
+ * being a least recently used cache guarded by its own lock, so that there's no global
+ * lock involved when looking up or storing translations. Translations are computed
+ * outside any lock, concurrent misses for the same statement might therefore translate it
+ * more than once.
+ *
+ * @author Michael J. Simons
+ * @since 6.11.0
+ */
+final class TranslationCache {
+
+	private static final int MAX_SEGMENTS = 16;
+
+	private final List<Segment> segments;
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	TranslationCache(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("The capacity of the translation cache must be at least 1");
+		}
+		var numberOfSegments = Math.min(MAX_SEGMENTS, capacity);
+		var segmentCapacity = (capacity + numberOfSegments - 1) / numberOfSegments;
+		this.segments = IntStream.range(0, numberOfSegments)
+			.mapToObj(i -> new Segment(Cache.<String, String>getInstance(segmentCapacity), new ReentrantLock()))
+			.toList();
+	}
+
+	/**
+	 * Returns the cached translation of {@code sql} or translates and caches it with the
+	 * given {@code translator}. Each lookup is reported to the given listeners, newly
+	 * cached translations are reported separately.
+	 * @param sql the statement to translate
+	 * @param translator the translator used on a cache miss
+	 * @param listeners the listeners to notify
+	 * @return the translated statement
+	 */
+	String computeIfAbsent(String sql, UnaryOperator<String> translator,
+			Collection<? extends ConnectionListener> listeners) {
+		var segment = segmentFor(sql);
+		String translation;
+		segment.lock().lock();
+		try {
+			translation = segment.cache().get(sql);
+		}
+		finally {
+			segment.lock().unlock();
+		}
+		if (translation != null) {
+			this.hits.increment();
+			var event = new TranslationCacheLookupEvent(size(), true, 0);
+			Events.notify(listeners, listener -> listener.onTranslationCacheLookup(event));
+			return translation;
+		}
+
+		this.misses.increment();
+		translation = translator.apply(sql);
+		int evicted;
+		segment.lock().lock();
+		try {
+			var cache = segment.cache();
+			var previousSize = cache.size();
+			var previousValue = cache.put(sql, translation);
+			evicted = (previousValue != null) ? 0 : previousSize + 1 - cache.size();
+			this.size.addAndGet(cache.size() - previousSize);
+		}
+		finally {
+			segment.lock().unlock();
+		}
+		if (evicted > 0) {
+			this.evictions.add(evicted);
+		}
+		var cacheSize = size();
+		var cachedEvent = new TranslationCachedEvent(cacheSize);
+		var lookupEvent = new TranslationCacheLookupEvent(cacheSize, false, evicted);
+		Events.notify(listeners, listener -> {
+			listener.onTranslationCached(cachedEvent);
+			listener.onTranslationCacheLookup(lookupEvent);
+		});
+		return translation;
+	}
+
+	/**
+	 * {@return the number of translations currently in the cache}
+	 */
+	int size() {
+		return this.size.get();
+	}
+
+	/**
+	 * Flushes all segments of this cache. The statistics are kept.
+	 */
+	void flush() {
+		this.segments.forEach(segment -> {
+			segment.lock().lock();
+			try {
+				this.size.addAndGet(-segment.cache().size());
+				segment.cache().flush();
+			}
+			finally {
+				segment.lock().unlock();
+			}
+		});
+	}
+
+	long getHits() {
+		return this.hits.sum();
+	}
+
+	long getMisses() {
+		return this.misses.sum();
+	}
+
+	long getEvictions() {
+		return this.evictions.sum();
+	}
+
+	private Segment segmentFor(String sql) {
+		var hash = sql.hashCode();
+		return this.segments.get(Math.floorMod(hash ^ (hash >>> 16), this.segments.size()));
+	}
+
+	private record Segment(Cache<String, String> cache, Lock lock) {
+	}
+
+}
@@ -50,6 +50,15 @@ public interface ConnectionListener {
 	default void onTranslationCached(TranslationCachedEvent event) {
 	}
 
+	/**
+	 * Will be called for every lookup in the translation cache, regardless whether the
+	 * translation has been found in the cache or not.
+	 * @param event the corresponding event
+	 * @since 6.11.0
+	 */
+	default void onTranslationCacheLookup(TranslationCacheLookupEvent event) {
+	}
+
 	/**
 	 * Will be called when a new authentication has been acquired.
 	 * @param event some information about the event
@@ -85,6 +94,18 @@ public interface ConnectionListener {
 	record TranslationCachedEvent(int cacheSize) {
 	}
 
+	/**
+	 * This event will be fired for every lookup in the translation cache.
+	 *
+	 * @param cacheSize the size of the cache after the lookup
+	 * @param hit {@literal true} if the translation has been served from the cache
+	 * @param evictions the number of translations that have been evicted in favour of a
+	 * translation that was not found in the cache
+	 * @since 6.11.0
+	 */
+	record TranslationCacheLookupEvent(int cacheSize, boolean hit, int evictions) {
+	}
+
 	/**
 	 * Will be fired after the Neo4j-JDBC driver has acquired a new authentication.
 	 *
@@ -19,6 +19,7 @@
 package org.neo4j.jdbc.events;
 
 import java.net.URI;
+import java.time.Duration;
 
 /**
  * Defines a listener on relevant {@link org.neo4j.jdbc.Neo4jDriver} events.
@@ -42,6 +43,23 @@ public interface DriverListener {
 	default void onConnectionClosed(ConnectionClosedEvent event) {
 	}
 
+	/**
+	 * Will be called when a connection has been acquired from a connection pool.
+	 * @param event the corresponding event
+	 * @since 6.11.0
+	 */
+	default void onConnectionAcquired(ConnectionAcquiredEvent event) {
+	}
+
+	/**
+	 * Will be called whenever the number of active, idle or pending connections of a
+	 * connection pool changes.
+	 * @param event the corresponding event
+	 * @since 6.11.0
+	 */
+	default void onConnectionPoolChanged(ConnectionPoolChangedEvent event) {
+	}
+
 	/**
 	 * Will be fired when a new connection has been opened.
 	 *
@@ -61,4 +79,28 @@ public interface DriverListener {
 	record ConnectionClosedEvent(URI uri, boolean aborted) {
 	}
 
+	/**
+	 * This event will be fired when a connection has been acquired from a connection
+	 * pool.
+	 *
+	 * @param uri the URL of the Neo4j instance the pool connects to
+	 * @param elapsedTime the time it took to acquire the connection, including waiting
+	 * for a free slot, validation and eventually opening a new connection
+	 * @since 6.11.0
+	 */
+	record ConnectionAcquiredEvent(URI uri, Duration elapsedTime) {
+	}
+
+	/**
+	 * This event will be fired when the state of a connection pool changes.
+	 *
+	 * @param uri the URL of the Neo4j instance the pool connects to
+	 * @param active the number of connections currently in use
+	 * @param idle the number of connections currently idle in the pool
+	 * @param pending the number of callers currently waiting for a connection
+	 * @since 6.11.0
+	 */
+	record ConnectionPoolChangedEvent(URI uri, int active, int idle, int pending) {
+	}
+
 }
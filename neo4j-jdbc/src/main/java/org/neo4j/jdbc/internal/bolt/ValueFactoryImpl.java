@@ -105,7 +105,8 @@ enum ValueFactoryImpl implements ValueFactory {
 	@Override
 	public Relationship relationship(long id, String elementId, long start, String startElementId, long end,
 			String endElementId, String type, Map<String, Value> properties) {
-		return new RelationshipImpl(id, elementId, startElementId, endElementId, type, toDriverMap(properties));
+		return new RelationshipImpl(id, elementId, start, startElementId, end, endElementId, type,
+				toDriverMap(properties));
 	}
 
 	@Override
@@ -146,24 +147,26 @@ enum ValueFactoryImpl implements ValueFactory {
 	@Override
 	public Value vector(Class<?> elementType, Object elements) {
 
+		// The elements have been freshly decoded and are not shared, so no copy needed
+
 		Vector vector;
 		if (elementType == byte.class) {
-			vector = Vector.of((byte[]) elements);
+			vector = Vector.wrap((byte[]) elements);
 		}
 		else if (elementType == short.class) {
-			vector = Vector.of((short[]) elements);
+			vector = Vector.wrap((short[]) elements);
 		}
 		else if (elementType == int.class) {
-			vector = Vector.of((int[]) elements);
+			vector = Vector.wrap((int[]) elements);
 		}
 		else if (elementType == long.class) {
-			vector = Vector.of((long[]) elements);
+			vector = Vector.wrap((long[]) elements);
 		}
 		else if (elementType == float.class) {
-			vector = Vector.of((float[]) elements);
+			vector = Vector.wrap((float[]) elements);
 		}
 		else if (elementType == double.class) {
-			vector = Vector.of((double[]) elements);
+			vector = Vector.wrap((double[]) elements);
 		}
 		else {
 			throw new IllegalArgumentException(
@@ -18,6 +18,12 @@
  */
 package org.neo4j.jdbc.values;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Function;
@@ -66,6 +72,174 @@ final class ArrayBasedVectors {
 		throw new IllegalArgumentException("Unsupported vector implementation: " + vector.getClass().getName());
 	};
 
+	private static float[] elementsOf(Float32Vector vector) {
+		return ((Float32VectorImpl) Objects.requireNonNull(vector)).elements();
+	}
+
+	private static double[] elementsOf(Float64Vector vector) {
+		return ((Float64VectorImpl) Objects.requireNonNull(vector)).elements();
+	}
+
+	private static void assertSameSize(int size, int otherSize) {
+		if (size != otherSize) {
+			throw new IllegalArgumentException(
+					"Vectors must have the same size, %d is not equal to %d".formatted(size, otherSize));
+		}
+	}
+
+	// The following methods sum into several independent accumulators, so that the
+	// operations on consecutive elements don't depend on each other and can be
+	// pipelined. The JIT won't reorder floating point sums on its own.
+
+	static double dotProduct(float[] a, float[] b) {
+		assertSameSize(a.length, b.length);
+		double s0 = 0;
+		double s1 = 0;
+		double s2 = 0;
+		double s3 = 0;
+		int i = 0;
+		for (int upperBound = a.length & ~3; i < upperBound; i += 4) {
+			s0 += (double) a[i] * b[i];
+			s1 += (double) a[i + 1] * b[i + 1];
+			s2 += (double) a[i + 2] * b[i + 2];
+			s3 += (double) a[i + 3] * b[i + 3];
+		}
+		for (; i < a.length; ++i) {
+			s0 += (double) a[i] * b[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	static double dotProduct(double[] a, double[] b) {
+		assertSameSize(a.length, b.length);
+		double s0 = 0;
+		double s1 = 0;
+		double s2 = 0;
+		double s3 = 0;
+		int i = 0;
+		for (int upperBound = a.length & ~3; i < upperBound; i += 4) {
+			s0 += a[i] * b[i];
+			s1 += a[i + 1] * b[i + 1];
+			s2 += a[i + 2] * b[i + 2];
+			s3 += a[i + 3] * b[i + 3];
+		}
+		for (; i < a.length; ++i) {
+			s0 += a[i] * b[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	static double cosineSimilarity(float[] a, float[] b) {
+		assertSameSize(a.length, b.length);
+		double dot0 = 0;
+		double dot1 = 0;
+		double normA0 = 0;
+		double normA1 = 0;
+		double normB0 = 0;
+		double normB1 = 0;
+		int i = 0;
+		for (int upperBound = a.length & ~1; i < upperBound; i += 2) {
+			double a0 = a[i];
+			double a1 = a[i + 1];
+			double b0 = b[i];
+			double b1 = b[i + 1];
+			dot0 += a0 * b0;
+			dot1 += a1 * b1;
+			normA0 += a0 * a0;
+			normA1 += a1 * a1;
+			normB0 += b0 * b0;
+			normB1 += b1 * b1;
+		}
+		if (i < a.length) {
+			double a0 = a[i];
+			double b0 = b[i];
+			dot0 += a0 * b0;
+			normA0 += a0 * a0;
+			normB0 += b0 * b0;
+		}
+		return cosine(dot0 + dot1, normA0 + normA1, normB0 + normB1);
+	}
+
+	static double cosineSimilarity(double[] a, double[] b) {
+		assertSameSize(a.length, b.length);
+		double dot0 = 0;
+		double dot1 = 0;
+		double normA0 = 0;
+		double normA1 = 0;
+		double normB0 = 0;
+		double normB1 = 0;
+		int i = 0;
+		for (int upperBound = a.length & ~1; i < upperBound; i += 2) {
+			dot0 += a[i] * b[i];
+			dot1 += a[i + 1] * b[i + 1];
+			normA0 += a[i] * a[i];
+			normA1 += a[i + 1] * a[i + 1];
+			normB0 += b[i] * b[i];
+			normB1 += b[i + 1] * b[i + 1];
+		}
+		if (i < a.length) {
+			dot0 += a[i] * b[i];
+			normA0 += a[i] * a[i];
+			normB0 += b[i] * b[i];
+		}
+		return cosine(dot0 + dot1, normA0 + normA1, normB0 + normB1);
+	}
+
+	private static double cosine(double dot, double squaredNormA, double squaredNormB) {
+		if (squaredNormA == 0 || squaredNormB == 0) {
+			return Double.NaN;
+		}
+		return dot / (Math.sqrt(squaredNormA) * Math.sqrt(squaredNormB));
+	}
+
+	static double euclideanDistance(float[] a, float[] b) {
+		assertSameSize(a.length, b.length);
+		double s0 = 0;
+		double s1 = 0;
+		double s2 = 0;
+		double s3 = 0;
+		int i = 0;
+		for (int upperBound = a.length & ~3; i < upperBound; i += 4) {
+			double d0 = (double) a[i] - b[i];
+			double d1 = (double) a[i + 1] - b[i + 1];
+			double d2 = (double) a[i + 2] - b[i + 2];
+			double d3 = (double) a[i + 3] - b[i + 3];
+			s0 += d0 * d0;
+			s1 += d1 * d1;
+			s2 += d2 * d2;
+			s3 += d3 * d3;
+		}
+		for (; i < a.length; ++i) {
+			double d = (double) a[i] - b[i];
+			s0 += d * d;
+		}
+		return Math.sqrt((s0 + s1) + (s2 + s3));
+	}
+
+	static double euclideanDistance(double[] a, double[] b) {
+		assertSameSize(a.length, b.length);
+		double s0 = 0;
+		double s1 = 0;
+		double s2 = 0;
+		double s3 = 0;
+		int i = 0;
+		for (int upperBound = a.length & ~3; i < upperBound; i += 4) {
+			double d0 = a[i] - b[i];
+			double d1 = a[i + 1] - b[i + 1];
+			double d2 = a[i + 2] - b[i + 2];
+			double d3 = a[i + 3] - b[i + 3];
+			s0 += d0 * d0;
+			s1 += d1 * d1;
+			s2 += d2 * d2;
+			s3 += d3 * d3;
+		}
+		for (; i < a.length; ++i) {
+			double d = a[i] - b[i];
+			s0 += d * d;
+		}
+		return Math.sqrt((s0 + s1) + (s2 + s3));
+	}
+
 	static String toString(Vector vector) {
 		var value = vector.stream().map(Number::toString).collect(Collectors.joining(", ", "[", "]"));
 		return "vector(%s, %d, %s NOT NULL)".formatted(value, vector.size(), vector.elementType());
@@ -78,6 +252,11 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public ByteBuffer asBuffer() {
+			return ByteBuffer.wrap(this.elements).asReadOnlyBuffer();
+		}
+
 		@Override
 		public Stream<Byte> stream() {
 			return IntStream.range(0, this.elements.length).mapToObj(i -> this.elements[i]);
@@ -115,6 +294,11 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public ShortBuffer asBuffer() {
+			return ShortBuffer.wrap(this.elements).asReadOnlyBuffer();
+		}
+
 		@Override
 		public Stream<Short> stream() {
 			return IntStream.range(0, this.elements.length).mapToObj(i -> this.elements[i]);
@@ -152,6 +336,11 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public IntBuffer asBuffer() {
+			return IntBuffer.wrap(this.elements).asReadOnlyBuffer();
+		}
+
 		@Override
 		public Stream<Integer> stream() {
 			return Arrays.stream(this.elements).boxed();
@@ -189,6 +378,11 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public LongBuffer asBuffer() {
+			return LongBuffer.wrap(this.elements).asReadOnlyBuffer();
+		}
+
 		@Override
 		public Stream<Long> stream() {
 			return Arrays.stream(this.elements).boxed();
@@ -226,6 +420,26 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public FloatBuffer asBuffer() {
+			return FloatBuffer.wrap(this.elements).asReadOnlyBuffer();
+		}
+
+		@Override
+		public double dotProduct(Float32Vector other) {
+			return ArrayBasedVectors.dotProduct(this.elements, elementsOf(other));
+		}
+
+		@Override
+		public double cosineSimilarity(Float32Vector other) {
+			return ArrayBasedVectors.cosineSimilarity(this.elements, elementsOf(other));
+		}
+
+		@Override
+		public double euclideanDistance(Float32Vector other) {
+			return ArrayBasedVectors.euclideanDistance(this.elements, elementsOf(other));
+		}
+
 		@Override
 		public Stream<Float> stream() {
 			return IntStream.range(0, this.elements.length).mapToObj(i -> this.elements[i]);
@@ -263,6 +477,26 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public DoubleBuffer asBuffer() {
+			return DoubleBuffer.wrap(this.elements).asReadOnlyBuffer();
+		}
+
+		@Override
+		public double dotProduct(Float64Vector other) {
+			return ArrayBasedVectors.dotProduct(this.elements, elementsOf(other));
+		}
+
+		@Override
+		public double cosineSimilarity(Float64Vector other) {
+			return ArrayBasedVectors.cosineSimilarity(this.elements, elementsOf(other));
+		}
+
+		@Override
+		public double euclideanDistance(Float64Vector other) {
+			return ArrayBasedVectors.euclideanDistance(this.elements, elementsOf(other));
+		}
+
 		@Override
 		public Stream<Double> stream() {
 			return Arrays.stream(this.elements).boxed();
@@ -27,6 +27,25 @@ package org.neo4j.jdbc.values;
  */
 public interface Relationship extends Entity {
 
+	/**
+	 * The numeric id of the node where this relationship starts, see
+	 * {@link Entity#id()}.
+	 * @return the node id
+	 * @deprecated superseded by {@link #startNodeElementId()}
+	 * @since 6.11.0
+	 */
+	@Deprecated
+	long startNodeId();
+
+	/**
+	 * The numeric id of the node where this relationship ends, see {@link Entity#id()}.
+	 * @return the node id
+	 * @deprecated superseded by {@link #endNodeElementId()}
+	 * @since 6.11.0
+	 */
+	@Deprecated
+	long endNodeId();
+
 	/**
 	 * The id of the node where this relationship starts.
 	 * @return the node id
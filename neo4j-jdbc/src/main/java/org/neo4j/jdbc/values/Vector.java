@@ -18,6 +18,12 @@
  */
 package org.neo4j.jdbc.values;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -45,8 +51,13 @@ import org.neo4j.jdbc.values.ArrayBasedVectors.Int8VectorImpl;
  * </ul>
  * A vector is immutable, and all {@literal toXXXArray} methods will return a copy. Hence,
  * it is advised that you keep that copy around for as long as you need it and not
- * recreate it on every use. Constructions of {@link Vector instances} must go through the
- * appropriate factory methods in this interface.
+ * recreate it on every use. If you only need to read the elements, use the
+ * {@literal asBuffer} methods instead, which return read-only views without copying.
+ * Constructions of {@link Vector instances} must go through the appropriate factory
+ * methods in this interface: The {@literal of} methods copy the given elements, the
+ * {@literal wrap} methods take ownership of the given array without copying it, which is
+ * preferable for large amounts of vectors, such as embeddings, as long as the array is
+ * not modified afterward.
  *
  * @author Michael J. Simons
  * @since 6.8.0
@@ -170,6 +181,78 @@ public sealed interface Vector extends AsValue {
 				Arrays.copyOf(elements, elements.length));
 	}
 
+	/**
+	 * Creates a vector composed of {@link ElementType#INTEGER8} that is backed by the
+	 * given array. The array is not copied and must not be modified afterward.
+	 * @param elements the elements for the new vector
+	 * @return a new {@link Vector}
+	 * @since 6.11.0
+	 */
+	static Vector wrap(byte[] elements) {
+		assertSize(Objects.requireNonNull(elements, ArrayBasedVectors.MSG_NULL_CHECK).length);
+		return new ArrayBasedVectors.Int8VectorImpl(ElementType.INTEGER8, elements.length, elements);
+	}
+
+	/**
+	 * Creates a vector composed of {@link ElementType#INTEGER16} that is backed by the
+	 * given array. The array is not copied and must not be modified afterward.
+	 * @param elements the elements for the new vector
+	 * @return a new {@link Vector}
+	 * @since 6.11.0
+	 */
+	static Vector wrap(short[] elements) {
+		assertSize(Objects.requireNonNull(elements, ArrayBasedVectors.MSG_NULL_CHECK).length);
+		return new ArrayBasedVectors.Int16VectorImpl(ElementType.INTEGER16, elements.length, elements);
+	}
+
+	/**
+	 * Creates a vector composed of {@link ElementType#INTEGER32} that is backed by the
+	 * given array. The array is not copied and must not be modified afterward.
+	 * @param elements the elements for the new vector
+	 * @return a new {@link Vector}
+	 * @since 6.11.0
+	 */
+	static Vector wrap(int[] elements) {
+		assertSize(Objects.requireNonNull(elements, ArrayBasedVectors.MSG_NULL_CHECK).length);
+		return new ArrayBasedVectors.Int32VectorImpl(ElementType.INTEGER32, elements.length, elements);
+	}
+
+	/**
+	 * Creates a vector composed of {@link ElementType#INTEGER} that is backed by the
+	 * given array. The array is not copied and must not be modified afterward.
+	 * @param elements the elements for the new vector
+	 * @return a new {@link Vector}
+	 * @since 6.11.0
+	 */
+	static Vector wrap(long[] elements) {
+		assertSize(Objects.requireNonNull(elements, ArrayBasedVectors.MSG_NULL_CHECK).length);
+		return new ArrayBasedVectors.Int64VectorImpl(ElementType.INTEGER, elements.length, elements);
+	}
+
+	/**
+	 * Creates a vector composed of {@link ElementType#FLOAT32} that is backed by the
+	 * given array. The array is not copied and must not be modified afterward.
+	 * @param elements the elements for the new vector
+	 * @return a new {@link Vector}
+	 * @since 6.11.0
+	 */
+	static Vector wrap(float[] elements) {
+		assertSize(Objects.requireNonNull(elements, ArrayBasedVectors.MSG_NULL_CHECK).length);
+		return new ArrayBasedVectors.Float32VectorImpl(ElementType.FLOAT32, elements.length, elements);
+	}
+
+	/**
+	 * Creates a vector composed of {@link ElementType#FLOAT} that is backed by the given
+	 * array. The array is not copied and must not be modified afterward.
+	 * @param elements the elements for the new vector
+	 * @return a new {@link Vector}
+	 * @since 6.11.0
+	 */
+	static Vector wrap(double[] elements) {
+		assertSize(Objects.requireNonNull(elements, ArrayBasedVectors.MSG_NULL_CHECK).length);
+		return new ArrayBasedVectors.Float64VectorImpl(ElementType.FLOAT, elements.length, elements);
+	}
+
 	/**
 	 * This enum describes the element-type of a {@link VectorValue} and the corresponding
 	 * Java type.
@@ -229,6 +312,12 @@ public sealed interface Vector extends AsValue {
 		 */
 		byte[] toArray();
 
+		/**
+		 * {@return a read-only view of the elements of this vector, without copying them}
+		 * @since 6.11.0
+		 */
+		ByteBuffer asBuffer();
+
 	}
 
 	/**
@@ -242,6 +331,12 @@ public sealed interface Vector extends AsValue {
 		 */
 		short[] toArray();
 
+		/**
+		 * {@return a read-only view of the elements of this vector, without copying them}
+		 * @since 6.11.0
+		 */
+		ShortBuffer asBuffer();
+
 	}
 
 	/**
@@ -255,6 +350,12 @@ public sealed interface Vector extends AsValue {
 		 */
 		int[] toArray();
 
+		/**
+		 * {@return a read-only view of the elements of this vector, without copying them}
+		 * @since 6.11.0
+		 */
+		IntBuffer asBuffer();
+
 	}
 
 	/**
@@ -268,6 +369,12 @@ public sealed interface Vector extends AsValue {
 		 */
 		long[] toArray();
 
+		/**
+		 * {@return a read-only view of the elements of this vector, without copying them}
+		 * @since 6.11.0
+		 */
+		LongBuffer asBuffer();
+
 	}
 
 	/**
@@ -281,6 +388,45 @@ public sealed interface Vector extends AsValue {
 		 */
 		float[] toArray();
 
+		/**
+		 * {@return a read-only view of the elements of this vector, without copying them}
+		 * @since 6.11.0
+		 */
+		FloatBuffer asBuffer();
+
+		/**
+		 * Computes the dot product of this and another vector.
+		 * @param other the other vector
+		 * @return the dot product of both vectors
+		 * @throws IllegalArgumentException if the vectors have different sizes
+		 * @since 6.11.0
+		 */
+		double dotProduct(Float32Vector other);
+
+		/**
+		 * Computes the cosine of the angle between this and another vector, ranging from
+		 * {@literal -1} to {@literal 1}. Note that Cypher's
+		 * {@code vector.similarity.cosine} normalizes this value into the range from
+		 * {@literal 0} to {@literal 1}, both are ordered the same way.
+		 * @param other the other vector
+		 * @return the cosine similarity of both vectors, {@link Double#NaN} if one of
+		 * them has a length of zero
+		 * @throws IllegalArgumentException if the vectors have different sizes
+		 * @since 6.11.0
+		 */
+		double cosineSimilarity(Float32Vector other);
+
+		/**
+		 * Computes the euclidean distance between this and another vector. Note that
+		 * Cypher's {@code vector.similarity.euclidean} is a similarity derived from the
+		 * squared distance, ordered the other way round.
+		 * @param other the other vector
+		 * @return the euclidean distance between both vectors
+		 * @throws IllegalArgumentException if the vectors have different sizes
+		 * @since 6.11.0
+		 */
+		double euclideanDistance(Float32Vector other);
+
 	}
 
 	/**
@@ -294,6 +440,45 @@ public sealed interface Vector extends AsValue {
 		 */
 		double[] toArray();
 
+		/**
+		 * {@return a read-only view of the elements of this vector, without copying them}
+		 * @since 6.11.0
+		 */
+		DoubleBuffer asBuffer();
+
+		/**
+		 * Computes the dot product of this and another vector.
+		 * @param other the other vector
+		 * @return the dot product of both vectors
+		 * @throws IllegalArgumentException if the vectors have different sizes
+		 * @since 6.11.0
+		 */
+		double dotProduct(Float64Vector other);
+
+		/**
+		 * Computes the cosine of the angle between this and another vector, ranging from
+		 * {@literal -1} to {@literal 1}. Note that Cypher's
+		 * {@code vector.similarity.cosine} normalizes this value into the range from
+		 * {@literal 0} to {@literal 1}, both are ordered the same way.
+		 * @param other the other vector
+		 * @return the cosine similarity of both vectors, {@link Double#NaN} if one of
+		 * them has a length of zero
+		 * @throws IllegalArgumentException if the vectors have different sizes
+		 * @since 6.11.0
+		 */
+		double cosineSimilarity(Float64Vector other);
+
+		/**
+		 * Computes the euclidean distance between this and another vector. Note that
+		 * Cypher's {@code vector.similarity.euclidean} is a similarity derived from the
+		 * squared distance, ordered the other way round.
+		 * @param other the other vector
+		 * @return the euclidean distance between both vectors
+		 * @throws IllegalArgumentException if the vectors have different sizes
+		 * @since 6.11.0
+		 */
+		double euclideanDistance(Float64Vector other);
+
 	}
 
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BlobImplTests {
+
+	private static final byte[] BYTES = { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+	@Test
+	void shouldProvideSlices() throws SQLException {
+		var blob = new BlobImpl(BYTES, 0);
+		assertThat(blob.length()).isEqualTo(8);
+		assertThat(blob.getBytes(1, 8)).containsExactly(BYTES);
+		assertThat(blob.getBytes(3, 2)).containsExactly(3, 4);
+		assertThat(blob.getBytes(7, 10)).containsExactly(7, 8);
+		assertThat(blob.getBytes(9, 1)).isEmpty();
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> blob.getBytes(0, 1))
+			.withMessage("data exception - Invalid argument, cannot process getBytes(0, 1) for blob with length 8");
+	}
+
+	@Test
+	void shouldHonourMaxFieldSize() throws SQLException, IOException {
+		var blob = new BlobImpl(BYTES, 3);
+		assertThat(blob.length()).isEqualTo(3);
+		assertThat(blob.getBytes(1, 8)).containsExactly(1, 2, 3);
+		try (var in = blob.getBinaryStream()) {
+			assertThat(in.readAllBytes()).containsExactly(1, 2, 3);
+		}
+		assertThat(blob.position(new byte[] { 3, 4 }, 1)).isEqualTo(-1);
+	}
+
+	@Test
+	void shouldStreamRanges() throws SQLException, IOException {
+		var blob = new BlobImpl(BYTES, 0);
+		try (var in = blob.getBinaryStream(2, 3)) {
+			assertThat(in.readAllBytes()).containsExactly(2, 3, 4);
+		}
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> blob.getBinaryStream(7, 3));
+	}
+
+	@Test
+	void shouldFindPositions() throws SQLException {
+		var blob = new BlobImpl(new byte[] { 1, 2, 1, 2, 3 }, 0);
+		assertThat(blob.position(new byte[] { 1, 2 }, 1)).isEqualTo(1);
+		assertThat(blob.position(new byte[] { 1, 2 }, 2)).isEqualTo(3);
+		assertThat(blob.position(new BlobImpl(new byte[] { 2, 3 }, 0), 1)).isEqualTo(4);
+		assertThat(blob.position(new byte[] { 4 }, 1)).isEqualTo(-1);
+	}
+
+	@Test
+	void shouldTruncateAndFree() throws SQLException {
+		var blob = new BlobImpl(BYTES, 0);
+		blob.truncate(2);
+		assertThat(blob.getBytes(1, 8)).containsExactly(1, 2);
+		assertThat(BYTES).hasSize(8);
+		blob.free();
+		assertThatExceptionOfType(SQLException.class).isThrownBy(blob::length)
+			.withMessageEndingWith("Blob has been already freed");
+	}
+
+}
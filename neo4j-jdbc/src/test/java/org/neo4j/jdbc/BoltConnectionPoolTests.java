@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.net.URI;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.bolt.connection.BoltConnectionState;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.message.Message;
+import org.neo4j.bolt.connection.message.ResetMessage;
+import org.neo4j.bolt.connection.summary.ResetSummary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class BoltConnectionPoolTests {
+
+	private static final URI TARGET = URI.create("jdbc:neo4j://localhost:7687/neo4j");
+
+	private static final BoltConnectionPool.Config CONFIG = new BoltConnectionPool.Config(2, Duration.ofMillis(50),
+			Duration.ofMinutes(10), Duration.ofHours(1));
+
+	@Test
+	void shouldReuseIdleConnections() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		var created = new AtomicInteger();
+		var pool = new BoltConnectionPool(TARGET, () -> {
+			created.incrementAndGet();
+			return boltConnection;
+		}, CONFIG, Set.of());
+
+		var lease = pool.acquire();
+		assertThat(pool.getActiveConnections()).isOne();
+		lease.close();
+		assertThat(pool.getActiveConnections()).isZero();
+		assertThat(pool.getIdleConnections()).isOne();
+
+		pool.acquire().close();
+		assertThat(created).hasValue(1);
+		then(boltConnection).should().writeAndFlush(any(), any(ResetMessage.class), any());
+		then(boltConnection).should(never()).close();
+	}
+
+	@Test
+	void shouldNotHandOutMoreThanMaxSize() throws SQLException {
+		var pool = new BoltConnectionPool(TARGET, BoltConnectionPoolTests::mockBoltConnection, CONFIG, Set.of());
+
+		pool.acquire();
+		var lease = pool.acquire();
+		assertThatThrownBy(pool::acquire).isInstanceOf(SQLException.class)
+			.hasMessageContaining("Could not acquire a connection")
+			.extracting(ex -> ((SQLException) ex).getSQLState())
+			.isEqualTo("08000");
+
+		lease.close();
+		assertThat(pool.acquire()).isNotNull();
+	}
+
+	@Test
+	void shouldFailFastWhenExhausted() throws SQLException {
+		var pool = new BoltConnectionPool(TARGET, BoltConnectionPoolTests::mockBoltConnection,
+				new BoltConnectionPool.Config(1, Duration.ofMinutes(1), Duration.ofMinutes(10), Duration.ofHours(1)),
+				Set.of());
+
+		pool.acquire();
+		assertThatThrownBy(() -> BoltConnectionPool.failFast(() -> {
+			try {
+				return pool.acquire();
+			}
+			catch (SQLException ex) {
+				throw new UncheckedSQLException(ex);
+			}
+		})).isInstanceOf(UncheckedSQLException.class)
+			.rootCause()
+			.hasMessageEndingWith("All 1 connections of the pool for jdbc:neo4j://localhost:7687/neo4j are in use");
+		assertThat(pool.getPendingAcquisitions()).isZero();
+	}
+
+	@Test
+	void shouldDiscardBrokenConnections() throws SQLException {
+		var brokenConnection = mockBoltConnection();
+		var pool = new BoltConnectionPool(TARGET, List.of(brokenConnection, mockBoltConnection()).iterator()::next,
+				CONFIG, Set.of());
+
+		var lease = pool.acquire();
+		given(brokenConnection.state()).willReturn(BoltConnectionState.FAILURE);
+		lease.close();
+
+		assertThat(pool.getIdleConnections()).isZero();
+		then(brokenConnection).should().close();
+		pool.acquire();
+		assertThat(pool.getActiveConnections()).isOne();
+	}
+
+	@Test
+	void shouldEvictIdleAndExpiredConnections() throws SQLException {
+		var clock = new MutableClock();
+		var first = mockBoltConnection();
+		var second = mockBoltConnection();
+		var pool = new BoltConnectionPool(TARGET, List.of(first, second).iterator()::next, CONFIG, Set.of(), clock);
+
+		pool.acquire().close();
+		clock.advance(Duration.ofMinutes(11));
+
+		var lease = pool.acquire();
+		then(first).should().close();
+		then(first).should(never()).writeAndFlush(any(), any(Message.class), any());
+		lease.close();
+		assertThat(pool.getIdleConnections()).isOne();
+	}
+
+	@Test
+	void leasesMustNotBeUsableAfterClose() throws SQLException {
+		var pool = new BoltConnectionPool(TARGET, BoltConnectionPoolTests::mockBoltConnection, CONFIG, Set.of());
+
+		var lease = pool.acquire();
+		lease.close();
+		lease.close();
+
+		assertThat(lease.state()).isEqualTo(BoltConnectionState.CLOSED);
+		assertThatIllegalStateException().isThrownBy(() -> lease.write(List.of()));
+		assertThat(pool.getIdleConnections()).isOne();
+	}
+
+	@Test
+	void shouldReportMetrics() throws SQLException {
+		var meterRegistry = new SimpleMeterRegistry();
+		var pool = new BoltConnectionPool(TARGET, BoltConnectionPoolTests::mockBoltConnection, CONFIG,
+				Set.of(MetricsCollectorImpl.of(meterRegistry)));
+
+		pool.acquire();
+		pool.acquire().close();
+
+		assertThat(meterRegistry.get("org.neo4j.jdbc.pool.connections").tag("state", "active").gauge().value())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("org.neo4j.jdbc.pool.connections").tag("state", "idle").gauge().value())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("org.neo4j.jdbc.pool.connections").tag("state", "pending").gauge().value())
+			.isZero();
+		assertThat(meterRegistry.get("org.neo4j.jdbc.pool.acquisitions").timer().count()).isEqualTo(2L);
+	}
+
+	@Test
+	void closedPoolsShouldNotHandOutConnections() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		var pool = new BoltConnectionPool(TARGET, () -> boltConnection, CONFIG, Set.of());
+
+		pool.acquire().close();
+		pool.close();
+
+		then(boltConnection).should().close();
+		assertThatThrownBy(pool::acquire).isInstanceOf(SQLException.class)
+			.hasMessageEndingWith("The connection pool has been closed");
+	}
+
+	@Test
+	void shouldOnlyCloseUnusedPools() throws SQLException {
+		var clock = new MutableClock();
+		var boltConnection = mockBoltConnection();
+		var pool = new BoltConnectionPool(TARGET, () -> boltConnection, CONFIG, Set.of(), clock);
+
+		var lease = pool.acquire();
+		clock.advance(Duration.ofMinutes(11));
+		assertThat(pool.closeIfUnused()).isFalse();
+
+		lease.close();
+		assertThat(pool.closeIfUnused()).isFalse();
+
+		clock.advance(Duration.ofMinutes(11));
+		assertThat(pool.closeIfUnused()).isTrue();
+		assertThat(pool.isClosed()).isTrue();
+		then(boltConnection).should().close();
+	}
+
+	static BoltConnection mockBoltConnection() {
+		var boltConnection = mock(BoltConnection.class);
+		given(boltConnection.state()).willReturn(BoltConnectionState.OPEN);
+		given(boltConnection.close()).willReturn(CompletableFuture.completedFuture(null));
+		given(boltConnection.writeAndFlush(any(), any(Message.class), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onResetSummary(mock(ResetSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+		return boltConnection;
+	}
+
+	static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.now();
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.systemDefault();
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
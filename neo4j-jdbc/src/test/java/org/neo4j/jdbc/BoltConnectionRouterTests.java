@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.net.URI;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.stubbing.Answer;
+import org.neo4j.bolt.connection.AccessMode;
+import org.neo4j.bolt.connection.AuthInfo;
+import org.neo4j.bolt.connection.AuthTokens;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ClusterComposition;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.exception.BoltFailureException;
+import org.neo4j.bolt.connection.exception.BoltServiceUnavailableException;
+import org.neo4j.bolt.connection.message.RouteMessage;
+import org.neo4j.bolt.connection.summary.RouteSummary;
+import org.neo4j.jdbc.BoltConnectionObservations.NoopObservation;
+import org.neo4j.jdbc.authn.spi.Authentication;
+import org.neo4j.jdbc.internal.bolt.BoltAdapters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class BoltConnectionRouterTests {
+
+	private static final BoltServerAddress ROUTER = new BoltServerAddress("router", 7687);
+
+	private static final BoltServerAddress LEADER = new BoltServerAddress("leader", 7687);
+
+	private static final BoltServerAddress READER_1 = new BoltServerAddress("reader1", 7687);
+
+	private static final BoltServerAddress READER_2 = new BoltServerAddress("reader2", 7687);
+
+	@Test
+	void shouldSendWritesToTheLeaderAndReadsToTheLeastUsedReader() throws SQLException {
+		var cluster = new Cluster(Clock.systemUTC());
+		cluster.routingTables.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(LEADER),
+				List.of(READER_1, READER_2)));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect);
+
+		router.acquire("neo4j", AccessMode.WRITE);
+		var firstRead = router.acquire("neo4j", AccessMode.READ);
+		router.acquire("neo4j", AccessMode.READ);
+		firstRead.close();
+		router.acquire("neo4j", AccessMode.READ);
+
+		assertThat(cluster.connections).containsExactly(ROUTER, LEADER, READER_1, READER_2, READER_1);
+		assertThat(cluster.routeRequests).isOne();
+		assertThat(router.getConnectionsInUse(READER_1)).isOne();
+		assertThat(router.getConnectionsInUse(READER_2)).isOne();
+		assertThat(router.getConnectionsInUse(LEADER)).isOne();
+	}
+
+	@Test
+	void closingTwiceShouldReleaseOnce() throws SQLException {
+		var cluster = new Cluster(Clock.systemUTC());
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(LEADER), List.of(READER_1)));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect);
+
+		router.acquire("neo4j", AccessMode.READ);
+		var connection = router.acquire("neo4j", AccessMode.READ);
+		connection.close();
+		connection.close();
+
+		assertThat(router.getConnectionsInUse(READER_1)).isOne();
+	}
+
+	@Test
+	void shouldRefreshExpiredRoutingTables() throws SQLException {
+		var clock = new BoltConnectionPoolTests.MutableClock();
+		var cluster = new Cluster(clock);
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofSeconds(10), List.of(ROUTER), List.of(LEADER), List.of(READER_1)));
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofSeconds(10), List.of(ROUTER), List.of(LEADER), List.of(READER_2)));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect, clock);
+
+		router.acquire("neo4j", AccessMode.READ);
+		clock.advance(Duration.ofSeconds(5));
+		router.acquire("neo4j", AccessMode.READ);
+		clock.advance(Duration.ofSeconds(6));
+		router.acquire("neo4j", AccessMode.READ);
+
+		assertThat(cluster.routeRequests).isEqualTo(2);
+		assertThat(cluster.connections).containsExactly(ROUTER, READER_1, READER_1, ROUTER, READER_2);
+	}
+
+	@Test
+	void shouldFallBackToTheSeedRouter() throws SQLException {
+		var clock = new BoltConnectionPoolTests.MutableClock();
+		var cluster = new Cluster(clock);
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofSeconds(10), List.of(LEADER), List.of(LEADER), List.of(READER_1)));
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofSeconds(10), List.of(ROUTER), List.of(READER_1), List.of(READER_2)));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect, clock);
+
+		router.acquire("neo4j", AccessMode.WRITE);
+		clock.advance(Duration.ofSeconds(11));
+		cluster.unavailable.add(LEADER);
+		router.acquire("neo4j", AccessMode.WRITE);
+
+		assertThat(cluster.connections).containsExactly(ROUTER, LEADER, ROUTER, READER_1);
+	}
+
+	@Test
+	void shouldFailWithoutWriters() {
+		var cluster = new Cluster(Clock.systemUTC());
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(), List.of(READER_1)));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect);
+
+		assertThatThrownBy(() -> router.acquire("neo4j", AccessMode.WRITE)).isInstanceOf(SQLException.class)
+			.hasMessageContaining("No write server available for database neo4j")
+			.extracting(ex -> ((SQLException) ex).getSQLState())
+			.isEqualTo("08000");
+	}
+
+	@Test
+	void shouldFailWhenNoRouterIsAvailable() {
+		var cluster = new Cluster(Clock.systemUTC());
+		cluster.unavailable.add(ROUTER);
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect);
+
+		assertThatThrownBy(() -> router.acquire("neo4j", AccessMode.READ)).isInstanceOf(SQLException.class)
+			.hasMessageContaining("Could not fetch a routing table for database neo4j");
+	}
+
+	@Test
+	void shouldExpireRoutingTablesWhenTheLeaderRefusesWrites() throws SQLException {
+		var cluster = new Cluster(Clock.systemUTC());
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(LEADER), List.of(READER_1)));
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(READER_1), List.of(LEADER)));
+		cluster.failures.put(LEADER, new BoltFailureException("Neo.ClientError.Cluster.NotALeader", "message",
+				"gqlStatus", "description", Map.of(), null));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect);
+
+		var connection = router.acquire("neo4j", AccessMode.WRITE);
+		var handler = mock(ResponseHandler.class);
+		connection.writeAndFlush(handler, List.of(), NoopObservation.INSTANCE);
+		then(handler).should().onError(any(BoltFailureException.class));
+		assertThat(BoltConnectionRouter.isStale(connection)).isTrue();
+
+		var newConnection = router.acquire("neo4j", AccessMode.WRITE);
+		assertThat(BoltConnectionRouter.isStale(newConnection)).isFalse();
+		assertThat(cluster.routeRequests).isEqualTo(2);
+		assertThat(cluster.connections).containsExactly(ROUTER, LEADER, ROUTER, READER_1);
+	}
+
+	@Test
+	void shouldRemoveUnavailableMembersFromRoutingTables() throws SQLException {
+		var cluster = new Cluster(Clock.systemUTC());
+		cluster.routingTables.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(LEADER),
+				List.of(READER_1, READER_2)));
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(LEADER), List.of(READER_2)));
+		cluster.failures.put(READER_1, new BoltServiceUnavailableException("gone"));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect);
+
+		var connection = router.acquire("neo4j", AccessMode.READ);
+		connection.writeAndFlush(mock(ResponseHandler.class), List.of(), NoopObservation.INSTANCE);
+		assertThat(BoltConnectionRouter.isStale(connection)).isTrue();
+		connection.close();
+
+		router.acquire("neo4j", AccessMode.READ);
+		assertThat(cluster.routeRequests).isEqualTo(2);
+		assertThat(cluster.connections).containsExactly(ROUTER, READER_1, ROUTER, READER_2);
+	}
+
+	@Test
+	void routersShouldBeUnusedWithoutConnectionsAndValidRoutingTables() throws SQLException {
+		var clock = new BoltConnectionPoolTests.MutableClock();
+		var cluster = new Cluster(clock);
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofSeconds(10), List.of(ROUTER), List.of(LEADER), List.of(READER_1)));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect, clock);
+
+		var connection = router.acquire("neo4j", AccessMode.READ);
+		clock.advance(Duration.ofSeconds(11));
+		assertThat(router.isUnused()).isFalse();
+		connection.close();
+		assertThat(router.isUnused()).isTrue();
+	}
+
+	@Test
+	void closeShouldForgetRoutingTablesAndMarkOpenConnectionsStale() throws SQLException {
+		var cluster = new Cluster(Clock.systemUTC());
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(LEADER), List.of(READER_1)));
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(LEADER), List.of(READER_1)));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect);
+
+		var closedConnection = router.acquire("neo4j", AccessMode.READ);
+		closedConnection.close();
+		var openConnection = router.acquire("neo4j", AccessMode.WRITE);
+		router.close();
+
+		assertThat(BoltConnectionRouter.isStale(closedConnection)).isFalse();
+		assertThat(BoltConnectionRouter.isStale(openConnection)).isTrue();
+		openConnection.close();
+		assertThat(router.isUnused()).isTrue();
+
+		router.acquire("neo4j", AccessMode.READ);
+		assertThat(cluster.routeRequests).isEqualTo(2);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void connectionsShouldReplaceConnectionsToFormerLeaders(boolean leaderAvailable) throws SQLException {
+		var cluster = new Cluster(Clock.systemUTC());
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(LEADER), List.of(READER_1)));
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofMinutes(5), List.of(ROUTER), List.of(READER_1), List.of(LEADER)));
+		cluster.failures.put(LEADER, leaderAvailable ? new BoltFailureException("Neo.ClientError.Cluster.NotALeader",
+				"message", "gqlStatus", "description", Map.of(), null) : new BoltServiceUnavailableException("gone"));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect);
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://router"), Authentication::none,
+				auth -> acquire(router, AccessMode.WRITE), auth -> acquire(router, AccessMode.READ), List::of, false,
+				null, true, false, new NoopBookmarkManagerImpl(), Map.of(), 23, null, 0, false, 1000, null, null,
+				"neo4j", null, List.of());
+
+		var transaction = connection.getTransaction(Map.of());
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> transaction.runAndDiscard("CREATE ()", Map.of(), 0, true));
+		connection.getTransaction(Map.of());
+
+		assertThat(cluster.connections).containsExactly(ROUTER, LEADER, ROUTER, READER_1);
+		assertThat(router.getConnectionsInUse(LEADER)).isZero();
+		assertThat(router.getConnectionsInUse(READER_1)).isOne();
+	}
+
+	@Test
+	void connectionsShouldKeepTheirReaderUntilTheRoutingTableChanges() throws SQLException {
+		var clock = new BoltConnectionPoolTests.MutableClock();
+		var cluster = new Cluster(clock);
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofSeconds(10), List.of(ROUTER), List.of(LEADER), List.of(READER_1)));
+		cluster.routingTables
+			.add(cluster.routingTable(Duration.ofSeconds(10), List.of(ROUTER), List.of(LEADER), List.of(READER_2)));
+		var router = new BoltConnectionRouter(ROUTER, cluster::connect, clock);
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://router"), Authentication::none,
+				auth -> acquire(router, AccessMode.WRITE), auth -> acquire(router, AccessMode.READ), List::of, false,
+				null, true, false, new NoopBookmarkManagerImpl(), Map.of(), 23, null, 0, false, 1000, null, null,
+				"neo4j", null, List.of());
+		connection.setReadOnly(true);
+
+		for (int i = 0; i < 3; ++i) {
+			connection.getTransaction(Map.of()).fail(new SQLException("Oops"));
+		}
+		assertThat(cluster.connections).containsExactly(ROUTER, LEADER, READER_1);
+
+		clock.advance(Duration.ofSeconds(11));
+		connection.getTransaction(Map.of()).fail(new SQLException("Oops"));
+		connection.getTransaction(Map.of());
+
+		assertThat(cluster.connections).containsExactly(ROUTER, LEADER, READER_1, ROUTER, READER_2);
+		assertThat(router.getConnectionsInUse(READER_1)).isZero();
+		assertThat(router.getConnectionsInUse(READER_2)).isOne();
+	}
+
+	private static BoltConnection acquire(BoltConnectionRouter router, AccessMode accessMode) {
+		try {
+			return router.acquire("neo4j", accessMode);
+		}
+		catch (Neo4jException ex) {
+			throw new UncheckedSQLException(ex);
+		}
+	}
+
+	/**
+	 * A fake cluster in which every member answers {@literal ROUTE} with the next of the
+	 * configured routing tables.
+	 */
+	private static final class Cluster {
+
+		private final Clock clock;
+
+		private final Deque<ClusterComposition> routingTables = new ConcurrentLinkedDeque<>();
+
+		private final List<BoltServerAddress> connections = new ArrayList<>();
+
+		private final List<BoltServerAddress> unavailable = new ArrayList<>();
+
+		private final Map<BoltServerAddress, Throwable> failures = new HashMap<>();
+
+		private int routeRequests;
+
+		Cluster(Clock clock) {
+			this.clock = clock;
+		}
+
+		ClusterComposition routingTable(Duration ttl, List<BoltServerAddress> routers, List<BoltServerAddress> writers,
+				List<BoltServerAddress> readers) {
+			return new ClusterComposition(this.clock.millis() + ttl.toMillis(), new LinkedHashSet<>(readers),
+					new LinkedHashSet<>(writers), new LinkedHashSet<>(routers), "neo4j");
+		}
+
+		BoltConnection connect(BoltServerAddress address) {
+			if (this.unavailable.contains(address)) {
+				throw new IllegalStateException("%s is not available".formatted(address));
+			}
+			this.connections.add(address);
+			var boltConnection = mock(BoltConnection.class);
+			given(boltConnection.close()).willReturn(CompletableFuture.completedFuture(null));
+			given(boltConnection.write(anyList())).willReturn(CompletableFuture.completedFuture(null));
+			var authInfo = mock(AuthInfo.class);
+			given(authInfo.authToken()).willReturn(AuthTokens.none(BoltAdapters.getValueFactory()));
+			given(boltConnection.authInfo()).willReturn(CompletableFuture.completedFuture(authInfo));
+			given(boltConnection.writeAndFlush(any(), any(RouteMessage.class), any()))
+				.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+					++this.routeRequests;
+					var routeSummary = mock(RouteSummary.class);
+					given(routeSummary.clusterComposition()).willReturn(this.routingTables.poll());
+					invocation.<ResponseHandler>getArgument(0).onRouteSummary(routeSummary);
+					invocation.<ResponseHandler>getArgument(0).onComplete();
+					return CompletableFuture.completedFuture(null);
+				});
+			given(boltConnection.writeAndFlush(any(), anyList(), any()))
+				.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+					var failure = this.failures.get(address);
+					if (failure != null) {
+						invocation.<ResponseHandler>getArgument(0).onError(failure);
+						invocation.<ResponseHandler>getArgument(0).onComplete();
+					}
+					return CompletableFuture.completedFuture(null);
+				});
+			return boltConnection;
+		}
+
+	}
+
+}
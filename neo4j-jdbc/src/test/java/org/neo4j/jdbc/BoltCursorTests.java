@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
+import org.neo4j.jdbc.Neo4jTransaction.ResultSummary;
+import org.neo4j.jdbc.Neo4jTransaction.RunResponse;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class BoltCursorTests {
+
+	private static final RunResponse RUN_RESPONSE = new RunResponse() {
+		@Override
+		public long queryId() {
+			return 0;
+		}
+
+		@Override
+		public List<String> keys() {
+			return List.of("n");
+		}
+	};
+
+	private Neo4jTransaction transaction;
+
+	private int nextValue;
+
+	@BeforeEach
+	void mockTransaction() throws SQLException {
+		this.nextValue = 0;
+		this.transaction = mock(Neo4jTransaction.class);
+		given(this.transaction.awaitPull(eq(RUN_RESPONSE), any())).willAnswer(invocation -> {
+			CompletableFuture<PullResponse> future = invocation.getArgument(1);
+			return future.join();
+		});
+	}
+
+	@Test
+	void shouldPullSynchronouslyWithoutReadAhead() throws SQLException {
+		given(this.transaction.pull(eq(RUN_RESPONSE), anyLong())).willAnswer(invocation -> nextBatch(2, false));
+
+		var cursor = newCursor(-1, Cursor.ReadAhead.DISABLED);
+
+		assertThat(consume(cursor)).containsExactly(0, 1, 2, 3);
+		then(this.transaction).should().pull(RUN_RESPONSE, 2);
+		then(this.transaction).should(never()).pullAsync(any(), anyLong());
+	}
+
+	@Test
+	void shouldReadAheadWhenReachingTheWatermark() throws SQLException {
+		var cursor = newCursor(-1, new Cursor.ReadAhead(2, 0));
+
+		var batches = new ArrayDeque<PullResponse>();
+		batches.add(nextBatch(2, true));
+		batches.add(nextBatch(2, true));
+		batches.add(nextBatch(2, false));
+		given(this.transaction.pullAsync(eq(RUN_RESPONSE), anyLong()))
+			.willAnswer(invocation -> CompletableFuture.completedFuture(batches.poll()));
+
+		assertThat(cursor.next()).isTrue();
+		then(this.transaction).should(never()).pullAsync(any(), anyLong());
+		assertThat(cursor.next()).isTrue();
+		// Both batches requested, the first one is known to have more
+		then(this.transaction).should(times(2)).pullAsync(RUN_RESPONSE, 2);
+
+		var values = new ArrayList<>(List.of(0, 1));
+		values.addAll(consume(cursor));
+		assertThat(values).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+		then(this.transaction).should(times(3)).pullAsync(RUN_RESPONSE, 2);
+		then(this.transaction).should(never()).pull(any(), anyLong());
+	}
+
+	@Test
+	void shouldNotReadAheadBeyondRowAllowance() throws SQLException {
+		given(this.transaction.pullAsync(eq(RUN_RESPONSE), anyLong()))
+			.willAnswer(invocation -> CompletableFuture.completedFuture(nextBatch(invocation.getArgument(1), true)));
+
+		var cursor = newCursor(3, new Cursor.ReadAhead(4, 2));
+
+		assertThat(consume(cursor)).containsExactly(0, 1, 2);
+		then(this.transaction).should().pullAsync(RUN_RESPONSE, 1);
+		then(this.transaction).should().awaitPull(eq(RUN_RESPONSE), any());
+		then(this.transaction).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void closeShouldDrainPendingBatches() throws SQLException {
+		given(this.transaction.pullAsync(eq(RUN_RESPONSE), anyLong()))
+			.willAnswer(invocation -> CompletableFuture.completedFuture(nextBatch(2, false)));
+		given(this.transaction.isAutoCommit()).willReturn(true);
+		given(this.transaction.isRunnable()).willReturn(true);
+
+		var cursor = newCursor(-1, new Cursor.ReadAhead(1, 2));
+		assertThat(cursor.next()).isTrue();
+		cursor.close();
+
+		then(this.transaction).should().awaitPull(eq(RUN_RESPONSE), any());
+		then(this.transaction).should().commit();
+	}
+
+	private Cursor newCursor(int remainingRowAllowance, Cursor.ReadAhead readAhead) {
+		return Cursor.of(this.transaction, RUN_RESPONSE, remainingRowAllowance, 2, nextBatch(2, true), () -> {
+		}, readAhead);
+	}
+
+	private PullResponse nextBatch(long size, boolean hasMore) {
+		var records = IntStream.range(0, (int) size)
+			.mapToObj(
+					i -> Record.of(List.of("n"), new org.neo4j.jdbc.values.Value[] { Values.value(this.nextValue++) }))
+			.toList();
+		return new PullResponse() {
+			@Override
+			public List<Record> records() {
+				return records;
+			}
+
+			@Override
+			public Optional<ResultSummary> resultSummary() {
+				return Optional.empty();
+			}
+
+			@Override
+			public boolean hasMore() {
+				return hasMore;
+			}
+		};
+	}
+
+	private static List<Integer> consume(Cursor cursor) throws SQLException {
+		var result = new ArrayList<Integer>();
+		while (cursor.next()) {
+			result.add(cursor.getCurrentRecord().get(0).asInt());
+		}
+		return result;
+	}
+
+}
@@ -51,6 +51,20 @@ class BookmarkManagerTests {
 			assertThat(current).isEmpty();
 		}
 
+		@Test
+		void shouldOnlyTransformBookmarksWhenTheyChange() {
+			var bookmarkManager = new DefaultBookmarkManagerImpl();
+			bookmarkManager.updateBookmarks(Function.identity(), List.of(), List.of("a"));
+			var current = bookmarkManager.getBookmarks(Function.identity());
+			assertThat(bookmarkManager.getBookmarks(Function.identity())).isSameAs(current);
+			assertThat(bookmarkManager.getBookmarks(Bookmark::new)).containsExactly(new Bookmark("a"));
+
+			bookmarkManager.updateBookmarks(Function.identity(), List.of("a"), List.of("b"));
+			var next = bookmarkManager.getBookmarks(Function.identity());
+			assertThat(next).isNotSameAs(current).containsExactly("b");
+			assertThat(current).containsExactly("a");
+		}
+
 	}
 
 	@Nested
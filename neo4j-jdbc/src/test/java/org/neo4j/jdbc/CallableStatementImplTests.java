@@ -82,6 +82,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 class CallableStatementImplTests {
@@ -298,7 +299,7 @@ class CallableStatementImplTests {
 
 	@SuppressWarnings("deprecation")
 	static Stream<Arguments> shouldThrowUnsupported() {
-		return Stream.of(Arguments.of((StatementMethodRunner) Statement::cancel, SQLFeatureNotSupportedException.class),
+		return Stream.of(
 				Arguments.of((StatementMethodRunner) statement -> statement.setCursorName("name"),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.addBatch(TEST_STATEMENT),
@@ -309,30 +310,12 @@ class CallableStatementImplTests {
 				// not currently supported
 				Arguments.of((StatementMethodRunner) statement -> statement.setRef(1, null),
 						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setBlob(1, mock(Blob.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setClob(1, mock(Clob.class)),
-						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.setRowId(1, mock(RowId.class)),
 						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setNClob(1, mock(NClob.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setClob(1, mock(Reader.class), 0),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setBlob(1, mock(InputStream.class), 0),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setNClob(1, mock(Reader.class), 0),
-						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.setSQLXML(1, mock(SQLXML.class)),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.setObject(1, null, Types.NULL, 0),
 						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setClob(1, mock(Reader.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setBlob(1, mock(InputStream.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setNClob(1, mock(Reader.class)),
-						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.setObject("parameterName", new Object(),
 						Types.DECIMAL, 1), SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.setObject("parameterName", new Object(),
@@ -342,30 +325,9 @@ class CallableStatementImplTests {
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.setNCharacterStream("parameterName",
 						Reader.nullReader(), 0), SQLFeatureNotSupportedException.class),
-				Arguments.of(
-						(StatementMethodRunner) statement -> statement.setNClob("parameterName", mock(NClob.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setClob("parameterName",
-						Reader.nullReader(), 0L), SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setBlob("parameterName",
-						InputStream.nullInputStream(), 0L), SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setNClob("parameterName",
-						Reader.nullReader(), 0L), SQLFeatureNotSupportedException.class),
 				Arguments.of(
 						(StatementMethodRunner) statement -> statement.setSQLXML("parameterName", mock(SQLXML.class)),
 						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setBlob("parameterName", mock(Blob.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setClob("parameterName", mock(Clob.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of(
-						(StatementMethodRunner) statement -> statement.setClob("parameterName", Reader.nullReader()),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setBlob("parameterName",
-						InputStream.nullInputStream()), SQLFeatureNotSupportedException.class),
-				Arguments.of(
-						(StatementMethodRunner) statement -> statement.setNClob("parameterName", Reader.nullReader()),
-						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) CallableStatement::wasNull, SQLException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.getString(1), SQLException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.getURL(1), SQLException.class),
@@ -479,9 +441,15 @@ class CallableStatementImplTests {
 		typeToValue.put(SQLType.class, mock(SQLType.class));
 		typeToValue.put(Array.class, ArrayImpl.of(mock(Connection.class), "ANY", null));
 		typeToValue.put(SQLXML.class, mock(SQLXML.class));
-		typeToValue.put(Blob.class, mock(Blob.class));
-		typeToValue.put(Clob.class, mock(Clob.class));
-		typeToValue.put(NClob.class, mock(NClob.class));
+		var blob = mock(Blob.class);
+		given(blob.getBinaryStream()).willAnswer(invocation -> InputStream.nullInputStream());
+		typeToValue.put(Blob.class, blob);
+		var clob = mock(Clob.class);
+		given(clob.getCharacterStream()).willAnswer(invocation -> Reader.nullReader());
+		typeToValue.put(Clob.class, clob);
+		var nClob = mock(NClob.class);
+		given(nClob.getCharacterStream()).willAnswer(invocation -> Reader.nullReader());
+		typeToValue.put(NClob.class, nClob);
 		typeToValue.put(URL.class, mock(URL.class));
 
 		return streamSetterRunners(PreparedStatement.class, typeToValue)
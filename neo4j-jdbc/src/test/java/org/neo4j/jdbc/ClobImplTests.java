@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ClobImplTests {
+
+	@ParameterizedTest
+	@CsvSource(textBlock = """
+			Hallo, 0, 5
+			Hallo, 3, 3
+			Hällo, 2, 1
+			Hällo, 3, 2
+			€uro, 2, 0
+			€uro, 3, 1
+			👋!, 3, 0
+			👋!, 4, 2
+			""")
+	void shouldComputeLengthWithinUtf8Bytes(String value, int maxBytes, int expected) {
+		var length = (maxBytes > 0) ? ClobImpl.lengthWithinUtf8Bytes(value, maxBytes) : value.length();
+		assertThat(length).isEqualTo(expected);
+		assertThat(value.substring(0, length).getBytes(StandardCharsets.UTF_8).length)
+			.isLessThanOrEqualTo((maxBytes > 0) ? maxBytes : Integer.MAX_VALUE);
+	}
+
+	@Test
+	void shouldProvideSubStrings() throws SQLException {
+		var clob = new ClobImpl("Hallo, Welt", 0);
+		assertThat(clob.length()).isEqualTo(11);
+		assertThat(clob.getSubString(1, 5)).isEqualTo("Hallo");
+		assertThat(clob.getSubString(8, 10)).isEqualTo("Welt");
+		assertThat(clob.getSubString(12, 1)).isEmpty();
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> clob.getSubString(13, 1))
+			.withMessage(
+					"data exception - Invalid argument, cannot process getSubString(13, 1) for clob with length 11");
+	}
+
+	@Test
+	void shouldHonourMaxFieldSize() throws SQLException, IOException {
+		var clob = new ClobImpl("Hallo, Welt", 5);
+		assertThat(clob.length()).isEqualTo(5);
+		assertThat(clob.getSubString(1, 100)).isEqualTo("Hallo");
+		try (var reader = new BufferedReader(clob.getCharacterStream())) {
+			assertThat(reader.lines().collect(Collectors.joining())).isEqualTo("Hallo");
+		}
+		try (var in = clob.getAsciiStream()) {
+			assertThat(in.readAllBytes()).isEqualTo("Hallo".getBytes(StandardCharsets.US_ASCII));
+		}
+		assertThat(clob.position("Welt", 1)).isEqualTo(-1);
+	}
+
+	@Test
+	void shouldStreamRanges() throws SQLException, IOException {
+		var clob = new ClobImpl("Hallo, Welt", 0);
+		try (var reader = clob.getCharacterStream(8, 4)) {
+			var buffer = new char[10];
+			assertThat(reader.read(buffer)).isEqualTo(4);
+			assertThat(new String(buffer, 0, 4)).isEqualTo("Welt");
+			assertThat(reader.read(buffer)).isEqualTo(-1);
+		}
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> clob.getCharacterStream(8, 5));
+	}
+
+	@Test
+	void asciiStreamsShouldReplaceNonAsciiCharacters() throws SQLException, IOException {
+		var value = "Grüße 👋";
+		try (var in = new ClobImpl(value, 0).getAsciiStream()) {
+			assertThat(in.readAllBytes()).isEqualTo(value.getBytes(StandardCharsets.US_ASCII));
+		}
+	}
+
+	@Test
+	void shouldFindPositions() throws SQLException {
+		var clob = new ClobImpl("abab", 0);
+		assertThat(clob.position("ab", 1)).isEqualTo(1);
+		assertThat(clob.position("ab", 2)).isEqualTo(3);
+		assertThat(clob.position(new ClobImpl("ba", 0), 1)).isEqualTo(2);
+		assertThat(clob.position("c", 1)).isEqualTo(-1);
+	}
+
+	@Test
+	void shouldTruncateAndFree() throws SQLException {
+		var clob = new ClobImpl("Hallo", 0);
+		clob.truncate(2);
+		assertThat(clob.getSubString(1, 5)).isEqualTo("Ha");
+		clob.free();
+		assertThatExceptionOfType(SQLException.class).isThrownBy(clob::length)
+			.withMessageEndingWith("Clob has been already freed");
+	}
+
+}
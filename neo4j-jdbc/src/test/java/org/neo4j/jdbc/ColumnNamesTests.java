@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnNamesTests {
+
+	@Test
+	void shouldBehaveLikeAList() {
+		var columnNames = ColumnNames.of(List.of("a", "b", "c"));
+
+		assertThat(columnNames).containsExactly("a", "b", "c");
+		assertThat(columnNames).isEqualTo(List.of("a", "b", "c"));
+		assertThat(columnNames.hashCode()).isEqualTo(List.of("a", "b", "c").hashCode());
+		assertThat(ColumnNames.of(columnNames)).isSameAs(columnNames);
+	}
+
+	@Test
+	void shouldFindFirstPosition() {
+		var columnNames = ColumnNames.of(List.of("id", "name", "Name", "id"));
+
+		assertThat(columnNames.indexOf("id")).isZero();
+		assertThat(columnNames.indexOf("Name")).isEqualTo(2);
+		assertThat(columnNames.indexOf("NAME")).isEqualTo(-1);
+		assertThat(columnNames.indexOf(42)).isEqualTo(-1);
+		assertThat(columnNames.contains("name")).isTrue();
+		assertThat(columnNames.contains("x")).isFalse();
+	}
+
+	@Test
+	void shouldPreferExactMatchesWhenIgnoringCase() {
+		var columnNames = ColumnNames.of(List.of("id", "name", "Name"));
+
+		assertThat(columnNames.indexOfIgnoreCase("Name")).isEqualTo(2);
+		assertThat(columnNames.indexOfIgnoreCase("NAME")).isEqualTo(1);
+		assertThat(columnNames.indexOfIgnoreCase("ID")).isZero();
+		assertThat(columnNames.indexOfIgnoreCase("x")).isEqualTo(-1);
+		assertThat(columnNames.indexOfIgnoreCase(null)).isEqualTo(-1);
+	}
+
+	@Test
+	void shouldBeUsableByRecords() {
+		var columnNames = ColumnNames.of(List.of("a", "b"));
+		var record = Record.of(columnNames, new Value[] { Values.value(1), Values.value(2) });
+
+		assertThat(record.keys()).isSameAs(columnNames);
+		assertThat(record.get("b").asInt()).isEqualTo(2);
+		assertThat(record.index("a")).isZero();
+		assertThat(record.containsKey("c")).isFalse();
+	}
+
+}
@@ -37,6 +37,7 @@ import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -83,6 +84,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @SuppressWarnings("resource")
@@ -133,8 +135,9 @@ class ConnectionImplTests {
 		var expectedNativeSql = "nativeSQL";
 		given(translator.translate(eq(sql), any(DatabaseMetaData.class))).willReturn(expectedNativeSql);
 		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
-				auth -> mock(BoltConnection.class), () -> List.of(translator), false, true, false, false,
-				new NoopBookmarkManagerImpl(), Map.of(), 23, "aBeautifulDatabase", null, List.of());
+				auth -> mock(BoltConnection.class), null, () -> List.of(translator), false, new TranslationCache(128),
+				false, false, new NoopBookmarkManagerImpl(), Map.of(), 23, null, 0, false, 1000, null, null,
+				"aBeautifulDatabase", null, List.of());
 
 		var nativeSQL = connection.nativeSQL(sql);
 
@@ -395,6 +398,209 @@ class ConnectionImplTests {
 		assertThat(beginMessage.bookmarks().isEmpty()).isTrue();
 	}
 
+	@Test
+	void shouldUseReaderConnectionForReadOnlyTransactions() throws SQLException {
+		// given
+		var writerConnection = mockBoltConnection();
+		var readerConnection = mockBoltConnection();
+		given(readerConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+		var readerAcquisitions = new AtomicInteger();
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
+				auth -> writerConnection, auth -> {
+					readerAcquisitions.incrementAndGet();
+					return readerConnection;
+				}, List::of, false, null, true, false, new NoopBookmarkManagerImpl(), Map.of(), 23, null, 0, false,
+				1000, null, null, "aBeautifulDatabase", null, List.of());
+		assertThat(readerAcquisitions).hasValue(0);
+		connection.setReadOnly(true);
+
+		// when
+		connection.getTransaction(Map.of());
+
+		// then
+		assertThat(readerAcquisitions).hasValue(1);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Message>> beginMessagesCaptor = ArgumentCaptor.forClass(List.class);
+		then(readerConnection).should().write(beginMessagesCaptor.capture());
+		assertThat(((BeginMessage) beginMessagesCaptor.getValue().get(0)).accessMode()).isEqualTo(AccessMode.READ);
+		then(writerConnection).should(never()).write(anyList());
+	}
+
+	@Test
+	void shouldReuseReaderConnectionForReadOnlyTransactions() throws SQLException {
+		// given
+		var readerConnections = new ArrayList<BoltConnection>();
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
+				auth -> mockBoltConnection(), auth -> {
+					var readerConnection = mockBoltConnection();
+					given(readerConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+					given(readerConnection.close()).willReturn(CompletableFuture.completedStage(null));
+					readerConnections.add(readerConnection);
+					return readerConnection;
+				}, List::of, false, null, true, false, new NoopBookmarkManagerImpl(), Map.of(), 23, null, 0, false,
+				1000, null, null, "aBeautifulDatabase", null, List.of());
+		connection.setReadOnly(true);
+
+		// when
+		for (int i = 0; i < 3; ++i) {
+			connection.getTransaction(Map.of()).fail(new SQLException("Oops"));
+		}
+		connection.getTransaction(Map.of());
+
+		// then
+		assertThat(readerConnections).hasSize(1);
+		then(readerConnections.get(0)).should(never()).close();
+	}
+
+	@Test
+	void shouldBorrowConnectionsForInterleavedAutoCommitTransactions() throws SQLException {
+		// given
+		var boltConnections = new ArrayList<BoltConnection>();
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none, auth -> {
+			var boltConnection = mockBoltConnection();
+			given(boltConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+			given(boltConnection.writeAndFlush(any(), anyList(), any()))
+				.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+					invocation.<ResponseHandler>getArgument(0).onRollbackSummary(mock(RollbackSummary.class));
+					invocation.<ResponseHandler>getArgument(0).onComplete();
+					return CompletableFuture.completedFuture(null);
+				});
+			given(boltConnection.close()).willReturn(CompletableFuture.completedStage(null));
+			boltConnections.add(boltConnection);
+			return boltConnection;
+		}, null, List::of, false, null, true, false, new NoopBookmarkManagerImpl(), Map.of(), 23, null, 0, false, 1000,
+				null, null, "aBeautifulDatabase", null, List.of());
+
+		// when
+		var first = connection.getTransaction(Map.of());
+		var second = connection.getTransaction(Map.of());
+		var third = connection.getTransaction(Map.of());
+
+		// then
+		assertThat(List.of(first, second, third)).doesNotHaveDuplicates().allMatch(Neo4jTransaction::isAutoCommit);
+		assertThat(boltConnections).hasSize(3);
+
+		// when
+		second.fail(new SQLException("Oops"));
+		third.rollback();
+
+		// then
+		then(boltConnections.get(1)).should(never()).close();
+		then(boltConnections.get(2)).should().close();
+
+		// when
+		var fourth = connection.getTransaction(Map.of());
+
+		// then
+		assertThat(fourth).isNotIn(first, second, third);
+		assertThat(boltConnections).hasSize(3);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Message>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+		then(boltConnections.get(1)).should(times(2)).write(messagesCaptor.capture());
+		assertThat(messagesCaptor.getAllValues().get(1).get(0)).isInstanceOf(ResetMessage.class);
+
+		// when
+		connection.close();
+
+		// then
+		boltConnections.forEach(boltConnection -> then(boltConnection).should().close());
+	}
+
+	@Test
+	void shouldKeepBorrowedConnectionForInterleavedLookupsWithoutPool() throws SQLException {
+		// given
+		var boltConnections = new ArrayList<BoltConnection>();
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none, auth -> {
+			var boltConnection = mockBoltConnection();
+			given(boltConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+			given(boltConnection.writeAndFlush(any(), anyList(), any()))
+				.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+					invocation.<ResponseHandler>getArgument(0).onRollbackSummary(mock(RollbackSummary.class));
+					invocation.<ResponseHandler>getArgument(0).onComplete();
+					return CompletableFuture.completedFuture(null);
+				});
+			given(boltConnection.close()).willReturn(CompletableFuture.completedStage(null));
+			boltConnections.add(boltConnection);
+			return boltConnection;
+		}, null, List::of, false, null, true, false, new NoopBookmarkManagerImpl(), Map.of(), 23, null, 0, false, 1000,
+				null, null, "aBeautifulDatabase", null, List.of());
+		var outer = connection.getTransaction(Map.of());
+		boltConnections.clear();
+
+		// when
+		for (int i = 0; i < 10; ++i) {
+			var lookup = connection.getTransaction(Map.of());
+			assertThat(lookup).isNotSameAs(outer);
+			lookup.rollback();
+		}
+
+		// then
+		assertThat(boltConnections).hasSize(1);
+		then(boltConnections.get(0)).should(never()).close();
+
+		// when
+		connection.close();
+
+		// then
+		then(boltConnections.get(0)).should().close();
+	}
+
+	@Test
+	void shouldReuseTransactionTemplate() throws SQLException {
+		// given
+		var boltConnection = mockBoltConnection();
+		given(boltConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+		var connection = makeConnection(boltConnection);
+
+		// when
+		for (int i = 0; i < 3; ++i) {
+			connection.getTransaction(Map.of("i", i % 2)).fail(new SQLException("Done"));
+		}
+		connection.setClientInfo("ApplicationName", "anApp");
+		connection.getTransaction(Map.of()).fail(new SQLException("Done"));
+		connection.withMetadata(Map.of("foo", "bar"));
+		connection.getTransaction(Map.of());
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Message>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+		then(boltConnection).should(times(5)).write(messagesCaptor.capture());
+		var metadata = messagesCaptor.getAllValues()
+			.stream()
+			.map(messages -> ((BeginMessage) messages.get(messages.size() - 1)).txMetadata())
+			.toList();
+		assertThat(metadata.get(0)).containsOnlyKeys("app", "i").isEqualTo(metadata.get(2));
+		assertThat(metadata.get(1)).containsOnlyKeys("app", "i").isNotEqualTo(metadata.get(0));
+		assertThat(metadata.get(3)).containsOnlyKeys("app");
+		assertThat(metadata.get(3).get("app")).isNotEqualTo(metadata.get(0).get("app"));
+		assertThat(metadata.get(4)).containsOnlyKeys("app", "foo");
+	}
+
+	@Test
+	void shouldOnlyCompareAuthenticationOnce() throws SQLException {
+		// given
+		var boltConnection = mockBoltConnection();
+		given(boltConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onCommitSummary(mock(CommitSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+		var connection = makeConnection(boltConnection);
+		connection.setAutoCommit(false);
+
+		// when
+		for (int i = 0; i < 3; ++i) {
+			connection.getTransaction(Map.of());
+			connection.commit();
+		}
+
+		// then
+		then(boltConnection).should(times(3)).write(anyList());
+		then(boltConnection).should(times(1)).authInfo();
+	}
+
 	@Test
 	void shouldThrowOnUpdatingReadOnlyDuringTransaction() throws SQLException {
 		var boltConnection = mockBoltConnection();
@@ -464,7 +670,7 @@ class ConnectionImplTests {
 	}
 
 	@ParameterizedTest
-	@ValueSource(ints = { ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.TYPE_SCROLL_SENSITIVE })
+	@ValueSource(ints = { ResultSet.TYPE_SCROLL_SENSITIVE, -1 })
 	void shouldThrowOnPreparingStatementWithUnsupportedResultSetType(int type) {
 		var connection = makeConnection(mock(BoltConnection.class));
 
@@ -770,8 +976,8 @@ class ConnectionImplTests {
 						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((ConnectionMethodRunner) connection -> connection.prepareStatement("ignored",
-						ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY,
-						ResultSet.CLOSE_CURSORS_AT_COMMIT), SQLFeatureNotSupportedException.class),
+						ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_READ_ONLY, ResultSet.CLOSE_CURSORS_AT_COMMIT),
+						SQLFeatureNotSupportedException.class),
 				Arguments.of((ConnectionMethodRunner) connection -> connection.prepareStatement("ignored",
 						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_UPDATABLE, ResultSet.CLOSE_CURSORS_AT_COMMIT),
 						SQLFeatureNotSupportedException.class),
@@ -779,8 +985,8 @@ class ConnectionImplTests {
 						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((ConnectionMethodRunner) connection -> connection.prepareCall("ignored",
-						ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY,
-						ResultSet.CLOSE_CURSORS_AT_COMMIT), SQLFeatureNotSupportedException.class),
+						ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_READ_ONLY, ResultSet.CLOSE_CURSORS_AT_COMMIT),
+						SQLFeatureNotSupportedException.class),
 				Arguments.of((ConnectionMethodRunner) connection -> connection.prepareCall("ignored",
 						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_UPDATABLE, ResultSet.CLOSE_CURSORS_AT_COMMIT),
 						SQLFeatureNotSupportedException.class),
@@ -841,8 +1047,8 @@ class ConnectionImplTests {
 
 	ConnectionImpl makeConnection(BoltConnection boltConnection) {
 		return new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none, auth -> boltConnection,
-				List::of, false, false, true, false, new NoopBookmarkManagerImpl(), Map.of(), 23, "aBeautifulDatabase",
-				null, List.of());
+				null, List::of, false, null, true, false, new NoopBookmarkManagerImpl(), Map.of(), 23, null, 0, false,
+				1000, null, null, "aBeautifulDatabase", null, List.of());
 
 	}
 
@@ -18,11 +18,18 @@
  */
 package org.neo4j.jdbc;
 
+import java.sql.BatchUpdateException;
 import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -43,6 +50,7 @@ import org.neo4j.bolt.connection.BoltConnection;
 import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.TransactionType;
 import org.neo4j.bolt.connection.exception.BoltException;
+import org.neo4j.bolt.connection.exception.BoltFailureException;
 import org.neo4j.bolt.connection.message.BeginMessage;
 import org.neo4j.bolt.connection.message.CommitMessage;
 import org.neo4j.bolt.connection.message.DiscardMessage;
@@ -53,9 +61,11 @@ import org.neo4j.bolt.connection.message.PullMessage;
 import org.neo4j.bolt.connection.message.ResetMessage;
 import org.neo4j.bolt.connection.message.RollbackMessage;
 import org.neo4j.bolt.connection.message.RunMessage;
+import org.neo4j.bolt.connection.summary.BeginSummary;
 import org.neo4j.bolt.connection.summary.CommitSummary;
 import org.neo4j.bolt.connection.summary.DiscardSummary;
 import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.ResetSummary;
 import org.neo4j.bolt.connection.summary.RollbackSummary;
 import org.neo4j.bolt.connection.summary.RunSummary;
 import org.neo4j.jdbc.authn.spi.Authentication;
@@ -68,6 +78,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 class DefaultTransactionImplTests {
@@ -192,6 +203,261 @@ class DefaultTransactionImplTests {
 		then(boltConnection).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldPipelineRunAndDiscardOfAllParameters() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				for (int i = 0; i < 3; ++i) {
+					handler.onRunSummary(mock(RunSummary.class));
+					handler.onDiscardSummary(mock(DiscardSummary.class));
+				}
+				handler.onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		var responses = this.transaction.runAndDiscardAll("query",
+				List.of(Map.of("a", 1), Map.of("a", 2), Map.of("a", 3)), 0, true);
+
+		assertThat(responses).hasSize(3);
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Message>> runMessagesCaptor = ArgumentCaptor.forClass(List.class);
+		then(boltConnection).should().writeAndFlush(any(), runMessagesCaptor.capture(), any());
+		assertThat(runMessagesCaptor.getValue()).hasSize(7)
+			.satisfies(messages -> assertThat(messages.get(6)).isInstanceOf(CommitMessage.class));
+	}
+
+	@Test
+	void runAndDiscardAllShouldFailOnError() {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				handler.onRunSummary(mock(RunSummary.class));
+				handler
+					.onError(new BoltFailureException("code", "message", "gqlStatus", "description", Map.of(), null));
+				handler.onIgnored();
+				handler.onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		assertThatThrownBy(() -> this.transaction.runAndDiscardAll("query", List.of(Map.of(), Map.of()), 0, true))
+			.isInstanceOf(SQLException.class);
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.FAILED);
+	}
+
+	@Test
+	void deferredUpdatesShouldBeFlushedWithCommit() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, false,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"), true);
+
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				handler.onBeginSummary(mock(BeginSummary.class));
+				for (int i = 0; i < 2; ++i) {
+					handler.onRunSummary(mock(RunSummary.class));
+					handler.onDiscardSummary(mock(DiscardSummary.class));
+				}
+				handler.onCommitSummary(mock(CommitSummary.class));
+				handler.onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		this.transaction.runAndDiscard("CREATE (n)", Map.of(), 0, false);
+		this.transaction.runAndDiscard("CREATE (m)", Map.of(), 0, false);
+		then(boltConnection).should(never()).writeAndFlush(any(), anyList(), any());
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.READY);
+
+		this.transaction.commit();
+
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Message>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+		then(boltConnection).should().writeAndFlush(any(), messagesCaptor.capture(), any());
+		assertThat(messagesCaptor.getValue()).hasSize(5)
+			.satisfies(messages -> assertThat(messages.get(0)).isInstanceOf(RunMessage.class))
+			.satisfies(messages -> assertThat(messages.get(1)).isInstanceOf(DiscardMessage.class))
+			.satisfies(messages -> assertThat(messages.get(4)).isInstanceOf(CommitMessage.class));
+	}
+
+	@Test
+	void failedDeferredUpdatesShouldBeAttributedToTheirStatement() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, false,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"), true);
+
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				handler.onBeginSummary(mock(BeginSummary.class));
+				handler.onRunSummary(mock(RunSummary.class));
+				handler.onDiscardSummary(mock(DiscardSummary.class));
+				handler.onError(new BoltFailureException("Neo.ClientError.Schema.ConstraintValidationFailed",
+						"already exists", "22N41", "description", Map.of(), null));
+				for (int i = 0; i < 4; ++i) {
+					handler.onIgnored();
+				}
+				handler.onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		this.transaction.runAndDiscard("CREATE (n:A {id: 1})", Map.of(), 0, false);
+		this.transaction.runAndDiscard("CREATE (n:A {id: 1})", Map.of(), 0, false);
+		this.transaction.runAndDiscard("CREATE (n:A {id: 2})", Map.of(), 0, false);
+
+		assertThatThrownBy(() -> this.transaction.commit()).isInstanceOf(BatchUpdateException.class)
+			.hasMessageStartingWith("Deferred statement 1 (`CREATE (n:A {id: 1})`) failed")
+			.satisfies(ex -> assertThat(((BatchUpdateException) ex).getUpdateCounts()).containsExactly(0))
+			.hasCauseInstanceOf(Neo4jException.class);
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.OPEN_FAILED);
+	}
+
+	@Test
+	void rollbackShouldDropDeferredUpdates() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, false,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"), true);
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onRollbackSummary(mock(RollbackSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		this.transaction.runAndDiscard("CREATE (n)", Map.of(), 0, false);
+		this.transaction.rollback();
+
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.ROLLEDBACK);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Message>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+		then(boltConnection).should().writeAndFlush(any(), messagesCaptor.capture(), any());
+		assertThat(messagesCaptor.getValue()).singleElement().isInstanceOf(RollbackMessage.class);
+	}
+
+	@Test
+	void probeShouldNotBeDeferredNorFlushDeferredUpdates() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, false,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"), true);
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				for (var message : invocation.<List<Message>>getArgument(1)) {
+					if (message instanceof RunMessage) {
+						handler.onRunSummary(mock(RunSummary.class));
+					}
+					else if (message instanceof DiscardMessage) {
+						handler.onDiscardSummary(mock(DiscardSummary.class));
+					}
+					else if (message instanceof CommitMessage) {
+						handler.onCommitSummary(mock(CommitSummary.class));
+					}
+				}
+				handler.onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		this.transaction.runAndDiscard("CREATE (n)", Map.of(), 0, false);
+		this.transaction.probe(0);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Message>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+		then(boltConnection).should().writeAndFlush(any(), messagesCaptor.capture(), any());
+		assertThat(messagesCaptor.getValue()).hasSize(2)
+			.satisfies(messages -> assertThat(((RunMessage) messages.get(0)).query()).isEqualTo("RETURN 1"))
+			.satisfies(messages -> assertThat(messages.get(1)).isInstanceOf(DiscardMessage.class));
+
+		this.transaction.commit();
+
+		then(boltConnection).should(times(2)).writeAndFlush(any(), messagesCaptor.capture(), any());
+		assertThat(messagesCaptor.getValue()).hasSize(3)
+			.satisfies(messages -> assertThat(((RunMessage) messages.get(0)).query()).isEqualTo("CREATE (n)"))
+			.satisfies(messages -> assertThat(messages.get(1)).isInstanceOf(DiscardMessage.class))
+			.satisfies(messages -> assertThat(messages.get(2)).isInstanceOf(CommitMessage.class));
+	}
+
+	@Test
+	void cancelShouldResetTheInFlightRequest() throws Exception {
+		var boltConnection = mockBoltConnection();
+		var failedStates = new ArrayList<Neo4jTransaction.State>();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, Neo4jTransaction.State.READY, "aBeautifulDatabase", failedStates::add,
+				Authentication.usernameAndPassword("foo", "bar"));
+		var pendingHandler = new CompletableFuture<ResponseHandler>();
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				// The server never answers the query on its own
+				pendingHandler.complete(invocation.getArgument(0));
+				return CompletableFuture.completedFuture(null);
+			});
+		given(boltConnection.writeAndFlush(any(), any(ResetMessage.class), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = pendingHandler.join();
+				handler.onIgnored();
+				handler.onComplete();
+				invocation.<ResponseHandler>getArgument(0).onResetSummary(mock(ResetSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		var owner = new Object();
+		var executor = Executors.newSingleThreadExecutor();
+		try {
+			var result = executor.submit(() -> {
+				this.transaction.setRequestOwner(owner);
+				return this.transaction.runAndPull("CALL apoc.util.sleep(100000)", Map.of(), 10, 0);
+			});
+			pendingHandler.get(10, TimeUnit.SECONDS);
+
+			this.transaction.cancel(new Object());
+			then(boltConnection).should(never()).writeAndFlush(any(), any(ResetMessage.class), any());
+
+			var start = System.nanoTime();
+			this.transaction.cancel(owner);
+			assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(Neo4jException.class)
+				.cause()
+				.hasMessageEndingWith("The statement has been cancelled");
+			var latency = Duration.ofNanos(System.nanoTime() - start);
+
+			assertThat(latency).isLessThan(Duration.ofSeconds(1));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.FAILED);
+		assertThat(failedStates).containsExactly(Neo4jTransaction.State.FAILED);
+		then(boltConnection).should().writeAndFlush(any(), any(ResetMessage.class), any());
+	}
+
+	@Test
+	void cancelWithoutRequestInFlightShouldBeNoop() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, Neo4jTransaction.State.READY, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+
+		this.transaction.cancel(null);
+
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.READY);
+		then(boltConnection).should(never()).writeAndFlush(any(), any(ResetMessage.class), any());
+	}
+
 	@Test
 	void shouldPull() throws SQLException {
 		var boltConnection = mockBoltConnection();
@@ -229,6 +495,33 @@ class DefaultTransactionImplTests {
 		then(boltConnection).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldDiscardAsync() throws Exception {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, false,
+				AccessMode.WRITE, Neo4jTransaction.State.READY, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		given(runResponse.queryId()).willReturn(42L);
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(List.of(DiscardMessage.class)), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onDiscardSummary(mock(DiscardSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		var response = this.transaction.discardAsync(runResponse).get(5, TimeUnit.SECONDS);
+
+		assertThat(response).isNotNull();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.READY);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Message>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+		then(boltConnection).should().writeAndFlush(any(), messagesCaptor.capture(), any());
+		var discardMessage = (DiscardMessage) messagesCaptor.getValue().get(0);
+		assertThat(discardMessage.qid()).isEqualTo(42L);
+		assertThat(discardMessage.number()).isEqualTo(-1L);
+	}
+
 	@Test
 	void shouldCommit() throws SQLException {
 		var boltConnection = mockBoltConnection();
@@ -299,7 +592,7 @@ class DefaultTransactionImplTests {
 		then(boltConnection).shouldHaveNoMoreInteractions();
 	}
 
-	private static BoltConnection mockBoltConnection() {
+	static BoltConnection mockBoltConnection() {
 		var boltConnection = mock(BoltConnection.class);
 		given(boltConnection.authInfo()).willReturn(CompletableFuture.completedFuture(new AuthInfo() {
 
@@ -575,6 +868,12 @@ class DefaultTransactionImplTests {
 				invocation.<ResponseHandler>getArgument(0).onPullSummary(mock(PullSummary.class));
 				return CompletableFuture.completedFuture(null);
 			});
+		given(boltConnection.writeAndFlush(any(), any(ResetMessage.class), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onResetSummary(mock(ResetSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
 
 		var transactionType = autoCommit ? TransactionType.UNCONSTRAINED : TransactionType.DEFAULT;
 		@SuppressWarnings("unchecked")
@@ -603,6 +902,7 @@ class DefaultTransactionImplTests {
 		assertThat(pullMessage.request()).isEqualTo(fetchSize);
 		then(boltConnection).should().authInfo();
 		then(fatalExceptionHandler).shouldHaveNoMoreInteractions();
+		then(boltConnection).should().writeAndFlush(any(), any(ResetMessage.class), any());
 	}
 
 	@ParameterizedTest
@@ -622,6 +922,12 @@ class DefaultTransactionImplTests {
 				invocation.<ResponseHandler>getArgument(0).onDiscardSummary(mock(DiscardSummary.class));
 				return CompletableFuture.completedFuture(null);
 			});
+		given(boltConnection.writeAndFlush(any(), any(ResetMessage.class), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onResetSummary(mock(ResetSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
 
 		assertThatThrownBy(() -> this.transaction.runAndDiscard(query, parameters, 1, false))
 			.isExactlyInstanceOf(SQLTimeoutException.class);
@@ -641,6 +947,7 @@ class DefaultTransactionImplTests {
 		assertThat(this.transaction.isOpen()).isEqualTo(!autoCommit);
 		then(boltConnection).should().authInfo();
 		then(fatalExceptionHandler).shouldHaveNoMoreInteractions();
+		then(boltConnection).should().writeAndFlush(any(), any(ResetMessage.class), any());
 	}
 
 	@ParameterizedTest
@@ -766,7 +1073,19 @@ class DefaultTransactionImplTests {
 				Arguments.of((TransactionMethodRunner) transaction -> transaction.runAndDiscard("query",
 						Collections.emptyMap(), -1, false)),
 				Arguments.of((TransactionMethodRunner) Neo4jTransaction::commit),
-				Arguments.of((TransactionMethodRunner) Neo4jTransaction::rollback));
+				Arguments.of((TransactionMethodRunner) Neo4jTransaction::rollback),
+				Arguments.of((TransactionMethodRunner) transaction -> await(
+						transaction.runAndPullAsync("query", Collections.emptyMap(), -1))),
+				Arguments.of((TransactionMethodRunner) transaction -> await(transaction.commitAsync())));
+	}
+
+	static void await(CompletableFuture<?> future) throws SQLException {
+		try {
+			future.join();
+		}
+		catch (CompletionException ex) {
+			throw (SQLException) ex.getCause();
+		}
 	}
 
 	private static List<Message> messageTypeMatcher(List<Class<? extends Message>> messageTypes) {
@@ -18,8 +18,11 @@
  */
 package org.neo4j.jdbc;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -51,12 +54,19 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
+import org.neo4j.jdbc.values.Node;
+import org.neo4j.jdbc.values.Path;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Relationship;
 import org.neo4j.jdbc.values.Value;
 import org.neo4j.jdbc.values.Values;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class JacksonJSONMapperImplTests {
@@ -96,6 +106,58 @@ class JacksonJSONMapperImplTests {
 		assertThat(this.mapper.toJson(in)).isEqualTo(out);
 	}
 
+	static Stream<Arguments> writeJsonShouldUseTheSameFormatAsToJson() {
+		var node = mock(Node.class);
+		given(node.elementId()).willReturn("4:n:1");
+		given(node.labels()).willReturn(List.of("Person", "Actor"));
+		given(node.keys()).willReturn(List.of("name"));
+		given(node.get("name")).willReturn(Values.value("Keanu"));
+		var relationship = mock(Relationship.class);
+		given(relationship.elementId()).willReturn("5:r:1");
+		given(relationship.startNodeElementId()).willReturn("4:n:1");
+		given(relationship.endNodeElementId()).willReturn("4:n:1");
+		given(relationship.type()).willReturn("KNOWS");
+		given(relationship.keys()).willReturn(List.of("since"));
+		given(relationship.get("since")).willReturn(Values.value(LocalDate.of(1999, 3, 31)));
+		var path = mock(Path.class);
+		given(path.start()).willReturn(node);
+		given(path.end()).willReturn(node);
+		given(path.relationships()).willReturn(List.of(relationship));
+
+		return Stream.concat(toJsonShouldWork().map(arguments -> Arguments.of(arguments.get()[0])),
+				Stream.of(Arguments.of(Values.value(node)), Arguments.of(Values.value(relationship)),
+						Arguments.of(Values.value(path)), Arguments.of(Values.value(List.of(1, "2", List.of(3.0)))),
+						Arguments.of(Values.value(Map.of("a", Map.of("b", List.of(true)))))));
+	}
+
+	@ParameterizedTest
+	@MethodSource
+	void writeJsonShouldUseTheSameFormatAsToJson(Value value) throws Exception {
+		var out = new ByteArrayOutputStream();
+		var record = Record.of(List.of("v"), new Value[] { value });
+		var records = List.of(record).iterator();
+
+		var cnt = this.mapper.writeJson(List.of("v"), () -> records.hasNext() ? records.next() : null, out);
+
+		assertThat(cnt).isOne();
+		var objectMapper = new ObjectMapper();
+		var expected = objectMapper.createObjectNode();
+		var data = expected.putObject("data");
+		data.putArray("fields").add("v");
+		data.putArray("values").addArray().add(this.mapper.toJson(value));
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(expected));
+	}
+
+	@Test
+	void writeJsonShouldNotCloseTheStream() throws Exception {
+		var out = mock(OutputStream.class);
+
+		var cnt = this.mapper.writeJson(List.of("a", "b"), () -> null, out);
+
+		assertThat(cnt).isZero();
+		then(out).should(never()).close();
+	}
+
 	@Test
 	void toJsonShouldThrowMeaningfulErrorWhenUnsupported() {
 		var unsupportedValue = Mockito.mock(Value.class);
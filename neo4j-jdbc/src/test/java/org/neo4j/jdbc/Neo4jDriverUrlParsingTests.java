@@ -21,6 +21,7 @@ package org.neo4j.jdbc;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -29,7 +30,10 @@ import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,6 +55,8 @@ import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.observation.ObservationProvider;
 import org.neo4j.bolt.connection.values.ValueFactory;
 import org.neo4j.jdbc.internal.bolt.BoltAdapters;
+import org.neo4j.jdbc.translator.spi.Translator;
+import org.neo4j.jdbc.translator.spi.TranslatorFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -62,6 +68,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 
 @SuppressWarnings("resource")
 class Neo4jDriverUrlParsingTests {
@@ -341,6 +350,71 @@ class Neo4jDriverUrlParsingTests {
 					eq(expectedAuthToken), any(), any(), any());
 	}
 
+	@Test
+	void connectAsyncShouldNotWaitForTheHandshake() throws Exception {
+		var handshake = new CompletableFuture<BoltConnection>();
+		given(this.boltConnectionProvider.connect(any(), any(), any(), any(), anyInt(), anyLong(), any(), any(), any(),
+				any(), any()))
+			.willReturn(handshake);
+
+		var driver = new Neo4jDriver(this.factories);
+		var props = new Properties();
+		props.put("user", "test");
+		props.put("password", "password");
+
+		var connection = driver.connectAsync("jdbc:neo4j://host/database", props).toCompletableFuture();
+
+		var expectedAuthToken = AuthTokens.basic("test", "password", null, BoltAdapters.getValueFactory());
+		then(this.boltConnectionProvider).should(timeout(10_000))
+			.connect(eq(boltUri("host", DEFAULT_BOLT_PORT)), any(), any(), any(), anyInt(), anyLong(), any(),
+					eq(expectedAuthToken), any(), any(), any());
+
+		assertThat(connection).isNotDone();
+		handshake.complete(mock());
+		assertThat(connection.get(10, TimeUnit.SECONDS).getDatabaseName()).isEqualTo("database");
+	}
+
+	@Test
+	void connectAsyncShouldPropagateFailures() {
+		given(this.boltConnectionProvider.connect(any(), any(), any(), any(), anyInt(), anyLong(), any(), any(), any(),
+				any(), any()))
+			.willReturn(CompletableFuture.failedFuture(new IllegalStateException("Handshake failed")));
+
+		var driver = new Neo4jDriver(this.factories);
+
+		assertThat(driver.connectAsync("jdbc:neo4j:ThisIsWrong://host", new Properties()).toCompletableFuture())
+			.failsWithin(Duration.ofSeconds(10))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(SQLException.class);
+		assertThat(driver.connectAsync("jdbc:neo4j://host", new Properties()).toCompletableFuture())
+			.failsWithin(Duration.ofSeconds(10))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(Neo4jException.class)
+			.withRootCauseInstanceOf(IllegalStateException.class)
+			.havingCause()
+			.satisfies(ex -> assertThat(((SQLException) ex).getSQLState()).isEqualTo("08000"));
+	}
+
+	@Test
+	void connectAsyncShouldRetrieveAuthenticationAsynchronously() {
+		var driver = new Neo4jDriver(this.factories);
+		var caller = Thread.currentThread();
+		var authenticatingThread = new AtomicReference<Thread>();
+		driver.setAuthenticationSupplier(() -> {
+			authenticatingThread.set(Thread.currentThread());
+			throw new IllegalStateException("No token");
+		});
+
+		assertThat(driver.connectAsync("jdbc:neo4j://host", new Properties()).toCompletableFuture())
+			.failsWithin(Duration.ofSeconds(10))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(Neo4jException.class)
+			.withRootCauseInstanceOf(IllegalStateException.class);
+		assertThat(authenticatingThread.get()).isNotNull().isNotSameAs(caller);
+		then(this.boltConnectionProvider).should(never())
+			.connect(any(), any(), any(), any(), anyInt(), anyLong(), any(), any(), any(), any(), any());
+	}
+
 	@Test
 	void testMinimalGetPropertyInfo() throws SQLException {
 		var driver = new Neo4jDriver(this.factories);
@@ -474,6 +548,40 @@ class Neo4jDriverUrlParsingTests {
 			.withMessage("data exception - Sample size for relationships must be greater than or equal -1");
 	}
 
+	@Test
+	void poolShouldBeDisabledByDefault() throws SQLException {
+		var config = Neo4jDriver.DriverConfig.of("jdbc:neo4j://host:1234", new Properties());
+		assertThat(config.pool()).isNull();
+	}
+
+	@Test
+	void poolConfigShouldBeParsed() throws SQLException {
+		var properties = new Properties();
+		properties.put("pool.maxSize", "4");
+		properties.put("pool.idleTimeout", "1000");
+		var config = Neo4jDriver.DriverConfig.of("jdbc:neo4j://host:1234?pool.enabled=true", properties);
+		assertThat(config.pool()).isEqualTo(
+				new BoltConnectionPool.Config(4, Duration.ofMinutes(1), Duration.ofSeconds(1), Duration.ofHours(1)));
+	}
+
+	@Test
+	void poolSizeShouldBeValidated() {
+		var properties = new Properties();
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> Neo4jDriver.DriverConfig.of("jdbc:neo4j://host:1234/?pool.enabled=true&pool.maxSize=0",
+					properties))
+			.withMessage("data exception - The maximum size of the connection pool must be at least 1");
+	}
+
+	@Test
+	void readAheadShouldBeParsed() throws SQLException {
+		assertThat(Neo4jDriver.DriverConfig.of("jdbc:neo4j://host:1234", new Properties()).readAhead())
+			.isEqualTo(Cursor.ReadAhead.DISABLED);
+		var config = Neo4jDriver.DriverConfig.of("jdbc:neo4j://host:1234?prefetch.batches=2&prefetch.watermark=10",
+				new Properties());
+		assertThat(config.readAhead()).isEqualTo(new Cursor.ReadAhead(2, 10));
+	}
+
 	@ParameterizedTest
 	@CsvSource(textBlock = """
 				true,''
@@ -651,6 +759,83 @@ class Neo4jDriverUrlParsingTests {
 			.hasMessageContaining("foobar is not a valid option for authScheme");
 	}
 
+	@ParameterizedTest
+	@CsvSource(textBlock = """
+			true,1
+			false,2
+			""")
+	void translatorsShouldBeSharedBetweenConnectionsIfCachingIsEnabled(boolean cacheTranslations,
+			int expectedTranslators) throws SQLException {
+		var driver = new Neo4jDriver(this.factories);
+		var props = new Properties();
+		props.put("username", "test");
+		props.put("password", "password");
+		props.put(Neo4jDriver.PROPERTY_SQL_TRANSLATION_ENABLED, "true");
+		props.put(Neo4jDriver.PROPERTY_SQL_TRANSLATION_CACHING_ENABLED, Boolean.toString(cacheTranslations));
+		props.put(Neo4jDriver.PROPERTY_TRANSLATOR_FACTORY, CountingTranslatorFactory.class.getName());
+
+		var createdTranslators = CountingTranslatorFactory.CREATED_TRANSLATORS.get();
+		for (var i = 0; i < 2; ++i) {
+			var connection = driver.connect("jdbc:neo4j://host", props);
+			assertThat(connection.nativeSQL("SELECT 1")).isEqualTo("SELECT 1");
+		}
+
+		assertThat(CountingTranslatorFactory.CREATED_TRANSLATORS.get() - createdTranslators)
+			.isEqualTo(expectedTranslators);
+	}
+
+	@Test
+	void closeShouldClosePools() throws SQLException {
+		var boltConnection = BoltConnectionPoolTests.mockBoltConnection();
+		given(this.boltConnectionProvider.connect(any(), any(), any(), any(), anyInt(), anyLong(), any(), any(), any(),
+				any(), any()))
+			.willReturn(CompletableFuture.completedFuture(boltConnection));
+
+		var driver = new Neo4jDriver(this.factories);
+		var props = new Properties();
+		props.put("username", "test");
+		props.put("password", "password");
+		props.put(Neo4jDriver.PROPERTY_POOL_ENABLED, "true");
+
+		driver.connect("jdbc:neo4j://host", props).close();
+		then(boltConnection).should(never()).close();
+
+		var connection = driver.connect("jdbc:neo4j://host", props);
+		driver.close();
+		then(boltConnection).should(never()).close();
+		connection.close();
+		then(boltConnection).should().close();
+
+		driver.connect("jdbc:neo4j://host", props).close();
+		then(this.boltConnectionProvider).should(times(2))
+			.connect(any(), any(), any(), any(), anyInt(), anyLong(), any(), any(), any(), any(), any());
+	}
+
+	@Test
+	void closeShouldReleaseTranslationCachesAndTranslators() throws SQLException {
+		var driver = new Neo4jDriver(this.factories);
+		var props = new Properties();
+		props.put("username", "test");
+		props.put("password", "password");
+		props.put(Neo4jDriver.PROPERTY_SQL_TRANSLATION_ENABLED, "true");
+		props.put(Neo4jDriver.PROPERTY_SQL_TRANSLATION_CACHING_ENABLED, "true");
+		props.put(Neo4jDriver.PROPERTY_TRANSLATOR_FACTORY, CountingTranslatorFactory.class.getName());
+
+		var createdTranslators = CountingTranslatorFactory.CREATED_TRANSLATORS.get();
+		var translations = CountingTranslatorFactory.TRANSLATIONS.get();
+		for (var i = 0; i < 2; ++i) {
+			assertThat(driver.connect("jdbc:neo4j://host", props).nativeSQL("SELECT 1")).isEqualTo("SELECT 1");
+		}
+		assertThat(CountingTranslatorFactory.CREATED_TRANSLATORS.get() - createdTranslators).isOne();
+		assertThat(CountingTranslatorFactory.TRANSLATIONS.get() - translations).isOne();
+
+		driver.close();
+		assertThat(driver.connect("jdbc:neo4j://host", props).nativeSQL("SELECT 1")).isEqualTo("SELECT 1");
+
+		assertThat(CountingTranslatorFactory.CREATED_TRANSLATORS.get() - createdTranslators).isEqualTo(2);
+		assertThat(CountingTranslatorFactory.TRANSLATIONS.get() - translations).isEqualTo(2);
+	}
+
 	private static Stream<Arguments> jdbcURLProvider() {
 		return Stream.of(Arguments.of("jdbc:neo4j://host", "host", DEFAULT_BOLT_PORT),
 				Arguments.of("jdbc:neo4j://host/neo4j", "host", DEFAULT_BOLT_PORT),
@@ -712,4 +897,21 @@ class Neo4jDriverUrlParsingTests {
 
 	}
 
+	public static final class CountingTranslatorFactory implements TranslatorFactory {
+
+		static final AtomicInteger CREATED_TRANSLATORS = new AtomicInteger();
+
+		static final AtomicInteger TRANSLATIONS = new AtomicInteger();
+
+		@Override
+		public Translator create(Map<String, ?> properties) {
+			CREATED_TRANSLATORS.incrementAndGet();
+			return (statement, optionalDatabaseMetaData) -> {
+				TRANSLATIONS.incrementAndGet();
+				return statement;
+			};
+		}
+
+	}
+
 }
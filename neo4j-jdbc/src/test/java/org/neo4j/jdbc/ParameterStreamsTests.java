@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ParameterStreamsTests {
+
+	@ParameterizedTest
+	@ValueSource(ints = { -1, 3 })
+	void shouldReadBytes(int length) throws SQLException {
+		var parameterStreams = new ParameterStreams(3, 0);
+		var bytes = parameterStreams.readBytes("p", new ByteArrayInputStream(new byte[] { 1, 2, 3 }), length);
+		assertThat(bytes).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	void shouldReturnShorterArraysForShorterStreams() throws SQLException {
+		var bytes = ParameterStreams.UNLIMITED.readBytes("p", new ByteArrayInputStream(new byte[] { 1, 2 }), 10);
+		assertThat(bytes).containsExactly(1, 2);
+	}
+
+	@Test
+	void shouldRejectBinaryStreamsWithKnownLengthBeforeReading() {
+		var closed = new AtomicBoolean();
+		var inputStream = new InputStream() {
+			@Override
+			public int read() {
+				throw new IllegalStateException("Must not be read");
+			}
+
+			@Override
+			public void close() {
+				closed.set(true);
+			}
+		};
+		var parameterStreams = new ParameterStreams(3, 0);
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> parameterStreams.readBytes("p", inputStream, 4))
+			.withMessageEndingWith("Parameter p exceeds the maximum size of 3 bytes");
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void shouldRejectBinaryStreamsWithUnknownLengthExceedingTheLimit() {
+		var parameterStreams = new ParameterStreams(3, 0);
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> parameterStreams.readBytes("p", new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }), -1))
+			.withMessageEndingWith("Parameter p exceeds the maximum size of 3 bytes");
+	}
+
+	@Test
+	void shouldReadAscii() throws SQLException {
+		var parameterStreams = new ParameterStreams(1, 6);
+		var value = parameterStreams.readAscii("p",
+				new ByteArrayInputStream("string".getBytes(StandardCharsets.US_ASCII)), -1);
+		assertThat(value).isEqualTo("string");
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> parameterStreams.readAscii("p",
+					new ByteArrayInputStream("strings".getBytes(StandardCharsets.US_ASCII)), 7))
+			.withMessageEndingWith("Parameter p exceeds the maximum size of 6 characters");
+	}
+
+	@Test
+	void shouldReadReadersCompletely() throws SQLException {
+		// A reader that only returns a single character per call
+		var reader = new FilterReader(new StringReader("Hallo, Welt")) {
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				return super.read(cbuf, off, Math.min(len, 1));
+			}
+		};
+		assertThat(ParameterStreams.UNLIMITED.readString("p", reader, 11)).isEqualTo("Hallo, Welt");
+	}
+
+	@Test
+	void shouldRejectReadersExceedingTheLimit() throws SQLException {
+		var parameterStreams = new ParameterStreams(0, 5);
+		assertThat(parameterStreams.readString("p", new StringReader("Hallo"), -1)).isEqualTo("Hallo");
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> parameterStreams.readString("p", new StringReader("Hallo, Welt"), -1))
+			.withMessageEndingWith("Parameter p exceeds the maximum size of 5 characters");
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> parameterStreams.readString("p", Reader.nullReader(), 6))
+			.withMessageEndingWith("Parameter p exceeds the maximum size of 5 characters");
+	}
+
+}
@@ -19,8 +19,6 @@
 package org.neo4j.jdbc;
 
 import java.io.ByteArrayInputStream;
-import java.io.InputStream;
-import java.io.Reader;
 import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -53,6 +51,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
@@ -63,16 +62,25 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.neo4j.bolt.connection.SummaryCounters;
 import org.neo4j.jdbc.values.Value;
 import org.neo4j.jdbc.values.Values;
+import org.neo4j.jdbc.values.Vector;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class PreparedStatementImplTests {
 
@@ -117,6 +125,7 @@ class PreparedStatementImplTests {
 		assertThat(resultSet).isNotNull();
 		assertThat(multipleResultsApiResultSet).isNull();
 		then(transactionSupplier).should().getTransaction(Collections.emptyMap());
+		then(transaction).should().setRequestOwner(this.statement);
 		then(transaction).should().runAndPull(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0);
 		then(transaction).shouldHaveNoMoreInteractions();
 	}
@@ -151,11 +160,122 @@ class PreparedStatementImplTests {
 		// then
 		assertThat(updates).isEqualTo(totalUpdates);
 		then(transactionSupplier).should().getTransaction(Collections.emptyMap());
+		then(transaction).should().setRequestOwner(this.statement);
 		then(transaction).should().isAutoCommit();
 		then(transaction).should().runAndDiscard(query, Collections.emptyMap(), 0, true);
 		then(transaction).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldPipelineBatchesInChunks() throws SQLException {
+		// given
+		var query = "CREATE (n {v: $1})";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.runAndDiscardAll(eq(query), anyList(), eq(0), eq(true)))
+			.willAnswer(invocation -> invocation.<List<?>>getArgument(1)
+				.stream()
+				.map(ignored -> newDiscardResponse(1))
+				.toList());
+		var connection = StatementImplTests.mockConnection();
+		given(((ConnectionImpl) connection).getBatchChunkSize()).willReturn(2);
+		this.statement = newStatement(connection, transactionSupplier, query);
+
+		// when
+		for (int i = 0; i < 3; ++i) {
+			this.statement.setInt(1, i);
+			this.statement.addBatch();
+		}
+		var updateCounts = this.statement.executeBatch();
+
+		// then
+		assertThat(updateCounts).containsExactly(1, 1, 1, Statement.SUCCESS_NO_INFO);
+		then(transaction).should()
+			.runAndDiscardAll(query, List.of(Map.of("1", Values.value(0)), Map.of("1", Values.value(1))), 0, true);
+		then(transaction).should().runAndDiscardAll(query, List.of(Map.of("1", Values.value(2))), 0, true);
+		then(transaction).should(never()).runAndDiscard(any(), any(), anyInt(), anyBoolean());
+	}
+
+	@Test
+	void shouldSplitRewrittenBatchesIntoChunks() throws SQLException {
+		// given
+		var query = "CREATE (n {v: $1})";
+		var rewrittenQuery = "UNWIND $__parameters AS __parameter CREATE (n {v: __parameter['1']})";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		var discardResponses = List.of(newDiscardResponse(2), newDiscardResponse(1));
+		given(transaction.runAndDiscardAll(eq(rewrittenQuery), anyList(), eq(0), eq(true)))
+			.willReturn(discardResponses);
+		var connection = StatementImplTests.mockConnection();
+		given(((ConnectionImpl) connection).getBatchChunkSize()).willReturn(2);
+		this.statement = new PreparedStatementImpl(connection, transactionSupplier, null, null, null, false, true,
+				Statement.NO_GENERATED_KEYS, query);
+
+		// when
+		for (int i = 0; i < 3; ++i) {
+			this.statement.setInt(1, i);
+			this.statement.addBatch();
+		}
+		var updateCounts = this.statement.executeBatch();
+
+		// then
+		assertThat(updateCounts).containsExactly(3);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Map<String, Object>>> parametersCaptor = ArgumentCaptor.forClass(List.class);
+		then(transaction).should().runAndDiscardAll(eq(rewrittenQuery), parametersCaptor.capture(), eq(0), eq(true));
+		assertThat(parametersCaptor.getValue()).map(parameters -> ((List<?>) parameters.get("__parameters")).size())
+			.containsExactly(2, 1);
+	}
+
+	@Test
+	void shouldSendChunksOfRewrittenBatchesInBoundedWindows() throws SQLException {
+		// given
+		var query = "CREATE (n {v: $1})";
+		var rewrittenQuery = "UNWIND $__parameters AS __parameter CREATE (n {v: __parameter['1']})";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.runAndDiscardAll(eq(rewrittenQuery), anyList(), eq(0), eq(true)))
+			.willAnswer(invocation -> invocation.<List<Map<String, Object>>>getArgument(1)
+				.stream()
+				.map(parameters -> newDiscardResponse(((List<?>) parameters.get("__parameters")).size()))
+				.toList());
+		var connection = StatementImplTests.mockConnection();
+		given(((ConnectionImpl) connection).getBatchChunkSize()).willReturn(2);
+		this.statement = new PreparedStatementImpl(connection, transactionSupplier, null, null, null, false, true,
+				Statement.NO_GENERATED_KEYS, query);
+		var numRows = 2 * PreparedStatementImpl.MAX_PIPELINED_CHUNKS + 1;
+
+		// when
+		for (int i = 0; i < numRows; ++i) {
+			this.statement.setInt(1, i);
+			this.statement.addBatch();
+		}
+		var updateCounts = this.statement.executeBatch();
+
+		// then
+		assertThat(updateCounts).containsExactly(numRows);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Map<String, Object>>> parametersCaptor = ArgumentCaptor.forClass(List.class);
+		then(transaction).should(times(2))
+			.runAndDiscardAll(eq(rewrittenQuery), parametersCaptor.capture(), eq(0), eq(true));
+		assertThat(parametersCaptor.getAllValues()).map(List::size)
+			.containsExactly(PreparedStatementImpl.MAX_PIPELINED_CHUNKS, 1);
+	}
+
+	private static Neo4jTransaction.DiscardResponse newDiscardResponse(int nodesCreated) {
+		var counters = mock(SummaryCounters.class);
+		given(counters.nodesCreated()).willReturn(nodesCreated);
+		var discardResponse = mock(Neo4jTransaction.DiscardResponse.class);
+		given(discardResponse.resultSummary()).willReturn(Optional.of(new Neo4jTransaction.ResultSummary(counters)));
+		return discardResponse;
+	}
+
 	@Test
 	void shouldExecuteQueryUsingMultipleResultsApi() throws SQLException {
 		// given
@@ -194,6 +314,7 @@ class PreparedStatementImplTests {
 		assertThat(nextUpdates).isEqualTo(-1);
 		assertThat(resultSet.isClosed()).isTrue();
 		then(transactionSupplier).should().getTransaction(Collections.emptyMap());
+		then(transaction).should().setRequestOwner(this.statement);
 		then(transaction).should().isAutoCommit();
 		then(transaction).should().runAndPull(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0);
 		then(transaction).should().isRunnable();
@@ -295,7 +416,7 @@ class PreparedStatementImplTests {
 	}
 
 	static Stream<Arguments> getShouldThrowUnsupportedArgs() {
-		return Stream.of(Arguments.of((StatementMethodRunner) Statement::cancel, SQLFeatureNotSupportedException.class),
+		return Stream.of(
 				Arguments.of((StatementMethodRunner) statement -> statement.setCursorName("name"),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.addBatch("query"), SQLException.class),
@@ -305,29 +426,11 @@ class PreparedStatementImplTests {
 				// not currently supported
 				Arguments.of((StatementMethodRunner) statement -> statement.setRef(1, null),
 						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setBlob(1, mock(Blob.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setClob(1, mock(Clob.class)),
-						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.setRowId(1, mock(RowId.class)),
 						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setNClob(1, mock(NClob.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setClob(1, mock(Reader.class), 0),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setBlob(1, mock(InputStream.class), 0),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setNClob(1, mock(Reader.class), 0),
-						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.setSQLXML(1, mock(SQLXML.class)),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.setObject(1, null, Types.NULL, 0),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setClob(1, mock(Reader.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setBlob(1, mock(InputStream.class)),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.setNClob(1, mock(Reader.class)),
 						SQLFeatureNotSupportedException.class));
 	}
 
@@ -403,6 +506,20 @@ class PreparedStatementImplTests {
 						new StringReader("string"), 0L)));
 	}
 
+	@Test
+	void shouldRejectStreamsExceedingTheConfiguredMaximumSize() throws SQLException {
+		var connection = StatementImplTests.mockConnection();
+		given(((ConnectionImpl) connection).getParameterStreams()).willReturn(new ParameterStreams(1, 1));
+		this.statement = newStatement(connection, mock(Neo4jTransactionSupplier.class), "query");
+
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> this.statement.setBinaryStream(1, new ByteArrayInputStream(new byte[] { 0, 1 }), 2))
+			.withMessageEndingWith("Parameter 1 exceeds the maximum size of 1 bytes");
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> this.statement.setClob(1, new StringReader("string"), 6L))
+			.withMessageEndingWith("Parameter 1 exceeds the maximum size of 1 characters");
+	}
+
 	@ParameterizedTest
 	@MethodSource
 	void shouldSetParameter(StatementMethodRunner parameterSettingRunner, Value expectedValue)
@@ -415,12 +532,18 @@ class PreparedStatementImplTests {
 		assertThat(this.statement.getCurrentBatch()).isEqualTo(Map.of("1", expectedValue));
 	}
 
-	static Stream<Arguments> shouldSetParameter() throws MalformedURLException {
+	static Stream<Arguments> shouldSetParameter() throws MalformedURLException, SQLException {
 
 		var zoneId = ZoneId.of("America/Los_Angeles");
 		var offset = zoneId.getRules().getOffset(Instant.now());
 		@SuppressWarnings("squid:S1874")
 		var url = new URL("https://neo4j.com");
+		var blob = mock(Blob.class);
+		given(blob.length()).willReturn(2L);
+		given(blob.getBinaryStream()).willAnswer(invocation -> new ByteArrayInputStream(new byte[] { 0, 1 }));
+		var clob = mock(NClob.class);
+		given(clob.length()).willReturn(6L);
+		given(clob.getCharacterStream()).willAnswer(invocation -> new StringReader("string"));
 
 		return Stream.of(
 				Arguments.of((StatementMethodRunner) statement -> statement.setNull(1, Types.NULL), Values.NULL),
@@ -480,6 +603,15 @@ class PreparedStatementImplTests {
 						new ByteArrayInputStream(new byte[] { 0, 1 }), 6L), Values.value(new byte[] { 0, 1 })),
 				Arguments.of((StatementMethodRunner) statement -> statement.setCharacterStream(1,
 						new StringReader("string"), 6L), Values.value("string")),
+				Arguments.of((StatementMethodRunner) statement -> statement.setBlob(1, blob),
+						Values.value(new byte[] { 0, 1 })),
+				Arguments.of((StatementMethodRunner) statement -> statement.setBlob(1,
+						new ByteArrayInputStream(new byte[] { 0, 1 }), 2L), Values.value(new byte[] { 0, 1 })),
+				Arguments.of((StatementMethodRunner) statement -> statement.setClob(1, (Clob) clob),
+						Values.value("string")),
+				Arguments.of((StatementMethodRunner) statement -> statement.setNClob(1, clob), Values.value("string")),
+				Arguments.of((StatementMethodRunner) statement -> statement.setClob(1, new StringReader("string"), 6L),
+						Values.value("string")),
 				Arguments.of((StatementMethodRunner) statement -> statement.setObject(1, LocalDate.MAX),
 						Values.value(LocalDate.MAX)),
 				Arguments.of((StatementMethodRunner) statement -> statement.setObject(1, LocalTime.MAX),
@@ -524,6 +656,22 @@ class PreparedStatementImplTests {
 						Values.value(LocalDateTime.of(2000, 1, 1, 1, 1, 1))));
 	}
 
+	@Test
+	void shouldSetVectorsWithoutCopying() throws SQLException {
+		this.statement = newStatement(StatementImplTests.mockConnection(), mock(Neo4jTransactionSupplier.class),
+				"query");
+		var vector = Vector.wrap(new float[] { 1.0f, 2.0f });
+
+		this.statement.setVector(1, vector);
+		this.statement.setVector("embedding", vector);
+		this.statement.setVector("none", null);
+
+		assertThat(this.statement.getCurrentBatch()).containsEntry("none", Values.NULL);
+		assertThat(((Value) this.statement.getCurrentBatch().get("1")).asVector()).isSameAs(vector);
+		assertThat(((Value) this.statement.getCurrentBatch().get("embedding")).asVector()).isSameAs(vector);
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> this.statement.setVector(0, vector));
+	}
+
 	@Test
 	void shouldClearParameters() throws SQLException {
 		this.statement = newStatement(StatementImplTests.mockConnection(), mock(Neo4jTransactionSupplier.class),
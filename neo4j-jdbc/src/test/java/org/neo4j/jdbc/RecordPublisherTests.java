@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.jdbc.Neo4jTransaction.DiscardResponse;
+import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
+import org.neo4j.jdbc.Neo4jTransaction.RunAndPullResponses;
+import org.neo4j.jdbc.Neo4jTransaction.RunResponse;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class RecordPublisherTests {
+
+	private static final Map<String, Object> PARAMETERS = Map.of("a", 1);
+
+	private final RunResponse runResponse = mock(RunResponse.class);
+
+	private Neo4jTransaction transaction;
+
+	@BeforeEach
+	void setup() throws Exception {
+		this.transaction = mock(Neo4jTransaction.class);
+		given(this.transaction.isAutoCommit()).willReturn(true);
+		given(this.transaction.isRunnable()).willReturn(true);
+		given(this.transaction.commitAsync()).willReturn(CompletableFuture.completedFuture(null));
+		given(this.transaction.discardAsync(this.runResponse))
+			.willReturn(CompletableFuture.completedFuture(mock(DiscardResponse.class)));
+		given(this.transaction.awaitPull(any(), any()))
+			.willAnswer(invocation -> invocation.<CompletableFuture<PullResponse>>getArgument(1).join());
+	}
+
+	@Test
+	void demandShouldBeSentAsPull() throws Exception {
+		given(this.transaction.runAndPullAsync("RETURN 1", PARAMETERS, 2)).willReturn(
+				CompletableFuture.completedFuture(new RunAndPullResponses(this.runResponse, pullResponse(true, 1, 2))));
+		given(this.transaction.pullAsync(this.runResponse, 3))
+			.willReturn(CompletableFuture.completedFuture(pullResponse(false, 3, 4)));
+
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 0).subscribe(subscriber);
+		assertThat(subscriber.records).isEmpty();
+		then(this.transaction).should(never()).runAndPullAsync(any(), any(), anyLong());
+
+		subscriber.subscription.request(2);
+		assertThat(subscriber.values()).containsExactly(1L, 2L);
+		assertThat(subscriber.completed).isFalse();
+
+		subscriber.subscription.request(3);
+		assertThat(subscriber.values()).containsExactly(1L, 2L, 3L, 4L);
+		assertThat(subscriber.completed).isTrue();
+		assertThat(subscriber.error).isNull();
+		then(this.transaction).should().commitAsync();
+		then(this.transaction).should(never()).discardAsync(any());
+	}
+
+	@Test
+	void demandShouldBeCombinedWhileARequestIsInFlight() throws Exception {
+		var pendingResponse = new CompletableFuture<RunAndPullResponses>();
+		given(this.transaction.runAndPullAsync("RETURN 1", PARAMETERS, 1)).willReturn(pendingResponse);
+		given(this.transaction.pullAsync(this.runResponse, 5))
+			.willReturn(CompletableFuture.completedFuture(pullResponse(false, 2)));
+
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 0).subscribe(subscriber);
+		subscriber.subscription.request(1);
+		subscriber.subscription.request(2);
+		subscriber.subscription.request(3);
+		then(this.transaction).should(never()).pullAsync(any(), anyLong());
+
+		pendingResponse.complete(new RunAndPullResponses(this.runResponse, pullResponse(true, 1)));
+
+		assertThat(subscriber.values()).containsExactly(1L, 2L);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	void unboundedDemandShouldPullAll() throws Exception {
+		given(this.transaction.runAndPullAsync("RETURN 1", PARAMETERS, -1)).willReturn(CompletableFuture
+			.completedFuture(new RunAndPullResponses(this.runResponse, pullResponse(false, 1, 2, 3))));
+
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 0).subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		assertThat(subscriber.values()).containsExactly(1L, 2L, 3L);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	void cancellationShouldDiscard() throws Exception {
+		given(this.transaction.runAndPullAsync("RETURN 1", PARAMETERS, 1)).willReturn(
+				CompletableFuture.completedFuture(new RunAndPullResponses(this.runResponse, pullResponse(true, 1))));
+
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 0).subscribe(subscriber);
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.values()).containsExactly(1L);
+		assertThat(subscriber.completed).isFalse();
+		then(this.transaction).should().discardAsync(this.runResponse);
+		then(this.transaction).should().commitAsync();
+		then(this.transaction).should(never()).pullAsync(any(), anyLong());
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void cancellationShouldStopEmittingTheCurrentBatch(boolean hasMore) throws Exception {
+		given(this.transaction.runAndPullAsync("RETURN 1", PARAMETERS, 3)).willReturn(CompletableFuture
+			.completedFuture(new RunAndPullResponses(this.runResponse, pullResponse(hasMore, 1, 2, 3))));
+
+		var subscriber = new TestSubscriber();
+		subscriber.cancelAfter = 1;
+		new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 0).subscribe(subscriber);
+		subscriber.subscription.request(3);
+
+		assertThat(subscriber.values()).containsExactly(1L);
+		assertThat(subscriber.completed).isFalse();
+		then(this.transaction).should(hasMore ? times(1) : never()).discardAsync(this.runResponse);
+		then(this.transaction).should().commitAsync();
+	}
+
+	@Test
+	void maxRowsShouldLimitRequests() throws Exception {
+		given(this.transaction.runAndPullAsync("RETURN 1", PARAMETERS, 2)).willReturn(
+				CompletableFuture.completedFuture(new RunAndPullResponses(this.runResponse, pullResponse(true, 1, 2))));
+
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 2).subscribe(subscriber);
+		subscriber.subscription.request(10);
+
+		assertThat(subscriber.values()).containsExactly(1L, 2L);
+		assertThat(subscriber.completed).isTrue();
+		then(this.transaction).should().discardAsync(this.runResponse);
+	}
+
+	@Test
+	void failuresShouldBeSignalled() throws Exception {
+		var failure = new Neo4jException(Neo4jException.withReason("Oops"));
+		given(this.transaction.runAndPullAsync("RETURN 1", PARAMETERS, 1))
+			.willReturn(CompletableFuture.failedFuture(failure));
+
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 0).subscribe(subscriber);
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.error).isSameAs(failure);
+		assertThat(subscriber.completed).isFalse();
+	}
+
+	@Test
+	void nonPositiveDemandShouldBeSignalled() {
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 0).subscribe(subscriber);
+		subscriber.subscription.request(0);
+
+		assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void nonPositiveDemandShouldDiscardAndFailTheTransaction() throws Exception {
+		given(this.transaction.runAndPullAsync("RETURN 1", PARAMETERS, 1)).willReturn(
+				CompletableFuture.completedFuture(new RunAndPullResponses(this.runResponse, pullResponse(true, 1))));
+
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 0).subscribe(subscriber);
+		subscriber.subscription.request(1);
+		subscriber.subscription.request(-1);
+
+		assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+		then(this.transaction).should().discardAsync(this.runResponse);
+		then(this.transaction).should().fail(any(Neo4jException.class));
+		then(this.transaction).should(never()).commitAsync();
+	}
+
+	@Test
+	void failedRequestsShouldDiscardAndFailTheTransaction() throws Exception {
+		var failure = new Neo4jException(Neo4jException.withReason("Oops"));
+		given(this.transaction.runAndPullAsync("RETURN 1", PARAMETERS, 1)).willReturn(
+				CompletableFuture.completedFuture(new RunAndPullResponses(this.runResponse, pullResponse(true, 1))));
+		given(this.transaction.pullAsync(this.runResponse, 1)).willReturn(CompletableFuture.failedFuture(failure));
+
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 0).subscribe(subscriber);
+		subscriber.subscription.request(1);
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.error).isSameAs(failure);
+		assertThat(subscriber.completed).isFalse();
+		then(this.transaction).should().discardAsync(this.runResponse);
+		then(this.transaction).should().fail(failure);
+		then(this.transaction).should(never()).commitAsync();
+	}
+
+	@Test
+	void shouldOnlyAcceptOneSubscriber() {
+		var publisher = new RecordPublisher(() -> this.transaction, "RETURN 1", PARAMETERS, 0);
+		publisher.subscribe(new TestSubscriber());
+
+		var subscriber = new TestSubscriber();
+		publisher.subscribe(subscriber);
+
+		assertThat(subscriber.subscription).isNotNull();
+		assertThat(subscriber.error).isInstanceOf(Neo4jException.class);
+	}
+
+	private static PullResponse pullResponse(boolean hasMore, long... values) {
+		var records = LongStream.of(values)
+			.mapToObj(v -> Record.of(List.of("v"), new Value[] { Values.value(v) }))
+			.toList();
+		return new PullResponse() {
+			@Override
+			public List<Record> records() {
+				return records;
+			}
+
+			@Override
+			public Optional<Neo4jTransaction.ResultSummary> resultSummary() {
+				return Optional.empty();
+			}
+
+			@Override
+			public boolean hasMore() {
+				return hasMore;
+			}
+		};
+	}
+
+	private static final class TestSubscriber implements Flow.Subscriber<Record> {
+
+		private final List<Record> records = new ArrayList<>();
+
+		private Flow.Subscription subscription;
+
+		private Throwable error;
+
+		private boolean completed;
+
+		private int cancelAfter = -1;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(Record item) {
+			this.records.add(item);
+			if (this.records.size() == this.cancelAfter) {
+				this.subscription.cancel();
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+
+		List<Long> values() {
+			return this.records.stream().map(r -> r.get(0).asLong()).toList();
+		}
+
+	}
+
+}
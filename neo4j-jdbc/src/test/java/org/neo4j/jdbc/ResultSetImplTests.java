@@ -20,6 +20,7 @@ package org.neo4j.jdbc;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
@@ -56,6 +57,7 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DynamicContainer;
@@ -67,6 +69,7 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.jdbc.values.Record;
@@ -80,6 +83,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 
 class ResultSetImplTests {
@@ -1230,6 +1234,24 @@ class ResultSetImplTests {
 		}
 	}
 
+	@Test
+	void shouldFindColumnsIgnoringCase() throws SQLException {
+		// given
+		var keys = List.of("id", "Name", "name");
+		var records = List
+			.<Record>of(Record.of(keys, new Value[] { Values.value(1), Values.value("A"), Values.value("a") }));
+		this.resultSet = new ResultSetImpl(mock(StatementImpl.class), 0, records);
+		this.resultSet.next();
+
+		// when & then
+		assertThat(this.resultSet.findColumn("ID")).isEqualTo(1);
+		assertThat(this.resultSet.findColumn("name")).isEqualTo(3);
+		assertThat(this.resultSet.findColumn("NAME")).isEqualTo(2);
+		assertThat(this.resultSet.getInt("Id")).isEqualTo(1);
+		assertThat(this.resultSet.getString("name")).isEqualTo("a");
+		assertThat(this.resultSet.getString("NAME")).isEqualTo("A");
+	}
+
 	@Test
 	void shouldReturnNullOnGetWarnings() throws SQLException {
 		// given
@@ -1462,6 +1484,61 @@ class ResultSetImplTests {
 			.flatMap(ResultSetImplTests::mapArgumentToBothIndexAndLabelAccess);
 	}
 
+	@Test
+	void shouldReturnBlobsAsViews() throws SQLException, IOException {
+		var bytes = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+		this.resultSet = setupWithValue(Values.value(bytes), 5);
+		this.resultSet.next();
+
+		var blob = this.resultSet.getBlob(INDEX);
+		assertThat(blob.length()).isEqualTo(5);
+		assertThat(blob.getBytes(2, 2)).containsExactly(2, 3);
+		try (var in = this.resultSet.getBlob(LABEL).getBinaryStream()) {
+			assertThat(in.readAllBytes()).containsExactly(1, 2, 3, 4, 5);
+		}
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> this.resultSet.getClob(INDEX));
+	}
+
+	@Test
+	void shouldReturnClobsAsViews() throws SQLException, IOException {
+		this.resultSet = setupWithValue(Values.value("Grüße"), 3);
+		this.resultSet.next();
+
+		var clob = this.resultSet.getClob(INDEX);
+		assertThat(clob.length()).isEqualTo(2);
+		assertThat(clob.getSubString(1, 10)).isEqualTo("Gr");
+		assertThat(this.resultSet.getNClob(LABEL).getSubString(1, 10)).isEqualTo("Gr");
+		try (var in = this.resultSet.getBlob(INDEX).getBinaryStream()) {
+			assertThat(in.readAllBytes()).isEqualTo("Gr".getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "1, G", "3, Gr", "4, Grü", "5, Grü", "7, Grüße", "0, Grüße" })
+	void shouldTruncateStringsAlikeForAllGetters(int maxFieldSize, String expected) throws SQLException, IOException {
+		this.resultSet = setupWithValue(Values.value("Grüße"), maxFieldSize);
+		this.resultSet.next();
+
+		assertThat(this.resultSet.getString(INDEX)).isEqualTo(expected);
+		assertThat(this.resultSet.getObject(LABEL)).isEqualTo(expected);
+		assertThat(new BufferedReader(this.resultSet.getCharacterStream(INDEX)).lines().collect(Collectors.joining()))
+			.isEqualTo(expected);
+		assertThat(this.resultSet.getClob(LABEL).getSubString(1, 10)).isEqualTo(expected);
+		try (var in = this.resultSet.getBinaryStream(INDEX)) {
+			assertThat(in.readAllBytes()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	void lobsShouldBeNullForNullValues() throws SQLException {
+		this.resultSet = setupWithValue(Values.NULL, 0);
+		this.resultSet.next();
+
+		assertThat(this.resultSet.getBlob(INDEX)).isNull();
+		assertThat(this.resultSet.getClob(LABEL)).isNull();
+		assertThat(this.resultSet.wasNull()).isTrue();
+	}
+
 	@Test
 	void statementShouldBeAvailable() throws SQLException {
 		try (var rs = emptyResultSet()) {
@@ -1535,7 +1612,8 @@ class ResultSetImplTests {
 												() -> emptyResultSet.setFetchDirection(ResultSet.FETCH_FORWARD));
 										assertThatExceptionOfType(SQLException.class)
 											.isThrownBy(() -> emptyResultSet.setFetchDirection(ResultSet.FETCH_REVERSE))
-											.withMessage("Only forward fetching is supported");
+											.withMessage(
+													"This result set is of type TYPE_FORWARD_ONLY (1003) and does not support the fetch direction 1001");
 									}))),
 				DynamicTest.dynamicTest("fetchSize", () -> {
 					var changedValue = StatementImpl.DEFAULT_FETCH_SIZE - 1;
@@ -1567,8 +1645,8 @@ class ResultSetImplTests {
 				.contains(method.getName()));
 		var getters = testSupplier.apply(
 				method -> Set
-					.of("getRef", "getBlob", "getClob", "getNClob", "getSQLXML", "getNString", "getNCharacterStream",
-							"getRowId", "getUnicodeStream", "getCursorName")
+					.of("getRef", "getSQLXML", "getNString", "getNCharacterStream", "getRowId", "getUnicodeStream",
+							"getCursorName")
 					.contains(method.getName()));
 
 		return Stream.of(DynamicContainer.dynamicContainer("updates", updates),
@@ -1600,6 +1678,110 @@ class ResultSetImplTests {
 		return (T) Array.get(Array.newInstance(clazz, 1), 0);
 	}
 
+	@Test
+	void scrollInsensitiveResultSetsShouldSupportRandomAccess() throws SQLException {
+		var transaction = mock(Neo4jTransaction.class);
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var firstBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(firstBatch.records()).willReturn(rows(1, 3));
+		given(firstBatch.hasMore()).willReturn(true);
+		var secondBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(secondBatch.records()).willReturn(rows(4, 5));
+		given(transaction.pull(runResponse, 3)).willReturn(secondBatch);
+
+		var statement = mock(StatementImpl.class);
+		var resultSet = new ResultSetImpl(statement, 0, transaction, runResponse, firstBatch, 3, 0,
+				Cursor.ReadAhead.DISABLED, ResultSet.TYPE_SCROLL_INSENSITIVE, 2);
+
+		assertThat(resultSet.getType()).isEqualTo(ResultSet.TYPE_SCROLL_INSENSITIVE);
+		assertThat(resultSet.absolute(4)).isTrue();
+		assertThat(resultSet.getInt("n")).isEqualTo(4);
+		assertThat(resultSet.getRow()).isEqualTo(4);
+		assertThat(resultSet.previous()).isTrue();
+		assertThat(resultSet.getInt("n")).isEqualTo(3);
+		assertThat(resultSet.first()).isTrue();
+		assertThat(resultSet.isFirst()).isTrue();
+		assertThat(resultSet.getInt("n")).isEqualTo(1);
+		assertThat(resultSet.last()).isTrue();
+		assertThat(resultSet.isLast()).isTrue();
+		assertThat(resultSet.getInt("n")).isEqualTo(5);
+		assertThat(resultSet.relative(-2)).isTrue();
+		assertThat(resultSet.getString("s")).isEqualTo("row 3");
+		assertThat(resultSet.absolute(-2)).isTrue();
+		assertThat(resultSet.getInt("n")).isEqualTo(4);
+		assertThat(resultSet.next()).isTrue();
+		assertThat(resultSet.next()).isFalse();
+		assertThat(resultSet.isAfterLast()).isTrue();
+		assertThat(resultSet.getRow()).isZero();
+		assertThat(resultSet.previous()).isTrue();
+		assertThat(resultSet.getInt("n")).isEqualTo(5);
+		resultSet.beforeFirst();
+		assertThat(resultSet.isBeforeFirst()).isTrue();
+		assertThat(resultSet.previous()).isFalse();
+		assertThat(resultSet.absolute(42)).isFalse();
+		assertThat(resultSet.isAfterLast()).isTrue();
+
+		then(transaction).should().setRequestOwner(statement);
+		then(transaction).should().pull(runResponse, 3);
+		then(transaction).shouldHaveNoMoreInteractions();
+		resultSet.close();
+	}
+
+	@Test
+	void forwardOnlyResultSetsShouldNotScroll() throws SQLException {
+		var resultSet = setupWithValue(Values.value(1), 0);
+
+		assertThat(resultSet.getType()).isEqualTo(ResultSet.TYPE_FORWARD_ONLY);
+		assertThatExceptionOfType(SQLFeatureNotSupportedException.class).isThrownBy(() -> resultSet.absolute(1));
+		assertThatExceptionOfType(SQLFeatureNotSupportedException.class).isThrownBy(resultSet::previous);
+		assertThatExceptionOfType(SQLFeatureNotSupportedException.class)
+			.isThrownBy(() -> resultSet.setFetchDirection(ResultSet.FETCH_REVERSE));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { ResultSet.TYPE_FORWARD_ONLY, ResultSet.TYPE_SCROLL_INSENSITIVE })
+	void shouldRejectInvalidFetchDirections(int type) throws SQLException {
+		var resultSet = new ResultSetImpl(mock(StatementImpl.class), 0, List.of(), type);
+
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> resultSet.setFetchDirection(42))
+			.isNotInstanceOf(SQLFeatureNotSupportedException.class)
+			.withMessageContaining("fetch direction 42")
+			.extracting(SQLException::getSQLState)
+			.isEqualTo("22N11");
+		assertThat(resultSet.getFetchDirection()).isEqualTo(ResultSet.FETCH_FORWARD);
+	}
+
+	@Test
+	void writeJsonShouldWriteAllRemainingRowsBatchByBatch() throws SQLException {
+		var transaction = mock(Neo4jTransaction.class);
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var firstBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(firstBatch.records()).willReturn(rows(1, 3));
+		given(firstBatch.hasMore()).willReturn(true);
+		var secondBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(secondBatch.records()).willReturn(rows(4, 5));
+		given(transaction.pull(runResponse, 3)).willReturn(secondBatch);
+
+		var resultSet = new ResultSetImpl(mock(StatementImpl.class), 0, transaction, runResponse, firstBatch, 3, 0);
+		assertThat(resultSet.next()).isTrue();
+
+		var out = new ByteArrayOutputStream();
+		assertThat(resultSet.writeJson(out)).isEqualTo(4);
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+				"{\"data\":{\"fields\":[\"n\",\"s\"],\"values\":[[2,\"row 2\"],[3,\"row 3\"],[4,\"row 4\"],[5,\"row 5\"]]}}");
+		assertThat(resultSet.isAfterLast()).isTrue();
+		then(transaction).should().pull(runResponse, 3);
+
+		resultSet.close();
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> resultSet.writeJson(out));
+	}
+
+	private static List<Record> rows(int from, int to) {
+		return IntStream.rangeClosed(from, to)
+			.mapToObj(i -> Record.of(List.of("n", "s"), new Value[] { Values.value(i), Values.value("row " + i) }))
+			.toList();
+	}
+
 	private ResultSet emptyResultSet() {
 		var statement = mock(StatementImpl.class);
 		var runResponse = mock(Neo4jTransaction.RunResponse.class);
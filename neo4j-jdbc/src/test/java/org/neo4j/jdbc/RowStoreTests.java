@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.values.Segment;
+import org.neo4j.jdbc.internal.bolt.BoltAdapters;
+import org.neo4j.jdbc.values.Node;
+import org.neo4j.jdbc.values.Path;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Relationship;
+import org.neo4j.jdbc.values.Type;
+import org.neo4j.jdbc.values.UnsupportedType;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+import org.neo4j.jdbc.values.Vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowStoreTests {
+
+	@Test
+	void shouldKeepTheFirstRowsOnHeapAndSpillTheRest() throws SQLException {
+		var keys = List.of("n");
+		try (var rowStore = new RowStore(keys, 10)) {
+			for (int i = 0; i < 1000; ++i) {
+				rowStore.add(Record.of(keys, new Value[] { Values.value(i) }));
+			}
+
+			assertThat(rowStore.size()).isEqualTo(1000);
+			assertThat(rowStore.spilledRows()).isEqualTo(990);
+			for (int i : new int[] { 999, 0, 10, 9, 500 }) {
+				assertThat(rowStore.get(i).get("n").asInt()).isEqualTo(i);
+			}
+		}
+	}
+
+	@Test
+	void shouldRoundTripAllSupportedValues() throws SQLException {
+		var values = new Value[] { Values.NULL, Values.value(true), Values.value(-42L), Values.value(Long.MAX_VALUE),
+				Values.value(23.42), Values.value("Hallo, Wörld 👋"), Values.value(new byte[] { 1, 2, 3 }),
+				Values.value(List.of(1L, "zwei", List.of(3.0))), Values.value(Map.of("a", 1L, "b", Map.of("c", "d"))),
+				Values.point(4326, 1.0, 2.0), Values.point(9157, 1.0, 2.0, 3.0),
+				Values.value(LocalDate.of(2025, 10, 18)),
+				Values.value(OffsetTime.of(LocalTime.of(21, 21, 21, 42), ZoneOffset.ofHours(2))),
+				Values.value(LocalTime.of(23, 59, 59, 999_999_999)),
+				Values.value(LocalDateTime.of(1969, 7, 20, 20, 17, 40, 123)),
+				Values.value(ZonedDateTime.of(2025, 10, 18, 12, 0, 0, 0, ZoneId.of("Europe/Berlin"))),
+				Values.value(ZonedDateTime.of(2025, 10, 18, 12, 0, 0, 0, ZoneOffset.ofHours(-5))),
+				Values.isoDuration(14, 2, 3600, 500), Vector.of(new byte[] { 1, -1 }).asValue(),
+				Vector.of(new short[] { 1, -1 }).asValue(), Vector.of(new int[] { 1, -1 }).asValue(),
+				Vector.of(new long[] { 1, -1 }).asValue(), Vector.of(new float[] { 1.5f, -1.5f }).asValue(),
+				Vector.of(new double[] { 1.5, -1.5 }).asValue() };
+		var keys = IntStream.range(0, values.length).mapToObj(i -> "c" + i).toList();
+
+		try (var rowStore = new RowStore(keys, 0)) {
+			rowStore.add(Record.of(keys, values));
+			assertThat(rowStore.spilledRows()).isOne();
+
+			var row = rowStore.get(0);
+			for (int i = 0; i < values.length; ++i) {
+				assertThat(row.get(i)).isEqualTo(values[i]);
+			}
+		}
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void shouldRoundTripGraphValues() throws SQLException {
+		var valueFactory = BoltAdapters.getValueFactory();
+		var start = valueFactory.node(1, "4:x:1", List.of("Person"), Map.of("name", valueFactory.value("Alice")));
+		var end = valueFactory.node(2, "4:x:2", List.of("Person", "Admin"), Map.of());
+		var knows = valueFactory.relationship(3, "5:x:3", 1, "4:x:1", 2, "4:x:2", "KNOWS",
+				Map.of("since", valueFactory.value(2025L)));
+		Segment segment = valueFactory.segment(start, knows, end);
+		var path = valueFactory.path(List.of(segment), List.of(start, end), List.of(knows));
+		var keys = List.of("n", "r", "p");
+
+		try (var rowStore = new RowStore(keys, 0)) {
+			rowStore.add(Record.of(keys, new Value[] { ((Node) start).asValue(), ((Relationship) knows).asValue(),
+					((Path) path).asValue() }));
+
+			var row = rowStore.get(0);
+			var node = row.get("n").asNode();
+			assertThat(node.elementId()).isEqualTo("4:x:1");
+			assertThat(node.labels()).containsExactly("Person");
+			assertThat(node.get("name").asString()).isEqualTo("Alice");
+			var relationship = row.get("r").asRelationship();
+			assertThat(relationship.type()).isEqualTo("KNOWS");
+			assertThat(relationship.startNodeId()).isOne();
+			assertThat(relationship.startNodeElementId()).isEqualTo("4:x:1");
+			assertThat(relationship.endNodeId()).isEqualTo(2L);
+			assertThat(relationship.endNodeElementId()).isEqualTo("4:x:2");
+			assertThat(relationship.get("since").asLong()).isEqualTo(2025L);
+			var restoredPath = row.get("p").asPath();
+			assertThat(restoredPath.length()).isOne();
+			assertThat(restoredPath.start().elementId()).isEqualTo("4:x:1");
+			assertThat(restoredPath.end().labels()).containsExactly("Person", "Admin");
+			assertThat(restoredPath.relationships()).singleElement()
+				.satisfies(restored -> assertThat(restored.elementId()).isEqualTo("5:x:3"))
+				.satisfies(restored -> assertThat(restored.startNodeId()).isOne())
+				.satisfies(restored -> assertThat(restored.endNodeId()).isEqualTo(2L));
+		}
+	}
+
+	@Test
+	void shouldKeepRowsWithUnsupportedValuesOnHeap() throws SQLException {
+		var keys = List.of("v");
+		var unsupported = new UnsupportedType("Foo", "6.0", null).asValue();
+		try (var rowStore = new RowStore(keys, 0)) {
+			rowStore.add(Record.of(keys, new Value[] { Values.value(1) }));
+			rowStore.add(Record.of(keys, new Value[] { unsupported }));
+			rowStore.add(Record.of(keys, new Value[] { Values.value(3) }));
+
+			assertThat(rowStore.spilledRows()).isEqualTo(2);
+			assertThat(rowStore.get(0).get("v").asInt()).isOne();
+			assertThat(rowStore.get(1).get("v").type()).isEqualTo(Type.UNSUPPORTED);
+			assertThat(rowStore.get(2).get("v").asInt()).isEqualTo(3);
+		}
+	}
+
+}
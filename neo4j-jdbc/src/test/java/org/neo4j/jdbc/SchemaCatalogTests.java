@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.bolt.connection.SummaryCounters;
+import org.neo4j.jdbc.values.Type;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SchemaCatalogTests {
+
+	private static final SchemaCatalog.Key KEY = SchemaCatalog.Key.of("getTables", null, "public", "Movie", null);
+
+	private static final List<String> KEYS = List.of("TABLE_NAME", "TABLE_TYPE", "REMARKS");
+
+	private static final List<Value[]> ROWS = List.<Value[]>of(
+			new Value[] { Values.value("Movie"), Values.value("TABLE"), Values.NULL },
+			new Value[] { Values.value("Person"), Values.value("TABLE"), Values.value(List.of("a", "b")) });
+
+	@Test
+	void localCatalogsShouldNeverExpire() {
+		var catalog = SchemaCatalog.local();
+		assertThat(catalog.isShared()).isFalse();
+		catalog.put(KEY, KEYS, ROWS);
+		assertThat(catalog.get(KEY)).isNotNull();
+		assertThat(catalog.get(SchemaCatalog.Key.of("getTables", null, "public", null, null))).isNull();
+	}
+
+	@Test
+	void entriesShouldExpire() {
+		var clock = new BoltConnectionPoolTests.MutableClock();
+		var catalog = new SchemaCatalog(Duration.ofMinutes(1), null, false, clock);
+		assertThat(catalog.isShared()).isTrue();
+		catalog.put(KEY, KEYS, ROWS);
+
+		clock.advance(Duration.ofSeconds(59));
+		assertThat(catalog.get(KEY)).isNotNull();
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(catalog.get(KEY)).isNull();
+	}
+
+	@Test
+	void shouldBeInvalidatedExplicitly() {
+		var catalog = new SchemaCatalog(Duration.ofMinutes(1), null, false, Clock.systemUTC());
+		catalog.put(KEY, KEYS, ROWS);
+		catalog.invalidate();
+		assertThat(catalog.get(KEY)).isNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void shouldBeInvalidatedOnCommittedSchemaChanges(boolean invalidateOnSchemaChanges) {
+		var catalog = new SchemaCatalog(Duration.ofMinutes(1), null, invalidateOnSchemaChanges, Clock.systemUTC());
+		catalog.put(KEY, KEYS, ROWS);
+
+		var nodesCreated = mock(SummaryCounters.class);
+		given(nodesCreated.nodesCreated()).willReturn(1);
+		catalog.onUpdates(transaction(Neo4jTransaction.State.COMMITTED), nodesCreated);
+		assertThat(catalog.get(KEY)).isNotNull();
+
+		var transaction = transaction(Neo4jTransaction.State.READY);
+		var indexesAdded = mock(SummaryCounters.class);
+		given(indexesAdded.indexesAdded()).willReturn(1);
+		catalog.onUpdates(transaction, indexesAdded);
+		assertThat(catalog.get(KEY)).isNotNull();
+
+		given(transaction.getState()).willReturn(Neo4jTransaction.State.COMMITTED);
+		assertThat(catalog.get(KEY) == null).isEqualTo(invalidateOnSchemaChanges);
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = Neo4jTransaction.State.class, names = { "ROLLEDBACK", "FAILED" })
+	void shouldIgnoreChangesOfTransactionsNotCommitted(Neo4jTransaction.State finalState) {
+		var catalog = new SchemaCatalog(Duration.ofMinutes(1), null, true, Clock.systemUTC());
+		catalog.put(KEY, KEYS, ROWS);
+
+		var transaction = transaction(Neo4jTransaction.State.READY);
+		var constraintsAdded = mock(SummaryCounters.class);
+		given(constraintsAdded.constraintsAdded()).willReturn(1);
+		catalog.onUpdates(transaction, constraintsAdded);
+		given(transaction.getState()).willReturn(finalState);
+		assertThat(catalog.get(KEY)).isNotNull();
+
+		given(transaction.getState()).willReturn(Neo4jTransaction.State.COMMITTED);
+		assertThat(catalog.get(KEY)).isNotNull();
+	}
+
+	@Test
+	void shouldOnlyBeInvalidatedWhenTokensChange() throws SQLException {
+		var catalog = new SchemaCatalog(Duration.ofMinutes(1), null, true, Clock.systemUTC());
+		var fetches = new AtomicInteger();
+		var tokens = new AtomicReference<>(new SchemaCatalog.Tokens(Set.of("Movie"), Set.of(), Set.of("title")));
+		SchemaCatalog.TokenSource tokenSource = () -> {
+			fetches.incrementAndGet();
+			return tokens.get();
+		};
+
+		catalog.verify(tokenSource);
+		catalog.put(KEY, KEYS, ROWS);
+		catalog.verify(tokenSource);
+		assertThat(fetches).hasValue(1);
+
+		// Updating existing properties of existing labels
+		var propertiesSet = mock(SummaryCounters.class);
+		given(propertiesSet.propertiesSet()).willReturn(1);
+		catalog.onUpdates(transaction(Neo4jTransaction.State.COMMITTED), propertiesSet);
+		catalog.verify(tokenSource);
+		assertThat(fetches).hasValue(2);
+		assertThat(catalog.get(KEY)).isNotNull();
+
+		// Adding a new label
+		var labelsAdded = mock(SummaryCounters.class);
+		given(labelsAdded.labelsAdded()).willReturn(1);
+		catalog.onUpdates(transaction(Neo4jTransaction.State.COMMITTED), labelsAdded);
+		tokens.set(new SchemaCatalog.Tokens(Set.of("Movie", "Person"), Set.of(), Set.of("title")));
+		catalog.verify(tokenSource);
+		assertThat(fetches).hasValue(3);
+		assertThat(catalog.get(KEY)).isNull();
+	}
+
+	private static Neo4jTransaction transaction(Neo4jTransaction.State state) {
+		var transaction = mock(Neo4jTransaction.class);
+		given(transaction.getState()).willReturn(state);
+		return transaction;
+	}
+
+	@Test
+	void shouldPersistEntries(@TempDir Path dir) {
+		var file = dir.resolve("catalog.bin");
+		var clock = new BoltConnectionPoolTests.MutableClock();
+		var catalog = new SchemaCatalog(Duration.ofMinutes(1), file, false, clock);
+		catalog.put(KEY, KEYS, ROWS);
+		clock.advance(Duration.ofSeconds(30));
+		var otherKey = SchemaCatalog.Key.of("getColumns", null, null, "Person", "%");
+		catalog.put(otherKey, List.of("COLUMN_NAME"), List.<Value[]>of(new Value[] { Values.value("name") }));
+		catalog.persist();
+		assertThat(file).exists();
+
+		var loaded = new SchemaCatalog(Duration.ofMinutes(1), file, false, clock);
+		var entry = loaded.get(KEY);
+		assertThat(entry).isNotNull();
+		assertThat(entry.keys()).isEqualTo(KEYS);
+		assertThat(entry.rows()).hasSize(2);
+		assertThat(entry.rows().get(0)).containsExactly(ROWS.get(0));
+		assertThat(entry.rows().get(1)).containsExactly(ROWS.get(1));
+		assertThat(loaded.get(otherKey)).isNotNull();
+
+		// The first entry expires on load
+		clock.advance(Duration.ofSeconds(30));
+		loaded = new SchemaCatalog(Duration.ofMinutes(1), file, false, clock);
+		assertThat(loaded.get(KEY)).isNull();
+		assertThat(loaded.get(otherKey)).isNotNull();
+
+		loaded.invalidate();
+		loaded.persist();
+		loaded = new SchemaCatalog(Duration.ofMinutes(1), file, false, clock);
+		assertThat(loaded.get(otherKey)).isNull();
+	}
+
+	@Test
+	void shouldPersistInTheBackground(@TempDir Path dir) throws InterruptedException {
+		var file = dir.resolve("catalog.bin");
+		var catalog = new SchemaCatalog(Duration.ofMinutes(1), file, false, Clock.systemUTC());
+		catalog.put(KEY, KEYS, ROWS);
+		var otherKey = SchemaCatalog.Key.of("getColumns", null, null, "Person", "%");
+		catalog.put(otherKey, List.of("COLUMN_NAME"), List.<Value[]>of(new Value[] { Values.value("name") }));
+
+		var deadline = System.nanoTime() + SchemaCatalog.STORE_DELAY.multipliedBy(10).toNanos();
+		while (!Files.exists(file) && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(file).exists();
+		catalog.persist();
+
+		var loaded = new SchemaCatalog(Duration.ofMinutes(1), file, false, Clock.systemUTC());
+		assertThat(loaded.get(KEY)).isNotNull();
+		assertThat(loaded.get(otherKey)).isNotNull();
+	}
+
+	@Test
+	void shouldSkipEntriesWithoutBinaryRepresentation(@TempDir Path dir) {
+		var file = dir.resolve("catalog.bin");
+		var catalog = new SchemaCatalog(Duration.ofMinutes(1), file, false, Clock.systemUTC());
+		var unsupported = mock(Value.class);
+		given(unsupported.type()).willReturn(Type.UNSUPPORTED);
+		var otherKey = SchemaCatalog.Key.of("getColumns", null, null, null, null);
+		catalog.put(otherKey, List.of("COLUMN_NAME"), List.<Value[]>of(new Value[] { unsupported }));
+		catalog.put(KEY, KEYS, ROWS);
+		catalog.persist();
+		assertThat(catalog.get(otherKey)).isNotNull();
+
+		var loaded = new SchemaCatalog(Duration.ofMinutes(1), file, false, Clock.systemUTC());
+		assertThat(loaded.get(KEY)).isNotNull();
+		assertThat(loaded.get(otherKey)).isNull();
+	}
+
+	@Test
+	void shouldIgnoreInvalidFiles(@TempDir Path dir) throws IOException {
+		var file = dir.resolve("catalog.bin");
+		Files.writeString(file, "Not a catalog");
+
+		var catalog = new SchemaCatalog(Duration.ofMinutes(1), file, false, Clock.systemUTC());
+		assertThat(catalog.get(KEY)).isNull();
+		catalog.put(KEY, KEYS, ROWS);
+		catalog.persist();
+
+		var loaded = new SchemaCatalog(Duration.ofMinutes(1), file, false, Clock.systemUTC());
+		assertThat(loaded.get(KEY)).isNotNull();
+	}
+
+}
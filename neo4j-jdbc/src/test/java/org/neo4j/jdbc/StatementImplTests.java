@@ -27,6 +27,9 @@ import java.sql.Statement;
 import java.sql.Wrapper;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -35,14 +38,22 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.stubbing.Answer;
+import org.neo4j.bolt.connection.AccessMode;
+import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.SummaryCounters;
+import org.neo4j.bolt.connection.message.ResetMessage;
+import org.neo4j.bolt.connection.summary.ResetSummary;
+import org.neo4j.jdbc.authn.spi.Authentication;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 class StatementImplTests {
 
@@ -74,6 +85,7 @@ class StatementImplTests {
 		assertThat(resultSet).isNotNull();
 		assertThat(multipleResultsApiResultSet).isNull();
 		then(transactionSupplier).should().getTransaction(Collections.emptyMap());
+		then(transaction).should().setRequestOwner(this.statement);
 		then(transaction).should().runAndPull(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0);
 		then(transaction).shouldHaveNoMoreInteractions();
 	}
@@ -85,6 +97,83 @@ class StatementImplTests {
 		return connection;
 	}
 
+	@Test
+	void cancelShouldDelegateToTheCurrentTransaction() throws SQLException {
+		// given
+		var query = "query";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.runAndPull(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0))
+			.willReturn(new Neo4jTransaction.RunAndPullResponses(mock(Neo4jTransaction.RunResponse.class),
+					mock(Neo4jTransaction.PullResponse.class)));
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+
+		// when
+		this.statement.cancel();
+		this.statement.executeQuery(query);
+		this.statement.cancel();
+
+		// then
+		then(transaction).should().cancel(this.statement);
+	}
+
+	@Test
+	void cancelShouldNotInterruptRequestsOfOtherStatements() throws Exception {
+		// given
+		var boltConnection = DefaultTransactionImplTests.mockBoltConnection();
+		var pendingHandler = new CompletableFuture<ResponseHandler>();
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				// The server never answers the query on its own
+				pendingHandler.complete(invocation.getArgument(0));
+				return CompletableFuture.completedFuture(null);
+			});
+		given(boltConnection.writeAndFlush(any(), any(ResetMessage.class), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = pendingHandler.join();
+				handler.onIgnored();
+				handler.onComplete();
+				invocation.<ResponseHandler>getArgument(0).onResetSummary(mock(ResetSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+		var transaction = new DefaultTransactionImpl(boltConnection, null, null,
+				DefaultTransactionImplTests.NOOP_HANDLER, false, false, AccessMode.WRITE, Neo4jTransaction.State.READY,
+				"aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		var running = newStatement(mockConnection(), transactionSupplier);
+		var idle = newStatement(mockConnection(), transactionSupplier);
+		this.statement = running;
+
+		var executor = Executors.newSingleThreadExecutor();
+		try {
+			var result = executor.submit(() -> running.executeQuery("CALL apoc.util.sleep(100000)"));
+			pendingHandler.get(10, TimeUnit.SECONDS);
+
+			// when
+			idle.cancel();
+
+			// then
+			then(boltConnection).should(never()).writeAndFlush(any(), any(ResetMessage.class), any());
+			assertThat(result).isNotDone();
+
+			// when
+			running.cancel();
+
+			// then
+			assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(Neo4jException.class)
+				.cause()
+				.hasMessageEndingWith("The statement has been cancelled");
+			then(boltConnection).should().writeAndFlush(any(), any(ResetMessage.class), any());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	void shouldExecuteUpdate() throws SQLException {
 		// given
@@ -109,6 +198,7 @@ class StatementImplTests {
 		// then
 		assertThat(updates).isEqualTo(totalUpdates);
 		then(transactionSupplier).should().getTransaction(Collections.emptyMap());
+		then(transaction).should().setRequestOwner(this.statement);
 		then(transaction).should().isAutoCommit();
 		then(transaction).should().runAndDiscard(query, Collections.emptyMap(), 0, true);
 		then(transaction).shouldHaveNoMoreInteractions();
@@ -152,6 +242,7 @@ class StatementImplTests {
 		assertThat(nextUpdates).isEqualTo(-1);
 		assertThat(resultSet.isClosed()).isTrue();
 		then(transactionSupplier).should().getTransaction(Collections.emptyMap());
+		then(transaction).should().setRequestOwner(this.statement);
 		then(transaction).should().isAutoCommit();
 		then(transaction).should().runAndPull(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0);
 		then(transaction).should().isRunnable();
@@ -196,6 +287,7 @@ class StatementImplTests {
 		assertThat(nextResultSet).isNull();
 		assertThat(nextUpdates).isEqualTo(-1);
 		then(transactionSupplier).should().getTransaction(Collections.emptyMap());
+		then(transaction).should().setRequestOwner(this.statement);
 		then(transaction).should().isAutoCommit();
 		then(transaction).should().runAndPull(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0);
 		then(transaction).should().isRunnable();
@@ -235,6 +327,7 @@ class StatementImplTests {
 				Arguments.of((StatementMethodRunner) statement -> statement.setMaxRows(1)),
 				Arguments.of((StatementMethodRunner) statement -> statement.setEscapeProcessing(true)),
 				Arguments.of((StatementMethodRunner) Statement::getQueryTimeout),
+				Arguments.of((StatementMethodRunner) Statement::cancel),
 				Arguments.of((StatementMethodRunner) statement -> statement.setQueryTimeout(1)),
 				Arguments.of((StatementMethodRunner) Statement::getWarnings),
 				Arguments.of((StatementMethodRunner) Statement::clearWarnings),
@@ -267,7 +360,7 @@ class StatementImplTests {
 	}
 
 	static Stream<Arguments> getUnsupportedMethodExecutors() {
-		return Stream.of(Arguments.of((StatementMethodRunner) Statement::cancel, SQLFeatureNotSupportedException.class),
+		return Stream.of(
 				Arguments.of((StatementMethodRunner) statement -> statement.setCursorName("name"),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.addBatch("query"),
@@ -49,9 +49,9 @@ class TracingTests {
 	@ValueSource(strings = { "jdbc:neo4j://localhost:8888", "jdbc:neo4j:http://localhost:8888" })
 	void shouldSetServerDefaultTags(String url) {
 		var databaseUrl = URI.create(url);
-		var connection = new ConnectionImpl(databaseUrl, Authentication::none, auth -> mock(BoltConnection.class),
-				List::of, false, false, false, false, new NoopBookmarkManagerImpl(), Map.of(), 0, "neo4j", null,
-				List.of());
+		var connection = new ConnectionImpl(databaseUrl, Authentication::none, auth -> mock(BoltConnection.class), null,
+				List::of, false, null, false, false, new NoopBookmarkManagerImpl(), Map.of(), 0, null, 0, false, 1000,
+				null, null, "neo4j", null, List.of());
 
 		var tracing = new Tracing(this.tracer, connection);
 
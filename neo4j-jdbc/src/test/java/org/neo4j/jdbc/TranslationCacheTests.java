@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.events.ConnectionListener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TranslationCacheTests {
+
+	@Test
+	void shouldCountHitsAndMisses() {
+		var cache = new TranslationCache(16);
+		var translations = new AtomicInteger();
+		var cachedEvents = new ArrayList<ConnectionListener.TranslationCachedEvent>();
+		var lookupEvents = new ArrayList<ConnectionListener.TranslationCacheLookupEvent>();
+		ConnectionListener listener = new ConnectionListener() {
+			@Override
+			public void onTranslationCached(TranslationCachedEvent event) {
+				cachedEvents.add(event);
+			}
+
+			@Override
+			public void onTranslationCacheLookup(TranslationCacheLookupEvent event) {
+				lookupEvents.add(event);
+			}
+		};
+
+		for (int i = 0; i < 3; ++i) {
+			assertThat(cache.computeIfAbsent("SELECT 1", sql -> {
+				translations.incrementAndGet();
+				return "RETURN 1";
+			}, List.of(listener))).isEqualTo("RETURN 1");
+		}
+
+		assertThat(translations).hasValue(1);
+		assertThat(cache.getHits()).isEqualTo(2);
+		assertThat(cache.getMisses()).isEqualTo(1);
+		assertThat(cache.size()).isOne();
+		assertThat(cachedEvents).containsExactly(new ConnectionListener.TranslationCachedEvent(1));
+		assertThat(lookupEvents).containsExactly(new ConnectionListener.TranslationCacheLookupEvent(1, false, 0),
+				new ConnectionListener.TranslationCacheLookupEvent(1, true, 0),
+				new ConnectionListener.TranslationCacheLookupEvent(1, true, 0));
+	}
+
+	@Test
+	void shouldBeBounded() {
+		var cache = new TranslationCache(32);
+
+		IntStream.range(0, 1000).forEach(i -> cache.computeIfAbsent("SELECT " + i, sql -> sql, List.of()));
+
+		assertThat(cache.size()).isLessThanOrEqualTo(32);
+		assertThat(cache.getEvictions()).isEqualTo(1000 - cache.size());
+	}
+
+	@Test
+	void flushShouldEmptyTheCache() {
+		var cache = new TranslationCache(8);
+		cache.computeIfAbsent("a", sql -> sql, List.of());
+		cache.computeIfAbsent("b", sql -> sql, List.of());
+
+		cache.flush();
+
+		assertThat(cache.size()).isZero();
+		cache.computeIfAbsent("a", sql -> sql, List.of());
+		assertThat(cache.getMisses()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldBeUsableConcurrently() throws InterruptedException {
+		var cache = new TranslationCache(64);
+		var wrongTranslations = new AtomicInteger();
+		var executor = Executors.newFixedThreadPool(8);
+		IntStream.range(0, 8).forEach(t -> executor.submit(() -> IntStream.range(0, 10_000).forEach(i -> {
+			var translation = cache.computeIfAbsent("SELECT " + (i % 100), String::toLowerCase, List.of());
+			if (!translation.equals("select " + (i % 100))) {
+				wrongTranslations.incrementAndGet();
+			}
+		})));
+		executor.shutdown();
+		assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+		assertThat(wrongTranslations).hasValue(0);
+		assertThat(cache.size()).isLessThanOrEqualTo(64);
+		assertThat(cache.getHits() + cache.getMisses()).isEqualTo(80_000);
+	}
+
+	@Test
+	void capacityMustBePositive() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new TranslationCache(0));
+	}
+
+	@Test
+	void shouldReportMetrics() {
+		var meterRegistry = new SimpleMeterRegistry();
+		var cache = new TranslationCache(1);
+		var listeners = Set.of((ConnectionListener) MetricsCollectorImpl.of(meterRegistry));
+
+		cache.computeIfAbsent("a", sql -> sql, listeners);
+		cache.computeIfAbsent("a", sql -> sql, listeners);
+		cache.computeIfAbsent("b", sql -> sql, listeners);
+
+		assertThat(meterRegistry.get("org.neo4j.jdbc.cached-translations").gauge().value()).isEqualTo(1.0);
+		assertThat(
+				meterRegistry.get("org.neo4j.jdbc.cached-translations.lookups").tag("result", "hit").counter().count())
+			.isEqualTo(1.0);
+		assertThat(
+				meterRegistry.get("org.neo4j.jdbc.cached-translations.lookups").tag("result", "miss").counter().count())
+			.isEqualTo(2.0);
+		assertThat(meterRegistry.get("org.neo4j.jdbc.cached-translations.evictions").counter().count()).isEqualTo(1.0);
+	}
+
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+import org.neo4j.bolt.connection.AccessMode;
+import org.neo4j.bolt.connection.AuthInfo;
+import org.neo4j.bolt.connection.AuthTokens;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.bolt.connection.BoltConnectionState;
+import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ClusterComposition;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.message.CommitMessage;
+import org.neo4j.bolt.connection.message.DiscardMessage;
+import org.neo4j.bolt.connection.message.Message;
+import org.neo4j.bolt.connection.message.PullMessage;
+import org.neo4j.bolt.connection.message.ResetMessage;
+import org.neo4j.bolt.connection.message.RollbackMessage;
+import org.neo4j.bolt.connection.message.RouteMessage;
+import org.neo4j.bolt.connection.message.RunMessage;
+import org.neo4j.bolt.connection.summary.CommitSummary;
+import org.neo4j.bolt.connection.summary.DiscardSummary;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.ResetSummary;
+import org.neo4j.bolt.connection.summary.RollbackSummary;
+import org.neo4j.bolt.connection.summary.RouteSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
+import org.neo4j.jdbc.authn.spi.Authentication;
+import org.neo4j.jdbc.internal.bolt.BoltAdapters;
+import org.neo4j.jdbc.translator.spi.Translator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs thousands of virtual threads through the paths of the driver that block while
+ * holding a lock and makes sure that none of them pins its carrier thread. The driver is
+ * compiled for Java 17, so virtual threads are created reflectively and the tests only
+ * run on Java 21 and higher.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTests {
+
+	private static final int NUM_THREADS = 2_000;
+
+	private static final Executor SERVER = CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void resolvingLazyValuesShouldNotPin() throws Exception {
+		var cnt = new AtomicInteger();
+		var lazy = Lazy.of(() -> {
+			Thread.sleep(10);
+			return cnt.incrementAndGet();
+		});
+
+		var events = recordPinnedThreads(i -> {
+			assertThat(lazy.resolve()).isPositive();
+			if (i % 100 == 0) {
+				lazy.forget();
+			}
+		});
+
+		assertThat(events).isEmpty();
+		assertThat(cnt.get()).isLessThan(NUM_THREADS);
+	}
+
+	@Test
+	void translatingAndFlushingShouldNotPin() throws Exception {
+		var translator = mock(Translator.class);
+		given(translator.translate(anyString(), any(DatabaseMetaData.class))).willAnswer(invocation -> {
+			Thread.sleep(1);
+			return invocation.getArgument(0);
+		});
+		willAnswer(invocation -> {
+			Thread.sleep(1);
+			return null;
+		}).given(translator).flushCache();
+
+		var boltConnection = newBoltConnection();
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none, auth -> {
+			sleep();
+			return boltConnection;
+		}, null, () -> List.of(translator), true, new TranslationCache(128), false, false,
+				new NoopBookmarkManagerImpl(), Map.of(), 23, null, 0, false, 1000, null, null, "neo4j", null,
+				List.of());
+
+		var events = recordPinnedThreads(i -> {
+			switch (i % 3) {
+				case 0 -> assertThat(connection.nativeSQL("SELECT " + (i % 10))).isEqualTo("SELECT " + (i % 10));
+				case 1 -> connection.flushTranslationCache();
+				default -> {
+					var properties = new Properties();
+					properties.setProperty("ApplicationName", "t" + i);
+					connection.setClientInfo(properties);
+				}
+			}
+		});
+		connection.close();
+
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	void routingShouldNotPin() throws Exception {
+		var address = new BoltServerAddress("localhost", 7687);
+		var boltConnection = newRoutingConnection(address);
+		var router = new BoltConnectionRouter(address, ignored -> {
+			sleep();
+			return boltConnection;
+		});
+
+		var events = recordPinnedThreads(i -> router.acquire("neo4j", AccessMode.READ).close());
+
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	void executingStatementsShouldNotPin() throws Exception {
+		var pool = newPool();
+
+		var events = recordPinnedThreads(i -> {
+			try (var connection = newConnection(pool); var statement = connection.createStatement()) {
+				if (i % 2 == 0) {
+					try (var resultSet = statement.executeQuery("RETURN 1")) {
+						assertThat(resultSet.next()).isTrue();
+						assertThat(resultSet.getLong(1)).isOne();
+					}
+				}
+				else {
+					assertThat(statement.executeUpdate("CREATE (n)")).isZero();
+				}
+			}
+		});
+		pool.close();
+
+		assertThat(events).isEmpty();
+		assertThat(pool.getActiveConnections()).isZero();
+	}
+
+	@Test
+	void acquiringPooledConnectionsShouldNotPin() throws Exception {
+		var pool = newPool();
+
+		var events = recordPinnedThreads(i -> {
+			var boltConnection = pool.acquire();
+			sleep();
+			boltConnection.close();
+		});
+		pool.close();
+
+		assertThat(events).isEmpty();
+		assertThat(pool.getPendingAcquisitions()).isZero();
+	}
+
+	/**
+	 * Runs the given task in {@link #NUM_THREADS} virtual threads and records all events
+	 * of virtual threads that have been pinned by the driver.
+	 * @param task the task to run
+	 * @return all pinning events caused by the driver
+	 * @throws Exception if any of the tasks failed
+	 */
+	private List<RecordedEvent> recordPinnedThreads(Task task) throws Exception {
+		// Warm up on the platform thread, class initialization pins, too
+		task.run(0);
+
+		var file = this.dir.resolve("pinning.jfr");
+		try (var recording = new Recording()) {
+			recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+			recording.start();
+			var executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			try {
+				var futures = new ArrayList<Future<?>>(NUM_THREADS);
+				for (int i = 0; i < NUM_THREADS; ++i) {
+					var n = i;
+					futures.add(executor.submit(() -> {
+						task.run(n);
+						return null;
+					}));
+				}
+				for (var future : futures) {
+					future.get(1, TimeUnit.MINUTES);
+				}
+			}
+			finally {
+				executor.shutdownNow();
+			}
+			recording.stop();
+			recording.dump(file);
+		}
+		return RecordingFile.readAllEvents(file).stream().filter(VirtualThreadPinningTests::isCausedByDriver).toList();
+	}
+
+	private static boolean isCausedByDriver(RecordedEvent event) {
+		var stackTrace = event.getStackTrace();
+		return stackTrace == null || stackTrace.getFrames().stream().anyMatch(VirtualThreadPinningTests::isDriverFrame);
+	}
+
+	private static boolean isDriverFrame(RecordedFrame frame) {
+		var typeName = frame.getMethod().getType().getName();
+		return typeName.startsWith("org.neo4j.jdbc.") && !typeName.contains("Tests");
+	}
+
+	private static BoltConnection newBoltConnection() {
+		var boltConnection = mock(BoltConnection.class);
+		given(boltConnection.close()).willReturn(CompletableFuture.completedFuture(null));
+		return boltConnection;
+	}
+
+	private static BoltConnectionPool newPool() {
+		// Way fewer connections than threads, so that acquisitions have to wait
+		return new BoltConnectionPool(URI.create("jdbc:neo4j://localhost"),
+				VirtualThreadPinningTests::newSyntheticConnection,
+				new BoltConnectionPool.Config(8, Duration.ofMinutes(1), Duration.ofMinutes(10), Duration.ofHours(1)),
+				Set.of());
+	}
+
+	private static ConnectionImpl newConnection(BoltConnectionPool pool) {
+		return new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none, auth -> {
+			try {
+				return pool.acquire();
+			}
+			catch (SQLException ex) {
+				throw new UncheckedSQLException(ex);
+			}
+		}, null, List::of, false, new TranslationCache(128), false, false, new NoopBookmarkManagerImpl(), Map.of(), 23,
+				null, 0, false, 1000, null, null, "neo4j", null, List.of());
+	}
+
+	/**
+	 * Creates a Bolt connection that answers each request asynchronously, with a single
+	 * record with a single column for each query.
+	 * @return a synthetic Bolt connection
+	 */
+	private static BoltConnection newSyntheticConnection() {
+		var boltConnection = mock(BoltConnection.class, withSettings().stubOnly());
+		var authInfo = mock(AuthInfo.class, withSettings().stubOnly());
+		given(authInfo.authToken()).willReturn(AuthTokens.none(BoltAdapters.getValueFactory()));
+		var runSummary = mock(RunSummary.class, withSettings().stubOnly());
+		given(runSummary.queryId()).willReturn(-1L);
+		given(runSummary.keys()).willReturn(List.of("n"));
+		var record = List.of(BoltAdapters.getValueFactory().value(1L));
+
+		given(boltConnection.state()).willReturn(BoltConnectionState.OPEN);
+		given(boltConnection.authInfo()).willReturn(CompletableFuture.completedFuture(authInfo));
+		given(boltConnection.write(anyList())).willReturn(CompletableFuture.completedFuture(null));
+		given(boltConnection.setReadTimeout(any())).willReturn(CompletableFuture.completedFuture(null));
+		given(boltConnection.close()).willReturn(CompletableFuture.completedFuture(null));
+		Answer<CompletableFuture<Void>> serverAnswer = invocation -> CompletableFuture.runAsync(() -> {
+			var handler = invocation.<ResponseHandler>getArgument(0);
+			var messages = (invocation.getArgument(1) instanceof Message message) ? List.of(message)
+					: invocation.<List<Message>>getArgument(1);
+			for (var message : messages) {
+				if (message instanceof RunMessage) {
+					handler.onRunSummary(runSummary);
+				}
+				else if (message instanceof PullMessage) {
+					handler.onRecord(record);
+					handler.onPullSummary(mock(PullSummary.class, withSettings().stubOnly()));
+				}
+				else if (message instanceof DiscardMessage) {
+					handler.onDiscardSummary(mock(DiscardSummary.class, withSettings().stubOnly()));
+				}
+				else if (message instanceof CommitMessage) {
+					handler.onCommitSummary(mock(CommitSummary.class, withSettings().stubOnly()));
+				}
+				else if (message instanceof RollbackMessage) {
+					handler.onRollbackSummary(mock(RollbackSummary.class, withSettings().stubOnly()));
+				}
+				else if (message instanceof ResetMessage) {
+					handler.onResetSummary(mock(ResetSummary.class, withSettings().stubOnly()));
+				}
+			}
+			handler.onComplete();
+		}, SERVER);
+		given(boltConnection.writeAndFlush(any(), any(Message.class), any())).willAnswer(serverAnswer);
+		given(boltConnection.writeAndFlush(any(), anyList(), any())).willAnswer(serverAnswer);
+		return boltConnection;
+	}
+
+	private static BoltConnection newRoutingConnection(BoltServerAddress address) {
+		var boltConnection = newBoltConnection();
+		var routeSummary = mock(RouteSummary.class);
+		// Expires right away, so that the table is fetched over and over again
+		given(routeSummary.clusterComposition())
+			.willAnswer(invocation -> new ClusterComposition(System.currentTimeMillis() + 1,
+					new LinkedHashSet<>(Set.of(address)), new LinkedHashSet<>(Set.of(address)),
+					new LinkedHashSet<>(Set.of(address)), "neo4j"));
+		given(boltConnection.writeAndFlush(any(), any(RouteMessage.class), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> CompletableFuture.runAsync(() -> {
+				invocation.<ResponseHandler>getArgument(0).onRouteSummary(routeSummary);
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+			}, SERVER));
+		return boltConnection;
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(1);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@FunctionalInterface
+	private interface Task {
+
+		void run(int i) throws Exception;
+
+	}
+
+}
@@ -18,20 +18,25 @@
  */
 package org.neo4j.jdbc.values;
 
+import java.nio.ReadOnlyBufferException;
 import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
 
 class ArrayBasedVectorsTests {
 
@@ -119,4 +124,111 @@ class ArrayBasedVectorsTests {
 		assertThatNoException().isThrownBy(factory::get);
 	}
 
+	static Stream<Arguments> wrapShouldNotCopy() {
+		var bytes = new byte[] { 1 };
+		var shorts = new short[] { 1 };
+		var ints = new int[] { 1 };
+		var longs = new long[] { 1 };
+		var floats = new float[] { 1 };
+		var doubles = new double[] { 1 };
+		return Stream.of(Arguments.of(Vector.wrap(bytes), bytes), Arguments.of(Vector.wrap(shorts), shorts),
+				Arguments.of(Vector.wrap(ints), ints), Arguments.of(Vector.wrap(longs), longs),
+				Arguments.of(Vector.wrap(floats), floats), Arguments.of(Vector.wrap(doubles), doubles));
+	}
+
+	@ParameterizedTest
+	@MethodSource
+	void wrapShouldNotCopy(Vector vector, Object elements) {
+		assertThat(ArrayBasedVectors.ELEMENT_ACCESSOR.apply(vector)).isSameAs(elements);
+		assertThat(vector.size()).isOne();
+	}
+
+	@Test
+	void ofShouldCopy() {
+		var elements = new float[] { 1.0f, 2.0f };
+		var vector = Vector.of(elements);
+		elements[0] = 3.0f;
+		assertThat(((Vector.Float32Vector) vector).toArray()).containsExactly(1.0f, 2.0f);
+	}
+
+	@Test
+	void wrapShouldCheckItsArguments() {
+		assertThatNullPointerException().isThrownBy(() -> Vector.wrap((float[]) null));
+		assertThatIllegalArgumentException().isThrownBy(() -> Vector.wrap(new double[0]));
+	}
+
+	@Test
+	void buffersShouldBeReadOnlyViews() {
+		var elements = new float[] { 1.0f, 2.0f };
+		var buffer = ((Vector.Float32Vector) Vector.wrap(elements)).asBuffer();
+		assertThat(buffer.isReadOnly()).isTrue();
+		assertThat(buffer.get(1)).isEqualTo(2.0f);
+		elements[1] = 4.0f;
+		assertThat(buffer.get(1)).isEqualTo(4.0f);
+		assertThatExceptionOfType(ReadOnlyBufferException.class).isThrownBy(() -> buffer.put(0, 1.0f));
+
+		assertThat(((Vector.Int8Vector) Vector.of(new byte[] { 1, 2 })).asBuffer().remaining()).isEqualTo(2);
+		assertThat(((Vector.Int16Vector) Vector.of(new short[] { 3 })).asBuffer().get(0)).isEqualTo((short) 3);
+		assertThat(((Vector.Int32Vector) Vector.of(new int[] { 4 })).asBuffer().get(0)).isEqualTo(4);
+		assertThat(((Vector.Int64Vector) Vector.of(new long[] { 5 })).asBuffer().get(0)).isEqualTo(5L);
+		assertThat(((Vector.Float64Vector) Vector.of(new double[] { 6 })).asBuffer().get(0)).isEqualTo(6.0);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 3, 4, 5, 7, 1536 })
+	void similaritiesShouldWork(int size) {
+		var random = ThreadLocalRandom.current();
+		var a = random.doubles(size, -1, 1).toArray();
+		var b = random.doubles(size, -1, 1).toArray();
+		double dot = 0;
+		double normA = 0;
+		double normB = 0;
+		double distance = 0;
+		for (int i = 0; i < size; ++i) {
+			dot += a[i] * b[i];
+			normA += a[i] * a[i];
+			normB += b[i] * b[i];
+			distance += (a[i] - b[i]) * (a[i] - b[i]);
+		}
+		var cosine = dot / (Math.sqrt(normA) * Math.sqrt(normB));
+		distance = Math.sqrt(distance);
+
+		var v1 = (Vector.Float64Vector) Vector.wrap(a);
+		var v2 = (Vector.Float64Vector) Vector.wrap(b);
+		assertThat(v1.dotProduct(v2)).isCloseTo(dot, within(1e-9));
+		assertThat(v1.cosineSimilarity(v2)).isCloseTo(cosine, within(1e-9));
+		assertThat(v1.euclideanDistance(v2)).isCloseTo(distance, within(1e-9));
+
+		var fa = new float[size];
+		var fb = new float[size];
+		for (int i = 0; i < size; ++i) {
+			fa[i] = (float) a[i];
+			fb[i] = (float) b[i];
+		}
+		var f1 = (Vector.Float32Vector) Vector.wrap(fa);
+		var f2 = (Vector.Float32Vector) Vector.wrap(fb);
+		assertThat(f1.dotProduct(f2)).isCloseTo(dot, within(1e-4));
+		assertThat(f1.cosineSimilarity(f2)).isCloseTo(cosine, within(1e-4));
+		assertThat(f1.euclideanDistance(f2)).isCloseTo(distance, within(1e-4));
+		assertThat(f1.cosineSimilarity(f1)).isCloseTo(1.0, within(1e-6));
+		assertThat(f1.euclideanDistance(f1)).isZero();
+	}
+
+	@Test
+	void similaritiesShouldCheckSizes() {
+		var v1 = (Vector.Float32Vector) Vector.of(new float[] { 1, 2 });
+		var v2 = (Vector.Float32Vector) Vector.of(new float[] { 1, 2, 3 });
+		assertThatIllegalArgumentException().isThrownBy(() -> v1.dotProduct(v2))
+			.withMessage("Vectors must have the same size, 2 is not equal to 3");
+		assertThatIllegalArgumentException().isThrownBy(() -> v1.cosineSimilarity(v2));
+		assertThatIllegalArgumentException().isThrownBy(() -> v1.euclideanDistance(v2));
+	}
+
+	@Test
+	void cosineSimilarityOfZeroVectorsShouldBeNaN() {
+		var v1 = (Vector.Float64Vector) Vector.of(new double[] { 0, 0 });
+		var v2 = (Vector.Float64Vector) Vector.of(new double[] { 1, 2 });
+		assertThat(v1.cosineSimilarity(v2)).isNaN();
+	}
+
 }